@@ -0,0 +1,99 @@
+package com.seoulfit.backend.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoulfit.backend.user.domain.InterestCategory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 픽스처 로더
+ *
+ * {@link FixtureGenerator}가 생성한 클래스패스의 /fixtures/*.json 파일을 읽습니다.
+ * 네트워크나 DB 없이 실제 API 응답과 같은 형태의 데이터로 벤치마크를 실행하기 위해 사용합니다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String USERS = "users.json";
+    public static final String BIKE_STATIONS = "bike-stations.json";
+    public static final String REALTIME_CITY = "realtime-city.json";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 픽스처 파일 원문
+     */
+    public static String read(String name) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Benchmark fixture not found: " + name
+                        + " (run ./gradlew jmhFixtures)");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 합성 사용자 목록
+     */
+    public static List<SyntheticUser> users() {
+        return parse(read(USERS), new TypeReference<>() {
+        });
+    }
+
+    /**
+     * 따릉이 대여소 목록 (bikeList 응답의 rentBikeStatus.row)
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, Object>> bikeStations() {
+        Map<String, Object> payload = parse(read(BIKE_STATIONS), new TypeReference<>() {
+        });
+        Map<String, Object> status = (Map<String, Object>) payload.get("rentBikeStatus");
+        return (List<Map<String, Object>>) status.get("row");
+    }
+
+    /**
+     * 실시간 도시 데이터 (citydata 응답의 CITYDATA)
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> realtimeCity() {
+        Map<String, Object> payload = parse(read(REALTIME_CITY), new TypeReference<>() {
+        });
+        return (Map<String, Object>) payload.get("CITYDATA");
+    }
+
+    /**
+     * 트리거 평가에 전달되는 공공 API 데이터 (도시 데이터 + BIKE_SHARE)
+     */
+    public static Map<String, Object> publicApiData() {
+        Map<String, Object> data = new HashMap<>(realtimeCity());
+        data.put("BIKE_SHARE", bikeStations());
+        return data;
+    }
+
+    private static <T> T parse(String json, TypeReference<T> type) {
+        try {
+            return OBJECT_MAPPER.readValue(json, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 합성 사용자
+     */
+    public record SyntheticUser(long id, String nickname, double latitude, double longitude,
+                                List<InterestCategory> interests) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.seoulfit.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoulfit.backend.user.domain.InterestCategory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 벤치마크용 오프라인 픽스처 생성기
+ *
+ * 고정 시드로 합성 사용자, 따릉이 대여소, 실시간 도시 데이터 응답을 생성하여
+ * src/jmh/resources/fixtures 아래 JSON 파일로 저장합니다.
+ * 같은 시드로 다시 생성하면 항상 같은 파일이 만들어지므로 벤치마크 결과를 시점 간 비교할 수 있습니다.
+ * 응답 형식은 서울시 열린데이터 API(bikeList, citydata)와 같습니다.
+ *
+ * 실행: ./gradlew jmhFixtures
+ */
+public final class FixtureGenerator {
+
+    static final long SEED = 20250101L;
+    static final int USER_COUNT = 1_000;
+    static final int BIKE_STATION_COUNT = 3_000;
+
+    // 서울시 대략적인 영역
+    private static final double MIN_LAT = 37.43;
+    private static final double MAX_LAT = 37.70;
+    private static final double MIN_LNG = 126.80;
+    private static final double MAX_LNG = 127.18;
+
+    private static final String[] DISTRICTS = {
+        "강남구", "강동구", "강북구", "강서구", "관악구", "광진구", "구로구", "금천구", "노원구", "도봉구",
+        "동대문구", "동작구", "마포구", "서대문구", "서초구", "성동구", "성북구", "송파구", "양천구", "영등포구",
+        "용산구", "은평구", "종로구", "중구", "중랑구"
+    };
+
+    private static final InterestCategory[] TRIGGER_INTERESTS = {
+        InterestCategory.WEATHER, InterestCategory.BIKE, InterestCategory.CONGESTION, InterestCategory.CULTURE
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private FixtureGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of(args.length > 0 ? args[0] : "src/jmh/resources/fixtures");
+        Files.createDirectories(directory);
+
+        Random random = new Random(SEED);
+        write(directory.resolve(BenchmarkFixtures.USERS), jsonArray(generateUsers(random)));
+        write(directory.resolve(BenchmarkFixtures.BIKE_STATIONS), bikeStationPayload(generateBikeStations(random)));
+        write(directory.resolve(BenchmarkFixtures.REALTIME_CITY), realtimeCityPayload(random));
+
+        System.out.println("Benchmark fixtures written to " + directory.toAbsolutePath());
+    }
+
+    static List<Map<String, Object>> generateUsers(Random random) {
+        List<Map<String, Object>> users = new ArrayList<>(USER_COUNT);
+        for (int i = 1; i <= USER_COUNT; i++) {
+            List<String> interests = new ArrayList<>();
+            for (InterestCategory interest : TRIGGER_INTERESTS) {
+                if (random.nextInt(100) < 60) {
+                    interests.add(interest.name());
+                }
+            }
+
+            Map<String, Object> user = new LinkedHashMap<>();
+            user.put("id", i);
+            user.put("nickname", "user" + i);
+            user.put("latitude", round(uniform(random, MIN_LAT, MAX_LAT), 6));
+            user.put("longitude", round(uniform(random, MIN_LNG, MAX_LNG), 6));
+            user.put("interests", interests);
+            users.add(user);
+        }
+        return users;
+    }
+
+    static List<Map<String, Object>> generateBikeStations(Random random) {
+        List<Map<String, Object>> stations = new ArrayList<>(BIKE_STATION_COUNT);
+        for (int i = 1; i <= BIKE_STATION_COUNT; i++) {
+            int racks = 5 + random.nextInt(26);
+            int parked = random.nextInt(racks + 6);
+
+            // 실제 API와 같이 숫자도 문자열로 내려옴
+            Map<String, Object> station = new LinkedHashMap<>();
+            station.put("rackTotCnt", String.valueOf(racks));
+            station.put("stationName", String.format(Locale.ROOT, "%d. %s 대여소", 100 + i,
+                    DISTRICTS[random.nextInt(DISTRICTS.length)]));
+            station.put("parkingBikeTotCnt", String.valueOf(parked));
+            station.put("shared", String.valueOf(parked * 100 / racks));
+            station.put("stationLatitude", String.format(Locale.ROOT, "%.8f", uniform(random, MIN_LAT, MAX_LAT)));
+            station.put("stationLongitude", String.format(Locale.ROOT, "%.8f", uniform(random, MIN_LNG, MAX_LNG)));
+            station.put("stationId", String.format(Locale.ROOT, "ST-%d", i));
+            stations.add(station);
+        }
+        return stations;
+    }
+
+    private static String bikeStationPayload(List<Map<String, Object>> stations) throws IOException {
+        return "{\n  \"rentBikeStatus\": {\n"
+                + "    \"list_total_count\": " + stations.size() + ",\n"
+                + "    \"RESULT\": {\"CODE\": \"INFO-000\", \"MESSAGE\": \"정상 처리되었습니다.\"},\n"
+                + "    \"row\": " + jsonArray(stations).replace("\n", "\n    ").stripTrailing() + "\n"
+                + "  }\n}\n";
+    }
+
+    private static String realtimeCityPayload(Random random) throws IOException {
+        Map<String, Object> population = new LinkedHashMap<>();
+        population.put("AREA_NM", "광화문·덕수궁");
+        population.put("AREA_CD", "POI009");
+        population.put("AREA_CONGEST_LVL", "붐빔");
+        population.put("AREA_CONGEST_MSG", "사람들이 몰려있을 가능성이 매우 크고 붐빔으로 느껴질 수 있어요.");
+        population.put("AREA_PPLTN_MIN", "36000");
+        population.put("AREA_PPLTN_MAX", "38000");
+        population.put("AREA_Y", "37.5711");
+        population.put("AREA_X", "126.9768");
+        population.put("PPLTN_TIME", "2025-07-20 13:00");
+
+        Map<String, Object> weather = new LinkedHashMap<>();
+        weather.put("WEATHER_TIME", "2025-07-20 13:00");
+        weather.put("TEMP", String.format(Locale.ROOT, "%.1f", uniform(random, 28.0, 34.0)));
+        weather.put("SENSIBLE_TEMP", "33.1");
+        weather.put("HUMIDITY", "71");
+        weather.put("PRECIPITATION", "-");
+        weather.put("RAIN_HOUR", "0.0");
+        weather.put("RAIN_DAY", "2.5");
+        weather.put("PM10_INDEX", "좋음");
+        weather.put("PM10", "25");
+        weather.put("PM25_INDEX", "보통");
+        weather.put("PM25", "18");
+        weather.put("AIR_IDX", "보통");
+        weather.put("AIR_IDX_MAIN", "오존");
+
+        Map<String, Object> cityData = new LinkedHashMap<>();
+        cityData.put("AREA_NM", "광화문·덕수궁");
+        cityData.put("AREA_CD", "POI009");
+        cityData.put("LIVE_PPLTN_STTS", List.of(population));
+        cityData.put("WEATHER_STTS", List.of(weather));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("RESULT.CODE", "INFO-000");
+        result.put("RESULT.MESSAGE", "정상 처리되었습니다.");
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("list_total_count", 1);
+        payload.put("RESULT", result);
+        payload.put("CITYDATA", cityData);
+        return OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(payload) + "\n";
+    }
+
+    /**
+     * 한 줄에 한 항목씩 쓰는 JSON 배열 (diff 친화적)
+     */
+    private static String jsonArray(List<Map<String, Object>> rows) throws IOException {
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < rows.size(); i++) {
+            json.append("  ").append(OBJECT_MAPPER.writeValueAsString(rows.get(i)));
+            json.append(i < rows.size() - 1 ? ",\n" : "\n");
+        }
+        return json.append("]\n").toString();
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    private static double uniform(Random random, double min, double max) {
+        return min + random.nextDouble() * (max - min);
+    }
+
+    private static double round(double value, int scale) {
+        double factor = Math.pow(10, scale);
+        return Math.round(value * factor) / factor;
+    }
+}
@@ -0,0 +1,98 @@
+package com.seoulfit.backend.location.domain;
+
+import com.seoulfit.backend.benchmark.BenchmarkFixtures;
+import com.seoulfit.backend.location.util.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지도 축적 기반 조회 범위 계산 벤치마크
+ *
+ * 합성 사용자 위치 1,000곳을 중심으로 다음 비용을 측정합니다.
+ * - boundingBox: MapScale.getBoundingBox (축적별 사전 필터 박스 계산)
+ * - twoStageFilter: GeoUtils.filterByTwoStageRadius (바운딩 박스 → 원형 반경, 따릉이 대여소 3,000곳 대상)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MapScaleBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapScaleBenchmark {
+
+    private static final int CENTERS = 1_000;
+    private static final int FILTER_CENTERS = 50;
+
+    @Param({"NEIGHBORHOOD_FAR", "DISTRICT_FAR", "CITY_FAR"})
+    private MapScale scale;
+
+    private double[] centerLat;
+    private double[] centerLng;
+    private List<StationPoint> stations;
+
+    @Setup
+    public void setUp() {
+        List<BenchmarkFixtures.SyntheticUser> users = BenchmarkFixtures.users();
+        centerLat = new double[CENTERS];
+        centerLng = new double[CENTERS];
+        for (int i = 0; i < CENTERS; i++) {
+            centerLat[i] = users.get(i).latitude();
+            centerLng[i] = users.get(i).longitude();
+        }
+
+        stations = new ArrayList<>();
+        for (Map<String, Object> station : BenchmarkFixtures.bikeStations()) {
+            stations.add(new StationPoint(
+                    Double.parseDouble((String) station.get("stationLatitude")),
+                    Double.parseDouble((String) station.get("stationLongitude"))));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void clearDistanceCache() {
+        GeoUtils.clearDistanceCache();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CENTERS)
+    public void boundingBox(Blackhole blackhole) {
+        for (int i = 0; i < CENTERS; i++) {
+            blackhole.consume(scale.getBoundingBox(centerLat[i], centerLng[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILTER_CENTERS)
+    public void twoStageFilter(Blackhole blackhole) {
+        for (int i = 0; i < FILTER_CENTERS; i++) {
+            blackhole.consume(GeoUtils.filterByTwoStageRadius(
+                    stations, centerLat[i], centerLng[i], scale.getRadiusKm(), scale));
+        }
+    }
+
+    private record StationPoint(double latitude, double longitude) implements GeoUtils.GeoPoint {
+
+        @Override
+        public double getLatitude() {
+            return latitude;
+        }
+
+        @Override
+        public double getLongitude() {
+            return longitude;
+        }
+    }
+}
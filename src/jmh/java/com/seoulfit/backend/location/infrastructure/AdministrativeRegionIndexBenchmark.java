@@ -0,0 +1,89 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.seoulfit.backend.location.domain.AdministrativeRegion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌표 → 행정구역 조회 벤치마크
+ *
+ * 서울 범위 안 임의 좌표 4,096개를 행정구역(읍면동 426개)으로 바꾸는 비용을 비교합니다.
+ * - strTreeIndex: AdministrativeRegionIndex (STR-tree + 중심 거리 선택)
+ * - linearScan: 모든 행정구역 경계를 순회하며 중심이 가장 가까운 행 선택
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=AdministrativeRegionIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AdministrativeRegionIndexBenchmark {
+
+    private static final int POINTS = 4_096;
+
+    private AdministrativeRegionIndex index;
+    private List<AdministrativeRegion> regions;
+    private double[] latitudes;
+    private double[] longitudes;
+
+    @Setup
+    public void setUp() {
+        index = new AdministrativeRegionIndex(new DefaultResourceLoader(), "classpath:geo/seoul_comprehensive_regions.csv");
+        regions = index.getRegions();
+
+        Random random = new Random(39L);
+        latitudes = new double[POINTS];
+        longitudes = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            // 행정구역 중심 주변에 흩뿌려 실제 사용자 위치 분포에 가깝게 함
+            AdministrativeRegion region = regions.get(random.nextInt(regions.size()));
+            latitudes[i] = region.centerLat() + (random.nextDouble() - 0.5) * 0.01;
+            longitudes[i] = region.centerLng() + (random.nextDouble() - 0.5) * 0.01;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double strTreeIndex() {
+        double sum = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sum += index.resolve(latitudes[i], longitudes[i]).map(AdministrativeRegion::centerLat).orElse(0.0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double linearScan() {
+        double sum = 0;
+        double scale = Math.cos(Math.toRadians(37.55));
+        for (int i = 0; i < POINTS; i++) {
+            AdministrativeRegion best = null;
+            double bestDistance = Double.MAX_VALUE;
+            for (AdministrativeRegion region : regions) {
+                if (!region.contains(latitudes[i], longitudes[i])) {
+                    continue;
+                }
+                double dLat = region.centerLat() - latitudes[i];
+                double dLng = (region.centerLng() - longitudes[i]) * scale;
+                double distance = dLat * dLat + dLng * dLng;
+                if (distance < bestDistance) {
+                    best = region;
+                    bestDistance = distance;
+                }
+            }
+            sum += best == null ? 0.0 : best.centerLat();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,148 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.seoulfit.backend.location.util.GeoGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * POI 반경 조회 벤치마크 (H2 인메모리)
+ *
+ * 서울 영역에 맛집 100,000건을 넣고 시청 기준 반경 조회 비용을 비교합니다.
+ * - distanceScan: 기존 쿼리 (모든 행에 acos 거리 계산)
+ * - gridCellPrefilter: grid_cell 인덱스로 반경을 덮는 셀의 행만 읽은 뒤 같은 acos 조건으로 거름
+ *
+ * SQL은 RestaurantRepository의 findByDistanceWithinRadius / findByGridCellsWithinRadius와 같은 형태입니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=GridCellRadiusQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GridCellRadiusQueryBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final double CENTER_LATITUDE = 37.5665;
+    private static final double CENTER_LONGITUDE = 126.9780;
+
+    private static final String DISTANCE_CONDITION =
+            "latitude IS NOT NULL AND longitude IS NOT NULL " +
+            "AND (6371 * acos(cos(radians(?)) * cos(radians(latitude)) " +
+            "* cos(radians(longitude) - radians(?)) + sin(radians(?)) * sin(radians(latitude)))) <= ? " +
+            "ORDER BY (6371 * acos(cos(radians(?)) * cos(radians(latitude)) " +
+            "* cos(radians(longitude) - radians(?)) + sin(radians(?)) * sin(radians(latitude))))";
+
+    @Param({"1", "3", "10"})
+    public double radiusKm;
+
+    private Connection connection;
+    private PreparedStatement distanceStatement;
+    private PreparedStatement gridStatement;
+    private List<Integer> cells;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:grid-cell-radius;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS restaurants");
+            statement.execute("CREATE TABLE restaurants (" +
+                    "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                    "name VARCHAR(200) NOT NULL, " +
+                    "latitude DOUBLE PRECISION, " +
+                    "longitude DOUBLE PRECISION, " +
+                    "grid_cell INTEGER)");
+            statement.execute("CREATE INDEX idx_restaurants_grid_cell ON restaurants (grid_cell)");
+        }
+        seed();
+
+        cells = GeoGrid.cellsWithin(CENTER_LATITUDE, CENTER_LONGITUDE, radiusKm).orElseThrow();
+        distanceStatement = connection.prepareStatement(
+                "SELECT id, name, latitude, longitude FROM restaurants WHERE " + DISTANCE_CONDITION);
+        gridStatement = connection.prepareStatement(
+                "SELECT id, name, latitude, longitude FROM restaurants WHERE grid_cell IN ("
+                        + String.join(", ", Collections.nCopies(cells.size(), "?")) + ") AND " + DISTANCE_CONDITION);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long distanceScan() throws SQLException {
+        bindDistance(distanceStatement, 1);
+        return consume(distanceStatement);
+    }
+
+    @Benchmark
+    public long gridCellPrefilter() throws SQLException {
+        int index = 1;
+        for (Integer cell : cells) {
+            gridStatement.setInt(index++, cell);
+        }
+        bindDistance(gridStatement, index);
+        return consume(gridStatement);
+    }
+
+    private void bindDistance(PreparedStatement statement, int index) throws SQLException {
+        statement.setDouble(index, CENTER_LATITUDE);
+        statement.setDouble(index + 1, CENTER_LONGITUDE);
+        statement.setDouble(index + 2, CENTER_LATITUDE);
+        statement.setDouble(index + 3, radiusKm);
+        statement.setDouble(index + 4, CENTER_LATITUDE);
+        statement.setDouble(index + 5, CENTER_LONGITUDE);
+        statement.setDouble(index + 6, CENTER_LATITUDE);
+    }
+
+    private long consume(PreparedStatement statement) throws SQLException {
+        long checksum = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                checksum += rs.getLong("id") + rs.getString("name").length();
+            }
+        }
+        return checksum;
+    }
+
+    private void seed() throws SQLException {
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO restaurants (name, latitude, longitude, grid_cell) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                // 서울 전역(위도 37.43~37.70, 경도 126.76~127.18)에 고르게 분포
+                double latitude = 37.43 + random.nextDouble() * 0.27;
+                double longitude = 126.76 + random.nextDouble() * 0.42;
+                insert.setString(1, "맛집 " + i);
+                insert.setDouble(2, latitude);
+                insert.setDouble(3, longitude);
+                insert.setInt(4, GeoGrid.cellOf(latitude, longitude));
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+}
@@ -0,0 +1,137 @@
+package com.seoulfit.backend.location.util;
+
+import com.seoulfit.backend.benchmark.BenchmarkFixtures;
+import com.seoulfit.backend.trigger.utils.TriggerUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거리 계산 벤치마크
+ *
+ * 합성 사용자 100명 x 따릉이 대여소 3,000곳의 거리 계산 비용을 비교합니다.
+ * - triggerUtilsHaversine: TriggerUtils.calculateDistance (트리거 전략에서 사용)
+ * - sharedGeoUtilsHaversine: shared.utils.GeoUtils.calculateDistance
+ * - sharedGeoUtilsBoundingBox: shared.utils.GeoUtils 바운딩 박스(BigDecimal) 사전 필터
+ * - locationGeoUtilsCachedHaversine: location.util.GeoUtils의 문자열 키 캐시 거리 계산
+ * - locationGeoUtilsFast: location.util.GeoUtils 근사(equirectangular) 거리 계산
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=GeoDistanceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeoDistanceBenchmark {
+
+    private static final int USERS = 100;
+    private static final int STATIONS = 3_000;
+    private static final int PAIRS = USERS * STATIONS;
+
+    private double[] userLat;
+    private double[] userLng;
+    private double[] stationLat;
+    private double[] stationLng;
+
+    @Setup
+    public void setUp() {
+        List<BenchmarkFixtures.SyntheticUser> users = BenchmarkFixtures.users();
+        List<Map<String, Object>> stations = BenchmarkFixtures.bikeStations();
+
+        userLat = new double[USERS];
+        userLng = new double[USERS];
+        for (int i = 0; i < USERS; i++) {
+            userLat[i] = users.get(i).latitude();
+            userLng[i] = users.get(i).longitude();
+        }
+
+        stationLat = new double[STATIONS];
+        stationLng = new double[STATIONS];
+        for (int i = 0; i < STATIONS; i++) {
+            stationLat[i] = Double.parseDouble((String) stations.get(i).get("stationLatitude"));
+            stationLng[i] = Double.parseDouble((String) stations.get(i).get("stationLongitude"));
+        }
+    }
+
+    /**
+     * location.util.GeoUtils의 거리 캐시는 크기 제한이 없으므로 반복마다 비움
+     */
+    @Setup(Level.Iteration)
+    public void clearDistanceCache() {
+        GeoUtils.clearDistanceCache();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public double triggerUtilsHaversine() {
+        double sum = 0;
+        for (int u = 0; u < USERS; u++) {
+            for (int s = 0; s < STATIONS; s++) {
+                sum += TriggerUtils.calculateDistance(userLat[u], userLng[u], stationLat[s], stationLng[s]);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public double sharedGeoUtilsHaversine() {
+        double sum = 0;
+        for (int u = 0; u < USERS; u++) {
+            for (int s = 0; s < STATIONS; s++) {
+                sum += com.seoulfit.backend.shared.utils.GeoUtils.calculateDistance(
+                        userLat[u], userLng[u], stationLat[s], stationLng[s]);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public int sharedGeoUtilsBoundingBox() {
+        int inside = 0;
+        for (int u = 0; u < USERS; u++) {
+            com.seoulfit.backend.shared.utils.GeoUtils.BoundingBox box =
+                    com.seoulfit.backend.shared.utils.GeoUtils.calculateBoundingBox(userLat[u], userLng[u], 2.0);
+            for (int s = 0; s < STATIONS; s++) {
+                if (com.seoulfit.backend.shared.utils.GeoUtils.isInBoundingBox(stationLat[s], stationLng[s], box)) {
+                    inside++;
+                }
+            }
+        }
+        return inside;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public double locationGeoUtilsCachedHaversine() {
+        double sum = 0;
+        for (int u = 0; u < USERS; u++) {
+            for (int s = 0; s < STATIONS; s++) {
+                sum += GeoUtils.calculateHaversineDistance(userLat[u], userLng[u], stationLat[s], stationLng[s]);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public double locationGeoUtilsFast() {
+        double sum = 0;
+        for (int u = 0; u < USERS; u++) {
+            for (int s = 0; s < STATIONS; s++) {
+                sum += GeoUtils.calculateFastDistance(userLat[u], userLng[u], stationLat[s], stationLng[s]);
+            }
+        }
+        return sum;
+    }
+}
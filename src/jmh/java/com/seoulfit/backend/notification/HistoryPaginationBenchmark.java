@@ -0,0 +1,158 @@
+package com.seoulfit.backend.notification;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림/트리거 히스토리 페이지네이션 벤치마크 (H2 인메모리)
+ *
+ * 사용자 한 명에게 30,000건, 다른 사용자 9명에게 같은 수의 알림을 넣고
+ * 페이지 크기 20으로 1페이지와 1000페이지를 조회하는 비용을 비교합니다.
+ * - offsetPage: 기존 호환 API (ORDER BY sent_at DESC LIMIT/OFFSET), 페이지가 깊을수록 건너뛸 행을 모두 읽음
+ * - keysetPage: 커서 API (sent_at, id) 탐색, 페이지 깊이와 관계없이 (user_id, sent_at, id) 인덱스에서 20건만 읽음
+ *
+ * SQL은 NotificationHistoryJpaRepository의 findByUserIdOrderBySentAtDesc / findPageByUserIdBefore가
+ * 생성하는 쿼리와 같은 형태입니다. 트리거 히스토리의 키셋 쿼리도 (user_id, triggered_at) 기준으로 동일합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=HistoryPaginationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HistoryPaginationBenchmark {
+
+    private static final int USERS = 10;
+    private static final int ROWS_PER_USER = 30_000;
+    private static final int PAGE_SIZE = 20;
+    private static final long TARGET_USER_ID = 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final String OFFSET_SQL =
+            "SELECT id, user_id, title, message, sent_at FROM notification_histories WHERE user_id = ? " +
+            "ORDER BY sent_at DESC, id DESC LIMIT ? OFFSET ?";
+    private static final String KEYSET_SQL =
+            "SELECT id, user_id, title, message, sent_at FROM notification_histories WHERE user_id = ? " +
+            "AND sent_at <= ? AND (sent_at < ? OR id < ?) " +
+            "ORDER BY sent_at DESC, id DESC LIMIT ?";
+
+    @Param({"1", "1000"})
+    public int page;
+
+    private Connection connection;
+    private PreparedStatement offsetStatement;
+    private PreparedStatement keysetStatement;
+    private Timestamp cursorSentAt;
+    private long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:history-pagination;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS notification_histories");
+            statement.execute("CREATE TABLE notification_histories (" +
+                    "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                    "user_id BIGINT NOT NULL, " +
+                    "title VARCHAR(200) NOT NULL, " +
+                    "message VARCHAR(1000) NOT NULL, " +
+                    "sent_at TIMESTAMP(6) NOT NULL)");
+            statement.execute("CREATE INDEX idx_notification_histories_user_sent " +
+                    "ON notification_histories (user_id, sent_at, id)");
+        }
+        seed();
+
+        offsetStatement = connection.prepareStatement(OFFSET_SQL);
+        keysetStatement = connection.prepareStatement(KEYSET_SQL);
+
+        // 키셋 조회는 직전 페이지의 마지막 행을 커서로 사용 (1페이지는 커서 없이 최신 행부터)
+        if (page > 1) {
+            try (PreparedStatement statement = connection.prepareStatement(OFFSET_SQL)) {
+                statement.setLong(1, TARGET_USER_ID);
+                statement.setInt(2, 1);
+                statement.setInt(3, (page - 1) * PAGE_SIZE - 1);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    cursorId = rs.getLong("id");
+                    cursorSentAt = rs.getTimestamp("sent_at");
+                }
+            }
+        } else {
+            cursorId = Long.MAX_VALUE;
+            cursorSentAt = Timestamp.valueOf(LocalDateTime.of(9999, 12, 31, 0, 0));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long offsetPage() throws SQLException {
+        offsetStatement.setLong(1, TARGET_USER_ID);
+        offsetStatement.setInt(2, PAGE_SIZE);
+        offsetStatement.setInt(3, (page - 1) * PAGE_SIZE);
+        return consume(offsetStatement);
+    }
+
+    @Benchmark
+    public long keysetPage() throws SQLException {
+        keysetStatement.setLong(1, TARGET_USER_ID);
+        keysetStatement.setTimestamp(2, cursorSentAt);
+        keysetStatement.setTimestamp(3, cursorSentAt);
+        keysetStatement.setLong(4, cursorId);
+        keysetStatement.setInt(5, PAGE_SIZE);
+        return consume(keysetStatement);
+    }
+
+    private long consume(PreparedStatement statement) throws SQLException {
+        long checksum = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                checksum += rs.getLong("id") + rs.getString("title").length() + rs.getTimestamp("sent_at").getNanos();
+            }
+        }
+        return checksum;
+    }
+
+    private void seed() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO notification_histories (user_id, title, message, sent_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS_PER_USER; i++) {
+                // 여러 사용자의 알림이 시간순으로 섞여 쌓이고, 같은 사용자의 알림도 초 단위로 겹치도록 함
+                Timestamp sentAt = Timestamp.valueOf(BASE_TIME.plusSeconds(i / 2));
+                for (long userId = 1; userId <= USERS; userId++) {
+                    insert.setLong(1, userId);
+                    insert.setString(2, "알림 " + i);
+                    insert.setString(3, "서울 실시간 알림 메시지 " + i);
+                    insert.setTimestamp(4, sentAt);
+                    insert.addBatch();
+                }
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+}
@@ -0,0 +1,184 @@
+package com.seoulfit.backend.publicdata;
+
+import com.seoulfit.backend.location.domain.PoiCard;
+import com.seoulfit.backend.location.domain.PoiCardView;
+import com.seoulfit.backend.location.domain.PoiType;
+import com.seoulfit.backend.location.util.GeoGrid;
+import com.seoulfit.backend.publicdata.facilities.adapter.in.web.dto.LibraryResponse;
+import com.seoulfit.backend.publicdata.facilities.domain.Library;
+import jakarta.persistence.Tuple;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근처 도서관 조회 엔티티/카드 프로젝션 비교 벤치마크 (Hibernate + H2 인메모리)
+ *
+ * 서울 영역에 도서관 20,000건을 넣고 시청 기준 반경 2km 조회 한 번(요청 하나)의 비용을 비교합니다.
+ * - entityResponse: 기존 /nearby 경로 (전체 컬럼 엔티티 로드 후 LibraryResponse 변환)
+ * - cardProjection: /nearby/cards 경로 (카드 컬럼만 읽어 PoiCard 변환, 영속성 컨텍스트 미사용)
+ *
+ * 두 경로 모두 Spring Data 기본값과 같은 읽기 전용 세션에서 실행하며,
+ * SQL은 LibraryRepository의 findByGridCellsWithinRadius / findCardsByGridCellsWithinRadius와 같은 형태입니다.
+ * 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 값으로 비교합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=PoiCardProjectionBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PoiCardProjectionBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final double CENTER_LATITUDE = 37.5665;
+    private static final double CENTER_LONGITUDE = 126.9780;
+    private static final double RADIUS_KM = 2.0;
+
+    private static final String RADIUS_CONDITION = """
+            WHERE l.grid_cell IN (:cells)
+            AND l.xcnts IS NOT NULL
+            AND l.ydnts IS NOT NULL
+            AND (6371 * acos(cos(radians(:latitude)) * cos(radians(l.xcnts))
+                * cos(radians(l.ydnts) - radians(:longitude))
+                + sin(radians(:latitude)) * sin(radians(l.xcnts)))) <= :radiusKm
+            ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(l.xcnts))
+                * cos(radians(l.ydnts) - radians(:longitude))
+                + sin(radians(:latitude)) * sin(radians(l.xcnts))))
+            """;
+
+    private static final String ENTITY_SQL = "SELECT * FROM libraries l " + RADIUS_CONDITION;
+
+    private static final String CARD_SQL = """
+            SELECT l.id AS id, l.lbrry_name AS name, l.xcnts AS latitude, l.ydnts AS longitude,
+                l.lbrry_se_name AS category, l.adres AS address
+            FROM libraries l
+            """ + RADIUS_CONDITION;
+
+    private SessionFactory sessionFactory;
+    private List<Integer> cells;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Library.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:poi-card-projection;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .buildSessionFactory();
+        seed();
+        cells = GeoGrid.cellsWithin(CENTER_LATITUDE, CENTER_LONGITUDE, RADIUS_KM).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<LibraryResponse> entityResponse() {
+        try (Session session = readOnlySession()) {
+            List<Library> libraries = session.createNativeQuery(ENTITY_SQL, Library.class)
+                    .setParameterList("cells", cells)
+                    .setParameter("latitude", CENTER_LATITUDE)
+                    .setParameter("longitude", CENTER_LONGITUDE)
+                    .setParameter("radiusKm", RADIUS_KM)
+                    .getResultList();
+            return libraries.stream().map(LibraryResponse::from).toList();
+        }
+    }
+
+    @Benchmark
+    public List<PoiCard> cardProjection() {
+        try (Session session = readOnlySession()) {
+            List<Tuple> rows = session.createNativeQuery(CARD_SQL, Tuple.class)
+                    .setParameterList("cells", cells)
+                    .setParameter("latitude", CENTER_LATITUDE)
+                    .setParameter("longitude", CENTER_LONGITUDE)
+                    .setParameter("radiusKm", RADIUS_KM)
+                    .getResultList();
+            return rows.stream().map(row -> PoiCard.of(PoiType.LIBRARIES, new TupleCardView(row))).toList();
+        }
+    }
+
+    private Session readOnlySession() {
+        Session session = sessionFactory.openSession();
+        session.setDefaultReadOnly(true);
+        return session;
+    }
+
+    private void seed() {
+        Random random = new Random(42);
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                // 서울 전역(위도 37.43~37.70, 경도 126.76~127.18)에 고르게 분포
+                session.persist(Library.builder()
+                        .lbrrySeqNo(String.valueOf(i))
+                        .lbrryName("도서관 " + i)
+                        .guCode("11" + (i % 25))
+                        .codeValue("중구")
+                        .adres("서울특별시 중구 세종대로 " + i)
+                        .telNo("02-000-" + i)
+                        .hmpgUrl("https://library.example/" + i)
+                        .opTime("09:00~18:00")
+                        .fdrmCloseDate("매주 월요일")
+                        .lbrrySeName("공공도서관")
+                        .xcnts(37.43 + random.nextDouble() * 0.27)
+                        .ydnts(126.76 + random.nextDouble() * 0.42)
+                        .build());
+                if (i % 1_000 == 999) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+
+    /**
+     * Spring Data 프로젝션 프록시 대신 Tuple을 감싸는 카드 뷰
+     */
+    private record TupleCardView(Tuple row) implements PoiCardView {
+
+        @Override
+        public Long getId() {
+            return row.get("id", Number.class).longValue();
+        }
+
+        @Override
+        public String getName() {
+            return row.get("name", String.class);
+        }
+
+        @Override
+        public Double getLatitude() {
+            return row.get("latitude", Double.class);
+        }
+
+        @Override
+        public Double getLongitude() {
+            return row.get("longitude", Double.class);
+        }
+
+        @Override
+        public String getCategory() {
+            return row.get("category", String.class);
+        }
+
+        @Override
+        public String getAddress() {
+            return row.get("address", String.class);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.seoulfit.backend.publicdata;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoulfit.backend.benchmark.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공공 데이터 API 응답 파싱 벤치마크
+ *
+ * PublicDataApiClient.parseJsonResponse(JsonNode 트리 생성 후 Map 변환)의 비용을
+ * ObjectMapper.readValue로 바로 Map을 만드는 경우와 비교합니다.
+ * - bikeList: 따릉이 대여소 3,000건 응답
+ * - realtimeCity: 실시간 도시 데이터(citydata) 응답
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=PublicDataParsingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PublicDataParsingBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private PublicDataApiClient apiClient;
+    private ObjectMapper objectMapper;
+    private String bikeListPayload;
+    private String realtimeCityPayload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        apiClient = new PublicDataApiClient(WebClient.create(), objectMapper);
+        bikeListPayload = BenchmarkFixtures.read(BenchmarkFixtures.BIKE_STATIONS);
+        realtimeCityPayload = BenchmarkFixtures.read(BenchmarkFixtures.REALTIME_CITY);
+    }
+
+    @Benchmark
+    public Map<String, Object> bikeListTreeToMap() {
+        return apiClient.parseJsonResponse(bikeListPayload);
+    }
+
+    @Benchmark
+    public Map<String, Object> bikeListDirectToMap() throws Exception {
+        return objectMapper.readValue(bikeListPayload, MAP_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, Object> realtimeCityTreeToMap() {
+        return apiClient.parseJsonResponse(realtimeCityPayload);
+    }
+
+    @Benchmark
+    public Map<String, Object> realtimeCityDirectToMap() throws Exception {
+        return objectMapper.readValue(realtimeCityPayload, MAP_TYPE);
+    }
+}
@@ -0,0 +1,100 @@
+package com.seoulfit.backend.shared.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 입력값 검증 벤치마크
+ *
+ * 검색어/주소 형태의 입력 10,000건을 InputType.TEXT로 검증하는 비용을 비교합니다.
+ * 입력의 약 1%는 SQL/XSS 공격 패턴입니다.
+ * - legacyRegex: 유형별 정규식을 각각 find() 하던 기존 방식
+ * - singlePassScanner: InputThreatScanner로 한 번 순회 (validateInput의 공통 검사와 동일, 경고 로그 제외)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=InputSanitizerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InputSanitizerBenchmark {
+
+    private static final int INPUTS = 10_000;
+
+    private static final Pattern LEGACY_SQL_PATTERN = Pattern.compile(
+        "('.+--)|(--)|(\\|\\|)|(;)|(\\*)|(<>)|(!=)|" +
+        "(\\b(OR|AND)\\b\\s+['\"]?[^\\s=]+['\"]?\\s*=\\s*['\"]?[^\\s]+)|" +
+        "(\\b(ALTER|CREATE|DELETE|DROP|EXEC(UTE)?|INSERT( +INTO)?|MERGE|SELECT|UPDATE|UNION( +ALL)?)\\b)",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    private static final Pattern LEGACY_XSS_PATTERN = Pattern.compile(
+        "(<script[^>]*>.*?</script>)|" +
+        "(<iframe[^>]*>.*?</iframe>)|" +
+        "(javascript:)|" +
+        "(on\\w+\\s*=)|" +
+        "(<[^>]+style\\s*=\\s*['\"].*?expression\\s*\\([^>]*>)|" +
+        "(<[^>]+style\\s*=\\s*['\"].*?javascript\\s*:[^>]*>)",
+        Pattern.CASE_INSENSITIVE | Pattern.DOTALL
+    );
+
+    private static final String[] DISTRICTS = {"강남구", "마포구", "종로구", "송파구", "영등포구", "서초구", "중구"};
+    private static final String[] ROADS = {"세종대로", "테헤란로", "올림픽로", "월드컵북로", "종로", "여의대로"};
+    private static final String[] KEYWORDS = {
+        "맛집", "카페", "도서관", "무더위쉼터", "한강공원", "따릉이 대여소", "체육센터 수영", "전시회 이번 주말",
+        "coffee", "park near me", "Seoul Forest", "sports center"
+    };
+    private static final String[] ATTACKS = {
+        "1' OR '1'='1", "'; DROP TABLE users--", "<script>alert(1)</script>", "<img src=x onerror=alert(1)>"
+    };
+
+    private static final int COMMON_CHECKS = InputThreatScanner.SQL_INJECTION | InputThreatScanner.XSS;
+
+    private List<String> inputs;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+
+        inputs = new ArrayList<>(INPUTS);
+        for (int i = 0; i < INPUTS; i++) {
+            if (i % 100 == 0) {
+                inputs.add(ATTACKS[random.nextInt(ATTACKS.length)]);
+            } else if (i % 2 == 0) {
+                inputs.add("서울특별시 " + DISTRICTS[random.nextInt(DISTRICTS.length)] + " "
+                        + ROADS[random.nextInt(ROADS.length)] + " " + (1 + random.nextInt(300)));
+            } else {
+                inputs.add(DISTRICTS[random.nextInt(DISTRICTS.length)] + " "
+                        + KEYWORDS[random.nextInt(KEYWORDS.length)]);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void legacyRegex(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(LEGACY_SQL_PATTERN.matcher(input).find() || LEGACY_XSS_PATTERN.matcher(input).find());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void singlePassScanner(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(InputThreatScanner.scan(input, COMMON_CHECKS) != 0);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.seoulfit.backend.shared.security.encryption;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 암호화 컬럼 엔티티 로딩(hydration) 벤치마크
+ *
+ * 사용자 10,000명 x 암호화 필드 3개를 복호화하는 비용을 비교합니다.
+ * - legacyPerFieldLookup: 필드마다 Cipher.getInstance를 호출하던 기존 방식
+ * - converterHydration: EncryptedStringConverter를 통한 필드별 복호화 (스레드 로컬 Cipher)
+ * - bulkDecrypt: decryptAll 일괄 API
+ * - rawAesGcm: Base64/문자열 변환 없이 AES-GCM 복호화만 수행하는 기준선
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=EncryptedFieldHydrationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EncryptedFieldHydrationBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int FIELDS_PER_USER = 3;
+    private static final int TOTAL_FIELDS = USERS * FIELDS_PER_USER;
+
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_LENGTH = 128;
+
+    private SecretKeySpec keySpec;
+    private DataEncryptionService encryptionService;
+    private EncryptedStringConverter converter;
+
+    private List<String> encryptedColumns;
+    private byte[][] rawMessages;
+    private Cipher rawCipher;
+
+    @Setup
+    public void setUp() throws Exception {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        keySpec = new SecretKeySpec(key, "AES");
+        encryptionService = new DataEncryptionService(Base64.getEncoder().encodeToString(key));
+        converter = new EncryptedStringConverter(encryptionService);
+
+        List<String> plaintexts = new ArrayList<>(TOTAL_FIELDS);
+        for (int i = 0; i < USERS; i++) {
+            plaintexts.add(String.format("010-%04d-%04d", i / 10_000, i % 10_000));
+            plaintexts.add("서울특별시 중구 세종대로 " + (i % 200 + 1) + "길 " + i);
+            plaintexts.add("user" + i + "@seoulfit.example.com");
+        }
+        encryptedColumns = encryptionService.encryptAll(plaintexts);
+
+        rawMessages = new byte[TOTAL_FIELDS][];
+        for (int i = 0; i < TOTAL_FIELDS; i++) {
+            rawMessages[i] = Base64.getDecoder().decode(encryptedColumns.get(i));
+        }
+        rawCipher = Cipher.getInstance("AES/GCM/NoPadding");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL_FIELDS)
+    public void legacyPerFieldLookup(Blackhole blackhole) throws Exception {
+        for (String column : encryptedColumns) {
+            blackhole.consume(legacyDecrypt(column));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL_FIELDS)
+    public void converterHydration(Blackhole blackhole) {
+        for (String column : encryptedColumns) {
+            blackhole.consume(converter.convertToEntityAttribute(column));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL_FIELDS)
+    public void bulkDecrypt(Blackhole blackhole) {
+        blackhole.consume(encryptionService.decryptAll(encryptedColumns));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL_FIELDS)
+    public void rawAesGcm(Blackhole blackhole) throws Exception {
+        for (byte[] message : rawMessages) {
+            rawCipher.init(Cipher.DECRYPT_MODE, keySpec,
+                    new GCMParameterSpec(GCM_TAG_LENGTH, message, 0, GCM_IV_LENGTH));
+            blackhole.consume(rawCipher.doFinal(message, GCM_IV_LENGTH, message.length - GCM_IV_LENGTH));
+        }
+    }
+
+    /**
+     * 최적화 이전 DataEncryptionService.decrypt와 동일한 처리
+     */
+    private String legacyDecrypt(String encryptedData) throws Exception {
+        byte[] cipherMessage = Base64.getDecoder().decode(encryptedData);
+        ByteBuffer byteBuffer = ByteBuffer.wrap(cipherMessage);
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        byteBuffer.get(iv);
+        byte[] ciphertext = new byte[byteBuffer.remaining()];
+        byteBuffer.get(ciphertext);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+        return new String(cipher.doFinal(ciphertext), StandardCharsets.UTF_8);
+    }
+}
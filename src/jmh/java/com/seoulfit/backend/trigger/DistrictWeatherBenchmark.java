@@ -0,0 +1,185 @@
+package com.seoulfit.backend.trigger;
+
+import com.seoulfit.backend.benchmark.BenchmarkFixtures;
+import com.seoulfit.backend.location.domain.AdministrativeRegion;
+import com.seoulfit.backend.location.domain.CityHotspot;
+import com.seoulfit.backend.location.infrastructure.AdministrativeRegionIndex;
+import com.seoulfit.backend.location.infrastructure.CityHotspotRegistry;
+import com.seoulfit.backend.trigger.application.service.DistrictWeatherAggregator;
+import com.seoulfit.backend.trigger.domain.AreaCongestion;
+import com.seoulfit.backend.trigger.dto.TriggerContext;
+import com.seoulfit.backend.trigger.infrastructure.CongestionIndex;
+import com.seoulfit.backend.trigger.infrastructure.DistrictWeatherIndex;
+import com.seoulfit.backend.trigger.strategy.impl.HeavyRainTriggerStrategy;
+import com.seoulfit.backend.trigger.strategy.impl.TemperatureTriggerStrategy;
+import com.seoulfit.backend.user.domain.InterestCategory;
+import com.seoulfit.backend.user.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구별 날씨 집계 벤치마크
+ *
+ * 사용자 50,000명에 대해 폭우/온도 전략을 평가하는 비용을 비교합니다.
+ * - perUserParse: 사용자마다 두 전략이 각각 원본 WEATHER_STTS를 파싱 (틱당 100,000번 파싱)
+ * - districtLookup: 틱마다 만든 구별 집계를 사용자 구 코드로 조회 (파싱 없음)
+ * - aggregatePerTick: 115개 장소 응답으로 구별 집계를 만드는 틱당 1회 비용 (틱당 115번 파싱)
+ *
+ * weather=fixture는 픽스처 응답(일 강수량 2.5mm) 그대로, weather=dry는 강수량을 모두 0으로 바꾼
+ * 맑은 날 응답으로 측정합니다 (강수가 없을 때도 구별 집계만으로 평가하는지 확인).
+ *
+ * 사용자 구 코드는 저장된 위치로 미리 구해 두었으므로 좌표 → 구 변환 비용은 포함하지 않습니다
+ * (AdministrativeRegionIndexBenchmark 참고).
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=DistrictWeatherBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DistrictWeatherBenchmark {
+
+    private static final int USERS = 50_000;
+
+    @Param({"fixture", "dry"})
+    public String weather;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private HeavyRainTriggerStrategy heavyRainStrategy;
+    private TemperatureTriggerStrategy temperatureStrategy;
+    private DistrictWeatherAggregator aggregator;
+    private CongestionIndex congestionIndex;
+    private List<TriggerContext> rawContexts;
+    private List<TriggerContext> districtContexts;
+
+    @Setup
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.register(HeavyRainTriggerStrategy.class, TemperatureTriggerStrategy.class);
+        applicationContext.refresh();
+        heavyRainStrategy = applicationContext.getBean(HeavyRainTriggerStrategy.class);
+        temperatureStrategy = applicationContext.getBean(TemperatureTriggerStrategy.class);
+
+        DefaultResourceLoader resourceLoader = new DefaultResourceLoader();
+        AdministrativeRegionIndex regionIndex =
+                new AdministrativeRegionIndex(resourceLoader, "classpath:geo/seoul_comprehensive_regions.csv");
+        aggregator = new DistrictWeatherAggregator(regionIndex);
+
+        // 모든 장소가 픽스처의 실시간 도시 데이터 응답을 받았다고 가정
+        Map<String, Object> realtimeCity = new HashMap<>(BenchmarkFixtures.realtimeCity());
+        if ("dry".equals(weather)) {
+            realtimeCity.put("WEATHER_STTS", withoutRain(realtimeCity.get("WEATHER_STTS")));
+        }
+        Map<String, Object> cityData = Map.of("CITYDATA", realtimeCity);
+        List<AreaCongestion> congestions = new ArrayList<>();
+        for (CityHotspot hotspot : new CityHotspotRegistry(resourceLoader,
+                "classpath:geo/seoul_citydata_hotspots.csv").getHotspots()) {
+            congestions.add(new AreaCongestion(hotspot, "보통", null, null, null, cityData));
+        }
+        congestionIndex = new CongestionIndex(congestions);
+        DistrictWeatherIndex weatherIndex = aggregator.aggregate(congestionIndex);
+
+        Map<String, Object> publicApiData = new HashMap<>(BenchmarkFixtures.publicApiData());
+        publicApiData.put("WEATHER_STTS", realtimeCity.get("WEATHER_STTS"));
+        List<AdministrativeRegion> regions = regionIndex.getRegions();
+        List<InterestCategory> interests = List.of(InterestCategory.WEATHER);
+        LocalDateTime now = LocalDateTime.now();
+        Random random = new Random(45L);
+
+        rawContexts = new ArrayList<>(USERS);
+        districtContexts = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            AdministrativeRegion region = regions.get(random.nextInt(regions.size()));
+            double latitude = region.centerLat() + (random.nextDouble() - 0.5) * 0.01;
+            double longitude = region.centerLng() + (random.nextDouble() - 0.5) * 0.01;
+            User user = User.create("user" + i, null);
+
+            rawContexts.add(TriggerContext.builder()
+                    .user(user)
+                    .userInterests(interests)
+                    .userLatitude(latitude)
+                    .userLongitude(longitude)
+                    .publicApiData(publicApiData)
+                    .currentTime(now)
+                    .build());
+
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put(DistrictWeatherIndex.CONTEXT_KEY, weatherIndex);
+            String districtCode = aggregator.resolveDistrictCode(latitude, longitude);
+            if (districtCode != null) {
+                metadata.put(DistrictWeatherIndex.DISTRICT_CODE_KEY, districtCode);
+            }
+            districtContexts.add(TriggerContext.builder()
+                    .user(user)
+                    .userInterests(interests)
+                    .userLatitude(latitude)
+                    .userLongitude(longitude)
+                    .publicApiData(publicApiData)
+                    .currentTime(now)
+                    .metadata(metadata)
+                    .build());
+        }
+    }
+
+    /**
+     * 강수량을 모두 0으로 바꾼 WEATHER_STTS
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> withoutRain(Object statuses) {
+        List<Map<String, Object>> dry = new ArrayList<>();
+        for (Map<String, Object> status : (List<Map<String, Object>>) statuses) {
+            Map<String, Object> copy = new HashMap<>(status);
+            copy.put("PRECIPITATION", "-");
+            copy.put("RAIN_HOUR", "0.0");
+            copy.put("RAIN_DAY", "0.0");
+            dry.add(copy);
+        }
+        return dry;
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS)
+    public void perUserParse(Blackhole blackhole) {
+        for (TriggerContext context : rawContexts) {
+            blackhole.consume(heavyRainStrategy.evaluate(context));
+            blackhole.consume(temperatureStrategy.evaluate(context));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS)
+    public void districtLookup(Blackhole blackhole) {
+        for (TriggerContext context : districtContexts) {
+            blackhole.consume(heavyRainStrategy.evaluate(context));
+            blackhole.consume(temperatureStrategy.evaluate(context));
+        }
+    }
+
+    @Benchmark
+    public DistrictWeatherIndex aggregatePerTick() {
+        return aggregator.aggregate(congestionIndex);
+    }
+}
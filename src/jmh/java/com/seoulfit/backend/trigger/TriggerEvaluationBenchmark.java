@@ -0,0 +1,95 @@
+package com.seoulfit.backend.trigger;
+
+import com.seoulfit.backend.benchmark.BenchmarkFixtures;
+import com.seoulfit.backend.trigger.dto.TriggerContext;
+import com.seoulfit.backend.trigger.strategy.impl.AirQualityTriggerStrategy;
+import com.seoulfit.backend.trigger.strategy.impl.BikeShareTriggerStrategy;
+import com.seoulfit.backend.trigger.strategy.impl.CongestionTriggerStrategy;
+import com.seoulfit.backend.trigger.strategy.impl.HeavyRainTriggerStrategy;
+import com.seoulfit.backend.trigger.strategy.impl.LocationBasedBikeShareTriggerStrategy;
+import com.seoulfit.backend.trigger.strategy.impl.TemperatureTriggerStrategy;
+import com.seoulfit.backend.user.domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트리거 평가 벤치마크
+ *
+ * 합성 사용자 1,000명 각각에 대해 TriggerManager.evaluateAll을 실행하는 비용을 측정합니다.
+ * 공공 API 데이터는 실시간 도시 데이터 1곳 + 따릉이 대여소 3,000곳입니다.
+ * 전략은 DB 의존성이 없는 전략만 등록하며, 임계값은 @Value 기본값을 그대로 사용합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=TriggerEvaluationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TriggerEvaluationBenchmark {
+
+    private static final int USERS = 1_000;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private TriggerManager triggerManager;
+    private List<TriggerContext> contexts;
+
+    @Setup
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        applicationContext.register(
+                TriggerManager.class,
+                HeavyRainTriggerStrategy.class,
+                TemperatureTriggerStrategy.class,
+                AirQualityTriggerStrategy.class,
+                LocationBasedBikeShareTriggerStrategy.class,
+                BikeShareTriggerStrategy.class,
+                CongestionTriggerStrategy.class);
+        applicationContext.refresh();
+        triggerManager = applicationContext.getBean(TriggerManager.class);
+
+        Map<String, Object> publicApiData = BenchmarkFixtures.publicApiData();
+        LocalDateTime now = LocalDateTime.now();
+
+        contexts = new ArrayList<>(USERS);
+        for (BenchmarkFixtures.SyntheticUser user : BenchmarkFixtures.users().subList(0, USERS)) {
+            contexts.add(TriggerContext.builder()
+                    .user(User.create(user.nickname(), null))
+                    .userInterests(user.interests())
+                    .userLatitude(user.latitude())
+                    .userLongitude(user.longitude())
+                    .publicApiData(publicApiData)
+                    .currentTime(now)
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS)
+    public void evaluateAllPerUser(Blackhole blackhole) {
+        for (TriggerContext context : contexts) {
+            blackhole.consume(triggerManager.evaluateAll(context));
+        }
+    }
+}
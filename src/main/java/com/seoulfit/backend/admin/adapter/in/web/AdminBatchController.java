@@ -1,5 +1,7 @@
 package com.seoulfit.backend.admin.adapter.in.web;
 
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.culture.adapter.in.web.dto.res.SeoulCulturalSpaceApiResponse;
 import com.seoulfit.backend.publicdata.culture.application.service.CulturalEventService;
 import com.seoulfit.backend.publicdata.culture.application.service.CulturalReservationService;
@@ -12,6 +14,7 @@ import com.seoulfit.backend.publicdata.park.application.port.in.ParkBatchUseCase
 import com.seoulfit.backend.publicdata.restaurant.application.port.in.RestaurantBatchUseCase;
 import com.seoulfit.backend.search.application.port.in.SearchIndexBatchUseCase;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -36,6 +39,7 @@ public class AdminBatchController {
     private final SportsFacilityProgramBatchUseCase sportsProgramBatchUseCase;
     private final RestaurantBatchUseCase restaurantBatchUseCase;
     private final SearchIndexBatchUseCase searchIndexBatchUseCase;
+    private final ApplicationEventPublisher eventPublisher;
     private final int airQualityRetentionDays;
 
     public AdminBatchController(
@@ -49,6 +53,7 @@ public class AdminBatchController {
             SportsFacilityProgramBatchUseCase sportsProgramBatchUseCase,
             RestaurantBatchUseCase restaurantBatchUseCase,
             SearchIndexBatchUseCase searchIndexBatchUseCase,
+            ApplicationEventPublisher eventPublisher,
             @Value("${seoul-api.v1.environment.retention-days}") int airQualityRetentionDays) {
         this.parkBatchUseCase = parkBatchUseCase;
         this.airQualityBatchUseCase = airQualityBatchUseCase;
@@ -60,6 +65,7 @@ public class AdminBatchController {
         this.sportsProgramBatchUseCase = sportsProgramBatchUseCase;
         this.restaurantBatchUseCase = restaurantBatchUseCase;
         this.searchIndexBatchUseCase = searchIndexBatchUseCase;
+        this.eventPublisher = eventPublisher;
         this.airQualityRetentionDays = airQualityRetentionDays;
     }
 
@@ -79,6 +85,18 @@ public class AdminBatchController {
             default -> throw new IllegalArgumentException("지원하지 않는 데이터셋입니다: " + dataset);
         };
 
+        PoiType refreshedPoiType = switch (dataset) {
+            case "park" -> PoiType.PARKS;
+            case "culture" -> PoiType.CULTURAL_SPACES;
+            case "cooling-shelter" -> PoiType.COOLING_CENTERS;
+            case "library" -> PoiType.LIBRARIES;
+            case "restaurant" -> PoiType.RESTAURANTS;
+            default -> null;
+        };
+        if (refreshedPoiType != null) {
+            eventPublisher.publishEvent(new PoiDataRefreshedEvent(refreshedPoiType));
+        }
+
         return new BatchRunResponse(dataset, processedCount);
     }
 
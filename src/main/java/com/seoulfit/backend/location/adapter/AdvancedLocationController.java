@@ -2,8 +2,11 @@ package com.seoulfit.backend.location.adapter;
 
 import com.seoulfit.backend.location.adapter.dto.AdvancedLocationRequest;
 import com.seoulfit.backend.location.adapter.dto.AdvancedLocationResponse;
+import com.seoulfit.backend.location.adapter.dto.MapClusterResponse;
 import com.seoulfit.backend.location.application.AdvancedLocationDataService;
+import com.seoulfit.backend.location.application.MapClusterService;
 import com.seoulfit.backend.location.domain.MapScale;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.user.adapter.out.persistence.UserInterestPort;
 import com.seoulfit.backend.user.adapter.out.persistence.UserPort;
 import com.seoulfit.backend.user.domain.InterestCategory;
@@ -40,6 +43,7 @@ import java.util.List;
 public class AdvancedLocationController {
 
     private final AdvancedLocationDataService advancedLocationDataService;
+    private final MapClusterService mapClusterService;
     private final UserPort userPort;
     private final UserInterestPort userInterestPort;
 
@@ -175,6 +179,61 @@ public class AdvancedLocationController {
         return ResponseEntity.ok(recommendation);
     }
 
+    @Operation(
+        summary = "지도 클러스터 조회",
+        description = "지도 화면 영역의 시설을 축적에 맞게 묶어 클러스터 무게중심과 시설 수를 반환합니다. " +
+                     "충분히 확대한 축적에서는 개별 시설을 반환합니다."
+    )
+    @GetMapping("/clusters")
+    public ResponseEntity<MapClusterResponse> getMapClusters(
+            @Parameter(description = "최소 위도", example = "37.54", required = true)
+            @RequestParam Double minLatitude,
+
+            @Parameter(description = "최대 위도", example = "37.59", required = true)
+            @RequestParam Double maxLatitude,
+
+            @Parameter(description = "최소 경도", example = "126.94", required = true)
+            @RequestParam Double minLongitude,
+
+            @Parameter(description = "최대 경도", example = "127.02", required = true)
+            @RequestParam Double maxLongitude,
+
+            @Parameter(description = "지도 축적 (미지정 시 줌 레벨 또는 영역 크기로 결정)", example = "DISTRICT_MEDIUM")
+            @RequestParam(required = false) MapScale mapScale,
+
+            @Parameter(description = "줌 레벨 (Google Maps 스타일)", example = "13")
+            @RequestParam(required = false) Integer zoomLevel,
+
+            @Parameter(description = "시설 종류 (미지정 시 전체)", example = "PARKS,LIBRARIES")
+            @RequestParam(required = false) List<PoiType> types) {
+
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new IllegalArgumentException("바운딩 박스의 최소값이 최대값보다 클 수 없습니다.");
+        }
+
+        MapScale.BoundingBox boundingBox = MapScale.BoundingBox.builder()
+                .minLat(minLatitude)
+                .maxLat(maxLatitude)
+                .minLng(minLongitude)
+                .maxLng(maxLongitude)
+                .build();
+        MapScale scale = mapScale;
+        if (scale == null) {
+            double[] sizeKm = boundingBox.getSizeKm();
+            scale = zoomLevel != null
+                    ? MapScale.fromZoomLevel(zoomLevel)
+                    : MapScale.fromBoundingBoxSize(sizeKm[0], sizeKm[1]);
+        }
+
+        MapClusterResponse response = MapClusterResponse.from(
+                mapClusterService.getClusters(scale, boundingBox, types));
+
+        log.debug("지도 클러스터 조회 완료: scale={}, clusters={}, total={}",
+                scale.getDisplayName(), response.getClusters().size(), response.getTotalCount());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 요청에서 지도 축적 정보 결정
      */
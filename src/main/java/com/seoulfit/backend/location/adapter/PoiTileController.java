@@ -0,0 +1,75 @@
+package com.seoulfit.backend.location.adapter;
+
+import com.seoulfit.backend.location.application.PoiTileService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+/**
+ * 시설 GeoJSON 타일 컨트롤러
+ *
+ * 미리 만들어 둔 z/x/y 타일 바이트를 그대로 내려주며, 타일은 시설 배치가 돌 때만 바뀌므로
+ * 긴 Cache-Control과 타일 세대 ETag를 붙여 브라우저/CDN 캐시를 활용합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/location/tiles")
+@Tag(name = "Location Tiles", description = "시설 지도 타일 API")
+public class PoiTileController {
+
+    private static final MediaType GEO_JSON = MediaType.parseMediaType("application/geo+json");
+
+    private final PoiTileService poiTileService;
+    private final CacheControl cacheControl;
+
+    public PoiTileController(
+            PoiTileService poiTileService,
+            @Value("${seoulfit.location.tile.max-age-seconds:86400}") long maxAgeSeconds) {
+        this.poiTileService = poiTileService;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    @Operation(
+        summary = "시설 GeoJSON 타일 조회",
+        description = "맛집, 도서관, 공원, 체육시설, 무더위쉼터, 문화공간을 웹 메르카토르 z/x/y 타일 단위 GeoJSON으로 반환합니다."
+    )
+    @GetMapping("/{z}/{x}/{y}")
+    public ResponseEntity<byte[]> getTile(
+            @Parameter(description = "줌 레벨", example = "14") @PathVariable int z,
+            @Parameter(description = "타일 열", example = "13970") @PathVariable int x,
+            @Parameter(description = "타일 행", example = "6344") @PathVariable int y,
+            WebRequest webRequest) {
+
+        PoiTileService.PoiTile tile = poiTileService.getTile(z, x, y);
+        String eTag = "\"" + tile.generation() + "\"";
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(GEO_JSON)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(tile.body());
+    }
+}
@@ -0,0 +1,97 @@
+package com.seoulfit.backend.location.adapter.dto;
+
+import com.seoulfit.backend.location.application.MapClusterService;
+import com.seoulfit.backend.location.domain.MapCluster;
+import com.seoulfit.backend.location.domain.PoiType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지도 클러스터 응답 DTO
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Schema(description = "지도 클러스터 응답")
+@Getter
+@Builder
+public class MapClusterResponse {
+
+    @Schema(description = "사용된 지도 축적 정보")
+    private final AdvancedLocationResponse.MapScaleInfo mapScaleInfo;
+
+    @Schema(description = "클러스터 여부 (false면 개별 시설 목록)", example = "true")
+    private final Boolean clustered;
+
+    @Schema(description = "클러스터 격자 한 변의 길이 (km)", example = "0.8")
+    private final Double cellSizeKm;
+
+    @Schema(description = "영역 안 시설 수", example = "1532")
+    private final Integer totalCount;
+
+    @Schema(description = "개별 시설이 최대 개수를 넘어 잘렸는지 여부", example = "false")
+    private final Boolean truncated;
+
+    @Schema(description = "클러스터 목록")
+    private final List<ClusterInfo> clusters;
+
+    public static MapClusterResponse from(MapClusterService.MapClusterResult result) {
+        return MapClusterResponse.builder()
+                .mapScaleInfo(AdvancedLocationResponse.MapScaleInfo.from(result.scale()))
+                .clustered(result.clustered())
+                .cellSizeKm(result.cellSizeKm())
+                .totalCount(result.totalCount())
+                .truncated(result.truncated())
+                .clusters(result.clusters().stream().map(ClusterInfo::from).toList())
+                .build();
+    }
+
+    /**
+     * 클러스터 정보
+     */
+    @Schema(description = "클러스터 정보")
+    @Getter
+    @Builder
+    public static class ClusterInfo {
+        @Schema(description = "클러스터 ID", example = "7:110123:41676")
+        private final String id;
+
+        @Schema(description = "무게중심 위도", example = "37.5665")
+        private final Double latitude;
+
+        @Schema(description = "무게중심 경도", example = "126.9780")
+        private final Double longitude;
+
+        @Schema(description = "포함된 시설 수", example = "42")
+        private final Integer count;
+
+        @Schema(description = "시설 종류별 개수")
+        private final Map<PoiType, Integer> countsByType;
+
+        @Schema(description = "개별 시설 종류 (시설이 하나일 때)", example = "PARKS")
+        private final PoiType poiType;
+
+        @Schema(description = "개별 시설 ID (시설이 하나일 때)", example = "15")
+        private final Long poiId;
+
+        @Schema(description = "개별 시설명 (시설이 하나일 때)", example = "남산공원")
+        private final String name;
+
+        public static ClusterInfo from(MapCluster cluster) {
+            return ClusterInfo.builder()
+                    .id(cluster.id())
+                    .latitude(cluster.latitude())
+                    .longitude(cluster.longitude())
+                    .count(cluster.count())
+                    .countsByType(cluster.countsByType())
+                    .poiType(cluster.isPoint() ? cluster.point().type() : null)
+                    .poiId(cluster.isPoint() ? cluster.point().id() : null)
+                    .name(cluster.isPoint() ? cluster.point().name() : null)
+                    .build();
+        }
+    }
+}
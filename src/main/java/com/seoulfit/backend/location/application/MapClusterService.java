@@ -0,0 +1,114 @@
+package com.seoulfit.backend.location.application;
+
+import com.seoulfit.backend.location.domain.MapCluster;
+import com.seoulfit.backend.location.domain.MapPoint;
+import com.seoulfit.backend.location.domain.MapScale;
+import com.seoulfit.backend.location.domain.PoiType;
+import com.seoulfit.backend.location.infrastructure.MapClusterIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 지도 클러스터 서비스
+ *
+ * 맛집, 도서관, 공원, 체육시설, 무더위쉼터, 문화공간 좌표로 {@link MapClusterIndex}를 만들어 두고
+ * 지도 축적에 맞는 클러스터를 바로 반환합니다.
+ * <ul>
+ *   <li>넓은 축적: 격자 셀별 무게중심과 시설 수 (DB 조회 없음)</li>
+ *   <li>확대한 축적({@code raw-point-max-level} 이하): 바운딩 박스 안의 개별 시설</li>
+ * </ul>
+ * 인덱스는 첫 조회 시 만들고, 시설 배치가 끝나면 {@link PoiLayerRefreshListener}가 다시 만들어 통째로 교체합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class MapClusterService {
+
+    private final MapPointLoader mapPointLoader;
+    private final int rawPointMaxLevel;
+    private final int maxRawPoints;
+    private final AtomicReference<MapClusterIndex> index = new AtomicReference<>();
+
+    public MapClusterService(
+            MapPointLoader mapPointLoader,
+            @Value("${seoulfit.location.cluster.raw-point-max-level:3}") int rawPointMaxLevel,
+            @Value("${seoulfit.location.cluster.max-raw-points:2000}") int maxRawPoints) {
+        this.mapPointLoader = mapPointLoader;
+        this.rawPointMaxLevel = rawPointMaxLevel;
+        this.maxRawPoints = maxRawPoints;
+    }
+
+    /**
+     * 지도 클러스터 조회
+     *
+     * @param scale 지도 축적
+     * @param box   지도 화면 영역
+     * @param types 포함할 시설 종류 (비어 있으면 전체)
+     * @return 클러스터 또는 개별 시설 목록
+     */
+    public MapClusterResult getClusters(MapScale scale, MapScale.BoundingBox box, Collection<PoiType> types) {
+        MapClusterIndex current = currentIndex();
+        Set<PoiType> selected = types == null || types.isEmpty() ? EnumSet.allOf(PoiType.class) : EnumSet.copyOf(types);
+
+        if (scale.getLevel() <= rawPointMaxLevel) {
+            List<MapPoint> points = current.points(box, selected);
+            List<MapCluster> clusters = points.stream()
+                    .limit(maxRawPoints)
+                    .map(MapCluster::of)
+                    .toList();
+            return new MapClusterResult(scale, false, 0.0, points.size(), points.size() > maxRawPoints, clusters);
+        }
+
+        List<MapCluster> clusters = current.clusters(scale, box, selected);
+        int totalCount = clusters.stream().mapToInt(MapCluster::count).sum();
+        return new MapClusterResult(scale, true, MapClusterIndex.cellSizeKm(scale), totalCount, false, clusters);
+    }
+
+    /**
+     * 시설 좌표로 인덱스 교체
+     *
+     * @param points 위치 정보가 있는 전체 시설
+     * @return 새 인덱스
+     */
+    public MapClusterIndex rebuild(List<MapPoint> points) {
+        long startTime = System.currentTimeMillis();
+        MapClusterIndex rebuilt = new MapClusterIndex(points);
+        index.set(rebuilt);
+        log.info("지도 클러스터 인덱스 생성 완료: {}개 시설, {}ms", rebuilt.size(), System.currentTimeMillis() - startTime);
+        return rebuilt;
+    }
+
+    private MapClusterIndex currentIndex() {
+        MapClusterIndex current = index.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = index.get();
+            return current != null ? current : rebuild(mapPointLoader.loadPoints());
+        }
+    }
+
+    /**
+     * 지도 클러스터 조회 결과
+     *
+     * @param scale       적용한 지도 축적
+     * @param clustered   클러스터 여부 (false면 개별 시설)
+     * @param cellSizeKm  클러스터 격자 한 변의 길이 (km, 개별 시설이면 0)
+     * @param totalCount  영역 안 시설 수
+     * @param truncated   개별 시설이 최대 개수를 넘어 잘렸는지 여부
+     * @param clusters    클러스터 목록
+     */
+    public record MapClusterResult(MapScale scale, boolean clustered, double cellSizeKm, int totalCount,
+                                   boolean truncated, List<MapCluster> clusters) {
+    }
+}
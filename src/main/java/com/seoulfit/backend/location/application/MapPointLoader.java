@@ -0,0 +1,64 @@
+package com.seoulfit.backend.location.application;
+
+import com.seoulfit.backend.location.domain.MapPoint;
+import com.seoulfit.backend.location.domain.PoiType;
+import com.seoulfit.backend.location.infrastructure.SportsFacilityRepository;
+import com.seoulfit.backend.publicdata.culture.adapter.out.repository.CulturalSpaceRepository;
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository.CoolingCenterRepository;
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository.LibraryRepository;
+import com.seoulfit.backend.publicdata.park.adapter.out.persistence.repository.ParkRepository;
+import com.seoulfit.backend.publicdata.restaurant.adapter.out.persistence.repository.RestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지도 레이어용 시설 좌표 로더
+ *
+ * 맛집, 도서관, 공원, 체육시설, 무더위쉼터, 문화공간 중 위치 정보가 있는 시설을 모두 읽어
+ * {@link MapPoint}로 변환합니다. 클러스터 인덱스와 타일 캐시가 같은 좌표 목록으로 만들어집니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MapPointLoader {
+
+    private final RestaurantRepository restaurantRepository;
+    private final LibraryRepository libraryRepository;
+    private final ParkRepository parkRepository;
+    private final SportsFacilityRepository sportsFacilityRepository;
+    private final CoolingCenterRepository coolingCenterRepository;
+    private final CulturalSpaceRepository culturalSpaceRepository;
+
+    /**
+     * 위치 정보가 있는 전체 시설 좌표 조회
+     */
+    public List<MapPoint> loadPoints() {
+        List<MapPoint> points = new ArrayList<>();
+        restaurantRepository.findAllWithLocation().forEach(restaurant -> points.add(new MapPoint(
+                PoiType.RESTAURANTS, restaurant.getId(), restaurant.getName(),
+                restaurant.getLatitude(), restaurant.getLongitude())));
+        libraryRepository.findAllWithLocation().forEach(library -> points.add(new MapPoint(
+                PoiType.LIBRARIES, library.getId(), library.getLbrryName(),
+                library.getLatitude(), library.getLongitude())));
+        parkRepository.findAllWithLocation().forEach(park -> points.add(new MapPoint(
+                PoiType.PARKS, park.getId(), park.getName(),
+                park.getLatitude(), park.getLongitude())));
+        sportsFacilityRepository.findAllWithLocation().forEach(facility -> points.add(new MapPoint(
+                PoiType.SPORTS_FACILITIES, facility.getId(), facility.getFacilityName(),
+                facility.getLatitude(), facility.getLongitude())));
+        coolingCenterRepository.findAllWithLocation().forEach(center -> points.add(new MapPoint(
+                PoiType.COOLING_CENTERS, center.getId(), center.getName(),
+                center.getLatitude(), center.getLongitude())));
+        culturalSpaceRepository.findAllWithLocation().forEach(space -> points.add(new MapPoint(
+                PoiType.CULTURAL_SPACES, space.getId(), space.getFacilityName(),
+                space.getLatitude().doubleValue(), space.getLongitude().doubleValue())));
+        return points;
+    }
+}
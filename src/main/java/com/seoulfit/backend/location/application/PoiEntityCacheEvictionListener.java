@@ -0,0 +1,53 @@
+package com.seoulfit.backend.location.application;
+
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import com.seoulfit.backend.location.domain.PoiType;
+import com.seoulfit.backend.location.domain.SportsFacility;
+import com.seoulfit.backend.publicdata.culture.domain.CulturalSpace;
+import com.seoulfit.backend.publicdata.facilities.domain.CoolingCenter;
+import com.seoulfit.backend.publicdata.facilities.domain.Library;
+import com.seoulfit.backend.publicdata.park.domain.Park;
+import com.seoulfit.backend.publicdata.restaurant.domain.Restaurant;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시설 배치 완료 시 2차 캐시 리전 비우기
+ *
+ * 배치가 시설 테이블을 커밋한 뒤 해당 엔티티 리전을 비워, 이후 ID 조회가 새 데이터를 읽도록 합니다.
+ * 지도 레이어 재생성보다 먼저 실행되도록 가장 높은 우선순위로 등록합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PoiEntityCacheEvictionListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onPoiDataRefreshed(PoiDataRefreshedEvent event) {
+        Class<?> entityClass = entityClassOf(event.poiType());
+        entityManagerFactory.getCache().evict(entityClass);
+        log.info("시설 데이터 갱신으로 2차 캐시 리전 비움: {}", entityClass.getSimpleName());
+    }
+
+    private static Class<?> entityClassOf(PoiType poiType) {
+        return switch (poiType) {
+            case RESTAURANTS -> Restaurant.class;
+            case LIBRARIES -> Library.class;
+            case PARKS -> Park.class;
+            case SPORTS_FACILITIES -> SportsFacility.class;
+            case COOLING_CENTERS -> CoolingCenter.class;
+            case CULTURAL_SPACES -> CulturalSpace.class;
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.seoulfit.backend.location.application;
+
+import com.seoulfit.backend.location.domain.MapPoint;
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 시설 배치 완료 시 지도 레이어 재생성
+ *
+ * 시설 좌표를 한 번 읽어 클러스터 인덱스와 타일 캐시를 함께 다시 만듭니다.
+ * 배치 스레드에서 실행되며, 재생성에 실패해도 배치 결과에는 영향을 주지 않고 기존 레이어를 그대로 사용합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PoiLayerRefreshListener {
+
+    private final MapPointLoader mapPointLoader;
+    private final MapClusterService mapClusterService;
+    private final PoiTileService poiTileService;
+
+    @EventListener
+    public void onPoiDataRefreshed(PoiDataRefreshedEvent event) {
+        log.info("시설 데이터 갱신으로 지도 레이어 재생성: {}", event.poiType());
+        try {
+            List<MapPoint> points = mapPointLoader.loadPoints();
+            mapClusterService.rebuild(points);
+            poiTileService.rebuild(points);
+        } catch (Exception e) {
+            log.error("지도 레이어 재생성 중 오류 발생: {}", event.poiType(), e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.seoulfit.backend.location.application;
+
+import com.seoulfit.backend.location.domain.MapPoint;
+import com.seoulfit.backend.location.domain.TileCoordinate;
+import com.seoulfit.backend.location.infrastructure.PoiTileEncoder;
+import com.seoulfit.backend.location.infrastructure.PoiTileStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 시설 GeoJSON 타일 서비스
+ *
+ * 시설 배치가 끝나면 {@code min-zoom}~{@code max-zoom} 범위에서 시설이 있는 타일을 모두 미리 직렬화해
+ * {@link PoiTileStore}에 넣고, 지도 이동 시에는 저장된 바이트를 그대로 반환합니다.
+ * 저장소 용량 때문에 내보내진 타일은 재생성 때 타일별로 나눠 둔 시설 목록으로 다시 만들어 저장하고,
+ * 시설이 없는 타일은 저장하지 않고 공용 빈 타일을 반환합니다.
+ * 누구나 호출할 수 있는 API이므로 서울 영역(위도 37.40~37.72, 경도 126.70~127.20) 밖의 타일 좌표는 거부합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class PoiTileService {
+
+    private static final double SEOUL_NORTH = 37.72;
+    private static final double SEOUL_SOUTH = 37.40;
+    private static final double SEOUL_WEST = 126.70;
+    private static final double SEOUL_EAST = 127.20;
+
+    private static final byte[] EMPTY_TILE = PoiTileEncoder.encode(List.of());
+
+    private final MapPointLoader mapPointLoader;
+    private final PoiTileStore tileStore;
+    private final int minZoom;
+    private final int maxZoom;
+    private final AtomicReference<TileSnapshot> snapshot = new AtomicReference<>();
+
+    public PoiTileService(
+            MapPointLoader mapPointLoader,
+            PoiTileStore tileStore,
+            @Value("${seoulfit.location.tile.min-zoom:10}") int minZoom,
+            @Value("${seoulfit.location.tile.max-zoom:16}") int maxZoom) {
+        this.mapPointLoader = mapPointLoader;
+        this.tileStore = tileStore;
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+    }
+
+    /**
+     * 타일 조회
+     *
+     * @param z 줌 레벨
+     * @param x 타일 열
+     * @param y 타일 행
+     * @return GeoJSON 타일과 타일 세대
+     * @throws IllegalArgumentException 지원하지 않는 줌 레벨이거나 서울 영역 밖의 타일 좌표인 경우
+     */
+    public PoiTile getTile(int z, int x, int y) {
+        if (z < minZoom || z > maxZoom) {
+            throw new IllegalArgumentException("타일 줌 레벨은 " + minZoom + "~" + maxZoom + " 사이여야 합니다: " + z);
+        }
+        TileCoordinate northWest = TileCoordinate.of(z, SEOUL_NORTH, SEOUL_WEST);
+        TileCoordinate southEast = TileCoordinate.of(z, SEOUL_SOUTH, SEOUL_EAST);
+        if (x < northWest.x() || x > southEast.x() || y < northWest.y() || y > southEast.y()) {
+            throw new IllegalArgumentException("서울 영역 밖의 타일 좌표입니다: " + z + "/" + x + "/" + y);
+        }
+        TileCoordinate tile = new TileCoordinate(z, x, y);
+        TileSnapshot current = currentSnapshot();
+
+        List<MapPoint> inTile = current.pointsByTile().get(tile);
+        if (inTile == null) {
+            return new PoiTile(tile, current.generation(), EMPTY_TILE);
+        }
+        byte[] body = tileStore.get(current.generation(), tile).orElseGet(() -> {
+            byte[] encoded = PoiTileEncoder.encode(inTile);
+            tileStore.put(current.generation(), tile, encoded);
+            return encoded;
+        });
+        return new PoiTile(tile, current.generation(), body);
+    }
+
+    /**
+     * 시설 좌표로 전체 타일 재생성
+     *
+     * @param points 위치 정보가 있는 전체 시설
+     * @return 생성 결과
+     */
+    public TileBuildResult rebuild(List<MapPoint> points) {
+        long startTime = System.currentTimeMillis();
+        TileSnapshot previous = snapshot.get();
+        long generation = previous == null ? startTime : Math.max(startTime, previous.generation() + 1);
+
+        int tileCount = 0;
+        long totalBytes = 0;
+        Map<TileCoordinate, List<MapPoint>> pointsByTile = new HashMap<>();
+        for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
+            for (Map.Entry<TileCoordinate, List<MapPoint>> entry : PoiTileEncoder.partition(points, zoom).entrySet()) {
+                byte[] body = PoiTileEncoder.encode(entry.getValue());
+                tileStore.put(generation, entry.getKey(), body);
+                pointsByTile.put(entry.getKey(), List.copyOf(entry.getValue()));
+                tileCount++;
+                totalBytes += body.length;
+            }
+        }
+        snapshot.set(new TileSnapshot(generation, Map.copyOf(pointsByTile)));
+        tileStore.retainGeneration(generation);
+
+        TileBuildResult result = new TileBuildResult(generation, points.size(), tileCount, totalBytes);
+        log.info("시설 타일 생성 완료: {}, {}ms", result, System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    private TileSnapshot currentSnapshot() {
+        TileSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot.get() == null) {
+                rebuild(mapPointLoader.loadPoints());
+            }
+            return snapshot.get();
+        }
+    }
+
+    /**
+     * GeoJSON 타일
+     *
+     * @param tile       타일 좌표
+     * @param generation 타일 세대 (시설 배치 후 재생성할 때마다 증가, ETag로 사용)
+     * @param body       GeoJSON FeatureCollection 바이트
+     */
+    public record PoiTile(TileCoordinate tile, long generation, byte[] body) {
+    }
+
+    /**
+     * 타일 생성 결과
+     *
+     * @param generation 타일 세대
+     * @param pointCount 시설 수
+     * @param tileCount  미리 만든 타일 수
+     * @param totalBytes 미리 만든 타일 바이트 합계
+     */
+    public record TileBuildResult(long generation, int pointCount, int tileCount, long totalBytes) {
+    }
+
+    /**
+     * @param pointsByTile 시설이 있는 타일별 시설 목록 (저장소에서 내보내진 타일을 다시 만들 때 사용)
+     */
+    private record TileSnapshot(long generation, Map<TileCoordinate, List<MapPoint>> pointsByTile) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.seoulfit.backend.location.domain;
+
+/**
+ * 행정구역 (읍면동 단위) 경계와 중심 좌표
+ *
+ * geo/seoul_comprehensive_regions.csv 한 행에 해당합니다.
+ * 경계는 위경도 사각형(bounding box)이며 이웃 동과 겹칠 수 있습니다.
+ *
+ * @param adminCode 행정동 코드 (시도 2 + 시군구 3 + 읍면동 3)
+ * @param sidoCode 시도 코드
+ * @param sidoName 시도명
+ * @param sigunguCode 시군구 코드
+ * @param sigunguName 시군구명
+ * @param emdCode 읍면동 코드
+ * @param emdName 읍면동명
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public record AdministrativeRegion(
+        String adminCode,
+        String sidoCode,
+        String sidoName,
+        String sigunguCode,
+        String sigunguName,
+        String emdCode,
+        String emdName,
+        double minLat,
+        double maxLat,
+        double minLng,
+        double maxLng,
+        double centerLat,
+        double centerLng
+) {
+
+    /**
+     * 시도 + 시군구 코드 (예: 11010)
+     */
+    public String districtCode() {
+        return sidoCode + sigunguCode;
+    }
+
+    /**
+     * 좌표가 경계 사각형 안에 있는지 확인
+     */
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLat && latitude <= maxLat && longitude >= minLng && longitude <= maxLng;
+    }
+}
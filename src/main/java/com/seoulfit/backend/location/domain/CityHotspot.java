@@ -0,0 +1,14 @@
+package com.seoulfit.backend.location.domain;
+
+/**
+ * 서울시 실시간 도시데이터 제공 장소
+ *
+ * geo/seoul_citydata_hotspots.csv 한 행에 해당하며, 좌표는 장소 영역의 대표 지점(근사값)입니다.
+ *
+ * @param areaName  장소명 (실시간 도시데이터 API 조회 키, 예: 광화문·덕수궁)
+ * @param category  장소 분류 (관광특구, 고궁·문화유산, 인구밀집지역, 발달상권, 공원)
+ * @param latitude  위도
+ * @param longitude 경도
+ */
+public record CityHotspot(String areaName, String category, double latitude, double longitude) {
+}
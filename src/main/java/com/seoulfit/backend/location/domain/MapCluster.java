@@ -0,0 +1,35 @@
+package com.seoulfit.backend.location.domain;
+
+import java.util.Map;
+
+/**
+ * 지도 클러스터
+ *
+ * 같은 격자 셀에 속한 시설을 묶은 결과로, 좌표는 셀 안 시설 좌표의 평균(무게중심)입니다.
+ * 시설이 하나뿐이면 {@code point}에 원본 시설을 담습니다.
+ *
+ * @param id           클러스터 ID (축적 레벨과 격자 셀 좌표, 같은 레벨 안에서 고유)
+ * @param latitude     무게중심 위도
+ * @param longitude    무게중심 경도
+ * @param count        포함된 시설 수
+ * @param countsByType 시설 종류별 개수 (0인 종류는 제외)
+ * @param point        시설이 하나뿐일 때의 원본 시설, 아니면 null
+ */
+public record MapCluster(String id, double latitude, double longitude, int count,
+                         Map<PoiType, Integer> countsByType, MapPoint point) {
+
+    /**
+     * 개별 시설로 표시
+     */
+    public static MapCluster of(MapPoint point) {
+        return new MapCluster(point.type() + ":" + point.id(), point.latitude(), point.longitude(), 1,
+                Map.of(point.type(), 1), point);
+    }
+
+    /**
+     * 개별 시설 여부
+     */
+    public boolean isPoint() {
+        return point != null;
+    }
+}
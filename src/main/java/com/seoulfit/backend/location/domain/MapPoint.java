@@ -0,0 +1,13 @@
+package com.seoulfit.backend.location.domain;
+
+/**
+ * 지도에 표시하는 개별 시설 좌표
+ *
+ * @param type      시설 종류
+ * @param id        시설 ID (종류별 테이블의 PK)
+ * @param name      시설명
+ * @param latitude  위도
+ * @param longitude 경도
+ */
+public record MapPoint(PoiType type, Long id, String name, double latitude, double longitude) {
+}
@@ -0,0 +1,41 @@
+package com.seoulfit.backend.location.domain;
+
+/**
+ * 지도 카드에 표시하는 시설 요약
+ *
+ * @param type      시설 종류
+ * @param id        시설 ID (종류별 테이블의 PK)
+ * @param name      시설명
+ * @param latitude  위도
+ * @param longitude 경도
+ * @param category  시설 분류
+ * @param address   짧은 주소 (시/도 이름 제외)
+ */
+public record PoiCard(PoiType type, Long id, String name, Double latitude, Double longitude,
+                      String category, String address) {
+
+    private static final String CITY_PREFIX = "서울특별시 ";
+    private static final String SHORT_CITY_PREFIX = "서울 ";
+
+    /**
+     * 프로젝션 행을 카드로 변환
+     */
+    public static PoiCard of(PoiType type, PoiCardView view) {
+        return new PoiCard(type, view.getId(), view.getName(), view.getLatitude(), view.getLongitude(),
+                view.getCategory(), shortAddress(view.getAddress()));
+    }
+
+    static String shortAddress(String address) {
+        if (address == null) {
+            return null;
+        }
+        String trimmed = address.trim();
+        if (trimmed.startsWith(CITY_PREFIX)) {
+            return trimmed.substring(CITY_PREFIX.length());
+        }
+        if (trimmed.startsWith(SHORT_CITY_PREFIX)) {
+            return trimmed.substring(SHORT_CITY_PREFIX.length());
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,28 @@
+package com.seoulfit.backend.location.domain;
+
+/**
+ * 지도 카드 조회용 프로젝션
+ *
+ * 반경 조회 쿼리가 카드에 필요한 컬럼만 별칭(id, name, latitude, longitude, category, address)으로 읽어 채웁니다.
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않고 변경 감지 대상도 아닙니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public interface PoiCardView {
+
+    Long getId();
+
+    String getName();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    /**
+     * 시설 분류 (도서관 구분, 쉼터 시설구분, 공원 지역, 맛집 대표메뉴)
+     */
+    String getCategory();
+
+    String getAddress();
+}
@@ -0,0 +1,12 @@
+package com.seoulfit.backend.location.domain;
+
+/**
+ * 시설 데이터 배치 완료 이벤트
+ *
+ * 공공데이터 일일 배치가 시설 테이블 갱신을 커밋한 뒤 발행하며,
+ * 지도 클러스터 인덱스와 타일 캐시가 이 이벤트를 받아 다시 만들어집니다.
+ *
+ * @param poiType 갱신된 시설 종류
+ */
+public record PoiDataRefreshedEvent(PoiType poiType) {
+}
@@ -0,0 +1,27 @@
+package com.seoulfit.backend.location.domain;
+
+import lombok.Getter;
+
+/**
+ * 지도에 표시하는 공공시설(POI) 종류
+ *
+ * 이름은 {@code AdvancedLocationDataService}의 관심사 키와 같습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Getter
+public enum PoiType {
+    RESTAURANTS("맛집"),
+    LIBRARIES("도서관"),
+    PARKS("공원"),
+    SPORTS_FACILITIES("체육시설"),
+    COOLING_CENTERS("무더위쉼터"),
+    CULTURAL_SPACES("문화공간");
+
+    private final String displayName;
+
+    PoiType(String displayName) {
+        this.displayName = displayName;
+    }
+}
@@ -1,11 +1,15 @@
 package com.seoulfit.backend.location.domain;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.location.util.GeoUtils;
+import com.seoulfit.backend.shared.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -20,9 +24,12 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "sports_reservation_facilities", indexes = {
     @Index(name = "idx_sports_res_facilities_location", columnList = "latitude, longitude"),
+    @Index(name = "idx_sports_res_facilities_grid_cell", columnList = "grid_cell"),
     @Index(name = "idx_sports_res_facilities_name", columnList = "facility_name"),
     @Index(name = "idx_sports_res_facilities_district", columnList = "district")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.Regions.SPORTS_FACILITY)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SportsFacility implements GeoUtils.GeoPoint {
@@ -86,6 +93,9 @@ public class SportsFacility implements GeoUtils.GeoPoint {
     @Column(name = "longitude")
     private Double longitude; // 경도
 
+    @Column(name = "grid_cell")
+    private Integer gridCell; // 반경 조회용 격자 셀 (GeoGrid)
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -179,4 +189,13 @@ public class SportsFacility implements GeoUtils.GeoPoint {
         this.longitude = longitude;
         this.updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * 좌표로 반경 조회용 격자 셀 계산
+     */
+    @PrePersist
+    @PreUpdate
+    protected void assignGridCell() {
+        this.gridCell = GeoGrid.cellOf(latitude, longitude);
+    }
 }
@@ -0,0 +1,46 @@
+package com.seoulfit.backend.location.domain;
+
+/**
+ * 웹 메르카토르(slippy map) 타일 좌표
+ *
+ * @param z 줌 레벨
+ * @param x 타일 열 (0 ~ 2^z - 1, 서쪽부터)
+ * @param y 타일 행 (0 ~ 2^z - 1, 북쪽부터)
+ */
+public record TileCoordinate(int z, int x, int y) {
+
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    public TileCoordinate {
+        if (z < 0 || z > 22) {
+            throw new IllegalArgumentException("타일 줌 레벨은 0~22 사이여야 합니다: " + z);
+        }
+        int size = 1 << z;
+        if (x < 0 || x >= size || y < 0 || y >= size) {
+            throw new IllegalArgumentException("줌 " + z + "에서 유효하지 않은 타일 좌표입니다: " + x + "/" + y);
+        }
+    }
+
+    /**
+     * 좌표가 속한 타일
+     */
+    public static TileCoordinate of(int z, double latitude, double longitude) {
+        int size = 1 << z;
+        double clampedLatitude = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+        double latitudeRadians = Math.toRadians(clampedLatitude);
+        double x = (longitude + 180.0) / 360.0 * size;
+        double y = (1.0 - Math.log(Math.tan(latitudeRadians) + 1.0 / Math.cos(latitudeRadians)) / Math.PI) / 2.0 * size;
+        return new TileCoordinate(z, clamp((int) Math.floor(x), size), clamp((int) Math.floor(y), size));
+    }
+
+    /**
+     * 좌표가 이 타일에 속하는지 여부 ({@link #of}와 같은 기준)
+     */
+    public boolean contains(double latitude, double longitude) {
+        return equals(of(z, latitude, longitude));
+    }
+
+    private static int clamp(int index, int size) {
+        return Math.max(0, Math.min(size - 1, index));
+    }
+}
@@ -0,0 +1,231 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.opencsv.CSVReaderHeaderAware;
+import com.opencsv.exceptions.CsvValidationException;
+import com.seoulfit.backend.location.domain.AdministrativeRegion;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 좌표 → 행정구역(읍면동) 인메모리 인덱스
+ *
+ * 시작 시 행정구역 CSV를 읽어 경계 사각형으로 STR-tree(JTS)를 만듭니다.
+ * 좌표를 포함하는 경계가 여러 개이면(이웃 동의 경계가 겹치는 경우) 중심이 가장 가까운 동을 고르고,
+ * 어느 경계에도 들지 않지만 서울 범위 안인 좌표는 중심이 가장 가까운 동으로 보정합니다.
+ *
+ * 트리의 x축은 경도에 서울 위도의 축척(cos 위도)을 곱한 값이라 트리의 경계 거리와 중심 거리가 같은 척도를 씁니다.
+ *
+ * 트리와 행정구역 목록은 생성 후 변경하지 않으므로 여러 스레드에서 동시에 조회할 수 있습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class AdministrativeRegionIndex {
+
+    /**
+     * 서울 위도에서 경도 1도 거리 / 위도 1도 거리 (중심 거리 비교용 근사)
+     */
+    private static final double LNG_SCALE = Math.cos(Math.toRadians(37.55));
+
+    /**
+     * 전체 경계 밖 좌표를 가장 가까운 동으로 보정할 여유 범위 (도)
+     */
+    private static final double NEAREST_FALLBACK_MARGIN = 0.01;
+
+    private final List<AdministrativeRegion> regions;
+    private final Map<String, AdministrativeRegion> regionsByAdminCode;
+    private final double[] centerLat;
+    private final double[] centerLng;
+    private final STRtree tree;
+    private final Envelope coverage;
+
+    @Autowired
+    public AdministrativeRegionIndex(
+            ResourceLoader resourceLoader,
+            @Value("${seoulfit.geo.csv.path:classpath:geo/seoul_comprehensive_regions.csv}") String csvPath) {
+        this(load(resourceLoader.getResource(csvPath)));
+        log.info("행정구역 인덱스 생성 완료: {}건, path={}", regions.size(), csvPath);
+    }
+
+    public AdministrativeRegionIndex(List<AdministrativeRegion> regions) {
+        if (regions.isEmpty()) {
+            throw new IllegalStateException("행정구역 데이터가 비어 있습니다.");
+        }
+        this.regions = List.copyOf(regions);
+        this.regionsByAdminCode = new HashMap<>();
+        this.centerLat = new double[regions.size()];
+        this.centerLng = new double[regions.size()];
+        this.tree = new STRtree();
+        this.coverage = new Envelope();
+
+        for (int i = 0; i < this.regions.size(); i++) {
+            AdministrativeRegion region = this.regions.get(i);
+            Envelope bounds = new Envelope(region.minLng() * LNG_SCALE, region.maxLng() * LNG_SCALE,
+                    region.minLat(), region.maxLat());
+            tree.insert(bounds, i);
+            coverage.expandToInclude(bounds);
+            centerLat[i] = region.centerLat();
+            centerLng[i] = region.centerLng() * LNG_SCALE;
+            regionsByAdminCode.put(region.adminCode(), region);
+        }
+        coverage.expandBy(NEAREST_FALLBACK_MARGIN);
+        tree.build();
+    }
+
+    /**
+     * 좌표가 속한 행정구역 조회
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @return 행정구역, 서울 범위 밖이면 empty
+     */
+    public Optional<AdministrativeRegion> resolve(double latitude, double longitude) {
+        int index = resolveIndex(latitude, longitude);
+        return index < 0 ? Optional.empty() : Optional.of(regions.get(index));
+    }
+
+    /**
+     * 좌표가 속한 시군구 코드 조회 (예: 11010)
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @return 시도 + 시군구 코드, 서울 범위 밖이면 empty
+     */
+    public Optional<String> resolveDistrictCode(double latitude, double longitude) {
+        return resolve(latitude, longitude).map(AdministrativeRegion::districtCode);
+    }
+
+    /**
+     * 행정동 코드로 조회
+     */
+    public Optional<AdministrativeRegion> findByAdminCode(String adminCode) {
+        return Optional.ofNullable(regionsByAdminCode.get(adminCode));
+    }
+
+    /**
+     * 전체 행정구역 (CSV 순서)
+     */
+    public List<AdministrativeRegion> getRegions() {
+        return Collections.unmodifiableList(regions);
+    }
+
+    private int resolveIndex(double latitude, double longitude) {
+        double x = longitude * LNG_SCALE;
+        if (!coverage.contains(x, latitude)) {
+            return -1;
+        }
+
+        Envelope point = new Envelope(x, x, latitude, latitude);
+        NearestCenterVisitor visitor = new NearestCenterVisitor(latitude, x);
+        tree.query(point, visitor);
+        if (visitor.best >= 0) {
+            return visitor.best;
+        }
+
+        // 경계 사이 빈틈: 중심이 가장 가까운 동 (중심 거리는 경계 거리 이상이므로 트리 가지치기가 유효)
+        Object nearest = tree.nearestNeighbour(point, null, new CenterDistance(latitude, x));
+        return nearest == null ? -1 : (Integer) nearest;
+    }
+
+    private double centerDistanceSquared(int index, double latitude, double x) {
+        double dLat = centerLat[index] - latitude;
+        double dX = centerLng[index] - x;
+        return dLat * dLat + dX * dX;
+    }
+
+    private static List<AdministrativeRegion> load(Resource resource) {
+        List<AdministrativeRegion> regions = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
+             CSVReaderHeaderAware csv = new CSVReaderHeaderAware(reader)) {
+            Map<String, String> row;
+            while ((row = csv.readMap()) != null) {
+                regions.add(new AdministrativeRegion(
+                        row.get("adminCode"),
+                        row.get("sidoCode"),
+                        row.get("sidoName"),
+                        row.get("sigunguCode"),
+                        row.get("sigunguName"),
+                        row.get("emdCode"),
+                        row.get("emdName"),
+                        Double.parseDouble(row.get("minLat")),
+                        Double.parseDouble(row.get("maxLat")),
+                        Double.parseDouble(row.get("minLng")),
+                        Double.parseDouble(row.get("maxLng")),
+                        Double.parseDouble(row.get("centerLat")),
+                        Double.parseDouble(row.get("centerLng"))));
+            }
+        } catch (IOException | CsvValidationException | RuntimeException e) {
+            throw new IllegalStateException("행정구역 CSV를 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+        return regions;
+    }
+
+    /**
+     * 좌표를 포함하는 경계 중 중심이 가장 가까운 동 선택
+     */
+    private final class NearestCenterVisitor implements ItemVisitor {
+
+        private final double latitude;
+        private final double x;
+        private int best = -1;
+        private double bestDistance = Double.MAX_VALUE;
+
+        private NearestCenterVisitor(double latitude, double x) {
+            this.latitude = latitude;
+            this.x = x;
+        }
+
+        @Override
+        public void visitItem(Object item) {
+            int index = (Integer) item;
+            double distance = centerDistanceSquared(index, latitude, x);
+            // 거리가 같으면 CSV 앞쪽 행을 선택해 결과를 고정
+            if (distance < bestDistance || (distance == bestDistance && index < best)) {
+                best = index;
+                bestDistance = distance;
+            }
+        }
+    }
+
+    /**
+     * 조회 좌표와 동 중심 사이 거리 (nearestNeighbour 보정용)
+     */
+    private final class CenterDistance implements ItemDistance {
+
+        private final double latitude;
+        private final double x;
+
+        private CenterDistance(double latitude, double x) {
+            this.latitude = latitude;
+            this.x = x;
+        }
+
+        @Override
+        public double distance(ItemBoundable first, ItemBoundable second) {
+            Object item = first.getItem() != null ? first.getItem() : second.getItem();
+            return Math.sqrt(centerDistanceSquared((Integer) item, latitude, x));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.opencsv.CSVReaderHeaderAware;
+import com.opencsv.exceptions.CsvValidationException;
+import com.seoulfit.backend.location.domain.CityHotspot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 도시데이터 장소 목록
+ *
+ * 시작 시 장소 CSV(장소명, 분류, 대표 좌표)를 읽어 보관합니다.
+ * 목록은 생성 후 변경하지 않으므로 여러 스레드에서 동시에 조회할 수 있습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class CityHotspotRegistry {
+
+    private final List<CityHotspot> hotspots;
+
+    public CityHotspotRegistry(
+            ResourceLoader resourceLoader,
+            @Value("${seoulfit.citydata.hotspot.path:classpath:geo/seoul_citydata_hotspots.csv}") String csvPath) {
+        this.hotspots = List.copyOf(load(resourceLoader.getResource(csvPath)));
+        if (hotspots.isEmpty()) {
+            throw new IllegalStateException("실시간 도시데이터 장소 목록이 비어 있습니다.");
+        }
+        log.info("실시간 도시데이터 장소 목록 로드 완료: {}곳, path={}", hotspots.size(), csvPath);
+    }
+
+    /**
+     * 전체 장소 (CSV 순서)
+     */
+    public List<CityHotspot> getHotspots() {
+        return hotspots;
+    }
+
+    private static List<CityHotspot> load(Resource resource) {
+        List<CityHotspot> hotspots = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
+             CSVReaderHeaderAware csv = new CSVReaderHeaderAware(reader)) {
+            Map<String, String> row;
+            while ((row = csv.readMap()) != null) {
+                hotspots.add(new CityHotspot(
+                        row.get("areaName"),
+                        row.get("category"),
+                        Double.parseDouble(row.get("latitude")),
+                        Double.parseDouble(row.get("longitude"))));
+            }
+        } catch (IOException | CsvValidationException | RuntimeException e) {
+            throw new IllegalStateException("실시간 도시데이터 장소 CSV를 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+        return hotspots;
+    }
+}
@@ -0,0 +1,262 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.seoulfit.backend.location.domain.MapCluster;
+import com.seoulfit.backend.location.domain.MapPoint;
+import com.seoulfit.backend.location.domain.MapScale;
+import com.seoulfit.backend.location.domain.PoiType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+/**
+ * 축적 레벨별 지도 클러스터 인덱스
+ *
+ * 좌표를 km 평면(경도 × cos(37.55°))으로 옮겨 0.1km 기본 격자에 시설을 모으고,
+ * 격자 크기를 2배씩 키우면서 하위 격자 셀 값을 합쳐 상위 격자를 미리 만들어 둡니다(계층형 격자 클러스터링).
+ * 축적 레벨마다 검색 반경의 1/4 이상인 가장 작은 격자를 사용하므로 축적과 관계없이 화면당 클러스터 수가 비슷합니다.
+ *
+ * 셀에는 시설 종류별 개수와 좌표 합계를 따로 저장하여, 종류 필터를 적용해도 셀 값만 더해 무게중심을 구합니다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 요청이 동시에 읽어도 안전합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public class MapClusterIndex {
+
+    static final double BASE_CELL_KM = 0.1;
+    private static final int CELLS_PER_RADIUS = 4;
+    private static final double KM_PER_DEGREE = 111.0;
+    private static final double LNG_SCALE = Math.cos(Math.toRadians(37.55));
+    private static final PoiType[] TYPES = PoiType.values();
+
+    private final int size;
+    private final Map<Long, List<MapPoint>> pointsByBaseCell;
+    private final Map<Integer, Grid> gridsByShift;
+
+    public MapClusterIndex(Collection<MapPoint> points) {
+        Map<Long, Cell> baseCells = new HashMap<>();
+        Map<Long, List<MapPoint>> pointsByCell = new HashMap<>();
+        for (MapPoint point : points) {
+            long key = cellKey(baseIndex(x(point.longitude())), baseIndex(y(point.latitude())));
+            baseCells.computeIfAbsent(key, k -> new Cell()).add(point);
+            pointsByCell.computeIfAbsent(key, k -> new ArrayList<>()).add(point);
+        }
+        this.size = points.size();
+        this.pointsByBaseCell = pointsByCell;
+
+        // 작은 격자부터 차례로 합쳐 상위 격자 생성
+        Set<Integer> shifts = new TreeSet<>();
+        for (MapScale scale : MapScale.values()) {
+            shifts.add(shiftOf(scale));
+        }
+        Map<Integer, Grid> grids = new HashMap<>();
+        Grid previous = new Grid(0, baseCells);
+        grids.put(0, previous);
+        for (int shift : shifts) {
+            if (shift > previous.shift()) {
+                previous = previous.coarsen(shift);
+                grids.put(shift, previous);
+            }
+        }
+        this.gridsByShift = grids;
+    }
+
+    /**
+     * 전체 시설 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 축적 레벨에서 사용하는 격자 한 변의 길이 (km)
+     */
+    public static double cellSizeKm(MapScale scale) {
+        return BASE_CELL_KM * (1 << shiftOf(scale));
+    }
+
+    /**
+     * 바운딩 박스 안의 클러스터 조회
+     *
+     * 무게중심이 바운딩 박스 안에 있는 클러스터만 반환하며, 시설이 하나뿐인 클러스터는 원본 시설을 담습니다.
+     *
+     * @param scale 지도 축적
+     * @param box   조회 영역
+     * @param types 포함할 시설 종류
+     * @return 시설 수 내림차순 클러스터 목록
+     */
+    public List<MapCluster> clusters(MapScale scale, MapScale.BoundingBox box, Set<PoiType> types) {
+        Grid grid = gridsByShift.get(shiftOf(scale));
+        List<MapCluster> result = new ArrayList<>();
+        forEachCell(grid.cells(), grid.shift(), box, (key, cell) -> {
+            MapCluster cluster = cell.toCluster(scale.getLevel() + ":" + (int) (key >> 32) + ":" + (int) (long) key, types);
+            if (cluster != null && box.contains(cluster.latitude(), cluster.longitude())) {
+                result.add(cluster);
+            }
+        });
+        result.sort(Comparator.comparingInt(MapCluster::count).reversed().thenComparing(MapCluster::id));
+        return result;
+    }
+
+    /**
+     * 바운딩 박스 안의 개별 시설 조회
+     *
+     * @param box   조회 영역
+     * @param types 포함할 시설 종류
+     * @return 시설 목록
+     */
+    public List<MapPoint> points(MapScale.BoundingBox box, Set<PoiType> types) {
+        List<MapPoint> result = new ArrayList<>();
+        forEachCell(pointsByBaseCell, 0, box, (key, points) -> {
+            for (MapPoint point : points) {
+                if (types.contains(point.type()) && box.contains(point.latitude(), point.longitude())) {
+                    result.add(point);
+                }
+            }
+        });
+        return result;
+    }
+
+    static int shiftOf(MapScale scale) {
+        double targetKm = scale.getRadiusKm() / CELLS_PER_RADIUS;
+        int shift = 0;
+        while (BASE_CELL_KM * (1 << shift) < targetKm) {
+            shift++;
+        }
+        return shift;
+    }
+
+    /**
+     * 바운딩 박스와 겹치는 셀 순회 (셀 범위가 채워진 셀 수보다 크면 채워진 셀만 훑음)
+     */
+    private static <V> void forEachCell(Map<Long, V> cells, int shift, MapScale.BoundingBox box,
+                                        BiConsumer<Long, V> action) {
+        int minIx = baseIndex(x(box.getMinLng())) >> shift;
+        int maxIx = baseIndex(x(box.getMaxLng())) >> shift;
+        int minIy = baseIndex(y(box.getMinLat())) >> shift;
+        int maxIy = baseIndex(y(box.getMaxLat())) >> shift;
+        if (minIx > maxIx || minIy > maxIy) {
+            return;
+        }
+
+        long range = (long) (maxIx - minIx + 1) * (maxIy - minIy + 1);
+        if (range <= cells.size()) {
+            for (int ix = minIx; ix <= maxIx; ix++) {
+                for (int iy = minIy; iy <= maxIy; iy++) {
+                    long key = cellKey(ix, iy);
+                    V value = cells.get(key);
+                    if (value != null) {
+                        action.accept(key, value);
+                    }
+                }
+            }
+            return;
+        }
+        for (Map.Entry<Long, V> entry : cells.entrySet()) {
+            long key = entry.getKey();
+            int ix = (int) (key >> 32);
+            int iy = (int) key;
+            if (ix >= minIx && ix <= maxIx && iy >= minIy && iy <= maxIy) {
+                action.accept(key, entry.getValue());
+            }
+        }
+    }
+
+    private static double x(double longitude) {
+        return longitude * KM_PER_DEGREE * LNG_SCALE;
+    }
+
+    private static double y(double latitude) {
+        return latitude * KM_PER_DEGREE;
+    }
+
+    private static int baseIndex(double km) {
+        return (int) Math.floor(km / BASE_CELL_KM);
+    }
+
+    private static long cellKey(int ix, int iy) {
+        return ((long) ix << 32) | (iy & 0xffffffffL);
+    }
+
+    /**
+     * 한 크기의 격자 (셀 한 변 = 기본 격자 × 2^shift)
+     */
+    private record Grid(int shift, Map<Long, Cell> cells) {
+
+        Grid coarsen(int targetShift) {
+            int delta = targetShift - shift;
+            Map<Long, Cell> merged = new HashMap<>();
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                long key = entry.getKey();
+                long parentKey = cellKey((int) (key >> 32) >> delta, (int) key >> delta);
+                merged.computeIfAbsent(parentKey, k -> new Cell()).merge(entry.getValue());
+            }
+            return new Grid(targetShift, merged);
+        }
+    }
+
+    /**
+     * 셀 집계 (시설 종류별 개수, 좌표 합계, 하나뿐인 시설)
+     */
+    private static final class Cell {
+
+        private final int[] counts = new int[TYPES.length];
+        private final double[] latitudeSums = new double[TYPES.length];
+        private final double[] longitudeSums = new double[TYPES.length];
+        private final MapPoint[] singles = new MapPoint[TYPES.length];
+
+        void add(MapPoint point) {
+            int type = point.type().ordinal();
+            singles[type] = counts[type] == 0 ? point : null;
+            counts[type]++;
+            latitudeSums[type] += point.latitude();
+            longitudeSums[type] += point.longitude();
+        }
+
+        void merge(Cell other) {
+            for (int type = 0; type < TYPES.length; type++) {
+                if (other.counts[type] == 0) {
+                    continue;
+                }
+                singles[type] = counts[type] == 0 ? other.singles[type] : null;
+                counts[type] += other.counts[type];
+                latitudeSums[type] += other.latitudeSums[type];
+                longitudeSums[type] += other.longitudeSums[type];
+            }
+        }
+
+        MapCluster toCluster(String id, Set<PoiType> types) {
+            int count = 0;
+            double latitudeSum = 0;
+            double longitudeSum = 0;
+            MapPoint single = null;
+            Map<PoiType, Integer> countsByType = new EnumMap<>(PoiType.class);
+            for (PoiType type : types) {
+                int typeCount = counts[type.ordinal()];
+                if (typeCount == 0) {
+                    continue;
+                }
+                count += typeCount;
+                latitudeSum += latitudeSums[type.ordinal()];
+                longitudeSum += longitudeSums[type.ordinal()];
+                single = singles[type.ordinal()];
+                countsByType.put(type, typeCount);
+            }
+            if (count == 0) {
+                return null;
+            }
+            if (count == 1) {
+                return MapCluster.of(single);
+            }
+            return new MapCluster(id, latitudeSum / count, longitudeSum / count, count, countsByType, null);
+        }
+    }
+}
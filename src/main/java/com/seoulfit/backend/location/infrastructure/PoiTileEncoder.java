@@ -0,0 +1,93 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.seoulfit.backend.location.domain.MapPoint;
+import com.seoulfit.backend.location.domain.TileCoordinate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시설 좌표를 GeoJSON 타일로 나누고 직렬화
+ *
+ * 시설은 줌 레벨마다 좌표가 속한 타일 하나에만 들어가므로, 같은 줌의 타일별 시설 수를 더하면 전체 시설 수와 같습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public final class PoiTileEncoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private PoiTileEncoder() {
+    }
+
+    /**
+     * 줌 레벨의 타일별 시설 목록 (시설이 없는 타일은 제외)
+     */
+    public static Map<TileCoordinate, List<MapPoint>> partition(Collection<MapPoint> points, int zoom) {
+        Map<TileCoordinate, List<MapPoint>> tiles = new HashMap<>();
+        for (MapPoint point : points) {
+            tiles.computeIfAbsent(TileCoordinate.of(zoom, point.latitude(), point.longitude()),
+                    tile -> new ArrayList<>()).add(point);
+        }
+        return tiles;
+    }
+
+    /**
+     * 타일에 속한 시설만 골라 직렬화
+     */
+    public static byte[] encodeTile(Collection<MapPoint> points, TileCoordinate tile) {
+        List<MapPoint> inTile = new ArrayList<>();
+        for (MapPoint point : points) {
+            if (tile.contains(point.latitude(), point.longitude())) {
+                inTile.add(point);
+            }
+        }
+        return encode(inTile);
+    }
+
+    /**
+     * GeoJSON FeatureCollection으로 직렬화
+     */
+    public static byte[] encode(Collection<MapPoint> points) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(64 + points.size() * 160);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", "FeatureCollection");
+            generator.writeArrayFieldStart("features");
+            for (MapPoint point : points) {
+                generator.writeStartObject();
+                generator.writeStringField("type", "Feature");
+                generator.writeStringField("id", point.type() + ":" + point.id());
+                generator.writeObjectFieldStart("geometry");
+                generator.writeStringField("type", "Point");
+                generator.writeArrayFieldStart("coordinates");
+                generator.writeNumber(point.longitude());
+                generator.writeNumber(point.latitude());
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.writeObjectFieldStart("properties");
+                generator.writeStringField("poiType", point.type().name());
+                if (point.id() != null) {
+                    generator.writeNumberField("poiId", point.id());
+                }
+                generator.writeStringField("name", point.name());
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("GeoJSON 타일 직렬화 실패", e);
+        }
+        return output.toByteArray();
+    }
+}
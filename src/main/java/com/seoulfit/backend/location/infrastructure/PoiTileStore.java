@@ -0,0 +1,72 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seoulfit.backend.location.domain.TileCoordinate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * 시설 타일 저장소
+ *
+ * 타일 바이트는 direct 버퍼(힙 밖 메모리)에 두고, 전체 바이트 수가 {@code max-bytes}를 넘으면
+ * Caffeine이 오래 쓰이지 않은 타일부터 내보냅니다. 키에 타일 세대를 포함하므로 재생성 중에도 이전 세대 타일과 섞이지 않습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Component
+public class PoiTileStore {
+
+    private final Cache<TileKey, ByteBuffer> tiles;
+
+    public PoiTileStore(@Value("${seoulfit.location.tile.max-bytes:67108864}") long maxBytes) {
+        this.tiles = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((TileKey key, ByteBuffer buffer) -> buffer.capacity())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 타일 저장
+     */
+    public void put(long generation, TileCoordinate tile, byte[] body) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(body.length);
+        buffer.put(body).flip();
+        tiles.put(new TileKey(generation, tile), buffer.asReadOnlyBuffer());
+    }
+
+    /**
+     * 타일 조회
+     */
+    public Optional<byte[]> get(long generation, TileCoordinate tile) {
+        ByteBuffer buffer = tiles.getIfPresent(new TileKey(generation, tile));
+        if (buffer == null) {
+            return Optional.empty();
+        }
+        byte[] body = new byte[buffer.capacity()];
+        buffer.duplicate().get(body);
+        return Optional.of(body);
+    }
+
+    /**
+     * 현재 세대가 아닌 타일 제거
+     */
+    public void retainGeneration(long generation) {
+        tiles.asMap().keySet().removeIf(key -> key.generation() != generation);
+    }
+
+    /**
+     * 저장된 타일 수
+     */
+    public long size() {
+        return tiles.estimatedSize();
+    }
+
+    private record TileKey(long generation, TileCoordinate tile) {
+    }
+}
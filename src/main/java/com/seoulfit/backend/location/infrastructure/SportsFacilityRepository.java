@@ -1,11 +1,13 @@
 package com.seoulfit.backend.location.infrastructure;
 
 import com.seoulfit.backend.location.domain.SportsFacility;
+import com.seoulfit.backend.location.util.GeoGrid;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +21,37 @@ public interface SportsFacilityRepository extends JpaRepository<SportsFacility,
 
     /**
      * 위치 기반 체육시설 조회 (반경 내)
+     * 
+     * 격자 셀 인덱스로 후보를 좁힌 뒤 정확한 거리로 거르며, 격자로 덮을 수 없는 넓은 반경은 전체 거리 계산으로 조회
+     */
+    default List<SportsFacility> findByLocationWithinRadius(Double latitude, Double longitude, Double radiusKm) {
+        return GeoGrid.cellsWithin(latitude, longitude, radiusKm)
+                .map(cells -> findByGridCellsWithinRadius(cells, latitude, longitude, radiusKm))
+                .orElseGet(() -> findByDistanceWithinRadius(latitude, longitude, radiusKm));
+    }
+
+    /**
+     * 격자 셀 후보 중 반경 내 체육시설 조회
+     */
+    @Query(value = """
+        SELECT * FROM sports_reservation_facilities sf
+        WHERE sf.grid_cell IN (:cells)
+        AND sf.latitude IS NOT NULL 
+        AND sf.longitude IS NOT NULL
+        AND (6371 * acos(cos(radians(:latitude)) * cos(radians(sf.latitude)) 
+            * cos(radians(sf.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(sf.latitude)))) <= :radiusKm
+        ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(sf.latitude)) 
+            * cos(radians(sf.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(sf.latitude))))
+        """, nativeQuery = true)
+    List<SportsFacility> findByGridCellsWithinRadius(@Param("cells") Collection<Integer> cells,
+                                                     @Param("latitude") Double latitude,
+                                                     @Param("longitude") Double longitude,
+                                                     @Param("radiusKm") Double radiusKm);
+
+    /**
+     * 전체 거리 계산으로 반경 내 체육시설 조회
      */
     @Query(value = """
         SELECT * FROM sports_reservation_facilities sf
@@ -31,9 +64,9 @@ public interface SportsFacilityRepository extends JpaRepository<SportsFacility,
             * cos(radians(sf.longitude) - radians(:longitude)) 
             + sin(radians(:latitude)) * sin(radians(sf.latitude))))
         """, nativeQuery = true)
-    List<SportsFacility> findByLocationWithinRadius(@Param("latitude") Double latitude, 
-                                                   @Param("longitude") Double longitude, 
-                                                   @Param("radiusKm") Double radiusKm);
+    List<SportsFacility> findByDistanceWithinRadius(@Param("latitude") Double latitude,
+                                                    @Param("longitude") Double longitude,
+                                                    @Param("radiusKm") Double radiusKm);
 
     /**
      * 시설명으로 검색
@@ -0,0 +1,134 @@
+package com.seoulfit.backend.location.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 반경 조회용 위경도 격자
+ *
+ * 위경도를 0.01도 격자로 나누어 각 칸을 정수 셀 번호(행 * 36000 + 열)로 표현합니다.
+ * POI 테이블의 grid_cell 컬럼에 좌표의 셀 번호를 저장해 두고, 반경 조회는 반경을 덮는 셀 목록으로
+ * 인덱스에서 후보를 먼저 고른 뒤 정확한 거리로 거릅니다. 반경이 최대 반경을 넘으면 전체 거리 계산으로 조회합니다.
+ *
+ * 셀 번호 계산식은 V8 마이그레이션의 grid_cell_of 함수와 같아야 합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@UtilityClass
+public class GeoGrid {
+
+    /**
+     * 1도당 셀 수 (셀 한 칸 0.01도, 서울에서 약 1.1km x 0.9km)
+     */
+    public static final int CELLS_PER_DEGREE = 100;
+
+    /**
+     * 격자로 조회하는 최대 반경 (km)
+     */
+    public static final double MAX_RADIUS_KM = 50.0;
+
+    private static final int ROWS = 180 * CELLS_PER_DEGREE;
+    private static final int COLUMNS = 360 * CELLS_PER_DEGREE;
+
+    // 반경 조회 SQL(6371 * acos(...))과 같은 지구 반지름 (km)
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    // 부동소수점 오차로 경계의 점이 빠지지 않도록 범위를 넓히는 여유 (도, 약 0.1m)
+    private static final double MARGIN_DEGREES = 1e-6;
+
+    // IN 목록 바인딩 파라미터 상한 (서울 위도에서 반경 50km는 약 1만 셀)
+    private static final int MAX_CELLS = 16_384;
+
+    /**
+     * 좌표의 셀 번호
+     *
+     * @return 셀 번호, 좌표가 없거나 범위를 벗어나면 null
+     */
+    public static Integer cellOf(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null
+                || !(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            return null;
+        }
+        int row = Math.min((int) Math.floor((latitude + 90) * CELLS_PER_DEGREE), ROWS - 1);
+        int column = (int) Math.floor((longitude + 180) * CELLS_PER_DEGREE) % COLUMNS;
+        return row * COLUMNS + column;
+    }
+
+    /**
+     * 좌표의 셀 번호 (numeric 좌표 컬럼용)
+     */
+    public static Integer cellOf(BigDecimal latitude, BigDecimal longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        return cellOf(latitude.doubleValue(), longitude.doubleValue());
+    }
+
+    /**
+     * 좌표의 셀 번호 (문자열 좌표 컬럼용, 숫자가 아니면 null)
+     */
+    public static Integer cellOf(String latitude, String longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        try {
+            return cellOf(Double.valueOf(latitude.trim()), Double.valueOf(longitude.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 중심에서 반경 안의 점이 속할 수 있는 모든 셀
+     *
+     * 대원 거리 기준 경계 상자(위도 ±d, 경도 ±asin(sin d / cos 위도))를 덮는 셀을 반환하므로
+     * 반경 안의 점은 항상 이 목록의 셀에 속합니다.
+     *
+     * @param latitude  중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm  반경 (km)
+     * @return 셀 번호 목록, 반경이 최대 반경을 넘거나 덮는 셀이 너무 많으면 empty
+     */
+    public static Optional<List<Integer>> cellsWithin(double latitude, double longitude, double radiusKm) {
+        if (!(radiusKm <= MAX_RADIUS_KM)) {
+            return Optional.empty();
+        }
+        double angularDistance = Math.max(radiusKm, 0) / EARTH_RADIUS_KM;
+        double latitudeDelta = Math.toDegrees(angularDistance) + MARGIN_DEGREES;
+        double minLatitude = Math.max(-90, latitude - latitudeDelta);
+        double maxLatitude = Math.min(90, latitude + latitudeDelta);
+
+        int minRow = Math.min((int) Math.floor((minLatitude + 90) * CELLS_PER_DEGREE), ROWS - 1);
+        int maxRow = Math.min((int) Math.floor((maxLatitude + 90) * CELLS_PER_DEGREE), ROWS - 1);
+        int firstColumn;
+        int columnCount;
+        double sinLongitudeDelta = Math.sin(angularDistance) / Math.cos(Math.toRadians(latitude));
+        if (minLatitude <= -90 || maxLatitude >= 90 || sinLongitudeDelta >= 1) {
+            firstColumn = 0;
+            columnCount = COLUMNS;
+        } else {
+            double longitudeDelta = Math.toDegrees(Math.asin(sinLongitudeDelta)) + MARGIN_DEGREES;
+            firstColumn = (int) Math.floor((longitude - longitudeDelta + 180) * CELLS_PER_DEGREE);
+            int lastColumn = (int) Math.floor((longitude + longitudeDelta + 180) * CELLS_PER_DEGREE);
+            columnCount = Math.min(lastColumn - firstColumn + 1, COLUMNS);
+        }
+
+        long cellCount = (long) (maxRow - minRow + 1) * columnCount;
+        if (cellCount > MAX_CELLS) {
+            return Optional.empty();
+        }
+
+        List<Integer> cells = new ArrayList<>((int) cellCount);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int i = 0; i < columnCount; i++) {
+                cells.add(row * COLUMNS + Math.floorMod(firstColumn + i, COLUMNS));
+            }
+        }
+        return Optional.of(cells);
+    }
+}
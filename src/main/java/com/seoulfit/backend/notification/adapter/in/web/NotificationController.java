@@ -5,6 +5,7 @@ import com.seoulfit.backend.notification.application.port.in.dto.CreateNotificat
 import com.seoulfit.backend.notification.application.port.in.dto.NotificationHistoryQuery;
 import com.seoulfit.backend.notification.application.port.in.dto.NotificationHistoryResult;
 import com.seoulfit.backend.notification.adapter.in.web.dto.request.CreateNotificationRequest;
+import com.seoulfit.backend.shared.dto.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -64,6 +65,19 @@ public class NotificationController {
         return ResponseEntity.ok(result);
     }
 
+    @Operation(summary = "내 알림 히스토리 커서 조회",
+            description = "사용자의 알림 히스토리를 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어지는 페이지를 조회합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<NotificationHistoryResult>> getMyNotificationsByCursor(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPage<NotificationHistoryResult> result =
+                manageNotificationUseCase.getNotificationHistoryByCursor(userId, cursor, size);
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "알림 읽음 처리", description = "특정 알림을 읽음 처리합니다.")
     @PatchMapping("/{notificationId}/read")
     public ResponseEntity<Void> markAsRead(
@@ -1,14 +1,17 @@
 package com.seoulfit.backend.notification.adapter.out.persistence;
 
 import com.seoulfit.backend.notification.domain.NotificationHistory;
+import com.seoulfit.backend.notification.domain.NotificationStatus;
 import com.seoulfit.backend.notification.domain.NotificationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,6 +31,37 @@ public interface NotificationHistoryJpaRepository extends JpaRepository<Notifica
      */
     Page<NotificationHistory> findByUserIdOrderBySentAtDesc(Long userId, Pageable pageable);
 
+    /**
+     * 사용자별 알림 히스토리 첫 페이지 조회 (최신순, 키셋 페이지네이션)
+     *
+     * @param userId 사용자 ID
+     * @param limit  조회 건수
+     * @return 알림 히스토리 목록
+     */
+    @Query("SELECT nh FROM NotificationHistory nh WHERE nh.userId = :userId " +
+           "ORDER BY nh.sentAt DESC, nh.id DESC LIMIT :limit")
+    List<NotificationHistory> findFirstPageByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * 커서 (sentAt, id) 이후의 사용자별 알림 히스토리 조회 (최신순, 키셋 페이지네이션)
+     * <p>
+     * (user_id, sent_at, id) 인덱스를 커서 위치부터 역순으로 탐색하므로 페이지 깊이와 관계없이 limit 건만 읽습니다.
+     *
+     * @param userId 사용자 ID
+     * @param sentAt 커서의 발송 시각
+     * @param id     커서의 알림 ID
+     * @param limit  조회 건수
+     * @return 알림 히스토리 목록
+     */
+    @Query("SELECT nh FROM NotificationHistory nh WHERE nh.userId = :userId " +
+           "AND nh.sentAt <= :sentAt " +
+           "AND (nh.sentAt < :sentAt OR nh.id < :id) " +
+           "ORDER BY nh.sentAt DESC, nh.id DESC LIMIT :limit")
+    List<NotificationHistory> findPageByUserIdBefore(@Param("userId") Long userId,
+                                                     @Param("sentAt") LocalDateTime sentAt,
+                                                     @Param("id") Long id,
+                                                     @Param("limit") int limit);
+
     /**
      * 사용자별 타입별 알림 히스토리 조회 (최신순)
      *
@@ -67,6 +101,44 @@ public interface NotificationHistoryJpaRepository extends JpaRepository<Notifica
      */
     long countByUserIdAndReadAtIsNull(Long userId);
 
+    /**
+     * 여러 사용자의 읽지 않은 알림 개수 조회
+     *
+     * @param userIds 사용자 ID 목록
+     * @return [사용자 ID, 읽지 않은 알림 개수] 목록
+     */
+    @Query("SELECT nh.userId, COUNT(nh) FROM NotificationHistory nh " +
+           "WHERE nh.userId IN :userIds AND nh.readAt IS NULL GROUP BY nh.userId")
+    List<Object[]> countUnreadGroupByUserId(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 읽지 않은 알림이면 읽음 처리
+     *
+     * @param id     알림 히스토리 ID
+     * @param readAt 읽은 시각
+     * @param status 읽음 상태
+     * @return 변경된 행 수 (이미 읽은 알림이면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationHistory nh SET nh.readAt = :readAt, nh.status = :status " +
+           "WHERE nh.id = :id AND nh.readAt IS NULL")
+    int markAsReadIfUnread(@Param("id") Long id, @Param("readAt") LocalDateTime readAt,
+                           @Param("status") NotificationStatus status);
+
+    /**
+     * 사용자별 읽지 않은 알림 모두 읽음 처리
+     *
+     * @param userId 사용자 ID
+     * @param readAt 읽은 시각
+     * @param status 읽음 상태
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationHistory nh SET nh.readAt = :readAt, nh.status = :status " +
+           "WHERE nh.userId = :userId AND nh.readAt IS NULL")
+    int markAllAsReadByUserId(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt,
+                              @Param("status") NotificationStatus status);
+
     /**
      * 타입별 알림 개수 조회
      *
@@ -2,14 +2,19 @@ package com.seoulfit.backend.notification.adapter.out.persistence;
 
 import com.seoulfit.backend.notification.application.port.out.NotificationHistoryPort;
 import com.seoulfit.backend.notification.domain.NotificationHistory;
+import com.seoulfit.backend.notification.domain.NotificationStatus;
 import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.shared.dto.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -42,6 +47,14 @@ public class NotificationHistoryPersistenceAdapter implements NotificationHistor
         return notificationHistoryJpaRepository.findByUserIdOrderBySentAtDesc(userId, pageable);
     }
 
+    @Override
+    public List<NotificationHistory> findByUserIdBefore(Long userId, KeysetCursor cursor, int limit) {
+        if (cursor == null) {
+            return notificationHistoryJpaRepository.findFirstPageByUserId(userId, limit);
+        }
+        return notificationHistoryJpaRepository.findPageByUserIdBefore(userId, cursor.time(), cursor.id(), limit);
+    }
+
     @Override
     public Page<NotificationHistory> findByUserIdAndType(Long userId, NotificationType notificationType, Pageable pageable) {
         return notificationHistoryJpaRepository.findByUserIdAndNotificationTypeOrderBySentAtDesc(
@@ -65,10 +78,26 @@ public class NotificationHistoryPersistenceAdapter implements NotificationHistor
     }
 
     @Override
-    public void markAllAsReadByUserId(Long userId) {
-        List<NotificationHistory> unreadNotifications = findUnreadByUserId(userId);
-        unreadNotifications.forEach(NotificationHistory::markAsRead);
-        notificationHistoryJpaRepository.saveAll(unreadNotifications);
+    public Map<Long, Long> countUnreadByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : notificationHistoryJpaRepository.countUnreadGroupByUserId(userIds)) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public boolean markAsReadIfUnread(Long id, LocalDateTime readAt) {
+        return notificationHistoryJpaRepository.markAsReadIfUnread(id, readAt, NotificationStatus.READ) > 0;
+    }
+
+    @Override
+    public int markAllAsReadByUserId(Long userId) {
+        return notificationHistoryJpaRepository.markAllAsReadByUserId(
+                userId, LocalDateTime.now(), NotificationStatus.READ);
     }
 
     @Override
@@ -0,0 +1,93 @@
+package com.seoulfit.backend.notification.adapter.out.persistence;
+
+import com.seoulfit.backend.notification.domain.NotificationUnreadCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 읽지 않은 알림 카운터 JPA Repository
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public interface NotificationUnreadCounterJpaRepository extends JpaRepository<NotificationUnreadCounter, Long> {
+
+    /**
+     * 카운터 값 조회
+     *
+     * @param userId 사용자 ID
+     * @return 읽지 않은 알림 개수
+     */
+    @Query("SELECT c.unreadCount FROM NotificationUnreadCounter c WHERE c.userId = :userId")
+    Optional<Long> findUnreadCountByUserId(@Param("userId") Long userId);
+
+    /**
+     * 카운터 원자적 증감
+     *
+     * @param userId    사용자 ID
+     * @param delta     증감 값
+     * @param updatedAt 변경 시각
+     * @return 변경된 행 수 (카운터가 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE NotificationUnreadCounter c SET c.unreadCount = c.unreadCount + :delta, c.updatedAt = :updatedAt " +
+           "WHERE c.userId = :userId")
+    int addUnreadCount(@Param("userId") Long userId, @Param("delta") long delta,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 카운터 생성 (이미 있으면 키 중복 예외)
+     *
+     * @param userId      사용자 ID
+     * @param unreadCount 초기 개수
+     * @param updatedAt   생성 시각
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_unread_counters (user_id, unread_count, updated_at) " +
+                   "VALUES (:userId, :unreadCount, :updatedAt)", nativeQuery = true)
+    void insertCounter(@Param("userId") Long userId, @Param("unreadCount") long unreadCount,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 카운터 값 덮어쓰기
+     *
+     * @param userId      사용자 ID
+     * @param unreadCount 개수
+     * @param updatedAt   변경 시각
+     */
+    @Modifying
+    @Query("UPDATE NotificationUnreadCounter c SET c.unreadCount = :unreadCount, c.updatedAt = :updatedAt " +
+           "WHERE c.userId = :userId")
+    int overwriteUnreadCount(@Param("userId") Long userId, @Param("unreadCount") long unreadCount,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 사용자 ID 이후의 카운터 사용자 ID 조회 (오름차순)
+     *
+     * @param afterUserId 이 ID 이후부터 조회
+     * @param limit       조회 건수
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT c.userId FROM NotificationUnreadCounter c WHERE c.userId > :afterUserId " +
+           "ORDER BY c.userId LIMIT :limit")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, @Param("limit") int limit);
+
+    /**
+     * 재집계용 카운터 잠금 조회
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 카운터 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM NotificationUnreadCounter c WHERE c.userId IN :userIds ORDER BY c.userId")
+    List<NotificationUnreadCounter> findAllForUpdate(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,66 @@
+package com.seoulfit.backend.notification.adapter.out.persistence;
+
+import com.seoulfit.backend.notification.application.port.out.NotificationUnreadCounterPort;
+import com.seoulfit.backend.notification.domain.NotificationUnreadCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 읽지 않은 알림 카운터 영속성 어댑터
+ * <p>
+ * 헥사고날 아키텍처의 출력 어댑터
+ * 읽지 않은 알림 카운터 데이터 접근을 담당
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounterPersistenceAdapter implements NotificationUnreadCounterPort {
+
+    private final NotificationUnreadCounterJpaRepository counterJpaRepository;
+
+    @Override
+    public Optional<Long> findCount(Long userId) {
+        return counterJpaRepository.findUnreadCountByUserId(userId);
+    }
+
+    @Override
+    public boolean add(Long userId, long delta) {
+        return counterJpaRepository.addUnreadCount(userId, delta, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public void create(Long userId, long unreadCount) {
+        counterJpaRepository.insertCounter(userId, unreadCount, LocalDateTime.now());
+    }
+
+    @Override
+    public List<Long> findUserIdsAfter(Long afterUserId, int limit) {
+        return counterJpaRepository.findUserIdsAfter(afterUserId == null ? Long.MIN_VALUE : afterUserId, limit);
+    }
+
+    @Override
+    public Map<Long, Long> lockCounts(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        for (NotificationUnreadCounter counter : counterJpaRepository.findAllForUpdate(userIds)) {
+            counts.put(counter.getUserId(), counter.getUnreadCount());
+        }
+        return counts;
+    }
+
+    @Override
+    public void overwrite(Long userId, long unreadCount) {
+        counterJpaRepository.overwriteUnreadCount(userId, unreadCount, LocalDateTime.now());
+    }
+}
@@ -3,6 +3,7 @@ package com.seoulfit.backend.notification.application.port.in;
 import com.seoulfit.backend.notification.application.port.in.dto.CreateNotificationCommand;
 import com.seoulfit.backend.notification.application.port.in.dto.NotificationHistoryQuery;
 import com.seoulfit.backend.notification.application.port.in.dto.NotificationHistoryResult;
+import com.seoulfit.backend.shared.dto.CursorPage;
 import org.springframework.data.domain.Page;
 
 /**
@@ -32,6 +33,16 @@ public interface ManageNotificationUseCase {
      */
     Page<NotificationHistoryResult> getNotificationHistory(NotificationHistoryQuery query);
 
+    /**
+     * 알림 히스토리 커서 조회 (최신순)
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 다음 페이지 커서 (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 알림 히스토리 페이지
+     */
+    CursorPage<NotificationHistoryResult> getNotificationHistoryByCursor(Long userId, String cursor, int size);
+
     /**
      * 알림 읽음 처리
      *
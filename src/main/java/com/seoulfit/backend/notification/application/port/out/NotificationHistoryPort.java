@@ -2,11 +2,14 @@ package com.seoulfit.backend.notification.application.port.out;
 
 import com.seoulfit.backend.notification.domain.NotificationHistory;
 import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.shared.dto.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -45,6 +48,16 @@ public interface NotificationHistoryPort {
      */
     Page<NotificationHistory> findByUserId(Long userId, Pageable pageable);
 
+    /**
+     * 사용자별 알림 히스토리 키셋 조회 (최신순)
+     *
+     * @param userId 사용자 ID
+     * @param cursor 마지막으로 조회한 알림의 (발송 시각, ID), 첫 페이지면 null
+     * @param limit  조회 건수
+     * @return 커서 이후의 알림 히스토리 목록
+     */
+    List<NotificationHistory> findByUserIdBefore(Long userId, KeysetCursor cursor, int limit);
+
     /**
      * 사용자별 타입별 알림 히스토리 조회 (페이징)
      *
@@ -82,12 +95,30 @@ public interface NotificationHistoryPort {
      */
     long countUnreadByUserId(Long userId);
 
+    /**
+     * 여러 사용자의 읽지 않은 알림 개수 조회
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 읽지 않은 알림 개수 (읽지 않은 알림이 없는 사용자는 제외)
+     */
+    Map<Long, Long> countUnreadByUserIds(Collection<Long> userIds);
+
+    /**
+     * 읽지 않은 알림이면 읽음 처리
+     *
+     * @param id     알림 히스토리 ID
+     * @param readAt 읽은 시각
+     * @return 이번 호출로 읽음 처리되었으면 true, 이미 읽은 알림이면 false
+     */
+    boolean markAsReadIfUnread(Long id, LocalDateTime readAt);
+
     /**
      * 사용자별 모든 알림 읽음 처리
      *
      * @param userId 사용자 ID
+     * @return 이번 호출로 읽음 처리된 알림 개수
      */
-    void markAllAsReadByUserId(Long userId);
+    int markAllAsReadByUserId(Long userId);
 
     /**
      * 알림 히스토리 삭제
@@ -0,0 +1,69 @@
+package com.seoulfit.backend.notification.application.port.out;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 읽지 않은 알림 카운터 출력 포트
+ * <p>
+ * 헥사고날 아키텍처의 출력 포트
+ * 사용자별 읽지 않은 알림 개수 카운터 접근을 위한 인터페이스
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public interface NotificationUnreadCounterPort {
+
+    /**
+     * 카운터 조회
+     *
+     * @param userId 사용자 ID
+     * @return 읽지 않은 알림 개수, 카운터가 아직 없으면 empty
+     */
+    Optional<Long> findCount(Long userId);
+
+    /**
+     * 카운터 원자적 증감
+     *
+     * @param userId 사용자 ID
+     * @param delta  증감 값
+     * @return 카운터가 있어 반영되었으면 true, 카운터가 없으면 false
+     */
+    boolean add(Long userId, long delta);
+
+    /**
+     * 카운터 생성
+     *
+     * @param userId      사용자 ID
+     * @param unreadCount 초기 개수
+     * @throws org.springframework.dao.DataIntegrityViolationException 이미 카운터가 있는 경우
+     */
+    void create(Long userId, long unreadCount);
+
+    /**
+     * 카운터가 있는 사용자 ID 조회 (ID 오름차순)
+     *
+     * @param afterUserId 이 ID 이후부터 조회 (처음이면 null)
+     * @param limit       조회 건수
+     * @return 사용자 ID 목록
+     */
+    List<Long> findUserIdsAfter(Long afterUserId, int limit);
+
+    /**
+     * 재집계용 카운터 잠금 조회 (SELECT ... FOR UPDATE)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 현재 카운터 값
+     */
+    Map<Long, Long> lockCounts(Collection<Long> userIds);
+
+    /**
+     * 카운터 값 덮어쓰기
+     *
+     * @param userId      사용자 ID
+     * @param unreadCount 개수
+     */
+    void overwrite(Long userId, long unreadCount);
+}
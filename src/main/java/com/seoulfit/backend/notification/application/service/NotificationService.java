@@ -7,6 +7,8 @@ import com.seoulfit.backend.notification.application.port.in.dto.NotificationHis
 import com.seoulfit.backend.notification.application.port.out.NotificationHistoryPort;
 import com.seoulfit.backend.notification.application.port.out.NotificationSenderPort;
 import com.seoulfit.backend.notification.domain.NotificationHistory;
+import com.seoulfit.backend.shared.dto.CursorPage;
+import com.seoulfit.backend.shared.dto.KeysetCursor;
 import com.seoulfit.backend.user.domain.NotificationSetting;
 import com.seoulfit.backend.user.infrastructure.NotificationSettingRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -34,6 +37,7 @@ public class NotificationService implements ManageNotificationUseCase {
     private final NotificationHistoryPort notificationHistoryPort;
     private final NotificationSenderPort notificationSenderPort;
     private final NotificationSettingRepository notificationSettingRepository;
+    private final NotificationUnreadCounterService unreadCounterService;
 
     @Override
     @Transactional
@@ -48,6 +52,7 @@ public class NotificationService implements ManageNotificationUseCase {
         );
 
         NotificationHistory savedNotification = notificationHistoryPort.save(notificationHistory);
+        unreadCounterService.increment(savedNotification.getUserId());
         log.info("알림 생성 완료: userId={}, type={}, title={}",
                 command.userId(), command.getNotificationType(), command.title());
 
@@ -153,6 +158,17 @@ public class NotificationService implements ManageNotificationUseCase {
         return historyPage.map(NotificationHistoryResult::from);
     }
 
+    @Override
+    public CursorPage<NotificationHistoryResult> getNotificationHistoryByCursor(Long userId, String cursor, int size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        List<NotificationHistory> histories = notificationHistoryPort.findByUserIdBefore(
+                userId, KeysetCursor.decode(cursor), pageSize + 1);
+
+        return CursorPage.of(histories, pageSize,
+                history -> new KeysetCursor(history.getSentAt(), history.getId()),
+                NotificationHistoryResult::from);
+    }
+
     @Override
     @Transactional
     public void markAsRead(Long notificationId, Long userId) {
@@ -163,21 +179,23 @@ public class NotificationService implements ManageNotificationUseCase {
             throw new IllegalArgumentException("해당 사용자의 알림이 아닙니다.");
         }
 
-        notification.markAsRead();
-        notificationHistoryPort.save(notification);
+        if (notificationHistoryPort.markAsReadIfUnread(notificationId, LocalDateTime.now())) {
+            unreadCounterService.decrement(userId, 1);
+        }
 
         log.info("알림 읽음 처리 완료: notificationId={}, userId={}", notificationId, userId);
     }
 
     @Override
     public long getUnreadCount(Long userId) {
-        return notificationHistoryPort.countUnreadByUserId(userId);
+        return unreadCounterService.getUnreadCount(userId);
     }
 
     @Override
     @Transactional
     public void markAllAsRead(Long userId) {
-        notificationHistoryPort.markAllAsReadByUserId(userId);
-        log.info("모든 알림 읽음 처리 완료: userId={}", userId);
+        int updated = notificationHistoryPort.markAllAsReadByUserId(userId);
+        unreadCounterService.decrement(userId, updated);
+        log.info("모든 알림 읽음 처리 완료: userId={}, count={}", userId, updated);
     }
 }
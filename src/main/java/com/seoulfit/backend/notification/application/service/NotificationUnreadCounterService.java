@@ -0,0 +1,208 @@
+package com.seoulfit.backend.notification.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seoulfit.backend.notification.application.port.out.NotificationHistoryPort;
+import com.seoulfit.backend.notification.application.port.out.NotificationUnreadCounterPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽지 않은 알림 카운터 서비스
+ * <p>
+ * 배지 조회는 Caffeine 캐시 → 카운터 테이블(PK 조회) 순으로 읽어 알림 히스토리를 COUNT 하지 않습니다.
+ * <ul>
+ *   <li>알림 저장, 읽음 처리: 호출한 트랜잭션 안에서 카운터를 원자적 UPDATE로 증감하고, 커밋 후 캐시를 무효화</li>
+ *   <li>카운터가 없는 사용자: 별도 트랜잭션에서 커밋된 알림으로 카운터를 만든 뒤 증감
+ *       (호출한 트랜잭션의 미커밋 변경은 집계에 포함되지 않으므로 이어서 반영하는 증감과 겹치지 않음)</li>
+ *   <li>재집계: 카운터 행을 잠근 뒤 알림 히스토리로 다시 세어 어긋난 값만 덮어씀</li>
+ *   <li>캐시 적재: 별도 읽기/쓰기 트랜잭션에서 읽어, 읽기 전용 복제본 라우팅이 켜져 있어도
+ *       방금 커밋한 증감을 반영하지 못한 복제본 값을 캐시하지 않음</li>
+ * </ul>
+ * 알림 변경 트랜잭션은 히스토리를 먼저 바꾸고 카운터를 나중에 잠그므로,
+ * 재집계가 잠근 동안 커밋되지 않은 변경은 그 트랜잭션의 증감으로, 잠금 전에 커밋된 변경은 재집계로 한 번씩만 반영됩니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class NotificationUnreadCounterService {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final NotificationUnreadCounterPort counterPort;
+    private final NotificationHistoryPort notificationHistoryPort;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Cache<Long, Long> unreadCounts;
+
+    public NotificationUnreadCounterService(
+            NotificationUnreadCounterPort counterPort,
+            NotificationHistoryPort notificationHistoryPort,
+            PlatformTransactionManager transactionManager,
+            @Value("${seoulfit.notification.unread-counter.cache-maximum-size:100000}") long maximumSize,
+            @Value("${seoulfit.notification.unread-counter.cache-ttl-seconds:30}") long ttlSeconds) {
+        this.counterPort = counterPort;
+        this.notificationHistoryPort = notificationHistoryPort;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.unreadCounts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 읽지 않은 알림 개수 조회 (캐시 우선)
+     *
+     * @param userId 사용자 ID
+     * @return 읽지 않은 알림 개수
+     */
+    public long getUnreadCount(Long userId) {
+        Long count = unreadCounts.get(userId, this::loadCount);
+        return Math.max(0L, count);
+    }
+
+    /**
+     * 새 알림 저장 시 증가
+     *
+     * @param userId 사용자 ID
+     */
+    public void increment(Long userId) {
+        add(userId, 1L);
+    }
+
+    /**
+     * 읽음 처리 시 감소
+     *
+     * @param userId 사용자 ID
+     * @param count  읽음 처리된 알림 개수
+     */
+    public void decrement(Long userId, long count) {
+        if (count > 0) {
+            add(userId, -count);
+        }
+    }
+
+    /**
+     * 전체 카운터 재집계
+     * <p>
+     * 카운터를 사용자 ID 순으로 나누어 청크마다 별도 트랜잭션에서 잠그고 다시 셉니다.
+     *
+     * @return 재집계 결과
+     */
+    public ReconcileResult reconcile() {
+        int checked = 0;
+        int corrected = 0;
+        Long lastUserId = null;
+        while (true) {
+            List<Long> userIds = counterPort.findUserIdsAfter(lastUserId, RECONCILE_CHUNK_SIZE);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            Integer fixed = requiresNewTransaction.execute(status -> reconcileChunk(userIds));
+            checked += userIds.size();
+            corrected += fixed == null ? 0 : fixed;
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+
+        ReconcileResult result = new ReconcileResult(checked, corrected);
+        if (corrected > 0) {
+            log.warn("읽지 않은 알림 카운터 보정: {}", result);
+        } else {
+            log.debug("읽지 않은 알림 카운터 재집계 완료: {}", result);
+        }
+        return result;
+    }
+
+    private int reconcileChunk(List<Long> userIds) {
+        Map<Long, Long> current = counterPort.lockCounts(userIds);
+        Map<Long, Long> actual = notificationHistoryPort.countUnreadByUserIds(current.keySet());
+        int corrected = 0;
+        for (Map.Entry<Long, Long> entry : current.entrySet()) {
+            long expected = actual.getOrDefault(entry.getKey(), 0L);
+            if (entry.getValue() != expected) {
+                log.info("읽지 않은 알림 카운터 불일치: userId={}, counter={}, actual={}",
+                        entry.getKey(), entry.getValue(), expected);
+                counterPort.overwrite(entry.getKey(), expected);
+                evictAfterCommit(entry.getKey());
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private void add(Long userId, long delta) {
+        if (!counterPort.add(userId, delta)) {
+            initialize(userId);
+            counterPort.add(userId, delta);
+        }
+        evictAfterCommit(userId);
+    }
+
+    /**
+     * 캐시 적재용 카운터 조회
+     * <p>
+     * 호출한 읽기 전용 트랜잭션에 참여하면 복제본에서 읽을 수 있으므로 primary로 가는 별도 트랜잭션에서 조회합니다.
+     */
+    private Long loadCount(Long userId) {
+        Long count = requiresNewTransaction.execute(status -> counterPort.findCount(userId).orElse(null));
+        return count != null ? count : initialize(userId);
+    }
+
+    /**
+     * 커밋된 알림으로 카운터 생성 (다른 요청이 먼저 만들었으면 그 값을 사용)
+     */
+    private long initialize(Long userId) {
+        try {
+            Long count = requiresNewTransaction.execute(status -> {
+                long unread = notificationHistoryPort.countUnreadByUserId(userId);
+                counterPort.create(userId, unread);
+                return unread;
+            });
+            return count == null ? 0L : count;
+        } catch (DataIntegrityViolationException e) {
+            return counterPort.findCount(userId)
+                    .orElseThrow(() -> new IllegalStateException("읽지 않은 알림 카운터를 만들지 못했습니다: userId=" + userId, e));
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후, 아니면 즉시 캐시 무효화
+     * <p>
+     * 커밋 전에 무효화하면 다른 요청이 커밋 전 값을 다시 캐시할 수 있으므로 커밋 이후에 무효화합니다.
+     */
+    private void evictAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    unreadCounts.invalidate(userId);
+                }
+            });
+        } else {
+            unreadCounts.invalidate(userId);
+        }
+    }
+
+    /**
+     * 재집계 결과
+     *
+     * @param checkedUsers 확인한 카운터 수
+     * @param correctedUsers 값을 보정한 카운터 수
+     */
+    public record ReconcileResult(int checkedUsers, int correctedUsers) {
+    }
+}
@@ -39,7 +39,10 @@ import java.time.LocalDateTime;
  * @see User
  */
 @Entity
-@Table(name = "notification_histories")
+@Table(name = "notification_histories", indexes = {
+    @Index(name = "idx_notification_histories_user_sent",
+           columnList = "user_id, sent_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
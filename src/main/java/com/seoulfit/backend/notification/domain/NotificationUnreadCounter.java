@@ -0,0 +1,49 @@
+package com.seoulfit.backend.notification.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 읽지 않은 알림 개수
+ *
+ * <p>알림 배지 조회 시 매번 notification_histories를 COUNT 하지 않도록 유지하는 카운터입니다.
+ * 알림 저장, 읽음 처리 트랜잭션에서 같은 트랜잭션으로 증감하며, 어긋난 값은 주기적인 재집계 작업이 바로잡습니다.</p>
+ *
+ * <p>값은 원자적 UPDATE로만 증감하므로 엔티티 자체는 조회와 재집계 잠금에만 사용합니다.</p>
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ * @see NotificationHistory
+ */
+@Entity
+@Table(name = "notification_unread_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationUnreadCounter {
+
+    /**
+     * 사용자 ID
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 읽지 않은 알림 개수
+     */
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+
+    /**
+     * 마지막 변경 시각
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -433,7 +433,7 @@ public class PublicDataApiClient {
      * @return 파싱된 Map 객체 (실패 시 빈 Map)
      */
     @SuppressWarnings("unchecked")
-    private Map<String, Object> parseJsonResponse(String jsonString) {
+    Map<String, Object> parseJsonResponse(String jsonString) {
         try {
             JsonNode rootNode = objectMapper.readTree(jsonString);
             return objectMapper.convertValue(rootNode, Map.class);
@@ -1,9 +1,11 @@
 package com.seoulfit.backend.publicdata.culture.adapter.in.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.seoulfit.backend.publicdata.culture.adapter.in.web.dto.CulturalEventResponse;
 import com.seoulfit.backend.publicdata.culture.adapter.in.web.dto.CulturalEventSummaryResponse;
 import com.seoulfit.backend.publicdata.culture.application.port.in.QueryCulturalEventsUseCase;
 import com.seoulfit.backend.publicdata.culture.domain.CulturalEvent;
+import com.seoulfit.backend.shared.web.JsonArrayStreamWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,11 +15,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -40,6 +44,7 @@ import java.util.List;
 @Slf4j
 public class CulturalEventController {
     private final QueryCulturalEventsUseCase queryCulturalEventsUseCase;
+    private final ObjectMapper objectMapper;
 
     @Operation(
         summary = "문화행사 전체 조회", 
@@ -121,4 +126,28 @@ public class CulturalEventController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    @Operation(
+        summary = "문화행사 전체 내보내기",
+        description = "서울시 모든 문화행사의 요약 정보를 목록으로 모으지 않고 DB에서 읽는 대로 JSON 배열로 스트리밍합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCulturalEvents() {
+        log.info("문화행사 내보내기 요청");
+
+        StreamingResponseBody body = output -> {
+            try (JsonArrayStreamWriter writer = JsonArrayStreamWriter.open(objectMapper, output)) {
+                queryCulturalEventsUseCase.exportAllCulturalEvents(event -> writer.write(CulturalEventSummaryResponse.from(event)));
+                writer.finish();
+                log.info("문화행사 {} 개 내보내기 완료", writer.count());
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
@@ -1,8 +1,10 @@
 package com.seoulfit.backend.publicdata.culture.adapter.in.web;
 
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.culture.adapter.in.web.dto.CulturalSpaceResponse;
 import com.seoulfit.backend.publicdata.culture.application.port.in.QueryCulturalSpaceUseCase;
 import com.seoulfit.backend.publicdata.culture.domain.CulturalSpace;
+import com.seoulfit.backend.shared.web.ResponseSnapshotCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,6 +30,7 @@ import java.util.List;
 @Slf4j
 public class CulturalSpaceController {
     private final QueryCulturalSpaceUseCase queryCulturalSpaceUseCase;
+    private final ResponseSnapshotCache responseSnapshotCache;
 
     @Operation(
         summary = "문화공간 전체 조회", 
@@ -44,15 +48,17 @@ public class CulturalSpaceController {
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/all")
-    public ResponseEntity<List<CulturalSpaceResponse>> getAllCulturalSpaces() {
+    public ResponseEntity<byte[]> getAllCulturalSpaces(WebRequest webRequest) {
         log.info("문화공간 전체 조회 요청");
         
         try {
-            List<CulturalSpace> spaces = queryCulturalSpaceUseCase.getAllCulturalSpace();
-            List<CulturalSpaceResponse> response = CulturalSpaceResponse.from(spaces);
-            
-            log.info("문화공간 {} 개 조회 완료", response.size());
-            return ResponseEntity.ok(response);
+            return responseSnapshotCache.respond(PoiType.CULTURAL_SPACES.name(), webRequest, () -> {
+                List<CulturalSpace> spaces = queryCulturalSpaceUseCase.getAllCulturalSpace();
+                List<CulturalSpaceResponse> response = CulturalSpaceResponse.from(spaces);
+
+                log.info("문화공간 {} 개 조회 완료", response.size());
+                return response;
+            });
         } catch (Exception e) {
             log.error("문화공간 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError().build();
@@ -5,6 +5,7 @@ import com.seoulfit.backend.publicdata.culture.application.port.out.command.Save
 import com.seoulfit.backend.publicdata.culture.domain.CulturalReservation;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -24,6 +25,9 @@ public class CulturalReservationAdapter implements SaveCulturalReservationPort
 
     @Override
     public void clearCulturalReservations() {
-        entityManager.createNativeQuery("TRUNCATE TABLE cultural_reservation").executeUpdate();
+        entityManager.createNativeQuery("TRUNCATE TABLE cultural_reservation")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(CulturalReservation.class)
+                .executeUpdate();
     }
 }
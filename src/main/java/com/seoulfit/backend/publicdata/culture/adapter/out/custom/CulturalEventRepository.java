@@ -1,14 +1,20 @@
 package com.seoulfit.backend.publicdata.culture.adapter.out.custom;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.publicdata.culture.domain.CulturalEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 문화행사 리포지토리
@@ -95,6 +101,7 @@ public interface CulturalEventRepository extends JpaRepository<CulturalEvent, Lo
      * <p>
      * Haversine 공식을 사용하여 두 지점 간의 거리를 계산합니다.
      * 결과는 거리순으로 정렬됩니다.
+     * 격자 셀 인덱스로 후보를 좁힌 뒤 정확한 거리로 거르며, 격자로 덮을 수 없는 넓은 반경은 전체 거리 계산으로 조회합니다.
      * </p>
      * 
      * @param latitude 기준 위도 (WGS84)
@@ -102,6 +109,34 @@ public interface CulturalEventRepository extends JpaRepository<CulturalEvent, Lo
      * @param radiusKm 검색 반경 (km 단위)
      * @return 반경 내 문화행사 목록 (거리순 정렬)
      */
+    default List<CulturalEvent> findWithInRadius(BigDecimal latitude, BigDecimal longitude, double radiusKm) {
+        return GeoGrid.cellsWithin(latitude.doubleValue(), longitude.doubleValue(), radiusKm)
+                .map(cells -> findByGridCellsWithinRadius(cells, latitude, longitude, radiusKm))
+                .orElseGet(() -> findByDistanceWithinRadius(latitude, longitude, radiusKm));
+    }
+
+    /**
+     * 격자 셀 후보 중 반경 내 문화행사 조회
+     */
+    @Query("""
+        SELECT ce FROM CulturalEvent ce 
+        WHERE ce.gridCell IN :cells
+        AND ce.latitude IS NOT NULL AND ce.longitude IS NOT NULL 
+        AND (6371 * acos(cos(radians(:latitude)) * cos(radians(ce.latitude)) 
+            * cos(radians(ce.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(ce.latitude)))) <= :radiusKm
+        ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(ce.latitude)) 
+            * cos(radians(ce.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(ce.latitude))))
+        """)
+    List<CulturalEvent> findByGridCellsWithinRadius(@Param("cells") Collection<Integer> cells,
+                                                    @Param("latitude") BigDecimal latitude,
+                                                    @Param("longitude") BigDecimal longitude,
+                                                    @Param("radiusKm") double radiusKm);
+
+    /**
+     * 전체 거리 계산으로 반경 내 문화행사 조회
+     */
     @Query("""
         SELECT ce FROM CulturalEvent ce 
         WHERE ce.latitude IS NOT NULL AND ce.longitude IS NOT NULL 
@@ -112,7 +147,23 @@ public interface CulturalEventRepository extends JpaRepository<CulturalEvent, Lo
             * cos(radians(ce.longitude) - radians(:longitude)) 
             + sin(radians(:latitude)) * sin(radians(ce.latitude))))
         """)
-    List<CulturalEvent> findWithInRadius(@Param("latitude") BigDecimal latitude,
-                                         @Param("longitude") BigDecimal longitude,
-                                         @Param("radiusKm") double radiusKm);
+    List<CulturalEvent> findByDistanceWithinRadius(@Param("latitude") BigDecimal latitude,
+                                                   @Param("longitude") BigDecimal longitude,
+                                                   @Param("radiusKm") double radiusKm);
+
+    /**
+     * 전체 문화행사 스트림 조회 (내보내기용)
+     * <p>
+     * 커서로 {@code 500}건씩 읽으며 읽기 전용으로 조회하므로 변경 감지 스냅샷을 만들지 않습니다.
+     * 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     * </p>
+     *
+     * @return ID 순 문화행사 스트림
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ce FROM CulturalEvent ce ORDER BY ce.id")
+    Stream<CulturalEvent> streamAll();
 }
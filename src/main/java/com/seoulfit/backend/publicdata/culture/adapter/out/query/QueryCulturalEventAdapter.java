@@ -3,16 +3,21 @@ package com.seoulfit.backend.publicdata.culture.adapter.out.query;
 import com.seoulfit.backend.publicdata.culture.adapter.out.custom.CulturalEventRepository;
 import com.seoulfit.backend.publicdata.culture.application.port.out.query.QueryCulturalEventPort;
 import com.seoulfit.backend.publicdata.culture.domain.CulturalEvent;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Repository
 public class QueryCulturalEventAdapter implements QueryCulturalEventPort {
     private final CulturalEventRepository culturalEventRepository;
+    private final EntityManager entityManager;
 
     @Override
     public List<CulturalEvent> getAllCulturalEvent() {
@@ -26,4 +31,19 @@ public class QueryCulturalEventAdapter implements QueryCulturalEventPort {
         return culturalEventRepository.findWithInRadius(BigDecimal.valueOf(latitude), BigDecimal.valueOf(longitude), radius);
     }
 
+    @Override
+    public long forEachCulturalEvent(Consumer<CulturalEvent> action) {
+        long count = 0;
+        try (Stream<CulturalEvent> stream = culturalEventRepository.streamAll()) {
+            Iterator<CulturalEvent> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                CulturalEvent event = iterator.next();
+                action.accept(event);
+                entityManager.detach(event);
+                count++;
+            }
+        }
+        return count;
+    }
+
 }
@@ -1,15 +1,50 @@
 package com.seoulfit.backend.publicdata.culture.adapter.out.repository;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.publicdata.culture.domain.CulturalReservation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 public interface CulturalReservationRepository extends JpaRepository<CulturalReservation, Long> {
 
+    /**
+     * 위치 기반 문화예약 조회 (반경 내)
+     * 
+     * 격자 셀 인덱스로 후보를 좁힌 뒤 정확한 거리로 거르며, 격자로 덮을 수 없는 넓은 반경은 전체 거리 계산으로 조회
+     */
+    default List<CulturalReservation> findWithInRadius(BigDecimal x_coord, BigDecimal y_coord, double radiusKm) {
+        return GeoGrid.cellsWithin(y_coord.doubleValue(), x_coord.doubleValue(), radiusKm)
+                .map(cells -> findByGridCellsWithinRadius(cells, x_coord, y_coord, radiusKm))
+                .orElseGet(() -> findByDistanceWithinRadius(x_coord, y_coord, radiusKm));
+    }
+
+    /**
+     * 격자 셀 후보 중 반경 내 문화예약 조회
+     */
+    @Query(value = """
+            SELECT * FROM cultural_reservation cr
+            WHERE cr.grid_cell IN (:cells)
+            AND cr.x_coord IS NOT NULL AND cr.y_coord IS NOT NULL 
+            AND (6371 * acos(cos(radians(:y_coord)) * cos(radians(cr.y_coord)) 
+                * cos(radians(cr.x_coord) - radians(:x_coord)) 
+                + sin(radians(:y_coord)) * sin(radians(cr.y_coord)))) <= :radiusKm
+            ORDER BY (6371 * acos(cos(radians(:y_coord)) * cos(radians(cr.y_coord)) 
+                * cos(radians(cr.x_coord) - radians(:x_coord)) 
+                + sin(radians(:y_coord)) * sin(radians(cr.y_coord))))
+            """, nativeQuery = true)
+    List<CulturalReservation> findByGridCellsWithinRadius(@Param("cells") Collection<Integer> cells,
+                                                          @Param("x_coord") BigDecimal x_coord,
+                                                          @Param("y_coord") BigDecimal y_coord,
+                                                          @Param("radiusKm") double radiusKm);
+
+    /**
+     * 전체 거리 계산으로 반경 내 문화예약 조회
+     */
     @Query(value = """
             SELECT * FROM cultural_reservation cr
             WHERE cr.x_coord IS NOT NULL AND cr.y_coord IS NOT NULL 
@@ -20,8 +55,8 @@ public interface CulturalReservationRepository extends JpaRepository<CulturalRes
                 * cos(radians(cr.x_coord) - radians(:x_coord)) 
                 + sin(radians(:y_coord)) * sin(radians(cr.y_coord))))
             """, nativeQuery = true)
-    List<CulturalReservation> findWithInRadius(@Param("x_coord") BigDecimal x_coord,
-                                               @Param("y_coord") BigDecimal y_coord,
-                                               @Param("radiusKm") double radiusKm);
+    List<CulturalReservation> findByDistanceWithinRadius(@Param("x_coord") BigDecimal x_coord,
+                                                         @Param("y_coord") BigDecimal y_coord,
+                                                         @Param("radiusKm") double radiusKm);
 
 }
@@ -1,17 +1,21 @@
 package com.seoulfit.backend.publicdata.culture.adapter.out.repository;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.publicdata.culture.domain.CulturalSpace;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 public interface CulturalSpaceRepository extends JpaRepository<CulturalSpace, Long> {
 
     /**
      * 위치 기반 문화공간 조회 (반경 내)
+     * 
+     * 격자 셀 인덱스로 후보를 좁힌 뒤 정확한 거리로 거르며, 격자로 덮을 수 없는 넓은 반경은 전체 거리 계산으로 조회
      * Haversine 공식을 사용하여 두 지점 간의 거리를 계산
      * 
      * @param latitude 중심 위도
@@ -19,6 +23,42 @@ public interface CulturalSpaceRepository extends JpaRepository<CulturalSpace, Lo
      * @param radiusKm 검색 반경 (km)
      * @return 반경 내 문화공간 목록 (거리순 정렬)
      */
+    default List<CulturalSpace> findWithInRadius(BigDecimal latitude, BigDecimal longitude, double radiusKm) {
+        return GeoGrid.cellsWithin(latitude.doubleValue(), longitude.doubleValue(), radiusKm)
+                .map(cells -> findByGridCellsWithinRadius(cells, latitude, longitude, radiusKm))
+                .orElseGet(() -> findByDistanceWithinRadius(latitude, longitude, radiusKm));
+    }
+
+    /**
+     * 격자 셀 후보 중 반경 내 문화공간 조회
+     */
+    @Query(value = """
+        SELECT * FROM cultural_spaces cs 
+        WHERE cs.grid_cell IN (:cells)
+        AND cs.latitude IS NOT NULL AND cs.longitude IS NOT NULL 
+        AND (6371 * acos(
+            LEAST(1.0,
+                cos(radians(:latitude)) * cos(radians(cs.latitude)) 
+                * cos(radians(cs.longitude) - radians(:longitude)) 
+                + sin(radians(:latitude)) * sin(radians(cs.latitude))
+            )
+        )) <= :radiusKm
+        ORDER BY (6371 * acos(
+            LEAST(1.0,
+                cos(radians(:latitude)) * cos(radians(cs.latitude)) 
+                * cos(radians(cs.longitude) - radians(:longitude)) 
+                + sin(radians(:latitude)) * sin(radians(cs.latitude))
+            )
+        ))
+        """, nativeQuery = true)
+    List<CulturalSpace> findByGridCellsWithinRadius(@Param("cells") Collection<Integer> cells,
+                                                    @Param("latitude") BigDecimal latitude,
+                                                    @Param("longitude") BigDecimal longitude,
+                                                    @Param("radiusKm") double radiusKm);
+
+    /**
+     * 전체 거리 계산으로 반경 내 문화공간 조회
+     */
     @Query(value = """
         SELECT * FROM cultural_spaces cs 
         WHERE cs.latitude IS NOT NULL AND cs.longitude IS NOT NULL 
@@ -37,8 +77,14 @@ public interface CulturalSpaceRepository extends JpaRepository<CulturalSpace, Lo
             )
         ))
         """, nativeQuery = true)
-    List<CulturalSpace> findWithInRadius(@Param("latitude") BigDecimal latitude,
-                                         @Param("longitude") BigDecimal longitude,
-                                         @Param("radiusKm") double radiusKm);
+    List<CulturalSpace> findByDistanceWithinRadius(@Param("latitude") BigDecimal latitude,
+                                                   @Param("longitude") BigDecimal longitude,
+                                                   @Param("radiusKm") double radiusKm);
+
+    /**
+     * 위치 정보가 있는 문화공간만 조회
+     */
+    @Query("SELECT cs FROM CulturalSpace cs WHERE cs.latitude IS NOT NULL AND cs.longitude IS NOT NULL")
+    List<CulturalSpace> findAllWithLocation();
 
 }
@@ -3,6 +3,7 @@ package com.seoulfit.backend.publicdata.culture.application.port.in;
 import com.seoulfit.backend.publicdata.culture.domain.CulturalEvent;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 문화행사 조회 유스케이스
@@ -12,4 +13,11 @@ public interface QueryCulturalEventsUseCase {
     List<CulturalEvent> getAllCulturalEvents();
 
     List<CulturalEvent> getCulturalEventByLatitudeAndLongitude(String latitude, String longitude);
+
+    /**
+     * 전체 문화행사를 목록으로 모으지 않고 한 건씩 전달
+     *
+     * @return 전달한 문화행사 수
+     */
+    long exportAllCulturalEvents(Consumer<CulturalEvent> action);
 }
@@ -3,9 +3,17 @@ package com.seoulfit.backend.publicdata.culture.application.port.out.query;
 import com.seoulfit.backend.publicdata.culture.domain.CulturalEvent;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface QueryCulturalEventPort {
     List<CulturalEvent> getAllCulturalEvent();
 
     List<CulturalEvent> getCulturalEventLocation(double latitude, double longitude);
+
+    /**
+     * 전체 문화행사를 한 건씩 읽어 전달 (영속성 컨텍스트에 쌓지 않음)
+     *
+     * @return 전달한 문화행사 수
+     */
+    long forEachCulturalEvent(Consumer<CulturalEvent> action);
 }
@@ -8,6 +8,7 @@ import com.seoulfit.backend.shared.utils.RestClientUtils;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.query.NativeQuery;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -54,7 +55,10 @@ public class CulturalSpaceService {
             log.info("No cultural events data received from API");
             return null;
         }
-        entityManager.createNativeQuery("TRUNCATE TABLE cultural_spaces").executeUpdate();
+        entityManager.createNativeQuery("TRUNCATE TABLE cultural_spaces")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(CulturalSpace.class)
+                .executeUpdate();
 
         List<SeoulCulturalSpaceApiResponse.CulturalSpaceData> data = response.getCulturalSpaceInfo().getRow();
 
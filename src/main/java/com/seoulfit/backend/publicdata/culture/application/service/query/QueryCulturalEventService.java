@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -34,4 +35,11 @@ public class QueryCulturalEventService implements QueryCulturalEventsUseCase {
         return culturalEventLocation;
     }
 
+    @Override
+    public long exportAllCulturalEvents(Consumer<CulturalEvent> action) {
+        long count = culturalEventPort.forEachCulturalEvent(action);
+        log.info("Export Count : {}", count);
+        return count;
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.seoulfit.backend.publicdata.culture.domain;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,6 +18,7 @@ import java.time.LocalDateTime;
 @Table(name = "cultural_events",
         indexes = {
                 @Index(name = "idx_event_location", columnList = "latitude, longitude"),
+                @Index(name = "idx_event_grid_cell", columnList = "grid_cell"),
                 @Index(name = "idx_event_date", columnList = "start_date, end_date"),
                 @Index(name = "idx_event_district", columnList = "district"),
                 @Index(name = "idx_event_category", columnList = "code_name"),
@@ -93,6 +95,9 @@ public class CulturalEvent {
     @Column(name = "longitude", precision = 11, scale = 8)
     private BigDecimal longitude; // 경도(X좌표)
 
+    @Column(name = "grid_cell")
+    private Integer gridCell; // 반경 조회용 격자 셀 (GeoGrid)
+
     @Column(name = "is_free", length = 10)
     private String isFree; // 유무료
 
@@ -159,4 +164,13 @@ public class CulturalEvent {
         }
         return currentDate.isBefore(startDate);
     }
+
+    /**
+     * 좌표로 반경 조회용 격자 셀 계산
+     */
+    @PrePersist
+    @PreUpdate
+    protected void assignGridCell() {
+        this.gridCell = GeoGrid.cellOf(latitude, longitude);
+    }
 }
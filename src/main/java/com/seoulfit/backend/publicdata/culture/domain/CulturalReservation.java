@@ -1,5 +1,6 @@
 package com.seoulfit.backend.publicdata.culture.domain;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,7 +12,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "cultural_reservation",
         indexes = {
-                @Index(name = "idx_reservation_location", columnList = "x_coord,y_coord")
+                @Index(name = "idx_reservation_location", columnList = "x_coord,y_coord"),
+                @Index(name = "idx_reservation_grid_cell", columnList = "grid_cell")
         })
 @Getter
 @NoArgsConstructor
@@ -59,6 +61,9 @@ public class CulturalReservation {
     @Column(name = "y_coord", length = 50)
     private String y; // 장소Y좌표 (위도)
 
+    @Column(name = "grid_cell")
+    private Integer gridCell; // 반경 조회용 격자 셀 (GeoGrid)
+
     @Column(name = "svc_opn_bgn_dt")
     private LocalDateTime svcOpnBgnDt; // 서비스개시시작일시
 
@@ -139,4 +144,13 @@ public class CulturalReservation {
     public void setRcptEndDt(String rcptEndDt) {
         this.rcptEndDt = rcptEndDt != null ? LocalDateTime.parse(rcptEndDt) : null;
     }
+
+    /**
+     * 좌표로 반경 조회용 격자 셀 계산
+     */
+    @PrePersist
+    @PreUpdate
+    protected void assignGridCell() {
+        this.gridCell = GeoGrid.cellOf(y, x);
+    }
 }
@@ -1,10 +1,14 @@
 package com.seoulfit.backend.publicdata.culture.domain;
 
+import com.seoulfit.backend.location.util.GeoGrid;
+import com.seoulfit.backend.shared.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,9 +20,12 @@ import java.time.LocalDateTime;
 @Table(name = "cultural_spaces",
         indexes = {
                 @Index(name = "idx_space_location", columnList = "latitude, longitude"),
+                @Index(name = "idx_space_grid_cell", columnList = "grid_cell"),
                 @Index(name = "idx_space_category", columnList = "subj_code"),
                 @Index(name = "idx_space_district", columnList = "district")
         })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.Regions.CULTURAL_SPACE)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -49,6 +56,9 @@ public class CulturalSpace {
     @Column(name = "latitude", precision = 16, scale = 8)
     private BigDecimal latitude; // 위도 (Y_COORD)
 
+    @Column(name = "grid_cell")
+    private Integer gridCell; // 반경 조회용 격자 셀 (GeoGrid)
+
     @Column(name = "phone", length = 50)
     private String phone; // 전화번호
 
@@ -156,4 +166,13 @@ public class CulturalSpace {
     public boolean isFreeSpace() {
         return "무료".equals(this.isFree);
     }
-}
\ No newline at end of file
+
+    /**
+     * 좌표로 반경 조회용 격자 셀 계산
+     */
+    @PrePersist
+    @PreUpdate
+    protected void assignGridCell() {
+        this.gridCell = GeoGrid.cellOf(latitude, longitude);
+    }
+}
\ No newline at end of file
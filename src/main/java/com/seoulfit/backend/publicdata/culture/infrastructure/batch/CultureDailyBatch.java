@@ -1,10 +1,16 @@
 package com.seoulfit.backend.publicdata.culture.infrastructure.batch;
 
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import com.seoulfit.backend.location.domain.PoiType;
+import com.seoulfit.backend.publicdata.culture.adapter.in.web.dto.res.SeoulCulturalSpaceApiResponse;
 import com.seoulfit.backend.publicdata.culture.application.service.CulturalEventService;
 import com.seoulfit.backend.publicdata.culture.application.service.CulturalReservationService;
 import com.seoulfit.backend.publicdata.culture.application.service.CulturalSpaceService;
+import com.seoulfit.backend.shared.metrics.BatchMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -15,21 +21,56 @@ public class CultureDailyBatch {
     private final CulturalEventService culturalEventService;
     private final CulturalReservationService culturalReservationService;
     private final CulturalSpaceService culturalSpaceService;
+    private final BatchMetrics batchMetrics;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(cron = "${seoulfit.scheduler.culture.daily-cron[0]}")
     public void cultureEventDailyBatch() {
-        culturalEventService.saveCultureEvents();
+        Timer.Sample sample = batchMetrics.start();
+        try {
+            int saved = culturalEventService.saveCultureEvents();
+            batchMetrics.recordRows("culture-event", BatchMetrics.SAVED, saved);
+            batchMetrics.recordSuccess("culture-event", sample);
+        } catch (RuntimeException e) {
+            batchMetrics.recordFailure("culture-event", sample);
+            throw e;
+        }
     }
 
     @Scheduled(cron = "${seoulfit.scheduler.culture.daily-cron[1]}")
     public void cultureSpaceDailyBatch() {
-        culturalSpaceService.saveCultureSpace(1,1000); //최대 1000건 제한
+        Timer.Sample sample = batchMetrics.start();
+        try {
+            SeoulCulturalSpaceApiResponse response = culturalSpaceService.saveCultureSpace(1,1000); //최대 1000건 제한
+            batchMetrics.recordRows("culture-space", BatchMetrics.FETCHED, spaceRowCount(response));
+            batchMetrics.recordSuccess("culture-space", sample);
+            eventPublisher.publishEvent(new PoiDataRefreshedEvent(PoiType.CULTURAL_SPACES));
+        } catch (RuntimeException e) {
+            batchMetrics.recordFailure("culture-space", sample);
+            throw e;
+        }
     }
 
     @Scheduled(cron = "${seoulfit.scheduler.culture.daily-cron[2]}")
     public void cultureReservationDailyBatch() {
-        int count = culturalReservationService.saveCulturalReservation(1, 1000);
-        log.info("Count : {}", count);
+        Timer.Sample sample = batchMetrics.start();
+        try {
+            int count = culturalReservationService.saveCulturalReservation(1, 1000);
+            log.info("Count : {}", count);
+            batchMetrics.recordRows("culture-reservation", BatchMetrics.SAVED, count);
+            batchMetrics.recordSuccess("culture-reservation", sample);
+        } catch (RuntimeException e) {
+            batchMetrics.recordFailure("culture-reservation", sample);
+            throw e;
+        }
+    }
+
+    private int spaceRowCount(SeoulCulturalSpaceApiResponse response) {
+        if (response == null || response.getCulturalSpaceInfo() == null
+                || !response.getCulturalSpaceInfo().hasData()) {
+            return 0;
+        }
+        return response.getCulturalSpaceInfo().getRow().size();
     }
 
 }
@@ -1,9 +1,12 @@
 package com.seoulfit.backend.publicdata.env.adapter.in.web;
 
 import com.seoulfit.backend.publicdata.env.adapter.in.web.dto.AirQualityResponse;
+import com.seoulfit.backend.publicdata.env.adapter.in.web.dto.AirQualityTrendResponse;
 import com.seoulfit.backend.publicdata.env.application.port.in.AirQualityQueryUseCase;
 import com.seoulfit.backend.publicdata.env.domain.AirQuality;
+import com.seoulfit.backend.publicdata.env.domain.RollupGranularity;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,11 +14,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -63,4 +69,29 @@ public class AirQualityController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    @Operation(
+        summary = "측정소 대기질 추이 조회",
+        description = "측정소의 시간/일 단위 PM10, PM2.5, 오존 최소/최대/평균을 조회합니다. 구간 시작 시각이 startTime 이상, endTime 미만인 구간을 시간순으로 반환합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 조회 기간")
+    })
+    @GetMapping("/trend")
+    public ResponseEntity<List<AirQualityTrendResponse>> getAirQualityTrend(
+            @Parameter(description = "측정소명") @RequestParam String stationName,
+            @Parameter(description = "집계 단위 (HOURLY, DAILY)") @RequestParam(defaultValue = "HOURLY") RollupGranularity granularity,
+            @Parameter(description = "조회 시작 시각 (ISO-8601)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @Parameter(description = "조회 종료 시각 (ISO-8601, 미포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime) {
+        if (!startTime.isBefore(endTime)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<AirQualityTrendResponse> responses = airQualityQueryUseCase
+            .getAirQualityRollups(stationName, granularity, startTime, endTime).stream()
+            .map(AirQualityTrendResponse::from)
+            .toList();
+        return ResponseEntity.ok(responses);
+    }
 }
@@ -0,0 +1,67 @@
+package com.seoulfit.backend.publicdata.env.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.seoulfit.backend.publicdata.env.domain.AirQualityRollup;
+import com.seoulfit.backend.publicdata.env.domain.MetricRollup;
+import com.seoulfit.backend.publicdata.env.domain.RollupGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기질 추이 응답 DTO (구간 하나)
+ */
+@Getter
+@Builder
+@Schema(description = "대기질 추이 구간 응답")
+public class AirQualityTrendResponse {
+
+    @Schema(description = "측정소명", example = "강남구")
+    private String stationName;
+
+    @Schema(description = "집계 단위", example = "HOURLY")
+    private RollupGranularity granularity;
+
+    @Schema(description = "구간 시작 시각", example = "2024-08-10 14:00:00")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "구간 내 측정 건수", example = "1")
+    private long sampleCount;
+
+    @Schema(description = "PM10 농도 집계 (㎍/㎥)")
+    private MetricSummary pm10;
+
+    @Schema(description = "PM2.5 농도 집계 (㎍/㎥)")
+    private MetricSummary pm25;
+
+    @Schema(description = "오존 농도 집계 (ppm)")
+    private MetricSummary o3;
+
+    /**
+     * 롤업으로부터 응답 DTO 생성
+     */
+    public static AirQualityTrendResponse from(AirQualityRollup rollup) {
+        return AirQualityTrendResponse.builder()
+            .stationName(rollup.getStationName())
+            .granularity(rollup.getGranularity())
+            .bucketStart(rollup.getBucketStart())
+            .sampleCount(rollup.getSampleCount())
+            .pm10(MetricSummary.from(rollup.getPm10()))
+            .pm25(MetricSummary.from(rollup.getPm25()))
+            .o3(MetricSummary.from(rollup.getO3()))
+            .build();
+    }
+
+    /**
+     * 측정 항목별 최소/최대/평균 (측정값이 없으면 null)
+     */
+    public record MetricSummary(Double min, Double max, Double avg) {
+
+        static MetricSummary from(MetricRollup metric) {
+            return new MetricSummary(metric.getMin(), metric.getMax(), metric.getAvg());
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,6 +60,30 @@ public interface AirQualityJpaRepository extends JpaRepository<AirQuality, Long>
     @Query("SELECT a FROM AirQuality a ORDER BY a.msrDt DESC")
     List<AirQuality> findAllOrderByMsrDtDesc();
 
+    /**
+     * 측정소별 최신 데이터 조회 (측정소 + 측정일시 인덱스 사용)
+     */
+    @Query("""
+        SELECT a FROM AirQuality a
+        WHERE a.msrDt = (SELECT MAX(b.msrDt) FROM AirQuality b WHERE b.msrSteNm = a.msrSteNm)
+        ORDER BY a.msrSteNm
+        """)
+    List<AirQuality> findLatestPerStation();
+
+    /**
+     * 측정소 목록의 특정 기간 데이터 조회 (startTime 이상, endTime 미만)
+     */
+    @Query("""
+        SELECT a FROM AirQuality a
+        WHERE a.msrSteNm IN :stationNames
+        AND a.msrDt >= :startTime AND a.msrDt < :endTime
+        """)
+    List<AirQuality> findByStationsAndPeriod(
+        @Param("stationNames") Collection<String> stationNames,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime
+    );
+
     /**
      * 특정 지역의 데이터 조회
      */
@@ -9,6 +9,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -47,20 +49,12 @@ public class AirQualityRepositoryAdapter implements AirQualityRepository {
 
     @Override
     public List<AirQuality> findLatest() {
-        // 각 측정소별 최신 데이터를 메모리에서 필터링
-        List<AirQuality> allData = jpaRepository.findAllOrderByMsrDtDesc();
-        
-        Map<String, AirQuality> latestByStation = allData.stream()
-            .collect(Collectors.toMap(
-                AirQuality::getMsrSteNm,
-                airQuality -> airQuality,
-                (existing, replacement) -> 
-                    existing.getMsrDt().isAfter(replacement.getMsrDt()) ? existing : replacement
-            ));
-        
-        return latestByStation.values().stream()
-            .sorted((a, b) -> a.getMsrSteNm().compareTo(b.getMsrSteNm()))
-            .toList();
+        // 측정소별 최신 측정일시 행만 DB에서 조회 (같은 시각 중복 행은 하나만 사용)
+        Map<String, AirQuality> latestByStation = new LinkedHashMap<>();
+        for (AirQuality airQuality : jpaRepository.findLatestPerStation()) {
+            latestByStation.putIfAbsent(airQuality.getMsrSteNm(), airQuality);
+        }
+        return List.copyOf(latestByStation.values());
     }
 
     @Override
@@ -90,6 +84,15 @@ public class AirQualityRepositoryAdapter implements AirQualityRepository {
         return jpaRepository.findByMsrDtBetweenOrderByMsrDtDesc(startTime, endTime);
     }
 
+    @Override
+    public List<AirQuality> findByStationsAndPeriod(Collection<String> stationNames,
+                                                    LocalDateTime startTime, LocalDateTime endTime) {
+        if (stationNames.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByStationsAndPeriod(stationNames, startTime, endTime);
+    }
+
     @Override
     public List<AirQuality> findByStatus(AirQualityStatus minStatus) {
         Integer minKhaiValue = getMinKhaiValueForStatus(minStatus);
@@ -125,51 +128,6 @@ public class AirQualityRepositoryAdapter implements AirQualityRepository {
         return results;
     }
 
-    @Override
-    public AirQualityQueryUseCase.AirQualityStatistics getStatistics(LocalDateTime startTime, LocalDateTime endTime) {
-        List<AirQuality> data = findByPeriod(startTime, endTime);
-        
-        if (data.isEmpty()) {
-            return new AirQualityQueryUseCase.AirQualityStatistics(
-                0.0, 0.0, 0.0, 0, 0, 0, 0, LocalDateTime.now()
-            );
-        }
-        
-        double avgPm10 = data.stream()
-            .filter(a -> a.getPm10Value() != null)
-            .mapToInt(AirQuality::getPm10Value)
-            .average()
-            .orElse(0.0);
-            
-        double avgPm25 = data.stream()
-            .filter(a -> a.getPm25Value() != null)
-            .mapToInt(AirQuality::getPm25Value)
-            .average()
-            .orElse(0.0);
-            
-        double avgKhai = data.stream()
-            .filter(a -> a.getKhaiValue() != null)
-            .mapToInt(AirQuality::getKhaiValue)
-            .average()
-            .orElse(0.0);
-            
-        long goodCount = data.stream()
-            .filter(a -> a.getKhaiValue() != null && a.getKhaiValue() <= 50)
-            .count();
-            
-        long moderateCount = data.stream()
-            .filter(a -> a.getKhaiValue() != null && a.getKhaiValue() > 50 && a.getKhaiValue() <= 100)
-            .count();
-            
-        long unhealthyCount = data.stream()
-            .filter(a -> a.getKhaiValue() != null && a.getKhaiValue() > 100)
-            .count();
-        
-        return new AirQualityQueryUseCase.AirQualityStatistics(
-            avgPm10, avgPm25, avgKhai, goodCount, moderateCount, unhealthyCount, data.size(), LocalDateTime.now()
-        );
-    }
-
     @Override
     public int deleteOldData(LocalDateTime beforeDateTime) {
         return jpaRepository.deleteByMsrDtBefore(beforeDateTime);
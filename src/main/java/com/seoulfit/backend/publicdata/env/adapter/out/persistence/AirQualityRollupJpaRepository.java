@@ -0,0 +1,63 @@
+package com.seoulfit.backend.publicdata.env.adapter.out.persistence;
+
+import com.seoulfit.backend.publicdata.env.domain.AirQualityRollup;
+import com.seoulfit.backend.publicdata.env.domain.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 대기질 롤업 JPA Repository
+ */
+@Repository
+public interface AirQualityRollupJpaRepository extends JpaRepository<AirQualityRollup, Long> {
+
+    /**
+     * 측정소 목록의 구간 롤업 조회
+     */
+    @Query("""
+        SELECT r FROM AirQualityRollup r
+        WHERE r.granularity = :granularity
+        AND r.stationName IN :stationNames
+        AND r.bucketStart >= :startTime AND r.bucketStart < :endTime
+        ORDER BY r.bucketStart, r.stationName
+        """)
+    List<AirQualityRollup> findByStations(
+        @Param("granularity") RollupGranularity granularity,
+        @Param("stationNames") Collection<String> stationNames,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime
+    );
+
+    /**
+     * 전체 측정소의 구간 롤업 합계
+     */
+    @Query("""
+        SELECT COALESCE(SUM(r.pm10.sum), 0), COALESCE(SUM(r.pm10.count), 0),
+               COALESCE(SUM(r.pm25.sum), 0), COALESCE(SUM(r.pm25.count), 0),
+               COALESCE(SUM(r.khai.sum), 0), COALESCE(SUM(r.khai.count), 0),
+               COALESCE(SUM(r.goodCount), 0), COALESCE(SUM(r.moderateCount), 0),
+               COALESCE(SUM(r.unhealthyCount), 0), COALESCE(SUM(r.sampleCount), 0)
+        FROM AirQualityRollup r
+        WHERE r.granularity = :granularity
+        AND r.bucketStart >= :startTime AND r.bucketStart < :endTime
+        """)
+    List<Object[]> sumTotals(
+        @Param("granularity") RollupGranularity granularity,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime
+    );
+
+    /**
+     * 구간 시작 시각이 기준 시각 이전인 롤업 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM AirQualityRollup r WHERE r.granularity = :granularity AND r.bucketStart < :before")
+    int deleteBefore(@Param("granularity") RollupGranularity granularity, @Param("before") LocalDateTime before);
+}
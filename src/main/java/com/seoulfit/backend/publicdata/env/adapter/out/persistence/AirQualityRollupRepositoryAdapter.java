@@ -0,0 +1,60 @@
+package com.seoulfit.backend.publicdata.env.adapter.out.persistence;
+
+import com.seoulfit.backend.publicdata.env.application.port.out.AirQualityRollupRepository;
+import com.seoulfit.backend.publicdata.env.domain.AirQualityRollup;
+import com.seoulfit.backend.publicdata.env.domain.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 대기질 롤업 저장소 어댑터
+ * 헥사고날 아키텍처의 Adapter Out
+ */
+@Component
+@RequiredArgsConstructor
+public class AirQualityRollupRepositoryAdapter implements AirQualityRollupRepository {
+
+    private final AirQualityRollupJpaRepository jpaRepository;
+
+    @Override
+    public List<AirQualityRollup> saveAll(List<AirQualityRollup> rollups) {
+        return jpaRepository.saveAll(rollups);
+    }
+
+    @Override
+    public List<AirQualityRollup> findByStations(RollupGranularity granularity, Collection<String> stationNames,
+                                                 LocalDateTime startTime, LocalDateTime endTime) {
+        if (stationNames.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByStations(granularity, stationNames, startTime, endTime);
+    }
+
+    @Override
+    public RollupTotals sumTotals(RollupGranularity granularity, LocalDateTime startTime, LocalDateTime endTime) {
+        if (!startTime.isBefore(endTime)) {
+            return RollupTotals.EMPTY;
+        }
+        Object[] row = jpaRepository.sumTotals(granularity, startTime, endTime).get(0);
+        return new RollupTotals(
+            number(row[0]).doubleValue(), number(row[1]).longValue(),
+            number(row[2]).doubleValue(), number(row[3]).longValue(),
+            number(row[4]).doubleValue(), number(row[5]).longValue(),
+            number(row[6]).longValue(), number(row[7]).longValue(),
+            number(row[8]).longValue(), number(row[9]).longValue()
+        );
+    }
+
+    @Override
+    public int deleteBefore(RollupGranularity granularity, LocalDateTime beforeBucketStart) {
+        return jpaRepository.deleteBefore(granularity, beforeBucketStart);
+    }
+
+    private static Number number(Object value) {
+        return value == null ? 0 : (Number) value;
+    }
+}
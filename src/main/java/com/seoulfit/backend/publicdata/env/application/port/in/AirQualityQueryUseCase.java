@@ -1,7 +1,9 @@
 package com.seoulfit.backend.publicdata.env.application.port.in;
 
 import com.seoulfit.backend.publicdata.env.domain.AirQuality;
+import com.seoulfit.backend.publicdata.env.domain.AirQualityRollup;
 import com.seoulfit.backend.publicdata.env.domain.AirQualityStatus;
+import com.seoulfit.backend.publicdata.env.domain.RollupGranularity;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -73,9 +75,17 @@ public interface AirQualityQueryUseCase {
 
     /**
      * 대기질 통계 정보 조회
+     * 시간 단위 롤업 기준으로 집계하며, 측정 시각이 startTime ~ endTime 구간에 속하는 시간 구간을 포함합니다.
      */
     AirQualityStatistics getAirQualityStatistics(LocalDateTime startTime, LocalDateTime endTime);
 
+    /**
+     * 측정소의 추이 차트용 롤업 조회
+     * startTime 이상, endTime 미만에 시작하는 구간을 시간순으로 반환합니다.
+     */
+    List<AirQualityRollup> getAirQualityRollups(String stationName, RollupGranularity granularity,
+                                                LocalDateTime startTime, LocalDateTime endTime);
+
     /**
      * 대기질 통계 정보
      */
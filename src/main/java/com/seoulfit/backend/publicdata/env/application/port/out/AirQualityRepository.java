@@ -5,6 +5,7 @@ import com.seoulfit.backend.publicdata.env.domain.AirQuality;
 import com.seoulfit.backend.publicdata.env.domain.AirQualityStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,6 +54,12 @@ public interface AirQualityRepository {
      */
     List<AirQuality> findByPeriod(LocalDateTime startTime, LocalDateTime endTime);
 
+    /**
+     * 측정소 목록의 특정 기간 대기질 정보 조회 (startTime 이상, endTime 미만)
+     */
+    List<AirQuality> findByStationsAndPeriod(Collection<String> stationNames,
+                                             LocalDateTime startTime, LocalDateTime endTime);
+
     /**
      * 특정 상태 이상의 대기질 정보 조회
      */
@@ -63,11 +70,6 @@ public interface AirQualityRepository {
      */
     List<AirQuality> findByQuery(AirQualityQueryUseCase.AirQualityQuery query);
 
-    /**
-     * 대기질 통계 정보 조회
-     */
-    AirQualityQueryUseCase.AirQualityStatistics getStatistics(LocalDateTime startTime, LocalDateTime endTime);
-
     /**
      * 특정 기간 이전의 데이터 삭제 (데이터 정리용)
      */
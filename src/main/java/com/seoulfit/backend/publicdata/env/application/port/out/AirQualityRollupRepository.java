@@ -0,0 +1,59 @@
+package com.seoulfit.backend.publicdata.env.application.port.out;
+
+import com.seoulfit.backend.publicdata.env.domain.AirQualityRollup;
+import com.seoulfit.backend.publicdata.env.domain.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 대기질 롤업 저장소 포트
+ */
+public interface AirQualityRollupRepository {
+
+    /**
+     * 롤업 일괄 저장
+     */
+    List<AirQualityRollup> saveAll(List<AirQualityRollup> rollups);
+
+    /**
+     * 측정소 목록의 구간 롤업 조회 (startTime 이상, endTime 미만 구간, 구간 시작 시각 오름차순)
+     */
+    List<AirQualityRollup> findByStations(RollupGranularity granularity, Collection<String> stationNames,
+                                          LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * 전체 측정소의 구간 롤업 합계 (startTime 이상, endTime 미만 구간)
+     */
+    RollupTotals sumTotals(RollupGranularity granularity, LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * 구간 시작 시각이 기준 시각 이전인 롤업 삭제 (데이터 정리용)
+     */
+    int deleteBefore(RollupGranularity granularity, LocalDateTime beforeBucketStart);
+
+    /**
+     * 롤업 합계
+     */
+    record RollupTotals(
+        double pm10Sum, long pm10Count,
+        double pm25Sum, long pm25Count,
+        double khaiSum, long khaiCount,
+        long goodCount, long moderateCount, long unhealthyCount,
+        long sampleCount
+    ) {
+        public static final RollupTotals EMPTY = new RollupTotals(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        public RollupTotals plus(RollupTotals other) {
+            return new RollupTotals(
+                pm10Sum + other.pm10Sum, pm10Count + other.pm10Count,
+                pm25Sum + other.pm25Sum, pm25Count + other.pm25Count,
+                khaiSum + other.khaiSum, khaiCount + other.khaiCount,
+                goodCount + other.goodCount, moderateCount + other.moderateCount,
+                unhealthyCount + other.unhealthyCount,
+                sampleCount + other.sampleCount
+            );
+        }
+    }
+}
@@ -28,6 +28,7 @@ public class AirQualityBatchService implements AirQualityBatchUseCase {
 
     private final AirQualityApiClient apiClient;
     private final AirQualityRepository repository;
+    private final AirQualityRollupService rollupService;
 
     @Override
     public AirQualityBatchResult processRealTimeBatch() {
@@ -103,6 +104,9 @@ public class AirQualityBatchService implements AirQualityBatchUseCase {
             if (!airQualitiesToSave.isEmpty())
                 repository.saveAll(airQualitiesToSave);
 
+            // 4. 저장/갱신한 측정값이 속한 시간·일 단위 롤업 갱신
+            rollupService.refresh(airQualitiesToSave);
+
             log.info("대기질 정보 매시 배치 처리 완료 - 조회: {}, 저장: {}, 업데이트: {}, 스킵: {}",
                     totalFetched, totalSaved, totalUpdated, totalSkipped);
 
@@ -119,9 +123,10 @@ public class AirQualityBatchService implements AirQualityBatchUseCase {
     public int cleanupOldData(int retentionDays) {
         LocalDateTime cutoffDateTime = LocalDateTime.now().minusDays(retentionDays);
         int deletedCount = repository.deleteOldData(cutoffDateTime);
+        int deletedRollupCount = rollupService.deleteBefore(cutoffDateTime);
 
-        log.info("대기질 보관 정리 완료 - 보관 기간: {}일, 삭제: {}건, 기준 시각: {}",
-                retentionDays, deletedCount, cutoffDateTime);
+        log.info("대기질 보관 정리 완료 - 보관 기간: {}일, 삭제: {}건, 롤업 삭제: {}건, 기준 시각: {}",
+                retentionDays, deletedCount, deletedRollupCount, cutoffDateTime);
         return deletedCount;
     }
 
@@ -2,8 +2,12 @@ package com.seoulfit.backend.publicdata.env.application.service;
 
 import com.seoulfit.backend.publicdata.env.application.port.in.AirQualityQueryUseCase;
 import com.seoulfit.backend.publicdata.env.application.port.out.AirQualityRepository;
+import com.seoulfit.backend.publicdata.env.application.port.out.AirQualityRollupRepository;
+import com.seoulfit.backend.publicdata.env.application.port.out.AirQualityRollupRepository.RollupTotals;
 import com.seoulfit.backend.publicdata.env.domain.AirQuality;
+import com.seoulfit.backend.publicdata.env.domain.AirQualityRollup;
 import com.seoulfit.backend.publicdata.env.domain.AirQualityStatus;
+import com.seoulfit.backend.publicdata.env.domain.RollupGranularity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +28,7 @@ import java.util.Optional;
 public class AirQualityQueryService implements AirQualityQueryUseCase {
 
     private final AirQualityRepository repository;
+    private final AirQualityRollupRepository rollupRepository;
 
     @Override
     public List<AirQuality> getLatestAirQuality() {
@@ -64,7 +69,37 @@ public class AirQualityQueryService implements AirQualityQueryUseCase {
     @Override
     public AirQualityStatistics getAirQualityStatistics(LocalDateTime startTime, LocalDateTime endTime) {
         log.debug("대기질 통계 정보 조회: {} ~ {}", startTime, endTime);
-        return repository.getStatistics(startTime, endTime);
+
+        // 측정값은 정시 기준이므로 [startTime, endTime]에 속하는 시간 구간으로 변환
+        LocalDateTime from = ceil(RollupGranularity.HOURLY, startTime);
+        LocalDateTime to = RollupGranularity.HOURLY.nextBucket(RollupGranularity.HOURLY.bucketStart(endTime));
+
+        // 온전한 날짜는 일 단위 롤업, 앞뒤 남는 시간은 시간 단위 롤업에서 합산
+        RollupTotals totals;
+        LocalDateTime fullDayFrom = ceil(RollupGranularity.DAILY, from);
+        LocalDateTime fullDayTo = RollupGranularity.DAILY.bucketStart(to);
+        if (fullDayFrom.isBefore(fullDayTo)) {
+            totals = rollupRepository.sumTotals(RollupGranularity.HOURLY, from, fullDayFrom)
+                    .plus(rollupRepository.sumTotals(RollupGranularity.DAILY, fullDayFrom, fullDayTo))
+                    .plus(rollupRepository.sumTotals(RollupGranularity.HOURLY, fullDayTo, to));
+        } else {
+            totals = rollupRepository.sumTotals(RollupGranularity.HOURLY, from, to);
+        }
+
+        return new AirQualityStatistics(
+            average(totals.pm10Sum(), totals.pm10Count()),
+            average(totals.pm25Sum(), totals.pm25Count()),
+            average(totals.khaiSum(), totals.khaiCount()),
+            totals.goodCount(), totals.moderateCount(), totals.unhealthyCount(),
+            totals.sampleCount(), LocalDateTime.now()
+        );
+    }
+
+    @Override
+    public List<AirQualityRollup> getAirQualityRollups(String stationName, RollupGranularity granularity,
+                                                       LocalDateTime startTime, LocalDateTime endTime) {
+        log.debug("대기질 추이 롤업 조회: {} {} {} ~ {}", stationName, granularity, startTime, endTime);
+        return rollupRepository.findByStations(granularity, List.of(stationName), startTime, endTime);
     }
 
     /**
@@ -128,6 +163,15 @@ public class AirQualityQueryService implements AirQualityQueryUseCase {
         );
     }
 
+    private static LocalDateTime ceil(RollupGranularity granularity, LocalDateTime dateTime) {
+        LocalDateTime bucketStart = granularity.bucketStart(dateTime);
+        return bucketStart.equals(dateTime) ? bucketStart : granularity.nextBucket(bucketStart);
+    }
+
+    private static double average(double sum, long count) {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
     /**
      * 대기질 현황 요약
      */
@@ -0,0 +1,163 @@
+package com.seoulfit.backend.publicdata.env.application.service;
+
+import com.seoulfit.backend.publicdata.env.application.port.out.AirQualityRepository;
+import com.seoulfit.backend.publicdata.env.application.port.out.AirQualityRollupRepository;
+import com.seoulfit.backend.publicdata.env.domain.AirQuality;
+import com.seoulfit.backend.publicdata.env.domain.AirQualityRollup;
+import com.seoulfit.backend.publicdata.env.domain.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 대기질 롤업 갱신 서비스
+ *
+ * 실시간 배치가 저장/갱신한 측정값이 속한 구간만 다시 집계합니다.
+ *
+ * 1. 시간 단위: 해당 측정소·시간 구간의 원본 측정값으로 재집계
+ * 2. 일 단위: 같은 날의 시간 단위 롤업(최대 24건)을 합쳐 재집계
+ *
+ * 구간 전체를 다시 계산하므로 같은 측정값이 다시 들어와 갱신되어도 중복 집계되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AirQualityRollupService {
+
+    private final AirQualityRepository airQualityRepository;
+    private final AirQualityRollupRepository rollupRepository;
+
+    /**
+     * 측정값이 속한 시간/일 단위 롤업 갱신
+     *
+     * @param measurements 이번 배치에서 저장 또는 갱신한 측정값
+     * @return 갱신한 롤업 건수
+     */
+    public RollupResult refresh(Collection<AirQuality> measurements) {
+        if (measurements.isEmpty()) {
+            return new RollupResult(0, 0);
+        }
+
+        Set<String> stationNames = new TreeSet<>();
+        Set<BucketKey> hourlyKeys = new TreeSet<>();
+        Set<BucketKey> dailyKeys = new TreeSet<>();
+        for (AirQuality measurement : measurements) {
+            stationNames.add(measurement.getMsrSteNm());
+            hourlyKeys.add(BucketKey.of(RollupGranularity.HOURLY, measurement));
+            dailyKeys.add(BucketKey.of(RollupGranularity.DAILY, measurement));
+        }
+
+        // 1. 시간 단위: 원본 측정값 재집계
+        LocalDateTime hourFrom = first(hourlyKeys);
+        LocalDateTime hourTo = RollupGranularity.HOURLY.nextBucket(last(hourlyKeys));
+        Map<BucketKey, List<AirQuality>> measurementsByHour = new HashMap<>();
+        for (AirQuality measurement : airQualityRepository.findByStationsAndPeriod(stationNames, hourFrom, hourTo)) {
+            measurementsByHour.computeIfAbsent(BucketKey.of(RollupGranularity.HOURLY, measurement),
+                    key -> new ArrayList<>()).add(measurement);
+        }
+        List<AirQualityRollup> hourly = new ArrayList<>(hourlyKeys.size());
+        for (BucketKey key : hourlyKeys) {
+            hourly.add(AirQualityRollup.fromMeasurements(RollupGranularity.HOURLY, key.stationName(),
+                    key.bucketStart(), measurementsByHour.getOrDefault(key, List.of())));
+        }
+        upsert(RollupGranularity.HOURLY, stationNames, hourFrom, hourTo, hourly);
+
+        // 2. 일 단위: 같은 날의 시간 단위 롤업 합산
+        LocalDateTime dayFrom = first(dailyKeys);
+        LocalDateTime dayTo = RollupGranularity.DAILY.nextBucket(last(dailyKeys));
+        Map<BucketKey, List<AirQualityRollup>> hourlyByDay = new HashMap<>();
+        for (AirQualityRollup rollup : rollupRepository.findByStations(
+                RollupGranularity.HOURLY, stationNames, dayFrom, dayTo)) {
+            BucketKey dayKey = new BucketKey(rollup.getStationName(),
+                    RollupGranularity.DAILY.bucketStart(rollup.getBucketStart()));
+            hourlyByDay.computeIfAbsent(dayKey, key -> new ArrayList<>()).add(rollup);
+        }
+        List<AirQualityRollup> daily = new ArrayList<>(dailyKeys.size());
+        for (BucketKey key : dailyKeys) {
+            daily.add(AirQualityRollup.fromRollups(RollupGranularity.DAILY, key.stationName(),
+                    key.bucketStart(), hourlyByDay.getOrDefault(key, List.of())));
+        }
+        upsert(RollupGranularity.DAILY, stationNames, dayFrom, dayTo, daily);
+
+        RollupResult result = new RollupResult(hourly.size(), daily.size());
+        log.debug("대기질 롤업 갱신 완료: {}", result);
+        return result;
+    }
+
+    /**
+     * 보관 기간이 지난 시간/일 단위 롤업 삭제
+     *
+     * 구간 전체가 기준 시각 이전인 롤업만 삭제하고, 기준 시각이 걸친 구간은 남깁니다.
+     *
+     * @param cutoffDateTime 원본 측정값 보관 기준 시각
+     * @return 삭제한 롤업 건수
+     */
+    public int deleteBefore(LocalDateTime cutoffDateTime) {
+        int deletedCount = 0;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            deletedCount += rollupRepository.deleteBefore(granularity, granularity.bucketStart(cutoffDateTime));
+        }
+        return deletedCount;
+    }
+
+    private void upsert(RollupGranularity granularity, Set<String> stationNames,
+                        LocalDateTime startTime, LocalDateTime endTime, List<AirQualityRollup> recomputed) {
+        Map<BucketKey, AirQualityRollup> existing = new HashMap<>();
+        for (AirQualityRollup rollup : rollupRepository.findByStations(granularity, stationNames, startTime, endTime)) {
+            existing.put(new BucketKey(rollup.getStationName(), rollup.getBucketStart()), rollup);
+        }
+
+        List<AirQualityRollup> toSave = new ArrayList<>(recomputed.size());
+        for (AirQualityRollup rollup : recomputed) {
+            AirQualityRollup current = existing.get(new BucketKey(rollup.getStationName(), rollup.getBucketStart()));
+            if (current != null) {
+                current.refreshFrom(rollup);
+                toSave.add(current);
+            } else {
+                toSave.add(rollup);
+            }
+        }
+        rollupRepository.saveAll(toSave);
+    }
+
+    private static LocalDateTime first(Set<BucketKey> keys) {
+        return keys.stream().map(BucketKey::bucketStart).min(LocalDateTime::compareTo).orElseThrow();
+    }
+
+    private static LocalDateTime last(Set<BucketKey> keys) {
+        return keys.stream().map(BucketKey::bucketStart).max(LocalDateTime::compareTo).orElseThrow();
+    }
+
+    /**
+     * 롤업 갱신 결과
+     *
+     * @param hourlyBuckets 갱신한 시간 단위 구간 수
+     * @param dailyBuckets 갱신한 일 단위 구간 수
+     */
+    public record RollupResult(int hourlyBuckets, int dailyBuckets) {
+    }
+
+    private record BucketKey(String stationName, LocalDateTime bucketStart) implements Comparable<BucketKey> {
+
+        static BucketKey of(RollupGranularity granularity, AirQuality measurement) {
+            return new BucketKey(measurement.getMsrSteNm(), granularity.bucketStart(measurement.getMsrDt()));
+        }
+
+        @Override
+        public int compareTo(BucketKey other) {
+            int compared = bucketStart.compareTo(other.bucketStart);
+            return compared != 0 ? compared : stationName.compareTo(other.stationName);
+        }
+    }
+}
@@ -17,7 +17,9 @@ import java.time.LocalDateTime;
  * 서울시 공공 데이터 API에서 제공하는 대기질 정보를 저장
  */
 @Entity
-@Table(name = "air_quality")
+@Table(name = "air_quality", indexes = {
+    @Index(name = "idx_air_quality_station_time", columnList = "msr_ste_nm, msr_dt")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
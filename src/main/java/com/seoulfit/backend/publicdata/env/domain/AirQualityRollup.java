@@ -0,0 +1,192 @@
+package com.seoulfit.backend.publicdata.env.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 측정소별 대기질 시간/일 단위 롤업
+ *
+ * 실시간 배치가 저장한 측정값으로 시간 단위 구간을 다시 집계하고,
+ * 같은 날의 시간 단위 롤업을 합쳐 일 단위 구간을 갱신합니다.
+ * 추이 차트와 기간 통계는 원본 측정값 대신 이 테이블을 읽습니다.
+ */
+@Entity
+@Table(name = "air_quality_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_air_quality_rollup",
+                columnNames = {"granularity", "station_name", "bucket_start"}),
+        indexes = @Index(name = "idx_air_quality_rollup_granularity_bucket",
+                columnList = "granularity, bucket_start"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AirQualityRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Comment("집계 단위")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 10, nullable = false)
+    private RollupGranularity granularity;
+
+    @Comment("측정소 명")
+    @Column(name = "station_name", length = 100, nullable = false)
+    private String stationName;
+
+    @Comment("측정소 지역명")
+    @Column(name = "region_name", length = 100)
+    private String regionName;
+
+    @Comment("구간 시작 시각")
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Comment("구간 내 측정 건수")
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "pm10_min")),
+            @AttributeOverride(name = "max", column = @Column(name = "pm10_max")),
+            @AttributeOverride(name = "sum", column = @Column(name = "pm10_sum", nullable = false)),
+            @AttributeOverride(name = "count", column = @Column(name = "pm10_count", nullable = false))
+    })
+    private MetricRollup pm10;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "pm25_min")),
+            @AttributeOverride(name = "max", column = @Column(name = "pm25_max")),
+            @AttributeOverride(name = "sum", column = @Column(name = "pm25_sum", nullable = false)),
+            @AttributeOverride(name = "count", column = @Column(name = "pm25_count", nullable = false))
+    })
+    private MetricRollup pm25;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "o3_min")),
+            @AttributeOverride(name = "max", column = @Column(name = "o3_max")),
+            @AttributeOverride(name = "sum", column = @Column(name = "o3_sum", nullable = false)),
+            @AttributeOverride(name = "count", column = @Column(name = "o3_count", nullable = false))
+    })
+    private MetricRollup o3;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "khai_min")),
+            @AttributeOverride(name = "max", column = @Column(name = "khai_max")),
+            @AttributeOverride(name = "sum", column = @Column(name = "khai_sum", nullable = false)),
+            @AttributeOverride(name = "count", column = @Column(name = "khai_count", nullable = false))
+    })
+    private MetricRollup khai;
+
+    @Comment("통합대기환경지수 좋음(0~50) 건수")
+    @Column(name = "good_count", nullable = false)
+    private long goodCount;
+
+    @Comment("통합대기환경지수 보통(51~100) 건수")
+    @Column(name = "moderate_count", nullable = false)
+    private long moderateCount;
+
+    @Comment("통합대기환경지수 나쁨 이상(101~) 건수")
+    @Column(name = "unhealthy_count", nullable = false)
+    private long unhealthyCount;
+
+    @Comment("집계 갱신 일시")
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    private AirQualityRollup(RollupGranularity granularity, String stationName, LocalDateTime bucketStart) {
+        this.granularity = granularity;
+        this.stationName = stationName;
+        this.bucketStart = bucketStart;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 원본 측정값으로 구간 집계
+     */
+    public static AirQualityRollup fromMeasurements(RollupGranularity granularity, String stationName,
+                                                    LocalDateTime bucketStart, Collection<AirQuality> measurements) {
+        AirQualityRollup rollup = new AirQualityRollup(granularity, stationName, bucketStart);
+        rollup.regionName = measurements.stream()
+                .map(AirQuality::getMsrRgnNm)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        rollup.sampleCount = measurements.size();
+        rollup.pm10 = MetricRollup.of(values(measurements, AirQuality::getPm10Value));
+        rollup.pm25 = MetricRollup.of(values(measurements, AirQuality::getPm25Value));
+        rollup.o3 = MetricRollup.of(values(measurements, AirQuality::getO3Value));
+        rollup.khai = MetricRollup.of(values(measurements, AirQuality::getKhaiValue));
+        for (AirQuality measurement : measurements) {
+            Integer khaiValue = measurement.getKhaiValue();
+            if (khaiValue == null) {
+                continue;
+            }
+            if (khaiValue <= 50) {
+                rollup.goodCount++;
+            } else if (khaiValue <= 100) {
+                rollup.moderateCount++;
+            } else {
+                rollup.unhealthyCount++;
+            }
+        }
+        return rollup;
+    }
+
+    /**
+     * 하위 구간 롤업을 합쳐 상위 구간 집계 (예: 시간 단위 → 일 단위)
+     */
+    public static AirQualityRollup fromRollups(RollupGranularity granularity, String stationName,
+                                               LocalDateTime bucketStart, Collection<AirQualityRollup> parts) {
+        AirQualityRollup rollup = new AirQualityRollup(granularity, stationName, bucketStart);
+        rollup.regionName = parts.stream()
+                .map(AirQualityRollup::getRegionName)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        rollup.pm10 = MetricRollup.merge(parts.stream().map(AirQualityRollup::getPm10).toList());
+        rollup.pm25 = MetricRollup.merge(parts.stream().map(AirQualityRollup::getPm25).toList());
+        rollup.o3 = MetricRollup.merge(parts.stream().map(AirQualityRollup::getO3).toList());
+        rollup.khai = MetricRollup.merge(parts.stream().map(AirQualityRollup::getKhai).toList());
+        for (AirQualityRollup part : parts) {
+            rollup.sampleCount += part.sampleCount;
+            rollup.goodCount += part.goodCount;
+            rollup.moderateCount += part.moderateCount;
+            rollup.unhealthyCount += part.unhealthyCount;
+        }
+        return rollup;
+    }
+
+    /**
+     * 다시 계산한 집계 값으로 갱신
+     */
+    public void refreshFrom(AirQualityRollup recomputed) {
+        this.regionName = recomputed.regionName;
+        this.sampleCount = recomputed.sampleCount;
+        this.pm10 = recomputed.pm10;
+        this.pm25 = recomputed.pm25;
+        this.o3 = recomputed.o3;
+        this.khai = recomputed.khai;
+        this.goodCount = recomputed.goodCount;
+        this.moderateCount = recomputed.moderateCount;
+        this.unhealthyCount = recomputed.unhealthyCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    private static List<Number> values(Collection<AirQuality> measurements,
+                                       Function<AirQuality, ? extends Number> getter) {
+        return measurements.stream().<Number>map(getter).toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.seoulfit.backend.publicdata.env.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * 측정 항목 하나의 구간 집계 (최소/최대/합계/건수)
+ *
+ * 평균 대신 합계와 건수를 저장하여 시간 단위 집계를 일 단위나 임의 기간으로 정확히 합칠 수 있습니다.
+ * 측정값이 없는(null) 행은 집계에서 제외합니다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MetricRollup {
+
+    @Column(name = "min_value")
+    private Double min;
+
+    @Column(name = "max_value")
+    private Double max;
+
+    @Column(name = "sum_value", nullable = false)
+    private double sum;
+
+    @Column(name = "value_count", nullable = false)
+    private long count;
+
+    private MetricRollup(Double min, Double max, double sum, long count) {
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+        this.count = count;
+    }
+
+    /**
+     * 측정값 목록으로 집계
+     */
+    public static MetricRollup of(Collection<? extends Number> values) {
+        Double min = null;
+        Double max = null;
+        double sum = 0;
+        long count = 0;
+        for (Number value : values) {
+            if (value == null) {
+                continue;
+            }
+            double v = value.doubleValue();
+            min = min == null ? v : Math.min(min, v);
+            max = max == null ? v : Math.max(max, v);
+            sum += v;
+            count++;
+        }
+        return new MetricRollup(min, max, sum, count);
+    }
+
+    /**
+     * 하위 구간 집계를 합침
+     */
+    public static MetricRollup merge(Collection<MetricRollup> parts) {
+        Double min = null;
+        Double max = null;
+        double sum = 0;
+        long count = 0;
+        for (MetricRollup part : parts) {
+            if (part == null || part.count == 0) {
+                continue;
+            }
+            min = min == null ? part.min : Math.min(min, part.min);
+            max = max == null ? part.max : Math.max(max, part.max);
+            sum += part.sum;
+            count += part.count;
+        }
+        return new MetricRollup(min, max, sum, count);
+    }
+
+    /**
+     * 평균 (측정값이 없으면 null)
+     */
+    public Double getAvg() {
+        return count == 0 ? null : sum / count;
+    }
+}
@@ -0,0 +1,33 @@
+package com.seoulfit.backend.publicdata.env.domain;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 대기질 롤업 집계 단위
+ */
+public enum RollupGranularity {
+
+    HOURLY(ChronoUnit.HOURS),
+    DAILY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * 시각이 속한 구간의 시작 시각
+     */
+    public LocalDateTime bucketStart(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(unit);
+    }
+
+    /**
+     * 다음 구간의 시작 시각
+     */
+    public LocalDateTime nextBucket(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+}
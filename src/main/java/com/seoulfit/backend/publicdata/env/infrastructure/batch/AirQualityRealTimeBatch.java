@@ -1,6 +1,8 @@
 package com.seoulfit.backend.publicdata.env.infrastructure.batch;
 
 import com.seoulfit.backend.publicdata.env.application.port.in.AirQualityBatchUseCase;
+import com.seoulfit.backend.shared.metrics.BatchMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -19,7 +21,10 @@ import java.time.format.DateTimeFormatter;
 @ConditionalOnProperty(name = "seoulfit.scheduler.enabled", havingValue = "true", matchIfMissing = true)
 public class AirQualityRealTimeBatch {
 
+    private static final String BATCH_NAME = "air-quality-realtime";
+
     private final AirQualityBatchUseCase airQualityBatchUseCase;
+    private final BatchMetrics batchMetrics;
 
     @Scheduled(cron = "${seoulfit.scheduler.env-realtime-cron}")
     public void executeRealTimeBatch() {
@@ -28,12 +33,18 @@ public class AirQualityRealTimeBatch {
         
         log.info("=== 서울시 대기질 정보 매시 배치 시작 ===");
         log.info("배치 실행 시간: {}", currentTime);
+        Timer.Sample sample = batchMetrics.start();
 
         try {
             AirQualityBatchUseCase.AirQualityBatchResult result = 
                 airQualityBatchUseCase.processRealTimeBatch();
 
             if (result.success()) {
+                batchMetrics.recordRows(BATCH_NAME, BatchMetrics.FETCHED, result.totalFetched());
+                batchMetrics.recordRows(BATCH_NAME, BatchMetrics.SAVED, result.totalSaved());
+                batchMetrics.recordRows(BATCH_NAME, BatchMetrics.UPDATED, result.totalUpdated());
+                batchMetrics.recordRows(BATCH_NAME, BatchMetrics.SKIPPED, result.totalSkipped());
+                batchMetrics.recordSuccess(BATCH_NAME, sample);
                 log.info("=== 서울시 대기질 정보 매시 배치 성공 ===");
                 log.info("처리 결과 - 조회: {}, 저장: {}, 업데이트: {}, 스킵: {}", 
                     result.totalFetched(), result.totalSaved(), 
@@ -45,11 +56,13 @@ public class AirQualityRealTimeBatch {
                     // TODO: 이벤트 발행하여 알림 시스템에 전달
                 }
             } else {
+                batchMetrics.recordFailure(BATCH_NAME, sample);
                 log.error("=== 서울시 대기질 정보 매시 배치 실패 ===");
                 log.error("실패 사유: {}", result.errorMessage());
             }
 
         } catch (Exception e) {
+            batchMetrics.recordFailure(BATCH_NAME, sample);
             log.error("=== 서울시 대기질 정보 매시 배치 예외 발생 ===", e);
         }
     }
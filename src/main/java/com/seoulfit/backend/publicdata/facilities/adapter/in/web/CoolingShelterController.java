@@ -1,8 +1,13 @@
 package com.seoulfit.backend.publicdata.facilities.adapter.in.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoulfit.backend.location.domain.PoiCard;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.facilities.adapter.in.web.dto.CoolingCenterResponse;
 import com.seoulfit.backend.publicdata.facilities.application.port.in.query.QueryCoolingCenterUseCase;
 import com.seoulfit.backend.publicdata.facilities.domain.CoolingCenter;
+import com.seoulfit.backend.shared.web.JsonArrayStreamWriter;
+import com.seoulfit.backend.shared.web.ResponseSnapshotCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,11 +17,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -31,6 +39,8 @@ import java.util.List;
 @Slf4j
 public class CoolingShelterController {
     private final QueryCoolingCenterUseCase queryCoolingCenterUseCase;
+    private final ResponseSnapshotCache responseSnapshotCache;
+    private final ObjectMapper objectMapper;
 
     @Operation(
         summary = "무더위쉼터 전체 조회", 
@@ -48,15 +58,17 @@ public class CoolingShelterController {
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/all")
-    public ResponseEntity<List<CoolingCenterResponse>> getAllCoolingCenters() {
+    public ResponseEntity<byte[]> getAllCoolingCenters(WebRequest webRequest) {
         log.info("무더위쉼터 전체 조회 요청");
         
         try {
-            List<CoolingCenter> centers = queryCoolingCenterUseCase.getAllCoolingCenter();
-            List<CoolingCenterResponse> response = CoolingCenterResponse.from(centers);
-            
-            log.info("무더위쉼터 {} 개 조회 완료", response.size());
-            return ResponseEntity.ok(response);
+            return responseSnapshotCache.respond(PoiType.COOLING_CENTERS.name(), webRequest, () -> {
+                List<CoolingCenter> centers = queryCoolingCenterUseCase.getAllCoolingCenter();
+                List<CoolingCenterResponse> response = CoolingCenterResponse.from(centers);
+
+                log.info("무더위쉼터 {} 개 조회 완료", response.size());
+                return response;
+            });
         } catch (Exception e) {
             log.error("무더위쉼터 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError().build();
@@ -99,4 +111,52 @@ public class CoolingShelterController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    @Operation(
+        summary = "근처 무더위쉼터 지도 카드 조회",
+        description = "지정된 위도, 경도 기준 반경 2km 내 무더위쉼터의 지도 카드 정보(ID, 이름, 좌표, 분류, 짧은 주소)만 조회합니다."
+    )
+    @GetMapping("/nearby/cards")
+    public ResponseEntity<List<PoiCard>> getCoolingCenterCardsNearby(
+            @Parameter(description = "위도", example = "37.5665", required = true)
+            @RequestParam String latitude,
+            @Parameter(description = "경도", example = "126.9780", required = true)
+            @RequestParam String longitude
+    ) {
+        log.info("근처 무더위쉼터 카드 조회 요청 - 위도: {}, 경도: {}", latitude, longitude);
+
+        try {
+            List<PoiCard> response = queryCoolingCenterUseCase.getCoolingCenterCardsByLatitudeAndLongitude(latitude, longitude);
+
+            log.info("근처 무더위쉼터 카드 {} 개 조회 완료", response.size());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("근처 무더위쉼터 카드 조회 중 오류 발생", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @Operation(
+        summary = "무더위쉼터 전체 내보내기",
+        description = "서울시 모든 무더위쉼터 정보를 목록으로 모으지 않고 DB에서 읽는 대로 JSON 배열로 스트리밍합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCoolingCenters() {
+        log.info("무더위쉼터 내보내기 요청");
+
+        StreamingResponseBody body = output -> {
+            try (JsonArrayStreamWriter writer = JsonArrayStreamWriter.open(objectMapper, output)) {
+                queryCoolingCenterUseCase.exportAllCoolingCenter(center -> writer.write(CoolingCenterResponse.from(center)));
+                writer.finish();
+                log.info("무더위쉼터 {} 개 내보내기 완료", writer.count());
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
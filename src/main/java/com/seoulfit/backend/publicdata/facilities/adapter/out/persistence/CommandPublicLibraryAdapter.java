@@ -5,6 +5,7 @@ import com.seoulfit.backend.publicdata.facilities.domain.Library;
 import com.seoulfit.backend.publicdata.facilities.application.port.out.CommandPublicLibraryPort;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -23,6 +24,9 @@ public class CommandPublicLibraryAdapter implements CommandPublicLibraryPort {
 
     @Override
     public void truncate() {
-        entityManager.createNativeQuery("TRUNCATE libraries").executeUpdate();
+        entityManager.createNativeQuery("TRUNCATE libraries")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Library.class)
+                .executeUpdate();
     }
 }
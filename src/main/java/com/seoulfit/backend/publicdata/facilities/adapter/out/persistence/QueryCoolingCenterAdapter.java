@@ -1,17 +1,24 @@
 package com.seoulfit.backend.publicdata.facilities.adapter.out.persistence;
 
+import com.seoulfit.backend.location.domain.PoiCard;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository.CoolingCenterRepository;
 import com.seoulfit.backend.publicdata.facilities.application.port.out.query.QueryCoolingCenterPort;
 import com.seoulfit.backend.publicdata.facilities.domain.CoolingCenter;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Repository
 public class QueryCoolingCenterAdapter implements QueryCoolingCenterPort {
     private final CoolingCenterRepository coolingCenterRepository;
+    private final EntityManager entityManager;
 
     @Override
     public List<CoolingCenter> queryCoolingCenter() {
@@ -23,4 +30,27 @@ public class QueryCoolingCenterAdapter implements QueryCoolingCenterPort {
         double radiusKm = 2.0;
         return coolingCenterRepository.findByLocationWithinRadius(latitude, longitude, radiusKm);
     }
+
+    @Override
+    public List<PoiCard> queryCoolingCenterCardLocation(double latitude, double longitude) {
+        double radiusKm = 2.0;
+        return coolingCenterRepository.findCardsWithinRadius(latitude, longitude, radiusKm).stream()
+                .map(view -> PoiCard.of(PoiType.COOLING_CENTERS, view))
+                .toList();
+    }
+
+    @Override
+    public long forEachCoolingCenter(Consumer<CoolingCenter> action) {
+        long count = 0;
+        try (Stream<CoolingCenter> stream = coolingCenterRepository.streamAll()) {
+            Iterator<CoolingCenter> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                CoolingCenter center = iterator.next();
+                action.accept(center);
+                entityManager.detach(center);
+                count++;
+            }
+        }
+        return count;
+    }
 }
@@ -1,17 +1,24 @@
 package com.seoulfit.backend.publicdata.facilities.adapter.out.persistence;
 
+import com.seoulfit.backend.location.domain.PoiCard;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository.LibraryRepository;
 import com.seoulfit.backend.publicdata.facilities.application.port.out.query.QueryLibraryPort;
 import com.seoulfit.backend.publicdata.facilities.domain.Library;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Repository
 public class QueryLibraryAdapter implements QueryLibraryPort  {
     private final LibraryRepository libraryRepository;
+    private final EntityManager entityManager;
 
     @Override
     public List<Library> queryLibrary() {
@@ -24,4 +31,27 @@ public class QueryLibraryAdapter implements QueryLibraryPort  {
         return libraryRepository.findByLocationWithinRadius(latitude, longitude, radiusKm);
     }
 
+    @Override
+    public List<PoiCard> queryLibraryCardLocation(double latitude, double longitude) {
+        double radiusKm = 2.0;
+        return libraryRepository.findCardsWithinRadius(latitude, longitude, radiusKm).stream()
+                .map(view -> PoiCard.of(PoiType.LIBRARIES, view))
+                .toList();
+    }
+
+    @Override
+    public long forEachLibrary(Consumer<Library> action) {
+        long count = 0;
+        try (Stream<Library> stream = libraryRepository.streamAll()) {
+            Iterator<Library> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                Library library = iterator.next();
+                action.accept(library);
+                entityManager.detach(library);
+                count++;
+            }
+        }
+        return count;
+    }
+
 }
@@ -6,6 +6,7 @@ import com.seoulfit.backend.publicdata.facilities.domain.CoolingCenter;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -25,6 +26,9 @@ public class SaveCoolingShelterAdapter implements CommandCoolingShelterPort {
 
     @Override
     public void truncate() {
-        entityManager.createNativeQuery("TRUNCATE TABLE cooling_centers").executeUpdate();
+        entityManager.createNativeQuery("TRUNCATE TABLE cooling_centers")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(CoolingCenter.class)
+                .executeUpdate();
     }
 }
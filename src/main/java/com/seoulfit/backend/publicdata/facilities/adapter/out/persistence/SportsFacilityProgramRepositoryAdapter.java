@@ -5,8 +5,14 @@ import com.seoulfit.backend.publicdata.facilities.application.port.out.SportsFac
 import com.seoulfit.backend.publicdata.facilities.domain.SportsFacilityProgram;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +25,33 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class SportsFacilityProgramRepositoryAdapter implements SportsFacilityProgramRepository {
 
+    private static final String UPDATE_SQL =
+            "UPDATE sports_facility_programs SET " +
+            "center_name = ?, ground_name = ?, program_name = ?, subject_name = ?, " +
+            "place = ?, address = ?, homepage = ?, parking_side = ?, " +
+            "tel = ?, fax = ?, email = ?, class_name = ?, " +
+            "p_level = ?, target = ?, term = ?, week = ?, " +
+            "class_time = ?, fee = ?, intro = ?, capacity = ?, " +
+            "enter_way = ?, enter_term = ?, select_way = ?, online_link = ?, " +
+            "use_yn = ?, class_start_date = ?, class_end_date = ?, fee_free = ?, " +
+            "data_date = ?, updated_at = ? " +
+            "WHERE program_key = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO sports_facility_programs (" +
+            "program_key, center_name, ground_name, program_name, subject_name, place, " +
+            "address, homepage, parking_side, tel, fax, email, " +
+            "class_name, p_level, target, term, week, class_time, " +
+            "fee, intro, capacity, enter_way, enter_term, select_way, " +
+            "online_link, use_yn, class_start_date, class_end_date, fee_free, data_date, " +
+            "created_at, updated_at" +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_NOT_SEEN_SQL =
+            "DELETE FROM sports_facility_programs WHERE updated_at IS NULL OR updated_at < ?";
+
     private final SportsFacilityProgramJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public SportsFacilityProgram save(SportsFacilityProgram program) {
@@ -34,6 +66,47 @@ public class SportsFacilityProgramRepositoryAdapter implements SportsFacilityPro
         return jpaRepository.saveAll(programs);
     }
 
+    @Override
+    public UpsertResult upsertAll(List<SportsFacilityProgram> programs, LocalDateTime seenAt) {
+        if (programs.isEmpty()) {
+            return new UpsertResult(0, 0);
+        }
+        Timestamp seenAtTimestamp = Timestamp.valueOf(seenAt);
+
+        // 1. 자연키로 기존 행 갱신
+        int[][] updateCounts = jdbcTemplate.batchUpdate(UPDATE_SQL, programs, programs.size(), (ps, program) -> {
+            int index = bindColumns(ps, program, 1);
+            ps.setTimestamp(index++, seenAtTimestamp);
+            ps.setString(index, program.getProgramKey());
+        });
+
+        // 2. 갱신되지 않은 행만 신규 저장
+        List<SportsFacilityProgram> missing = new ArrayList<>();
+        int[] counts = updateCounts.length > 0 ? updateCounts[0] : new int[0];
+        for (int i = 0; i < programs.size(); i++) {
+            if (counts[i] == 0) {
+                missing.add(programs.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, missing, missing.size(), (ps, program) -> {
+                ps.setString(1, program.getProgramKey());
+                int index = bindColumns(ps, program, 2);
+                ps.setTimestamp(index++, seenAtTimestamp);
+                ps.setTimestamp(index, seenAtTimestamp);
+            });
+        }
+
+        log.debug("프로그램 정보 일괄 upsert - 신규: {}, 갱신: {}", missing.size(), programs.size() - missing.size());
+        return new UpsertResult(missing.size(), programs.size() - missing.size());
+    }
+
+    @Override
+    public int deleteNotSeenSince(LocalDateTime seenAt) {
+        log.debug("미수집 프로그램 정보 삭제 - 기준 일시: {}", seenAt);
+        return jdbcTemplate.update(DELETE_NOT_SEEN_SQL, Timestamp.valueOf(seenAt));
+    }
+
     @Override
     public Optional<SportsFacilityProgram> findById(Long id) {
         log.debug("프로그램 정보 조회 - ID: {}", id);
@@ -107,4 +180,40 @@ public class SportsFacilityProgramRepositoryAdapter implements SportsFacilityPro
         log.debug("종목별 프로그램 개수 조회 - 날짜: {}", dataDate);
         return jpaRepository.countBySubjectNameAndDataDate(dataDate);
     }
+
+    /**
+     * 프로그램 컬럼(data_date까지)을 순서대로 바인딩하고 다음 파라미터 인덱스를 반환
+     */
+    private int bindColumns(PreparedStatement ps, SportsFacilityProgram program, int index) throws SQLException {
+        ps.setString(index++, program.getCenterName());
+        ps.setString(index++, program.getGroundName());
+        ps.setString(index++, program.getProgramName());
+        ps.setString(index++, program.getSubjectName());
+        ps.setString(index++, program.getPlace());
+        ps.setString(index++, program.getAddress());
+        ps.setString(index++, program.getHomepage());
+        ps.setString(index++, program.getParkingSide());
+        ps.setString(index++, program.getTel());
+        ps.setString(index++, program.getFax());
+        ps.setString(index++, program.getEmail());
+        ps.setString(index++, program.getClassName());
+        ps.setString(index++, program.getPLevel());
+        ps.setString(index++, program.getTarget());
+        ps.setString(index++, program.getTerm());
+        ps.setString(index++, program.getWeek());
+        ps.setString(index++, program.getClassTime());
+        ps.setString(index++, program.getFee());
+        ps.setString(index++, program.getIntro());
+        ps.setString(index++, program.getCapacity());
+        ps.setString(index++, program.getEnterWay());
+        ps.setString(index++, program.getEnterTerm());
+        ps.setString(index++, program.getSelectWay());
+        ps.setString(index++, program.getOnlineLink());
+        ps.setString(index++, program.getUseYn());
+        ps.setString(index++, program.getClassStartDate());
+        ps.setString(index++, program.getClassEndDate());
+        ps.setString(index++, program.getFeeFree());
+        ps.setString(index++, program.getDataDate());
+        return index;
+    }
 }
@@ -1,12 +1,19 @@
 package com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository;
 
+import com.seoulfit.backend.location.domain.PoiCardView;
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.publicdata.facilities.domain.CoolingCenter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 무더위쉼터 레포지토리
@@ -19,6 +26,37 @@ public interface CoolingCenterRepository extends JpaRepository<CoolingCenter, Lo
 
     /**
      * 위치 기반 무더위쉼터 조회 (반경 내)
+     * 
+     * 격자 셀 인덱스로 후보를 좁힌 뒤 정확한 거리로 거르며, 격자로 덮을 수 없는 넓은 반경은 전체 거리 계산으로 조회
+     */
+    default List<CoolingCenter> findByLocationWithinRadius(Double latitude, Double longitude, Double radiusKm) {
+        return GeoGrid.cellsWithin(latitude, longitude, radiusKm)
+                .map(cells -> findByGridCellsWithinRadius(cells, latitude, longitude, radiusKm))
+                .orElseGet(() -> findByDistanceWithinRadius(latitude, longitude, radiusKm));
+    }
+
+    /**
+     * 격자 셀 후보 중 반경 내 무더위쉼터 조회
+     */
+    @Query(value = """
+        SELECT * FROM cooling_centers cc
+        WHERE cc.grid_cell IN (:cells)
+        AND cc.latitude IS NOT NULL 
+        AND cc.longitude IS NOT NULL
+        AND (6371 * acos(cos(radians(:latitude)) * cos(radians(cc.latitude)) 
+            * cos(radians(cc.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(cc.latitude)))) <= :radiusKm
+        ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(cc.latitude)) 
+            * cos(radians(cc.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(cc.latitude))))
+        """, nativeQuery = true)
+    List<CoolingCenter> findByGridCellsWithinRadius(@Param("cells") Collection<Integer> cells,
+                                                    @Param("latitude") Double latitude,
+                                                    @Param("longitude") Double longitude,
+                                                    @Param("radiusKm") Double radiusKm);
+
+    /**
+     * 전체 거리 계산으로 반경 내 무더위쉼터 조회
      */
     @Query(value = """
         SELECT * FROM cooling_centers cc
@@ -31,9 +69,42 @@ public interface CoolingCenterRepository extends JpaRepository<CoolingCenter, Lo
             * cos(radians(cc.longitude) - radians(:longitude)) 
             + sin(radians(:latitude)) * sin(radians(cc.latitude))))
         """, nativeQuery = true)
-    List<CoolingCenter> findByLocationWithinRadius(@Param("latitude") Double latitude, 
-                                                  @Param("longitude") Double longitude, 
-                                                  @Param("radiusKm") Double radiusKm);
+    List<CoolingCenter> findByDistanceWithinRadius(@Param("latitude") Double latitude,
+                                                   @Param("longitude") Double longitude,
+                                                   @Param("radiusKm") Double radiusKm);
+
+    /**
+     * 반경 내 무더위쉼터 지도 카드 조회
+     * 
+     * 카드에 필요한 컬럼만 프로젝션으로 읽으므로 엔티티를 영속성 컨텍스트에 올리지 않음
+     */
+    default List<PoiCardView> findCardsWithinRadius(double latitude, double longitude, double radiusKm) {
+        List<Integer> cells = GeoGrid.cellsWithin(latitude, longitude, radiusKm)
+                .orElseThrow(() -> new IllegalArgumentException("검색 반경은 50km를 초과할 수 없습니다."));
+        return findCardsByGridCellsWithinRadius(cells, latitude, longitude, radiusKm);
+    }
+
+    /**
+     * 격자 셀 후보 중 반경 내 무더위쉼터 지도 카드 조회
+     */
+    @Query(value = """
+        SELECT cc.id AS id, cc.name AS name, cc.latitude AS latitude, cc.longitude AS longitude,
+            cc.facility_type2 AS category, COALESCE(cc.road_address, cc.lot_address) AS address
+        FROM cooling_centers cc
+        WHERE cc.grid_cell IN (:cells)
+        AND cc.latitude IS NOT NULL 
+        AND cc.longitude IS NOT NULL
+        AND (6371 * acos(cos(radians(:latitude)) * cos(radians(cc.latitude)) 
+            * cos(radians(cc.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(cc.latitude)))) <= :radiusKm
+        ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(cc.latitude)) 
+            * cos(radians(cc.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(cc.latitude))))
+        """, nativeQuery = true)
+    List<PoiCardView> findCardsByGridCellsWithinRadius(@Param("cells") Collection<Integer> cells,
+                                                       @Param("latitude") double latitude,
+                                                       @Param("longitude") double longitude,
+                                                       @Param("radiusKm") double radiusKm);
 
     /**
      * 쉼터명으로 검색
@@ -71,4 +142,14 @@ public interface CoolingCenterRepository extends JpaRepository<CoolingCenter, Lo
      */
     @Query("SELECT cc FROM CoolingCenter cc WHERE cc.facilityYear = (SELECT MAX(c.facilityYear) FROM CoolingCenter c)")
     List<CoolingCenter> findLatestYearFacilities();
+
+    /**
+     * 전체 무더위쉼터 스트림 조회 (내보내기용, 트랜잭션 안에서 사용 후 닫아야 함)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT cc FROM CoolingCenter cc ORDER BY cc.id")
+    Stream<CoolingCenter> streamAll();
 }
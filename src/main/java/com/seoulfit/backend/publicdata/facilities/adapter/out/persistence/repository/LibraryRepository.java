@@ -1,12 +1,19 @@
 package com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository;
 
+import com.seoulfit.backend.location.domain.PoiCardView;
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.publicdata.facilities.domain.Library;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 도서관 레포지토리
@@ -19,6 +26,37 @@ public interface LibraryRepository extends JpaRepository<Library, Long> {
 
     /**
      * 위치 기반 도서관 조회 (반경 내)
+     * 
+     * 격자 셀 인덱스로 후보를 좁힌 뒤 정확한 거리로 거르며, 격자로 덮을 수 없는 넓은 반경은 전체 거리 계산으로 조회
+     */
+    default List<Library> findByLocationWithinRadius(Double latitude, Double longitude, Double radiusKm) {
+        return GeoGrid.cellsWithin(latitude, longitude, radiusKm)
+                .map(cells -> findByGridCellsWithinRadius(cells, latitude, longitude, radiusKm))
+                .orElseGet(() -> findByDistanceWithinRadius(latitude, longitude, radiusKm));
+    }
+
+    /**
+     * 격자 셀 후보 중 반경 내 도서관 조회
+     */
+    @Query(value = """
+        SELECT * FROM libraries l
+        WHERE l.grid_cell IN (:cells)
+        AND l.xcnts IS NOT NULL 
+        AND l.ydnts IS NOT NULL
+        AND (6371 * acos(cos(radians(:latitude)) * cos(radians(l.xcnts)) 
+            * cos(radians(l.ydnts) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(l.xcnts)))) <= :radiusKm
+        ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(l.xcnts)) 
+            * cos(radians(l.ydnts) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(l.xcnts))))
+        """, nativeQuery = true)
+    List<Library> findByGridCellsWithinRadius(@Param("cells") Collection<Integer> cells,
+                                              @Param("latitude") Double latitude,
+                                              @Param("longitude") Double longitude,
+                                              @Param("radiusKm") Double radiusKm);
+
+    /**
+     * 전체 거리 계산으로 반경 내 도서관 조회
      */
     @Query(value = """
         SELECT * FROM libraries l
@@ -31,9 +69,42 @@ public interface LibraryRepository extends JpaRepository<Library, Long> {
             * cos(radians(l.ydnts) - radians(:longitude)) 
             + sin(radians(:latitude)) * sin(radians(l.xcnts))))
         """, nativeQuery = true)
-    List<Library> findByLocationWithinRadius(@Param("latitude") Double latitude, 
-                                            @Param("longitude") Double longitude, 
-                                            @Param("radiusKm") Double radiusKm);
+    List<Library> findByDistanceWithinRadius(@Param("latitude") Double latitude,
+                                             @Param("longitude") Double longitude,
+                                             @Param("radiusKm") Double radiusKm);
+
+    /**
+     * 반경 내 도서관 지도 카드 조회
+     * 
+     * 카드에 필요한 컬럼만 프로젝션으로 읽으므로 엔티티를 영속성 컨텍스트에 올리지 않음
+     */
+    default List<PoiCardView> findCardsWithinRadius(double latitude, double longitude, double radiusKm) {
+        List<Integer> cells = GeoGrid.cellsWithin(latitude, longitude, radiusKm)
+                .orElseThrow(() -> new IllegalArgumentException("검색 반경은 50km를 초과할 수 없습니다."));
+        return findCardsByGridCellsWithinRadius(cells, latitude, longitude, radiusKm);
+    }
+
+    /**
+     * 격자 셀 후보 중 반경 내 도서관 지도 카드 조회
+     */
+    @Query(value = """
+        SELECT l.id AS id, l.lbrry_name AS name, l.xcnts AS latitude, l.ydnts AS longitude,
+            l.lbrry_se_name AS category, l.adres AS address
+        FROM libraries l
+        WHERE l.grid_cell IN (:cells)
+        AND l.xcnts IS NOT NULL 
+        AND l.ydnts IS NOT NULL
+        AND (6371 * acos(cos(radians(:latitude)) * cos(radians(l.xcnts)) 
+            * cos(radians(l.ydnts) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(l.xcnts)))) <= :radiusKm
+        ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(l.xcnts)) 
+            * cos(radians(l.ydnts) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(l.xcnts))))
+        """, nativeQuery = true)
+    List<PoiCardView> findCardsByGridCellsWithinRadius(@Param("cells") Collection<Integer> cells,
+                                                       @Param("latitude") double latitude,
+                                                       @Param("longitude") double longitude,
+                                                       @Param("radiusKm") double radiusKm);
 
     /**
      * 구별 도서관 조회
@@ -64,4 +135,14 @@ public interface LibraryRepository extends JpaRepository<Library, Long> {
      */
     @Query("SELECT l FROM Library l WHERE l.xcnts IS NOT NULL AND l.ydnts IS NOT NULL")
     List<Library> findAllWithLocation();
+
+    /**
+     * 전체 도서관 스트림 조회 (내보내기용, 트랜잭션 안에서 사용 후 닫아야 함)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM Library l ORDER BY l.id")
+    Stream<Library> streamAll();
 }
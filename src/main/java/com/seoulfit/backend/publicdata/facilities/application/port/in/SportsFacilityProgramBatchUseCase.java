@@ -8,9 +8,9 @@ public interface SportsFacilityProgramBatchUseCase {
 
     /**
      * 서울시 공공체육시설 프로그램 정보 일일 배치 처리
-     * - API에서 최신 프로그램 정보 조회
-     * - 데이터베이스에 저장 (날짜별)
-     * - 3일 이전 데이터 삭제
+     * - API에서 전체 페이지의 프로그램 정보 조회
+     * - 자연키 기준으로 데이터베이스에 upsert
+     * - 이번 수집에서 확인되지 않은 데이터 삭제 (upsert와 같은 트랜잭션)
      * 
      * @param dataDate 데이터 날짜 (YYYYMMDD 형식)
      * @return 배치 처리 결과
@@ -1,11 +1,22 @@
 package com.seoulfit.backend.publicdata.facilities.application.port.in.query;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.facilities.domain.CoolingCenter;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface QueryCoolingCenterUseCase {
     List<CoolingCenter> getAllCoolingCenter();
 
     List<CoolingCenter> getCoolingCenterByLatitudeAndLongitude(String latitude, String longitude);
+
+    List<PoiCard> getCoolingCenterCardsByLatitudeAndLongitude(String latitude, String longitude);
+
+    /**
+     * 전체 무더위쉼터를 목록으로 모으지 않고 한 건씩 전달
+     *
+     * @return 전달한 무더위쉼터 수
+     */
+    long exportAllCoolingCenter(Consumer<CoolingCenter> action);
 }
@@ -1,12 +1,23 @@
 package com.seoulfit.backend.publicdata.facilities.application.port.in.query;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.facilities.domain.Library;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface QueryLibraryUseCase {
     List<Library> getAllLibrary();
 
     List<Library> getLibraryByLatitudeAndLongitude(String latitude, String longitude);
 
+    List<PoiCard> getLibraryCardsByLatitudeAndLongitude(String latitude, String longitude);
+
+    /**
+     * 전체 도서관을 목록으로 모으지 않고 한 건씩 전달
+     *
+     * @return 전달한 도서관 수
+     */
+    long exportAllLibrary(Consumer<Library> action);
+
 }
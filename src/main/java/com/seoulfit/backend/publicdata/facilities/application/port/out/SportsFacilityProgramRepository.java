@@ -2,6 +2,7 @@ package com.seoulfit.backend.publicdata.facilities.application.port.out;
 
 import com.seoulfit.backend.publicdata.facilities.domain.SportsFacilityProgram;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,22 @@ public interface SportsFacilityProgramRepository {
      */
     List<SportsFacilityProgram> saveAll(List<SportsFacilityProgram> programs);
 
+    /**
+     * 자연키(programKey) 기준으로 프로그램 정보를 일괄 upsert
+     * 영속성 컨텍스트를 거치지 않고 JDBC batch로 저장하며, 저장된 행의 수정 일시는 seenAt으로 기록
+     * @param programs upsert할 프로그램 정보 목록 (programKey 중복 없음)
+     * @param seenAt 이번 수집 시각
+     * @return 신규/갱신 건수
+     */
+    UpsertResult upsertAll(List<SportsFacilityProgram> programs, LocalDateTime seenAt);
+
+    /**
+     * 이번 수집에서 확인되지 않은 프로그램 정보 삭제
+     * @param seenAt 이번 수집 시각 (수정 일시가 이보다 이전인 행을 삭제)
+     * @return 삭제된 레코드 수
+     */
+    int deleteNotSeenSince(LocalDateTime seenAt);
+
     /**
      * 프로그램 ID로 조회
      * @param id 프로그램 ID
@@ -110,4 +127,12 @@ public interface SportsFacilityProgramRepository {
      * @return 종목별 프로그램 개수 목록
      */
     List<Object[]> countBySubjectNameAndDataDate(String dataDate);
+
+    /**
+     * upsert 결과
+     * @param inserted 신규 저장 건수
+     * @param updated 기존 행 갱신 건수
+     */
+    record UpsertResult(int inserted, int updated) {
+    }
 }
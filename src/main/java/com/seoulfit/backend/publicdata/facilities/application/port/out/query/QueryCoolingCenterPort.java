@@ -1,11 +1,25 @@
 package com.seoulfit.backend.publicdata.facilities.application.port.out.query;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.facilities.domain.CoolingCenter;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface QueryCoolingCenterPort {
     List<CoolingCenter> queryCoolingCenter();
 
     List<CoolingCenter> queryCoolingCenterLocation(double latitude, double longitude);
+
+    /**
+     * 반경 2km 내 무더위쉼터 지도 카드 조회 (카드 컬럼만 읽음)
+     */
+    List<PoiCard> queryCoolingCenterCardLocation(double latitude, double longitude);
+
+    /**
+     * 전체 무더위쉼터를 한 건씩 읽어 전달 (영속성 컨텍스트에 쌓지 않음)
+     *
+     * @return 전달한 무더위쉼터 수
+     */
+    long forEachCoolingCenter(Consumer<CoolingCenter> action);
 }
@@ -1,12 +1,26 @@
 package com.seoulfit.backend.publicdata.facilities.application.port.out.query;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.facilities.domain.Library;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface QueryLibraryPort {
     List<Library> queryLibrary();
 
     List<Library> queryLibraryLocation(double latitude, double longitude);
 
+    /**
+     * 반경 2km 내 도서관 지도 카드 조회 (카드 컬럼만 읽음)
+     */
+    List<PoiCard> queryLibraryCardLocation(double latitude, double longitude);
+
+    /**
+     * 전체 도서관을 한 건씩 읽어 전달 (영속성 컨텍스트에 쌓지 않음)
+     *
+     * @return 전달한 도서관 수
+     */
+    long forEachLibrary(Consumer<Library> action);
+
 }
@@ -8,14 +8,24 @@ import com.seoulfit.backend.publicdata.facilities.domain.SportsFacilityProgram;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 서울시 공공체육시설 프로그램 정보 배치 처리 서비스
  * 헥사고날 아키텍처의 애플리케이션 서비스
+ *
+ * 원천 데이터의 전체 페이지(1,000건 단위)를 트랜잭션 밖에서 먼저 조회한 뒤,
+ * 짧은 트랜잭션 하나에서 자연키 기준 JDBC batch upsert와 미수집 행 삭제를 처리합니다.
+ * 조회 건수가 0건이거나 전체 건수보다 적으면 미수집 행 삭제는 건너뜁니다.
  */
 @Slf4j
 @Service
@@ -24,55 +34,43 @@ public class SportsFacilityProgramBatchService implements SportsFacilityProgramB
 
     private final SportsFacilityProgramApiClient apiClient;
     private final SportsFacilityProgramRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * API 한 번에 조회할 수 있는 최대 건수
+     */
+    private static final int PAGE_SIZE = 1000;
+
+    /**
+     * JDBC batch 한 번에 저장할 건수
+     */
+    private static final int CHUNK_SIZE = 500;
 
     @Override
     public SportsFacilityProgramBatchResult processDailyBatch(String dataDate) {
         log.info("서울시 공공체육시설 프로그램 정보 일일 배치 처리 시작 - 날짜: {}", dataDate);
 
         try {
-            // 1. API에서 프로그램 정보 조회
-            SportsFacilityProgramApiResponse apiResponse = apiClient.fetchAllProgramInfo();
-            
-            if (!apiResponse.isSuccess()) {
-                String errorMessage = "API 호출 실패: " + 
-                    (apiResponse.getListProgramByPublicSportsFacilitiesService() != null && 
-                     apiResponse.getListProgramByPublicSportsFacilitiesService().getResult() != null ? 
-                     apiResponse.getListProgramByPublicSportsFacilitiesService().getResult().getMessage() : "Unknown error");
-                log.error(errorMessage);
-                return SportsFacilityProgramBatchResult.failure(dataDate, errorMessage);
-            }
-
-            List<SportsFacilityProgramApiResponse.ProgramInfo> programInfoList = apiResponse.getProgramInfoList();
-            log.info("API에서 {} 개의 프로그램 정보 조회 완료", programInfoList.size());
-
-            // 2. 데이터 변환 및 저장 (처음 10개만 테스트)
-            int savedCount = 0;
-            int updatedCount = 0;
-            int maxTestCount = Math.min(10, programInfoList.size()); // 테스트를 위해 10개만 처리
-
-            for (int i = 0; i < maxTestCount; i++) {
-                SportsFacilityProgramApiResponse.ProgramInfo programInfo = programInfoList.get(i);
-                try {
-                    SportsFacilityProgram program = convertToEntity(programInfo, dataDate);
-                    
-                    // 새 데이터 저장 (중복 체크 없이 매번 새로 저장)
-                    repository.save(program);
-                    savedCount++;
-                    
-                } catch (Exception e) {
-                    log.warn("프로그램 정보 저장 실패 - 프로그램명: {}, 오류: {}", 
-                        programInfo.getProgramName(), e.getMessage());
+            LocalDateTime seenAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+            // 페이지 조회는 트랜잭션 밖에서 끝내고, upsert와 미수집 행 정리만 한 트랜잭션으로 처리
+            FetchedPrograms fetched = fetchAllPages(null);
+            SportsFacilityProgramBatchResult result = transactionTemplate.execute(status -> {
+                IngestionCounts counts = upsertAll(fetched.rows(), dataDate, seenAt);
+                int deletedCount = 0;
+                if (fetched.isComplete()) {
+                    deletedCount = repository.deleteNotSeenSince(seenAt);
+                } else {
+                    log.warn("조회 건수가 전체 건수보다 적어 미수집 행 정리 생략 - 조회: {}, 전체: {}",
+                        counts.fetched, fetched.totalCount());
                 }
-            }
-
-            // 3. 이전 데이터 정리 (3일 이전 데이터 삭제)
-            int deletedCount = cleanupOldData(3);
+                return SportsFacilityProgramBatchResult.success(dataDate, counts.fetched,
+                    counts.inserted, counts.updated, deletedCount);
+            });
 
             log.info("서울시 공공체육시설 프로그램 정보 배치 처리 완료 - 조회: {}, 저장: {}, 업데이트: {}, 삭제: {}", 
-                programInfoList.size(), savedCount, updatedCount, deletedCount);
-
-            return SportsFacilityProgramBatchResult.success(dataDate, programInfoList.size(), 
-                savedCount, updatedCount, deletedCount);
+                result.totalFetched(), result.totalSaved(), result.totalUpdated(), result.totalDeleted());
+            return result;
 
         } catch (Exception e) {
             log.error("서울시 공공체육시설 프로그램 정보 배치 처리 실패", e);
@@ -85,42 +83,18 @@ public class SportsFacilityProgramBatchService implements SportsFacilityProgramB
         log.info("서울시 공공체육시설 프로그램 정보 종목별 배치 처리 시작 - 날짜: {}, 종목: {}", dataDate, subjectName);
 
         try {
-            // 1. API에서 특정 종목 프로그램 정보 조회
-            SportsFacilityProgramApiResponse apiResponse = apiClient.fetchProgramInfoBySubject(subjectName);
-            
-            if (!apiResponse.isSuccess()) {
-                String errorMessage = "API 호출 실패: " + 
-                    (apiResponse.getListProgramByPublicSportsFacilitiesService() != null && 
-                     apiResponse.getListProgramByPublicSportsFacilitiesService().getResult() != null ? 
-                     apiResponse.getListProgramByPublicSportsFacilitiesService().getResult().getMessage() : "Unknown error");
-                log.error(errorMessage);
-                return SportsFacilityProgramBatchResult.failure(dataDate, errorMessage);
-            }
+            LocalDateTime seenAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
 
-            List<SportsFacilityProgramApiResponse.ProgramInfo> programInfoList = apiResponse.getProgramInfoList();
-            log.info("API에서 {} 개의 {} 종목 프로그램 정보 조회 완료", programInfoList.size(), subjectName);
-
-            // 2. 데이터 변환 및 저장 (처음 10개만 테스트)
-            int savedCount = 0;
-            int maxTestCount = Math.min(10, programInfoList.size()); // 테스트를 위해 10개만 처리
-
-            for (int i = 0; i < maxTestCount; i++) {
-                SportsFacilityProgramApiResponse.ProgramInfo programInfo = programInfoList.get(i);
-                try {
-                    SportsFacilityProgram program = convertToEntity(programInfo, dataDate);
-                    repository.save(program);
-                    savedCount++;
-                } catch (Exception e) {
-                    log.warn("프로그램 정보 저장 실패 - 프로그램명: {}, 오류: {}", 
-                        programInfo.getProgramName(), e.getMessage());
-                }
-            }
+            // 종목별 수집은 전체 데이터의 일부이므로 미수집 행 정리는 하지 않음
+            FetchedPrograms fetched = fetchAllPages(subjectName);
+            IngestionCounts counts = transactionTemplate.execute(status ->
+                upsertAll(fetched.rows(), dataDate, seenAt));
 
-            log.info("서울시 공공체육시설 프로그램 정보 종목별 배치 처리 완료 - 조회: {}, 저장: {}", 
-                programInfoList.size(), savedCount);
+            log.info("서울시 공공체육시설 프로그램 정보 종목별 배치 처리 완료 - 조회: {}, 저장: {}, 업데이트: {}", 
+                counts.fetched, counts.inserted, counts.updated);
 
-            return SportsFacilityProgramBatchResult.success(dataDate, programInfoList.size(), 
-                savedCount, 0, 0);
+            return SportsFacilityProgramBatchResult.success(dataDate, counts.fetched, 
+                counts.inserted, counts.updated, 0);
 
         } catch (Exception e) {
             log.error("서울시 공공체육시설 프로그램 정보 종목별 배치 처리 실패", e);
@@ -140,6 +114,72 @@ public class SportsFacilityProgramBatchService implements SportsFacilityProgramB
         return deletedCount;
     }
 
+    /**
+     * 원천 데이터의 모든 페이지를 조회 (트랜잭션 밖에서 호출)
+     */
+    private FetchedPrograms fetchAllPages(String subjectName) {
+        SportsFacilityProgramApiResponse page = apiClient.fetchProgramInfo(1, PAGE_SIZE, subjectName);
+        requireSuccess(page, 1);
+        int totalCount = page.getTotalCount();
+        log.info("전체 프로그램 데이터 개수: {}", totalCount);
+
+        List<SportsFacilityProgramApiResponse.ProgramInfo> rows = new ArrayList<>(totalCount);
+        for (int startIndex = 1; startIndex <= totalCount; startIndex += PAGE_SIZE) {
+            if (startIndex > 1) {
+                int endIndex = Math.min(startIndex + PAGE_SIZE - 1, totalCount);
+                page = apiClient.fetchProgramInfo(startIndex, endIndex, subjectName);
+                requireSuccess(page, startIndex);
+            }
+            rows.addAll(page.getProgramInfoList());
+            log.debug("프로그램 정보 페이지 조회 완료 - 시작: {}, 누적 조회: {}/{}", startIndex, rows.size(), totalCount);
+        }
+
+        return new FetchedPrograms(totalCount, rows);
+    }
+
+    /**
+     * 조회한 행을 청크 단위로 upsert
+     * 같은 실행 안에서 자연키가 중복된 행은 첫 번째 행만 저장
+     */
+    private IngestionCounts upsertAll(List<SportsFacilityProgramApiResponse.ProgramInfo> rows, String dataDate,
+                                      LocalDateTime seenAt) {
+        IngestionCounts counts = new IngestionCounts();
+        counts.fetched = rows.size();
+        Set<String> seenKeys = new HashSet<>();
+
+        List<SportsFacilityProgram> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (SportsFacilityProgramApiResponse.ProgramInfo programInfo : rows) {
+            SportsFacilityProgram program = convertToEntity(programInfo, dataDate);
+            if (!seenKeys.add(program.getProgramKey())) {
+                continue;
+            }
+            chunk.add(program);
+            if (chunk.size() == CHUNK_SIZE) {
+                counts.add(repository.upsertAll(chunk, seenAt));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            counts.add(repository.upsertAll(chunk, seenAt));
+        }
+
+        return counts;
+    }
+
+    /**
+     * 페이지 조회 실패 시 예외를 던져 배치를 중단 (일부 페이지만 받은 상태로 반영/정리하지 않도록)
+     */
+    private void requireSuccess(SportsFacilityProgramApiResponse response, int startIndex) {
+        if (response == null || !response.isSuccess()) {
+            String message = response != null
+                && response.getListProgramByPublicSportsFacilitiesService() != null
+                && response.getListProgramByPublicSportsFacilitiesService().getResult() != null
+                ? response.getListProgramByPublicSportsFacilitiesService().getResult().getMessage()
+                : "Unknown error";
+            throw new IllegalStateException("API 호출 실패 (시작 인덱스: " + startIndex + "): " + message);
+        }
+    }
+
     /**
      * API 응답 데이터를 엔티티로 변환
      */
@@ -176,4 +216,34 @@ public class SportsFacilityProgramBatchService implements SportsFacilityProgramB
             .dataDate(dataDate)
             .build();
     }
+
+    /**
+     * 전체 페이지 조회 결과
+     *
+     * @param totalCount 첫 페이지가 알려준 전체 건수
+     * @param rows 실제로 받은 행
+     */
+    private record FetchedPrograms(int totalCount, List<SportsFacilityProgramApiResponse.ProgramInfo> rows) {
+
+        /**
+         * 원천 전체를 받았는지 여부 (0건이거나 덜 받았으면 미수집 행 정리를 하지 않음)
+         */
+        boolean isComplete() {
+            return !rows.isEmpty() && rows.size() >= totalCount;
+        }
+    }
+
+    /**
+     * 페이지 수집 누적 건수
+     */
+    private static final class IngestionCounts {
+        private int fetched;
+        private int inserted;
+        private int updated;
+
+        private void add(SportsFacilityProgramRepository.UpsertResult result) {
+            inserted += result.inserted();
+            updated += result.updated();
+        }
+    }
 }
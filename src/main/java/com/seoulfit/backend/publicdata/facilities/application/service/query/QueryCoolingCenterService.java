@@ -1,13 +1,16 @@
 package com.seoulfit.backend.publicdata.facilities.application.service.query;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.facilities.application.port.in.query.QueryCoolingCenterUseCase;
 import com.seoulfit.backend.publicdata.facilities.application.port.out.query.QueryCoolingCenterPort;
 import com.seoulfit.backend.publicdata.facilities.domain.CoolingCenter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -33,4 +36,24 @@ public class QueryCoolingCenterService implements QueryCoolingCenterUseCase {
 
         return coolingCenters;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PoiCard> getCoolingCenterCardsByLatitudeAndLongitude(String latitude, String longitude) {
+        List<PoiCard> cards = queryCoolingCenterPort.queryCoolingCenterCardLocation(
+                Double.parseDouble(latitude),
+                Double.parseDouble(longitude)
+        );
+        log.info("위치 기반 무더위 쉼터 카드 조회 Count : {}", cards.size());
+
+        return cards;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAllCoolingCenter(Consumer<CoolingCenter> action) {
+        long count = queryCoolingCenterPort.forEachCoolingCenter(action);
+        log.info("무더위 쉼터 내보내기 Count : {}", count);
+        return count;
+    }
 }
@@ -1,13 +1,16 @@
 package com.seoulfit.backend.publicdata.facilities.application.service.query;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.facilities.application.port.in.query.QueryLibraryUseCase;
 import com.seoulfit.backend.publicdata.facilities.application.port.out.query.QueryLibraryPort;
 import com.seoulfit.backend.publicdata.facilities.domain.Library;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -32,4 +35,23 @@ public class QueryLibraryService implements QueryLibraryUseCase {
         log.info("위치 기반 공공 도서관 조회 Count : {}", libraries.size());
         return libraries;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PoiCard> getLibraryCardsByLatitudeAndLongitude(String latitude, String longitude) {
+        List<PoiCard> cards = queryLibraryPort.queryLibraryCardLocation(
+                Double.parseDouble(latitude),
+                Double.parseDouble(longitude)
+        );
+        log.info("위치 기반 공공 도서관 카드 조회 Count : {}", cards.size());
+        return cards;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAllLibrary(Consumer<Library> action) {
+        long count = queryLibraryPort.forEachLibrary(action);
+        log.info("공공 도서관 내보내기 Count : {}", count);
+        return count;
+    }
 }
@@ -1,11 +1,15 @@
 package com.seoulfit.backend.publicdata.facilities.domain;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.location.util.GeoUtils;
+import com.seoulfit.backend.shared.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -20,9 +24,12 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "cooling_centers", indexes = {
     @Index(name = "idx_cooling_centers_location", columnList = "latitude, longitude"),
+    @Index(name = "idx_cooling_centers_grid_cell", columnList = "grid_cell"),
     @Index(name = "idx_cooling_centers_name", columnList = "name"),
     @Index(name = "idx_cooling_centers_type", columnList = "facility_type1, facility_type2")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.Regions.COOLING_CENTER)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CoolingCenter implements GeoUtils.GeoPoint {
@@ -67,6 +74,9 @@ public class CoolingCenter implements GeoUtils.GeoPoint {
     @Column(name = "latitude")
     private Double latitude; // 위도
 
+    @Column(name = "grid_cell")
+    private Integer gridCell; // 반경 조회용 격자 셀 (GeoGrid)
+
     @Column(name = "map_coord_x")
     private Double mapCoordX; // X좌표(EPSG:5186)
 
@@ -154,4 +164,13 @@ public class CoolingCenter implements GeoUtils.GeoPoint {
         this.latitude = latitude;
         this.updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * 좌표로 반경 조회용 격자 셀 계산
+     */
+    @PrePersist
+    @PreUpdate
+    protected void assignGridCell() {
+        this.gridCell = GeoGrid.cellOf(latitude, longitude);
+    }
 }
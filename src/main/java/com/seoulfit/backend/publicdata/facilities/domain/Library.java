@@ -1,11 +1,15 @@
 package com.seoulfit.backend.publicdata.facilities.domain;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.location.util.GeoUtils;
+import com.seoulfit.backend.shared.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -20,9 +24,12 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "libraries", indexes = {
     @Index(name = "idx_libraries_location", columnList = "xcnts, ydnts"),
+    @Index(name = "idx_libraries_grid_cell", columnList = "grid_cell"),
     @Index(name = "idx_libraries_gu", columnList = "code_value"),
     @Index(name = "idx_libraries_name", columnList = "lbrry_name")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.Regions.LIBRARY)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Library implements GeoUtils.GeoPoint {
@@ -67,6 +74,9 @@ public class Library implements GeoUtils.GeoPoint {
     @Column(name = "ydnts")
     private Double ydnts; // 경도
 
+    @Column(name = "grid_cell")
+    private Integer gridCell; // 반경 조회용 격자 셀 (GeoGrid)
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -145,4 +155,13 @@ public class Library implements GeoUtils.GeoPoint {
         this.ydnts = ydnts;
         this.updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * 좌표로 반경 조회용 격자 셀 계산
+     */
+    @PrePersist
+    @PreUpdate
+    protected void assignGridCell() {
+        this.gridCell = GeoGrid.cellOf(xcnts, ydnts);
+    }
 }
@@ -6,7 +6,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 /**
  * 서울시 공공체육시설별 운영프로그램 정보 도메인 엔티티
@@ -17,7 +21,8 @@ import java.time.LocalDateTime;
     @Index(name = "idx_sports_program_date", columnList = "dataDate"),
     @Index(name = "idx_sports_program_center", columnList = "centerName"),
     @Index(name = "idx_sports_program_subject", columnList = "subjectName"),
-    @Index(name = "idx_sports_program_use_yn", columnList = "useYn")
+    @Index(name = "idx_sports_program_use_yn", columnList = "useYn"),
+    @Index(name = "uk_sports_program_key", columnList = "programKey", unique = true)
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -27,6 +32,13 @@ public class SportsFacilityProgram {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * 프로그램 자연키 (시설명|종목시설명|프로그램명|반명|기간|요일|진행시간의 MD5)
+     * API가 프로그램 ID를 제공하지 않으므로 일일 배치 upsert의 기준으로 사용
+     */
+    @Column(name = "program_key", nullable = false, length = 32)
+    private String programKey;
+
     /**
      * 시설명 (API의 CENTER_NAME)
      */
@@ -251,9 +263,31 @@ public class SportsFacilityProgram {
         this.classEndDate = classEndDate;
         this.feeFree = feeFree;
         this.dataDate = dataDate;
+        this.programKey = naturalKey(centerName, groundName, programName, className, term, week, classTime);
         this.createdAt = LocalDateTime.now();
     }
 
+    /**
+     * 프로그램 자연키 생성
+     * null 값은 빈 문자열로 취급하며, V3 마이그레이션의 md5(concat_ws('|', ...)) 값과 동일
+     */
+    public static String naturalKey(String centerName, String groundName, String programName,
+                                    String className, String term, String week, String classTime) {
+        String source = String.join("|",
+                nullToEmpty(centerName), nullToEmpty(groundName), nullToEmpty(programName),
+                nullToEmpty(className), nullToEmpty(term), nullToEmpty(week), nullToEmpty(classTime));
+        try {
+            MessageDigest md5 = MessageDigest.getInstance("MD5");
+            return HexFormat.of().formatHex(md5.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 algorithm not available", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
     /**
      * 엔티티 업데이트
      */
@@ -293,6 +327,7 @@ public class SportsFacilityProgram {
         this.classStartDate = classStartDate;
         this.classEndDate = classEndDate;
         this.feeFree = feeFree;
+        this.programKey = naturalKey(centerName, groundName, programName, className, term, week, classTime);
         this.updatedAt = LocalDateTime.now();
     }
 
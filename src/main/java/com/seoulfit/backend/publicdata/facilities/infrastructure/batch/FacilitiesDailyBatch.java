@@ -1,9 +1,12 @@
 package com.seoulfit.backend.publicdata.facilities.infrastructure.batch;
 
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.facilities.application.port.in.CommandCoolingShelterUseCase;
 import com.seoulfit.backend.publicdata.facilities.application.port.in.CommandPublicLibraryUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -13,6 +16,7 @@ import org.springframework.stereotype.Component;
 public class FacilitiesDailyBatch {
     private final CommandCoolingShelterUseCase coolingShelterUseCase;
     private final CommandPublicLibraryUseCase libraryUseCase;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Scheduled(cron = "${seoulfit.scheduler.facilities.daily-cron[0]}")
@@ -21,10 +25,12 @@ public class FacilitiesDailyBatch {
                         1, 1000, "", ""
                 )
         );
+        eventPublisher.publishEvent(new PoiDataRefreshedEvent(PoiType.COOLING_CENTERS));
     }
 
     @Scheduled(cron = "${seoulfit.scheduler.facilities.daily-cron[1]}")
     public void libraryDailyBatch() {
         libraryUseCase.savePublicLibraryList();
+        eventPublisher.publishEvent(new PoiDataRefreshedEvent(PoiType.LIBRARIES));
     }
 }
@@ -1,9 +1,12 @@
 package com.seoulfit.backend.publicdata.park.adapter.in.web;
 
+import com.seoulfit.backend.location.domain.PoiCard;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.park.adapter.in.web.dto.ParkResponse;
 import com.seoulfit.backend.publicdata.park.adapter.in.web.dto.ParkSummaryResponse;
 import com.seoulfit.backend.publicdata.park.application.port.in.ParkQueryUseCase;
 import com.seoulfit.backend.publicdata.park.domain.Park;
+import com.seoulfit.backend.shared.web.ResponseSnapshotCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -32,6 +36,7 @@ import java.util.List;
 @Tag(name = "서울시 공원 정보", description = "서울시 공원 정보 조회 API")
 public class ParkController {
     private final ParkQueryUseCase queryUseCase;
+    private final ResponseSnapshotCache responseSnapshotCache;
 
     @Operation(
         summary = "서울시 공원 전체 조회", 
@@ -49,14 +54,16 @@ public class ParkController {
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/all")
-    public ResponseEntity<List<ParkSummaryResponse>> getAllParks() {
+    public ResponseEntity<byte[]> getAllParks(WebRequest webRequest) {
         log.info("공원 전체 조회 요청");
         
-        List<Park> parks = queryUseCase.getAllPark();
-        List<ParkSummaryResponse> response = ParkSummaryResponse.from(parks);
-        
-        log.info("공원 {} 개 조회 완료", response.size());
-        return ResponseEntity.ok(response);
+        return responseSnapshotCache.respond(PoiType.PARKS.name(), webRequest, () -> {
+            List<Park> parks = queryUseCase.getAllPark();
+            List<ParkSummaryResponse> response = ParkSummaryResponse.from(parks);
+
+            log.info("공원 {} 개 조회 완료", response.size());
+            return response;
+        });
     }
 
     @Operation(
@@ -91,6 +98,25 @@ public class ParkController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+        summary = "근처 공원 지도 카드 조회",
+        description = "지정된 위도, 경도 기준 반경 2km 내 공원의 지도 카드 정보(ID, 이름, 좌표, 분류, 짧은 주소)만 조회합니다."
+    )
+    @GetMapping("/nearby/cards")
+    public ResponseEntity<List<PoiCard>> getParkCardsNearby(
+            @Parameter(description = "위도", example = "37.5665", required = true)
+            @RequestParam String latitude,
+            @Parameter(description = "경도", example = "126.9780", required = true)
+            @RequestParam String longitude
+    ) {
+        log.info("근처 공원 카드 조회 요청 - 위도: {}, 경도: {}", latitude, longitude);
+
+        List<PoiCard> response = queryUseCase.getParkCardsByLatitudeAndLongitude(latitude, longitude);
+
+        log.info("근처 공원 카드 {} 개 조회 완료", response.size());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
         summary = "공원 상세 정보 조회", 
         description = "특정 공원의 상세 정보를 조회합니다. (향후 구현 예정)"
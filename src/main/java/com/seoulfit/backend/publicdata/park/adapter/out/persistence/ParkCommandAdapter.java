@@ -5,6 +5,7 @@ import com.seoulfit.backend.publicdata.park.application.port.out.ParkCommandPort
 import com.seoulfit.backend.publicdata.park.domain.Park;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,6 +23,9 @@ public class ParkCommandAdapter implements ParkCommandPort {
 
     @Override
     public void truncate() {
-        entityManager.createNativeQuery("TRUNCATE TABLE parks").executeUpdate();
+        entityManager.createNativeQuery("TRUNCATE TABLE parks")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Park.class)
+                .executeUpdate();
     }
 }
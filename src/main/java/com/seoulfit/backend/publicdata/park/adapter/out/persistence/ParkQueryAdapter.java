@@ -1,5 +1,7 @@
 package com.seoulfit.backend.publicdata.park.adapter.out.persistence;
 
+import com.seoulfit.backend.location.domain.PoiCard;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.park.domain.Park;
 import com.seoulfit.backend.publicdata.park.adapter.out.persistence.repository.ParkRepository;
 import com.seoulfit.backend.publicdata.park.application.port.out.ParkQueryPort;
@@ -32,4 +34,12 @@ public class ParkQueryAdapter implements ParkQueryPort {
         );
     }
 
+    @Override
+    public List<PoiCard> getParkCardLocation(double latitude, double longitude) {
+        double radiusKm = 2.0;
+        return parkRepository.findCardsWithinRadius(latitude, longitude, radiusKm).stream()
+                .map(view -> PoiCard.of(PoiType.PARKS, view))
+                .toList();
+    }
+
 }
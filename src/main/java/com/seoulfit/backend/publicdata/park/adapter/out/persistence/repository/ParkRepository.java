@@ -1,11 +1,14 @@
 package com.seoulfit.backend.publicdata.park.adapter.out.persistence.repository;
 
+import com.seoulfit.backend.location.domain.PoiCardView;
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.publicdata.park.domain.Park;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +22,37 @@ public interface ParkRepository extends JpaRepository<Park, Long> {
 
     /**
      * 위치 기반 공원 조회 (반경 내)
+     * 
+     * 격자 셀 인덱스로 후보를 좁힌 뒤 정확한 거리로 거르며, 격자로 덮을 수 없는 넓은 반경은 전체 거리 계산으로 조회
+     */
+    default List<Park> findByLocationWithinRadius(Double latitude, Double longitude, Double radiusKm) {
+        return GeoGrid.cellsWithin(latitude, longitude, radiusKm)
+                .map(cells -> findByGridCellsWithinRadius(cells, latitude, longitude, radiusKm))
+                .orElseGet(() -> findByDistanceWithinRadius(latitude, longitude, radiusKm));
+    }
+
+    /**
+     * 격자 셀 후보 중 반경 내 공원 조회
+     */
+    @Query(value = """
+        SELECT * FROM parks p
+        WHERE p.grid_cell IN (:cells)
+        AND p.latitude IS NOT NULL 
+        AND p.longitude IS NOT NULL
+        AND (6371 * acos(cos(radians(:latitude)) * cos(radians(p.latitude)) 
+            * cos(radians(p.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(p.latitude)))) <= :radiusKm
+        ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(p.latitude)) 
+            * cos(radians(p.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(p.latitude))))
+        """, nativeQuery = true)
+    List<Park> findByGridCellsWithinRadius(@Param("cells") Collection<Integer> cells,
+                                           @Param("latitude") Double latitude,
+                                           @Param("longitude") Double longitude,
+                                           @Param("radiusKm") Double radiusKm);
+
+    /**
+     * 전체 거리 계산으로 반경 내 공원 조회
      */
     @Query(value = """
         SELECT * FROM parks p
@@ -31,9 +65,42 @@ public interface ParkRepository extends JpaRepository<Park, Long> {
             * cos(radians(p.longitude) - radians(:longitude)) 
             + sin(radians(:latitude)) * sin(radians(p.latitude))))
         """, nativeQuery = true)
-    List<Park> findByLocationWithinRadius(@Param("latitude") Double latitude, 
-                                         @Param("longitude") Double longitude, 
-                                         @Param("radiusKm") Double radiusKm);
+    List<Park> findByDistanceWithinRadius(@Param("latitude") Double latitude,
+                                          @Param("longitude") Double longitude,
+                                          @Param("radiusKm") Double radiusKm);
+
+    /**
+     * 반경 내 공원 지도 카드 조회
+     * 
+     * 카드에 필요한 컬럼만 프로젝션으로 읽으므로 엔티티를 영속성 컨텍스트에 올리지 않음
+     */
+    default List<PoiCardView> findCardsWithinRadius(double latitude, double longitude, double radiusKm) {
+        List<Integer> cells = GeoGrid.cellsWithin(latitude, longitude, radiusKm)
+                .orElseThrow(() -> new IllegalArgumentException("검색 반경은 50km를 초과할 수 없습니다."));
+        return findCardsByGridCellsWithinRadius(cells, latitude, longitude, radiusKm);
+    }
+
+    /**
+     * 격자 셀 후보 중 반경 내 공원 지도 카드 조회
+     */
+    @Query(value = """
+        SELECT p.id AS id, p.name AS name, p.latitude AS latitude, p.longitude AS longitude,
+            p.zone AS category, p.address AS address
+        FROM parks p
+        WHERE p.grid_cell IN (:cells)
+        AND p.latitude IS NOT NULL 
+        AND p.longitude IS NOT NULL
+        AND (6371 * acos(cos(radians(:latitude)) * cos(radians(p.latitude)) 
+            * cos(radians(p.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(p.latitude)))) <= :radiusKm
+        ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(p.latitude)) 
+            * cos(radians(p.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) * sin(radians(p.latitude))))
+        """, nativeQuery = true)
+    List<PoiCardView> findCardsByGridCellsWithinRadius(@Param("cells") Collection<Integer> cells,
+                                                       @Param("latitude") double latitude,
+                                                       @Param("longitude") double longitude,
+                                                       @Param("radiusKm") double radiusKm);
 
     /**
      * 공원명으로 검색
@@ -1,5 +1,6 @@
 package com.seoulfit.backend.publicdata.park.application.port.in;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.park.domain.Park;
 
 import java.util.List;
@@ -12,4 +13,6 @@ public interface ParkQueryUseCase {
     List<Park> getAllPark();
 
     List<Park> getParkByLatitudeAndLongitude(String latitude, String longitude);
+
+    List<PoiCard> getParkCardsByLatitudeAndLongitude(String latitude, String longitude);
 }
@@ -1,5 +1,6 @@
 package com.seoulfit.backend.publicdata.park.application.port.out;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.park.domain.Park;
 
 import java.util.List;
@@ -13,4 +14,9 @@ public interface ParkQueryPort {
 
     List<Park> getParkLocation(double latitude, double longitude);
 
+    /**
+     * 반경 2km 내 공원 지도 카드 조회 (카드 컬럼만 읽음)
+     */
+    List<PoiCard> getParkCardLocation(double latitude, double longitude);
+
 }
@@ -1,5 +1,6 @@
 package com.seoulfit.backend.publicdata.park.application.service;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.park.application.port.in.ParkQueryUseCase;
 import com.seoulfit.backend.publicdata.park.application.port.out.ParkQueryPort;
 import com.seoulfit.backend.publicdata.park.domain.Park;
@@ -38,4 +39,14 @@ public class ParkQueryService implements ParkQueryUseCase {
         log.info("위치 기반 공원 조회 : {}", parkLocation.size());
         return parkLocation;
     }
+
+    @Override
+    public List<PoiCard> getParkCardsByLatitudeAndLongitude(String latitude, String longitude) {
+        List<PoiCard> cards = parkQueryPort.getParkCardLocation(
+                Double.parseDouble(latitude),
+                Double.parseDouble(longitude)
+        );
+        log.info("위치 기반 공원 카드 조회 : {}", cards.size());
+        return cards;
+    }
 }
@@ -1,11 +1,15 @@
 package com.seoulfit.backend.publicdata.park.domain;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.location.util.GeoUtils;
+import com.seoulfit.backend.shared.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -20,9 +24,12 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "parks", indexes = {
     @Index(name = "idx_parks_location", columnList = "latitude, longitude"),
+    @Index(name = "idx_parks_grid_cell", columnList = "grid_cell"),
     @Index(name = "idx_parks_name", columnList = "name"),
     @Index(name = "idx_parks_zone", columnList = "zone")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.Regions.PARK)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Park implements GeoUtils.GeoPoint {
@@ -88,6 +95,9 @@ public class Park implements GeoUtils.GeoPoint {
     @Column(name = "latitude")
     private Double latitude; // Y좌표(WGS84)
 
+    @Column(name = "grid_cell")
+    private Integer gridCell; // 반경 조회용 격자 셀 (GeoGrid)
+
     @Column(name = "template_url", length = 500)
     private String templateUrl; // 바로가기
 
@@ -179,4 +189,13 @@ public class Park implements GeoUtils.GeoPoint {
         this.latitude = latitude;
         this.updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * 좌표로 반경 조회용 격자 셀 계산
+     */
+    @PrePersist
+    @PreUpdate
+    protected void assignGridCell() {
+        this.gridCell = GeoGrid.cellOf(latitude, longitude);
+    }
 }
@@ -1,8 +1,11 @@
 package com.seoulfit.backend.publicdata.park.infrastructure.batch;
 
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.park.application.port.in.ParkBatchUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -15,10 +18,12 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ParkDailyBatch {
    private final ParkBatchUseCase parkBatchUseCase;
+   private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(cron = "${seoulfit.scheduler.park.daily-cron[0]}")
     public void parkDailyBatch() {
         parkBatchUseCase.processDailyBatch();
+        eventPublisher.publishEvent(new PoiDataRefreshedEvent(PoiType.PARKS));
     }
 
 }
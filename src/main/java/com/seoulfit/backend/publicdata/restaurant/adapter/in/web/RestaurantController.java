@@ -1,6 +1,9 @@
 package com.seoulfit.backend.publicdata.restaurant.adapter.in.web;
 
+import com.seoulfit.backend.location.domain.PoiCard;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.restaurant.application.port.in.RestaurantQueryUseCase;
+import com.seoulfit.backend.shared.web.ResponseSnapshotCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +14,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 /**
  * 서울시 관광 음식점 정보 REST Controller
@@ -23,11 +29,13 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "서울시 관광 음식점 조회 API", description = "RestaurantController.class")
 public class RestaurantController {
     private final RestaurantQueryUseCase restaurantQueryUseCase;
+    private final ResponseSnapshotCache responseSnapshotCache;
 
     @Operation(summary = "서울시 관광 음식점 전체 조회", description = "서울시 모든 관광 음식점 정보를 조회합니다.")
     @GetMapping("/all")
-    public ResponseEntity<?> getAllRestaurant() {
-        return ResponseEntity.ok(restaurantQueryUseCase.getRestaurantList());
+    public ResponseEntity<byte[]> getAllRestaurant(WebRequest webRequest) {
+        return responseSnapshotCache.respond(PoiType.RESTAURANTS.name(), webRequest,
+                restaurantQueryUseCase::getRestaurantList);
     }
 
     @Operation(summary = "근처 관광 음식점 조회", description = "지정된 위도, 경도 기준 반경 2km 내의 관광 음식점 정보를 조회합니다.")
@@ -42,5 +50,16 @@ public class RestaurantController {
         return ResponseEntity.ok(restaurantQueryUseCase.getRestaurantByLatitudeAndLongitude(latitude, longitude));
     }
 
+    @Operation(summary = "근처 관광 음식점 지도 카드 조회", description = "지정된 위도, 경도 기준 반경 2km 내 관광 음식점의 지도 카드 정보(ID, 이름, 좌표, 대표메뉴, 짧은 주소)만 조회합니다.")
+    @GetMapping("/nearby/cards")
+    public ResponseEntity<List<PoiCard>> getNearByRestaurantCards(
+            @Parameter(description = "위도", example = "37.5665", required = true)
+            @RequestParam String latitude,
+            @Parameter(description = "경도", example = "126.9780", required = true)
+            @RequestParam String longitude
+    ) {
+        return ResponseEntity.ok(restaurantQueryUseCase.getRestaurantCardsByLatitudeAndLongitude(latitude, longitude));
+    }
+
 
 }
@@ -5,6 +5,7 @@ import com.seoulfit.backend.publicdata.restaurant.application.port.out.Restauran
 import com.seoulfit.backend.publicdata.restaurant.domain.Restaurant;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,6 +23,9 @@ public class RestaurantCommandAdapter implements RestaurantCommandPort {
 
     @Override
     public void truncate() {
-        entityManager.createNativeQuery("TRUNCATE TABLE restaurants").executeUpdate();
+        entityManager.createNativeQuery("TRUNCATE TABLE restaurants")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Restaurant.class)
+                .executeUpdate();
     }
 }
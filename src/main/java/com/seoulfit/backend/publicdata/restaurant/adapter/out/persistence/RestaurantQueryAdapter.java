@@ -1,5 +1,7 @@
 package com.seoulfit.backend.publicdata.restaurant.adapter.out.persistence;
 
+import com.seoulfit.backend.location.domain.PoiCard;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.restaurant.adapter.out.persistence.repository.RestaurantRepository;
 import com.seoulfit.backend.publicdata.restaurant.application.port.out.RestaurantQueryPort;
 import com.seoulfit.backend.publicdata.restaurant.domain.Restaurant;
@@ -23,4 +25,12 @@ public class RestaurantQueryAdapter implements RestaurantQueryPort {
         double radiusKm = 2.0;
         return restaurantRepository.findByLocationWithinRadius(latitude, longitude, radiusKm);
     }
+
+    @Override
+    public List<PoiCard> getRestaurantCardLocation(double latitude, double longitude) {
+        double radiusKm = 2.0;
+        return restaurantRepository.findCardsWithinRadius(latitude, longitude, radiusKm).stream()
+                .map(view -> PoiCard.of(PoiType.RESTAURANTS, view))
+                .toList();
+    }
 }
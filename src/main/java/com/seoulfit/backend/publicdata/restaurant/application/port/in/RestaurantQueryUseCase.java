@@ -1,5 +1,6 @@
 package com.seoulfit.backend.publicdata.restaurant.application.port.in;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.restaurant.domain.Restaurant;
 
 import java.util.List;
@@ -12,4 +13,6 @@ public interface RestaurantQueryUseCase {
     List<Restaurant> getRestaurantList();
 
     List<Restaurant> getRestaurantByLatitudeAndLongitude(String latitude, String longitude);
+
+    List<PoiCard> getRestaurantCardsByLatitudeAndLongitude(String latitude, String longitude);
 }
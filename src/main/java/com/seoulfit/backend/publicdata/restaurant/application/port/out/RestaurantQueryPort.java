@@ -1,5 +1,6 @@
 package com.seoulfit.backend.publicdata.restaurant.application.port.out;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.restaurant.domain.Restaurant;
 
 import java.util.List;
@@ -8,4 +9,9 @@ public interface RestaurantQueryPort {
     List<Restaurant> getAllRestaurant();
 
     List<Restaurant> getRestaurantLocation(double latitude, double longitude);
+
+    /**
+     * 반경 2km 내 음식점 지도 카드 조회 (카드 컬럼만 읽음)
+     */
+    List<PoiCard> getRestaurantCardLocation(double latitude, double longitude);
 }
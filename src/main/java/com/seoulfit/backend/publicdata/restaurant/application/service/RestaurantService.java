@@ -1,5 +1,6 @@
 package com.seoulfit.backend.publicdata.restaurant.application.service;
 
+import com.seoulfit.backend.location.domain.PoiCard;
 import com.seoulfit.backend.publicdata.restaurant.application.port.in.RestaurantQueryUseCase;
 import com.seoulfit.backend.publicdata.restaurant.application.port.out.RestaurantQueryPort;
 import com.seoulfit.backend.publicdata.restaurant.domain.Restaurant;
@@ -35,4 +36,15 @@ public class RestaurantService implements RestaurantQueryUseCase {
         return restaurantLocation;
     }
 
+    @Override
+    public List<PoiCard> getRestaurantCardsByLatitudeAndLongitude(String latitude, String longitude) {
+        List<PoiCard> cards = restaurantQueryPort.getRestaurantCardLocation(
+                Double.parseDouble(latitude),
+                Double.parseDouble(longitude)
+        );
+        log.info("주변 레스토랑 카드 개수 : {}", cards.size());
+
+        return cards;
+    }
+
 }
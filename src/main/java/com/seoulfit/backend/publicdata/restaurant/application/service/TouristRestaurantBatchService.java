@@ -6,6 +6,8 @@ import com.seoulfit.backend.publicdata.restaurant.application.port.out.Restauran
 import com.seoulfit.backend.publicdata.restaurant.application.port.out.TouristRestaurantApiClient;
 import com.seoulfit.backend.publicdata.restaurant.domain.Restaurant;
 import com.seoulfit.backend.publicdata.restaurant.infrastructure.mapper.RestaurantMapper;
+import com.seoulfit.backend.shared.metrics.BatchMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,13 +25,17 @@ import java.util.List;
 @Transactional
 public class TouristRestaurantBatchService implements RestaurantBatchUseCase {
 
+    private static final String BATCH_NAME = "tourist-restaurant";
+
     private final TouristRestaurantApiClient apiClient;
     private final RestaurantCommandPort restaurantCommandPort;
     private final RestaurantMapper restaurantMapper;
+    private final BatchMetrics batchMetrics;
 
     @Override
     public int processDailyBatch() {
         log.info("서울시 관광 음식점 정보 일일 배치 처리 시작");
+        Timer.Sample sample = batchMetrics.start();
         try {
             TouristRestaurantApiResponse apiResponse1 = apiClient.fetchRestaurantInfo(1, 1000);
             TouristRestaurantApiResponse apiResponse2 = apiClient.fetchRestaurantInfo(1001, 2000);
@@ -52,6 +58,10 @@ public class TouristRestaurantBatchService implements RestaurantBatchUseCase {
             List<TouristRestaurantApiResponse.RestaurantInfo> restaurantInfoList7 = apiResponse7.getRestaurantInfoList();
 
             log.info("API에서 {} 개의 음식점 정보 조회 완료", restaurantInfoList1.size());
+            batchMetrics.recordRows(BATCH_NAME, BatchMetrics.FETCHED,
+                    restaurantInfoList1.size() + restaurantInfoList2.size() + restaurantInfoList3.size()
+                            + restaurantInfoList4.size() + restaurantInfoList5.size() + restaurantInfoList6.size()
+                            + restaurantInfoList7.size());
 
             List<Restaurant> restaurants1 = restaurantMapper.mapToEntity(restaurantInfoList1);
             List<Restaurant> restaurants2 = restaurantMapper.mapToEntity(restaurantInfoList2);
@@ -71,11 +81,15 @@ public class TouristRestaurantBatchService implements RestaurantBatchUseCase {
             restaurantCommandPort.saveRestaurantList(restaurants6);
             restaurantCommandPort.saveRestaurantList(restaurants7);
 
-            return restaurants1.size() + restaurants2.size() + restaurants3.size()
+            int saved = restaurants1.size() + restaurants2.size() + restaurants3.size()
                     + restaurants4.size() + restaurants5.size() + restaurants6.size()
                     + restaurants7.size();
+            batchMetrics.recordRows(BATCH_NAME, BatchMetrics.SAVED, saved);
+            batchMetrics.recordSuccess(BATCH_NAME, sample);
+            return saved;
 
         } catch (Exception e) {
+            batchMetrics.recordFailure(BATCH_NAME, sample);
             throw new RuntimeException(e.getMessage(), e);
         }
     }
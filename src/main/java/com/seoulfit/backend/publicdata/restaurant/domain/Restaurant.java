@@ -1,11 +1,15 @@
 package com.seoulfit.backend.publicdata.restaurant.domain;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.location.util.GeoUtils;
+import com.seoulfit.backend.shared.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -20,8 +24,11 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "restaurants", indexes = {
     @Index(name = "idx_restaurants_location", columnList = "latitude, longitude"),
+    @Index(name = "idx_restaurants_grid_cell", columnList = "grid_cell"),
     @Index(name = "idx_restaurants_name", columnList = "name")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.Regions.RESTAURANT)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Restaurant implements GeoUtils.GeoPoint {
@@ -72,6 +79,9 @@ public class Restaurant implements GeoUtils.GeoPoint {
     @Column(name = "longitude")
     private Double longitude; // 경도
 
+    @Column(name = "grid_cell")
+    private Integer gridCell; // 반경 조회용 격자 셀 (GeoGrid)
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -154,4 +164,13 @@ public class Restaurant implements GeoUtils.GeoPoint {
         this.longitude = longitude;
         this.updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * 좌표로 반경 조회용 격자 셀 계산
+     */
+    @PrePersist
+    @PreUpdate
+    protected void assignGridCell() {
+        this.gridCell = GeoGrid.cellOf(latitude, longitude);
+    }
 }
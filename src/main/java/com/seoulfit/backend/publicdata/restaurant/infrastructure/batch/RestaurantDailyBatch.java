@@ -1,9 +1,12 @@
 package com.seoulfit.backend.publicdata.restaurant.infrastructure.batch;
 
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.restaurant.application.port.in.RestaurantBatchUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -21,6 +24,7 @@ import java.time.format.DateTimeFormatter;
 public class RestaurantDailyBatch {
 
     private final RestaurantBatchUseCase restaurantBatchUseCase;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 서울시 관광 음식점 정보 일일 배치 처리
@@ -31,6 +35,7 @@ public class RestaurantDailyBatch {
         log.info("=== 서울시 관광 음식점 정보 일일 배치 시작 ===");
         log.info("서울시 음식점 배치 실행 날짜: {}", LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")));
         restaurantBatchUseCase.processDailyBatch();
+        eventPublisher.publishEvent(new PoiDataRefreshedEvent(PoiType.RESTAURANTS));
     }
 
 }
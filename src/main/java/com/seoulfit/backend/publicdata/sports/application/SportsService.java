@@ -27,44 +27,32 @@ public class SportsService {
 
     private final SportsRepository sportsRepository;
     private final SportsApiClient sportsApiClient;
+    private final SportsSyncEngine sportsSyncEngine;
 
     /**
-     * 서울시 API에서 체육시설 데이터를 조회하여 DB에 저장
+     * 서울시 API에서 체육시설 데이터 전체를 조회하여 DB와 동기화
      * 
-     * @return 저장된 체육시설 수
+     * 신규/변경/삭제를 메모리에서 계산한 뒤 batch로 반영합니다 ({@link SportsSyncEngine}).
+     * 페이지 조회가 하나라도 실패하면 아무것도 반영하지 않습니다.
+     * 
+     * @return 새로 저장된 체육시설 수
      */
     public int syncSportsData() {
         log.info("체육시설 데이터 동기화 시작");
 
-        List<SportsApiClient.SportsApiDto> apiData = sportsApiClient.getSportsData();
-        int savedCount = 0;
-
-        for (SportsApiClient.SportsApiDto dto : apiData) {
-            try {
-                // 시설명이 null이거나 비어있으면 스킵
-                if (dto.getFacilityName() == null || dto.getFacilityName().trim().isEmpty()) {
-                    log.warn("시설명이 없는 데이터 스킵: {}", dto);
-                    continue;
-                }
-
-                // 개별 트랜잭션으로 처리
-                boolean saved = saveSingleSportsData(dto);
-                if (saved) {
-                    savedCount++;
-                }
-
-            } catch (Exception e) {
-                log.error("체육시설 데이터 처리 실패: {} - {}", dto.getFacilityName(), e.getMessage());
-            }
-        }
+        List<SportsApiClient.SportsApiDto> apiData = sportsApiClient.getAllSportsData();
+        SportsSyncEngine.SyncResult result = sportsSyncEngine.sync(apiData);
 
-        log.info("체육시설 데이터 동기화 완료: {} 건 저장", savedCount);
-        return savedCount;
+        log.info("체육시설 데이터 동기화 완료: {} 건 저장, {} 건 업데이트, {} 건 삭제",
+                result.inserted(), result.updated(), result.deleted());
+        return result.inserted();
     }
 
     /**
      * 단일 체육시설 데이터를 개별 트랜잭션으로 저장
      * 
+     * 행 단위 저장 경로입니다. 전체 동기화는 syncSportsData를 사용합니다.
+     * 
      * @param dto 체육시설 데이터 DTO
      * @return 저장 성공 여부
      */
@@ -0,0 +1,226 @@
+package com.seoulfit.backend.publicdata.sports.application;
+
+import com.seoulfit.backend.publicdata.sports.infrastructure.SportsApiClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 체육시설 집합 기반 동기화 엔진
+ *
+ * 원천 데이터 전체와 기존 체육시설을 시설명 기준으로 메모리에서 비교하여
+ * 신규/변경/삭제 대상을 계산한 뒤 JDBC batch로 반영합니다.
+ *
+ * - 기존 데이터는 쿼리 한 번으로 시설명 → 행 맵으로 적재
+ * - 내용이 같은 행은 갱신하지 않음
+ * - 원천에서 사라진 시설과 같은 시설명의 중복 행은 삭제
+ * - 신규/변경/삭제 반영은 한 트랜잭션으로 처리하고, batch 호출만 CHUNK_SIZE 단위로 나눔
+ *   (중간에 실패하면 전체 롤백되어 지도 재생성 등 조회 쪽에 반쯤 반영된 테이블이 보이지 않음)
+ *
+ * 위경도(latitude, longitude)는 API에서 제공하지 않으므로 갱신 대상에서 제외합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SportsSyncEngine {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String SELECT_EXISTING_SQL =
+            "SELECT id, facility_name, facility_type, address, phone_number, operating_hours, holiday, " +
+            "fee_info, homepage_url, district, facility_scale, parking_info, detail_content, image_url, " +
+            "x_coordinate, y_coordinate, service_id FROM sports_reservation_facilities ORDER BY id";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO sports_reservation_facilities (facility_name, facility_type, address, phone_number, " +
+            "operating_hours, holiday, fee_info, homepage_url, district, facility_scale, parking_info, " +
+            "detail_content, image_url, x_coordinate, y_coordinate, service_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE sports_reservation_facilities SET facility_name = ?, facility_type = ?, address = ?, " +
+            "phone_number = ?, operating_hours = ?, holiday = ?, fee_info = ?, homepage_url = ?, district = ?, " +
+            "facility_scale = ?, parking_info = ?, detail_content = ?, image_url = ?, x_coordinate = ?, " +
+            "y_coordinate = ?, service_id = ?, updated_at = ? WHERE id = ?";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM sports_reservation_facilities WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 원천 데이터로 체육시설 테이블을 동기화
+     *
+     * @param apiData 원천 데이터 전체 (시설명이 같은 행은 마지막 행이 반영됨)
+     * @return 동기화 결과
+     */
+    public SyncResult sync(List<SportsApiClient.SportsApiDto> apiData) {
+        // 1. 원천 데이터를 시설명 기준으로 정리
+        Map<String, FacilityRow> incoming = new LinkedHashMap<>();
+        int skipped = 0;
+        for (SportsApiClient.SportsApiDto dto : apiData) {
+            if (dto.getFacilityName() == null || dto.getFacilityName().trim().isEmpty()) {
+                skipped++;
+                continue;
+            }
+            incoming.put(dto.getFacilityName(), FacilityRow.from(null, dto));
+        }
+
+        // 2. 기존 데이터를 한 번에 적재 (같은 시설명의 중복 행은 삭제 대상)
+        Map<String, FacilityRow> existing = new HashMap<>();
+        List<Long> deletes = new ArrayList<>();
+        jdbcTemplate.query(SELECT_EXISTING_SQL, rs -> {
+            FacilityRow row = new FacilityRow(rs.getLong("id"),
+                    rs.getString("facility_name"), rs.getString("facility_type"), rs.getString("address"),
+                    rs.getString("phone_number"), rs.getString("operating_hours"), rs.getString("holiday"),
+                    rs.getString("fee_info"), rs.getString("homepage_url"), rs.getString("district"),
+                    rs.getString("facility_scale"), rs.getString("parking_info"), rs.getString("detail_content"),
+                    rs.getString("image_url"), rs.getString("x_coordinate"), rs.getString("y_coordinate"),
+                    rs.getString("service_id"));
+            if (existing.putIfAbsent(row.facilityName(), row) != null) {
+                deletes.add(row.id());
+            }
+        });
+
+        // 3. 신규/변경/삭제 계산
+        List<FacilityRow> inserts = new ArrayList<>();
+        List<FacilityRow> updates = new ArrayList<>();
+        int unchanged = 0;
+        for (FacilityRow row : incoming.values()) {
+            FacilityRow current = existing.remove(row.facilityName());
+            if (current == null) {
+                inserts.add(row);
+            } else if (!current.sameContent(row)) {
+                updates.add(row.withId(current.id()));
+            } else {
+                unchanged++;
+            }
+        }
+        for (FacilityRow stale : existing.values()) {
+            deletes.add(stale.id());
+        }
+
+        // 4. 반영 (단일 트랜잭션)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            applyInChunks(inserts, chunk -> jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (ps, row) -> {
+                int index = row.bind(ps, 1);
+                ps.setTimestamp(index++, now);
+                ps.setTimestamp(index, now);
+            }));
+            applyInChunks(updates, chunk -> jdbcTemplate.batchUpdate(UPDATE_SQL, chunk, chunk.size(), (ps, row) -> {
+                int index = row.bind(ps, 1);
+                ps.setTimestamp(index++, now);
+                ps.setLong(index, row.id());
+            }));
+            applyInChunks(deletes, chunk -> jdbcTemplate.batchUpdate(DELETE_SQL, chunk, chunk.size(),
+                    (ps, id) -> ps.setLong(1, id)));
+        });
+
+        SyncResult result = new SyncResult(inserts.size(), updates.size(), deletes.size(), unchanged, skipped);
+        log.info("체육시설 동기화 반영 완료: {}", result);
+        return result;
+    }
+
+    private <T> void applyInChunks(List<T> rows, Consumer<List<T>> writer) {
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<T> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            writer.accept(chunk);
+        }
+    }
+
+    /**
+     * 동기화 결과
+     *
+     * @param inserted 신규 저장 건수
+     * @param updated 내용이 바뀌어 갱신한 건수
+     * @param deleted 원천에서 사라졌거나 중복이라 삭제한 건수
+     * @param unchanged 내용이 같아 건너뛴 건수
+     * @param skipped 시설명이 없어 건너뛴 원천 행 수
+     */
+    public record SyncResult(int inserted, int updated, int deleted, int unchanged, int skipped) {
+    }
+
+    /**
+     * 동기화 대상 컬럼 스냅샷
+     */
+    private record FacilityRow(Long id, String facilityName, String facilityType, String address,
+                               String phoneNumber, String operatingHours, String holiday, String feeInfo,
+                               String homepageUrl, String district, String facilityScale, String parkingInfo,
+                               String detailContent, String imageUrl, String xCoordinate, String yCoordinate,
+                               String serviceId) {
+
+        static FacilityRow from(Long id, SportsApiClient.SportsApiDto dto) {
+            return new FacilityRow(id, dto.getFacilityName(), dto.getFacilityType(), dto.getAddress(),
+                    dto.getPhoneNumber(), dto.getOperatingHours(), dto.getHoliday(), dto.getFeeInfo(),
+                    dto.getHomepageUrl(), dto.getDistrict(), dto.getFacilityScale(), dto.getParkingInfo(),
+                    dto.getDetailContent(), dto.getImageUrl(), dto.getXCoordinate(), dto.getYCoordinate(),
+                    dto.getServiceId());
+        }
+
+        FacilityRow withId(Long newId) {
+            return new FacilityRow(newId, facilityName, facilityType, address, phoneNumber, operatingHours,
+                    holiday, feeInfo, homepageUrl, district, facilityScale, parkingInfo, detailContent,
+                    imageUrl, xCoordinate, yCoordinate, serviceId);
+        }
+
+        boolean sameContent(FacilityRow other) {
+            return Objects.equals(facilityType, other.facilityType)
+                    && Objects.equals(address, other.address)
+                    && Objects.equals(phoneNumber, other.phoneNumber)
+                    && Objects.equals(operatingHours, other.operatingHours)
+                    && Objects.equals(holiday, other.holiday)
+                    && Objects.equals(feeInfo, other.feeInfo)
+                    && Objects.equals(homepageUrl, other.homepageUrl)
+                    && Objects.equals(district, other.district)
+                    && Objects.equals(facilityScale, other.facilityScale)
+                    && Objects.equals(parkingInfo, other.parkingInfo)
+                    && Objects.equals(detailContent, other.detailContent)
+                    && Objects.equals(imageUrl, other.imageUrl)
+                    && Objects.equals(xCoordinate, other.xCoordinate)
+                    && Objects.equals(yCoordinate, other.yCoordinate)
+                    && Objects.equals(serviceId, other.serviceId);
+        }
+
+        /**
+         * 시설명부터 서비스ID까지 16개 컬럼을 바인딩하고 다음 파라미터 인덱스를 반환
+         */
+        int bind(PreparedStatement ps, int index) throws SQLException {
+            ps.setString(index++, facilityName);
+            ps.setString(index++, facilityType);
+            ps.setString(index++, address);
+            ps.setString(index++, phoneNumber);
+            ps.setString(index++, operatingHours);
+            ps.setString(index++, holiday);
+            ps.setString(index++, feeInfo);
+            ps.setString(index++, homepageUrl);
+            ps.setString(index++, district);
+            ps.setString(index++, facilityScale);
+            ps.setString(index++, parkingInfo);
+            ps.setString(index++, detailContent);
+            ps.setString(index++, imageUrl);
+            ps.setString(index++, xCoordinate);
+            ps.setString(index++, yCoordinate);
+            ps.setString(index++, serviceId);
+            return index;
+        }
+    }
+}
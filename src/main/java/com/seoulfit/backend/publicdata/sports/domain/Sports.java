@@ -1,5 +1,6 @@
 package com.seoulfit.backend.publicdata.sports.domain;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.location.util.GeoUtils;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -20,6 +21,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "sports_reservation_facilities", indexes = {
     @Index(name = "idx_sports_res_location", columnList = "latitude, longitude"),
+    @Index(name = "idx_sports_res_facilities_grid_cell", columnList = "grid_cell"),
     @Index(name = "idx_sports_res_name", columnList = "facility_name"),
     @Index(name = "idx_sports_res_type", columnList = "facility_type")
 })
@@ -61,6 +63,9 @@ public class Sports implements GeoUtils.GeoPoint {
     @Column(name = "longitude")
     private Double longitude; // 경도
 
+    @Column(name = "grid_cell")
+    private Integer gridCell; // 반경 조회용 격자 셀 (GeoGrid)
+
     @Column(name = "district", length = 50)
     private String district; // 자치구
 
@@ -169,10 +174,12 @@ public class Sports implements GeoUtils.GeoPoint {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        gridCell = GeoGrid.cellOf(latitude, longitude);
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        gridCell = GeoGrid.cellOf(latitude, longitude);
     }
 }
@@ -36,6 +36,7 @@ public class SportsApiClient {
     private static final String SPORTS_ENDPOINT = "ListPublicReservationSport";
     private static final int DEFAULT_START_INDEX = 1;
     private static final int DEFAULT_END_INDEX = 1000;
+    private static final int PAGE_SIZE = 1000; // API 한 번에 조회할 수 있는 최대 건수
 
     /**
      * 서울시 체육시설 정보 조회
@@ -46,6 +47,32 @@ public class SportsApiClient {
         return getSportsData(DEFAULT_START_INDEX, DEFAULT_END_INDEX);
     }
 
+    /**
+     * 서울시 체육시설 정보 전체 페이지 조회
+     * 
+     * getSportsData와 달리 페이지 조회가 하나라도 실패하면 예외를 던집니다.
+     * 동기화에서 일부만 조회된 결과로 기존 데이터를 삭제하지 않기 위함입니다.
+     * 
+     * @return 전체 체육시설 정보 DTO 목록
+     * @throws IllegalStateException API 호출 또는 응답 코드가 실패인 경우
+     */
+    public List<SportsApiDto> getAllSportsData() {
+        SportsApiResponseDto firstPage = fetchPage(DEFAULT_START_INDEX, PAGE_SIZE);
+        Integer listTotalCount = firstPage.getListPublicReservationSport().getListTotalCount();
+        int totalCount = listTotalCount != null ? listTotalCount : 0;
+
+        List<SportsApiDto> sportsList = new ArrayList<>(Math.max(totalCount, 0));
+        sportsList.addAll(convertToSportsApiDto(firstPage));
+
+        for (int startIndex = PAGE_SIZE + 1; startIndex <= totalCount; startIndex += PAGE_SIZE) {
+            int endIndex = Math.min(startIndex + PAGE_SIZE - 1, totalCount);
+            sportsList.addAll(convertToSportsApiDto(fetchPage(startIndex, endIndex)));
+        }
+
+        log.info("체육시설 정보 전체 조회 완료: {} / {} 건", sportsList.size(), totalCount);
+        return sportsList;
+    }
+
     /**
      * 서울시 체육시설 정보 조회 (페이징)
      * 
@@ -87,6 +114,31 @@ public class SportsApiClient {
         }
     }
 
+    /**
+     * 페이지 단건 조회 (실패 시 예외)
+     */
+    private SportsApiResponseDto fetchPage(int startIndex, int endIndex) {
+        String url = String.format("%s/%s/json/%s/%d/%d/", 
+                baseUrl, apiKey, SPORTS_ENDPOINT, startIndex, endIndex);
+
+        log.info("체육시설 정보 API 호출: start={}, end={}", startIndex, endIndex);
+
+        SportsApiResponseDto response = restClient.get()
+                .uri(url)
+                .retrieve()
+                .body(SportsApiResponseDto.class);
+
+        if (response == null || response.getListPublicReservationSport() == null) {
+            throw new IllegalStateException("체육시설 API 응답이 비어 있습니다: start=" + startIndex);
+        }
+        SportsApiResponseDto.Result result = response.getListPublicReservationSport().getResult();
+        if (result != null && !"INFO-000".equals(result.getCode())) {
+            throw new IllegalStateException(String.format("체육시설 API 응답 오류: start=%d, %s - %s",
+                    startIndex, result.getCode(), result.getMessage()));
+        }
+        return response;
+    }
+
     /**
      * API 응답을 SportsApiDto 목록으로 변환
      * 
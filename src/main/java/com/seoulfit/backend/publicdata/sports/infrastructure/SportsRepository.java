@@ -1,11 +1,13 @@
 package com.seoulfit.backend.publicdata.sports.infrastructure;
 
+import com.seoulfit.backend.location.util.GeoGrid;
 import com.seoulfit.backend.publicdata.sports.domain.Sports;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,11 +43,46 @@ public interface SportsRepository extends JpaRepository<Sports, Long> {
     /**
      * 특정 반경 내의 체육시설 조회 (Haversine 공식 사용)
      * 
+     * 격자 셀 인덱스로 후보를 좁힌 뒤 정확한 거리로 거르며, 격자로 덮을 수 없는 넓은 반경은 전체 거리 계산으로 조회
+     * 
      * @param latitude 중심 위도
      * @param longitude 중심 경도
      * @param radiusKm 반경 (km)
      * @return 반경 내 체육시설 목록
      */
+    default List<Sports> findByLocationWithinRadius(double latitude, double longitude, double radiusKm) {
+        return GeoGrid.cellsWithin(latitude, longitude, radiusKm)
+                .map(cells -> findByGridCellsWithinRadius(cells, latitude, longitude, radiusKm))
+                .orElseGet(() -> findByDistanceWithinRadius(latitude, longitude, radiusKm));
+    }
+
+    /**
+     * 격자 셀 후보 중 반경 내 체육시설 조회
+     */
+    @Query(value = """
+        SELECT s.* FROM sports_reservation_facilities s 
+        WHERE s.grid_cell IN (:cells)
+        AND s.latitude IS NOT NULL 
+        AND s.longitude IS NOT NULL
+        AND (6371 * acos(cos(radians(:latitude)) 
+            * cos(radians(s.latitude)) 
+            * cos(radians(s.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) 
+            * sin(radians(s.latitude)))) <= :radiusKm
+        ORDER BY (6371 * acos(cos(radians(:latitude)) 
+            * cos(radians(s.latitude)) 
+            * cos(radians(s.longitude) - radians(:longitude)) 
+            + sin(radians(:latitude)) 
+            * sin(radians(s.latitude))))
+        """, nativeQuery = true)
+    List<Sports> findByGridCellsWithinRadius(@Param("cells") Collection<Integer> cells,
+                                             @Param("latitude") double latitude,
+                                             @Param("longitude") double longitude,
+                                             @Param("radiusKm") double radiusKm);
+
+    /**
+     * 전체 거리 계산으로 반경 내 체육시설 조회
+     */
     @Query(value = """
         SELECT s.* FROM sports_reservation_facilities s 
         WHERE s.latitude IS NOT NULL 
@@ -61,9 +98,9 @@ public interface SportsRepository extends JpaRepository<Sports, Long> {
             + sin(radians(:latitude)) 
             * sin(radians(s.latitude))))
         """, nativeQuery = true)
-    List<Sports> findByLocationWithinRadius(@Param("latitude") double latitude, 
-                                           @Param("longitude") double longitude, 
-                                           @Param("radiusKm") double radiusKm);
+    List<Sports> findByDistanceWithinRadius(@Param("latitude") double latitude,
+                                            @Param("longitude") double longitude,
+                                            @Param("radiusKm") double radiusKm);
 
     /**
      * 위경도 정보가 없는 체육시설 조회
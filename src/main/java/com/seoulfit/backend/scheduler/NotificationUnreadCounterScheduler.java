@@ -0,0 +1,38 @@
+package com.seoulfit.backend.scheduler;
+
+import com.seoulfit.backend.notification.application.service.NotificationUnreadCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 읽지 않은 알림 카운터 재집계 스케줄러
+ *
+ * 주기적으로 카운터를 알림 히스토리와 비교해 어긋난 값을 바로잡습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ * @see NotificationUnreadCounterService
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "seoulfit.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationUnreadCounterScheduler {
+
+    private final NotificationUnreadCounterService unreadCounterService;
+
+    /**
+     * 읽지 않은 알림 카운터 재집계 (기본: 매시 40분)
+     */
+    @Scheduled(cron = "${seoulfit.notification.unread-counter.reconcile-cron:0 40 * * * *}")
+    public void reconcileUnreadCounters() {
+        try {
+            unreadCounterService.reconcile();
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 카운터 재집계 중 오류 발생", e);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.seoulfit.backend.scheduler;
 
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.sports.application.SportsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -22,6 +25,7 @@ import org.springframework.stereotype.Service;
 public class SportsDataSyncScheduler {
 
     private final SportsService sportsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 체육시설 데이터 동기화 (매일 새벽 2시)
@@ -36,6 +40,7 @@ public class SportsDataSyncScheduler {
             // 1. 체육시설 데이터 동기화
             int syncedCount = sportsService.syncSportsData();
             log.info("체육시설 데이터 동기화 완료: {} 건", syncedCount);
+            eventPublisher.publishEvent(new PoiDataRefreshedEvent(PoiType.SPORTS_FACILITIES));
             
             // 2. 통계 정보 로깅
             SportsService.SportsStats stats = sportsService.getSportsStats();
@@ -0,0 +1,40 @@
+package com.seoulfit.backend.scheduler;
+
+import com.seoulfit.backend.trigger.infrastructure.TriggerHistoryPartitionMaintenance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * 트리거 히스토리 보존 기간 스케줄러
+ *
+ * 매일 트리거 히스토리 파티션을 미리 만들고 보존 기간이 지난 이력을 정리합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ * @see TriggerHistoryPartitionMaintenance
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "seoulfit.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class TriggerHistoryRetentionScheduler {
+
+    private final TriggerHistoryPartitionMaintenance partitionMaintenance;
+
+    /**
+     * 트리거 히스토리 파티션 관리 (기본: 매일 0시 10분)
+     */
+    @Scheduled(cron = "${seoulfit.trigger.history.maintenance-cron:0 10 0 * * *}")
+    public void maintainTriggerHistory() {
+        try {
+            partitionMaintenance.maintain(LocalDate.now());
+        } catch (Exception e) {
+            log.error("트리거 히스토리 파티션 관리 중 오류 발생", e);
+        }
+    }
+}
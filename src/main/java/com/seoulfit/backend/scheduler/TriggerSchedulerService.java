@@ -5,10 +5,18 @@ import com.seoulfit.backend.user.adapter.out.persistence.UserPort;
 import com.seoulfit.backend.notification.domain.NotificationEvent;
 import com.seoulfit.backend.publicdata.PublicDataApiClient;
 import com.seoulfit.backend.trigger.TriggerManager;
+import com.seoulfit.backend.trigger.application.service.CityDataFetcher;
+import com.seoulfit.backend.trigger.application.service.DistrictWeatherAggregator;
+import com.seoulfit.backend.trigger.domain.AreaCongestion;
 import com.seoulfit.backend.trigger.dto.TriggerContext;
 import com.seoulfit.backend.trigger.dto.TriggerResult;
+import com.seoulfit.backend.trigger.infrastructure.CongestionIndex;
+import com.seoulfit.backend.trigger.infrastructure.DistrictWeatherIndex;
 import com.seoulfit.backend.user.domain.InterestCategory;
 import com.seoulfit.backend.user.domain.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -16,6 +24,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,6 +48,12 @@ import java.util.Optional;
  * 설정을 통해 활성화/비활성화할 수 있습니다. 각 사용자의 관심사와 위치 정보를 고려하여
  * 개인화된 알림을 제공합니다.</p>
  * 
+ * <p>틱 메트릭 (job=realtime|cultural):</p>
+ * <ul>
+ *   <li>seoulfit.trigger.tick.duration{job, outcome}: 틱 한 번의 소요 시간</li>
+ *   <li>seoulfit.trigger.tick.users{job}: 틱마다 평가한 사용자 수</li>
+ * </ul>
+ * 
  * @author Seoul Fit
  * @version 1.0.0
  * @since 2025-01-01
@@ -52,6 +67,15 @@ import java.util.Optional;
 @ConditionalOnProperty(name = "seoulfit.scheduler.enabled", havingValue = "true", matchIfMissing = true)
 public class TriggerSchedulerService {
     
+    private static final String JOB_REALTIME = "realtime";
+    private static final String JOB_CULTURAL = "cultural";
+    
+    /**
+     * 사용자 위치가 없을 때 사용하는 기본 위치 (광화문)
+     */
+    private static final double DEFAULT_LATITUDE = 37.5701416811;
+    private static final double DEFAULT_LONGITUDE = 126.9763534416;
+    
     /**
      * 트리거 관리자입니다.
      * 등록된 모든 트리거 전략을 관리하고 실행합니다.
@@ -64,6 +88,18 @@ public class TriggerSchedulerService {
      */
     private final PublicDataApiClient publicDataApiClient;
     
+    /**
+     * 실시간 도시데이터 전체 장소 수집기입니다.
+     * 틱마다 모든 장소를 조회해 혼잡도 인덱스를 만듭니다.
+     */
+    private final CityDataFetcher cityDataFetcher;
+    
+    /**
+     * 자치구별 날씨 집계기입니다.
+     * 틱마다 수집한 도시데이터의 날씨를 구 단위로 한 번만 파싱해 모든 사용자가 공유합니다.
+     */
+    private final DistrictWeatherAggregator districtWeatherAggregator;
+    
     /**
      * 사용자 데이터 접근 포트입니다.
      */
@@ -80,11 +116,17 @@ public class TriggerSchedulerService {
      */
     private final ApplicationEventPublisher eventPublisher;
     
+    /**
+     * 틱 메트릭을 등록할 레지스트리입니다.
+     */
+    private final MeterRegistry meterRegistry;
+    
     /**
      * 실시간 트리거를 평가합니다.
      * 
-     * <p>5분마다 실행되며, 모든 활성 사용자에 대해 실시간 도시 데이터를 기반으로
-     * 트리거 조건을 평가합니다. 실행 간격은 설정을 통해 변경할 수 있습니다.</p>
+     * <p>5분마다 실행되며, 먼저 실시간 도시데이터 전체 장소를 한 번 수집하고 구별 날씨 집계를 만든 뒤 모든 활성 사용자에 대해
+     * 사용자 위치에서 가장 가까운 장소의 데이터와 사용자 구의 날씨 집계로 트리거 조건을 평가합니다.
+     * 실행 간격은 설정을 통해 변경할 수 있습니다.</p>
      * 
      * <p>평가 대상:</p>
      * <ul>
@@ -96,19 +138,26 @@ public class TriggerSchedulerService {
     @Scheduled(fixedRateString = "${seoulfit.scheduler.realtime-interval:300000}")
     public void evaluateRealtimeTriggers() {
         log.info("실시간 트리거 평가 시작");
+        Timer.Sample tick = Timer.start(meterRegistry);
         
         try {
+            // 전체 장소 실시간 도시데이터 수집 (틱당 한 번)
+            CongestionIndex congestionIndex = cityDataFetcher.refresh();
+            DistrictWeatherIndex weatherIndex = districtWeatherAggregator.aggregate(congestionIndex);
+            
             // 모든 활성 사용자 조회
             List<User> activeUsers = userPort.findAllActiveUsers();
             log.debug("활성 사용자 수: {}", activeUsers.size());
             
             for (User user : activeUsers) {
-                evaluateTriggersForUser(user);
+                evaluateTriggersForUser(user, congestionIndex, weatherIndex);
             }
             
+            recordTick(JOB_REALTIME, tick, true, activeUsers.size());
             log.info("실시간 트리거 평가 완료: 처리된 사용자 수={}", activeUsers.size());
             
         } catch (Exception e) {
+            recordTick(JOB_REALTIME, tick, false, 0);
             log.error("실시간 트리거 평가 중 오류 발생", e);
         }
     }
@@ -129,6 +178,7 @@ public class TriggerSchedulerService {
     @Scheduled(fixedRateString = "${seoulfit.scheduler.cultural-interval:1800000}")
     public void evaluateCulturalEventTriggers() {
         log.info("문화행사 트리거 평가 시작");
+        Timer.Sample tick = Timer.start(meterRegistry);
         
         try {
             // 문화생활에 관심이 있는 사용자만 조회
@@ -142,13 +192,19 @@ public class TriggerSchedulerService {
                                 for (User user : interestedUsers) {
                                     evaluateTriggersForUser(user, culturalData);
                                 }
+                                // 데이터 수신 후 평가까지 끝난 시점에 기록
+                                recordTick(JOB_CULTURAL, tick, true, interestedUsers.size());
                             },
-                            error -> log.error("문화행사 데이터 조회 실패", error)
+                            error -> {
+                                recordTick(JOB_CULTURAL, tick, false, 0);
+                                log.error("문화행사 데이터 조회 실패", error);
+                            }
                     );
             
             log.info("문화행사 트리거 평가 완료");
             
         } catch (Exception e) {
+            recordTick(JOB_CULTURAL, tick, false, 0);
             log.error("문화행사 트리거 평가 중 오류 발생", e);
         }
     }
@@ -156,12 +212,14 @@ public class TriggerSchedulerService {
     /**
      * 특정 사용자에 대한 트리거를 평가합니다.
      * 
-     * <p>사용자의 관심사를 조회하고, 실시간 도시 데이터를 기반으로
-     * 해당 사용자에게 적용 가능한 트리거 조건들을 평가합니다.</p>
+     * <p>사용자의 관심사를 조회하고, 사용자 위치에서 가장 가까운 장소의 실시간 도시 데이터와
+     * 혼잡도 인덱스, 사용자 구의 날씨 집계를 기반으로 해당 사용자에게 적용 가능한 트리거 조건들을 평가합니다.</p>
      * 
      * @param user 트리거를 평가할 대상 사용자
+     * @param congestionIndex 이번 틱에 수집한 장소별 혼잡도 인덱스
+     * @param weatherIndex 이번 틱에 만든 구별 날씨 집계
      */
-    private void evaluateTriggersForUser(User user) {
+    private void evaluateTriggersForUser(User user, CongestionIndex congestionIndex, DistrictWeatherIndex weatherIndex) {
         try {
             // 사용자 관심사 조회
             List<InterestCategory> userInterests = userInterestPort.findInterestCategoriesByUser(user);
@@ -171,12 +229,24 @@ public class TriggerSchedulerService {
                 return;
             }
             
-            // 실시간 도시 데이터 조회 (광화문·덕수궁 기본)
-            publicDataApiClient.getCityData("광화문·덕수궁")
-                    .subscribe(
-                            cityData -> evaluateTriggersForUser(user, cityData),
-                            error -> log.error("도시 데이터 조회 실패: userId={}", user.getId(), error)
-                    );
+            // 사용자 위치에서 가장 가까운 장소의 실시간 도시 데이터
+            double latitude = getUserLatitude(user);
+            double longitude = getUserLongitude(user);
+            Optional<AreaCongestion> nearest = congestionIndex.findNearest(latitude, longitude);
+            if (nearest.isEmpty()) {
+                log.debug("실시간 도시 데이터 없음: userId={}", user.getId());
+                return;
+            }
+            
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put(CongestionIndex.CONTEXT_KEY, congestionIndex);
+            metadata.put(DistrictWeatherIndex.CONTEXT_KEY, weatherIndex);
+            String districtCode = districtWeatherAggregator.resolveDistrictCode(latitude, longitude);
+            if (districtCode != null) {
+                metadata.put(DistrictWeatherIndex.DISTRICT_CODE_KEY, districtCode);
+            }
+            
+            evaluateTriggersForUser(user, nearest.get().cityData(), metadata);
             
         } catch (Exception e) {
             log.error("사용자 트리거 평가 중 오류 발생: userId={}", user.getId(), e);
@@ -194,6 +264,17 @@ public class TriggerSchedulerService {
      * @param publicApiData 평가에 사용할 공공 API 데이터
      */
     private void evaluateTriggersForUser(User user, Map<String, Object> publicApiData) {
+        evaluateTriggersForUser(user, publicApiData, Map.of());
+    }
+    
+    /**
+     * 특정 사용자와 공공 데이터, 컨텍스트 메타데이터에 대한 트리거를 평가합니다.
+     * 
+     * @param user 트리거를 평가할 대상 사용자
+     * @param publicApiData 평가에 사용할 공공 API 데이터
+     * @param metadata 트리거 컨텍스트 메타데이터 (예: 혼잡도 인덱스)
+     */
+    private void evaluateTriggersForUser(User user, Map<String, Object> publicApiData, Map<String, Object> metadata) {
         try {
             // 사용자 관심사 조회
             List<InterestCategory> userInterests = userInterestPort.findInterestCategoriesByUser(user);
@@ -202,9 +283,10 @@ public class TriggerSchedulerService {
             TriggerContext context = TriggerContext.builder()
                     .user(user)
                     .userInterests(userInterests)
-                    .userLatitude(getUserLatitude(user)) // 사용자 위치 정보 (구현 필요)
-                    .userLongitude(getUserLongitude(user)) // 사용자 위치 정보 (구현 필요)
+                    .userLatitude(getUserLatitude(user))
+                    .userLongitude(getUserLongitude(user))
                     .publicApiData(publicApiData)
+                    .metadata(metadata)
                     .build();
             
             // 모든 트리거 전략 평가
@@ -236,34 +318,49 @@ public class TriggerSchedulerService {
         }
     }
     
+    /**
+     * 틱 소요 시간과 평가한 사용자 수를 기록합니다.
+     * 
+     * @param job 틱 종류 (realtime, cultural)
+     * @param tick 틱 시작 시점에 시작한 타이머 샘플
+     * @param success 틱 성공 여부
+     * @param usersEvaluated 평가한 사용자 수
+     */
+    private void recordTick(String job, Timer.Sample tick, boolean success, int usersEvaluated) {
+        tick.stop(Timer.builder("seoulfit.trigger.tick.duration")
+                .description("Duration of one trigger scheduler tick")
+                .tag("job", job)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry));
+        DistributionSummary.builder("seoulfit.trigger.tick.users")
+                .description("Users evaluated in one trigger scheduler tick")
+                .tag("job", job)
+                .register(meterRegistry)
+                .record(usersEvaluated);
+    }
+    
     /**
      * 사용자의 위도 정보를 가져옵니다.
      * 
-     * <p>현재는 임시로 광화문 위도를 반환하며, 
-     * 실제 구현 시에는 사용자의 실제 위치 정보를 사용해야 합니다.</p>
+     * <p>사용자가 위치를 등록하지 않았으면 광화문 위도를 반환합니다.</p>
      * 
      * @param user 위치 정보를 조회할 사용자
-     * @return 사용자의 위도 (현재는 광화문 위도)
-     * @todo 실제 사용자 위치 정보 구현 필요
+     * @return 사용자의 위도
      */
     private Double getUserLatitude(User user) {
-        // 임시로 광화문 위도 반환 (실제 구현 시 사용자 위치 정보 사용)
-        return 37.5701416811;
+        return user.hasLocation() ? user.getLocationLatitude() : DEFAULT_LATITUDE;
     }
     
     /**
      * 사용자의 경도 정보를 가져옵니다.
      * 
-     * <p>현재는 임시로 광화문 경도를 반환하며, 
-     * 실제 구현 시에는 사용자의 실제 위치 정보를 사용해야 합니다.</p>
+     * <p>사용자가 위치를 등록하지 않았으면 광화문 경도를 반환합니다.</p>
      * 
      * @param user 위치 정보를 조회할 사용자
-     * @return 사용자의 경도 (현재는 광화문 경도)
-     * @todo 실제 사용자 위치 정보 구현 필요
+     * @return 사용자의 경도
      */
     private Double getUserLongitude(User user) {
-        // 임시로 광화문 경도 반환 (실제 구현 시 사용자 위치 정보 사용)
-        return 126.9763534416;
+        return user.hasLocation() ? user.getLocationLongitude() : DEFAULT_LONGITUDE;
     }
     
     /**
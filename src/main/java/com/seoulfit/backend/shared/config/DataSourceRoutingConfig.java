@@ -0,0 +1,84 @@
+package com.seoulfit.backend.shared.config;
+
+import com.seoulfit.backend.shared.datasource.ReplicaDataSourceProperties;
+import com.seoulfit.backend.shared.datasource.ReplicaLagMonitor;
+import com.seoulfit.backend.shared.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 복제본 라우팅 데이터소스 설정
+ *
+ * 위치/검색/알림 히스토리/통계 조회처럼 {@code @Transactional(readOnly = true)}로 실행되는 읽기를 복제본으로 보내,
+ * 배치의 TRUNCATE/INSERT와 트리거 히스토리 쓰기가 읽기 요청과 같은 커넥션 풀을 두고 경쟁하지 않게 합니다.
+ * seoulfit.datasource.replica.enabled=true일 때만 적용되며, 꺼져 있으면 Spring Boot 기본 데이터소스를 그대로 사용합니다.
+ *
+ * **구성:**
+ * - primary: spring.datasource.* 접속 정보와 spring.datasource.hikari 풀 설정 (Flyway도 이 풀 사용)
+ * - replica: seoulfit.datasource.replica.* 접속 정보와 seoulfit.datasource.replica.hikari 풀 설정
+ * - dataSource(@Primary): 라우팅 데이터소스를 LazyConnectionDataSourceProxy로 감싸 JPA/JdbcTemplate에 제공
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(name = "seoulfit.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("seoulfit.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword());
+        if (properties.getDriverClassName() != null) {
+            builder.driverClassName(properties.getDriverClassName());
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaDataSourceProperties properties) {
+        return new ReplicaLagMonitor(replicaDataSource, properties.getLagQuery(), properties.getMaxLag(),
+                properties.getPrimaryHoldAfterRefresh());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        log.info("Read replica routing enabled (primary + replica pools)");
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    }
+}
@@ -0,0 +1,112 @@
+package com.seoulfit.backend.shared.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine)
+ *
+ * 하루 한 번 배치로만 바뀌는 시설 엔티티를 ID 조회 시 DB 대신 캐시에서 읽습니다.
+ * 리전마다 Caffeine 캐시를 미리 만들어 크기와 만료 시간을 따로 두고,
+ * 설정에 없는 리전은 만들지 않고 기동 시 실패시켜 리전 이름 오타를 바로 드러냅니다.
+ *
+ * **리전 무효화:**
+ * - 배치의 TRUNCATE는 해당 엔티티만 동기화 대상으로 지정해 다른 리전을 건드리지 않음
+ * - 배치 커밋 후 {@code PoiDataRefreshedEvent}를 받아 해당 리전을 명시적으로 비움
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@ConditionalOnProperty(name = "seoulfit.jpa.second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    /**
+     * 엔티티 캐시 리전 이름 상수
+     */
+    public static class Regions {
+        public static final String LIBRARY = "library";
+        public static final String COOLING_CENTER = "cooling-center";
+        public static final String PARK = "park";
+        public static final String RESTAURANT = "restaurant";
+        public static final String SPORTS_FACILITY = "sports-facility";
+        public static final String CULTURAL_SPACE = "cultural-space";
+
+        static final List<String> ENTITY_REGIONS = List.of(
+                LIBRARY, COOLING_CENTER, PARK, RESTAURANT, SPORTS_FACILITY, CULTURAL_SPACE);
+
+        // 쿼리 캐시(use_query_cache)를 켠 프로파일에서 사용하는 기본 리전
+        static final List<String> QUERY_REGIONS = List.of(
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+    }
+
+    /**
+     * 2차 캐시 전용 JCache 매니저
+     *
+     * Spring Cache의 {@link CacheConfig} 캐시와 섞이지 않도록 컨텍스트마다 별도 URI로 만듭니다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("seoulfit-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : Regions.ENTITY_REGIONS) {
+            cacheManager.createCache(region, buildConfiguration(properties.regionOf(region), properties.getDefaults()));
+        }
+        for (String region : Regions.QUERY_REGIONS) {
+            cacheManager.createCache(region, buildConfiguration(properties.regionOf(region), properties.getDefaults()));
+        }
+
+        log.info("Hibernate second-level cache initialized with regions {}", Regions.ENTITY_REGIONS);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * 리전별 Caffeine 설정 생성
+     *
+     * Hibernate가 엔티티를 분해한 캐시 엔트리를 넣으므로 직렬화 복사 없이 참조로 저장합니다.
+     */
+    private CaffeineConfiguration<Object, Object> buildConfiguration(SecondLevelCacheProperties.Region region,
+                                                                     SecondLevelCacheProperties.Region defaults) {
+        long maxSize = region.getMaxSize() > 0 ? region.getMaxSize() : defaults.getMaxSize();
+        Duration expireAfterWrite = region.getExpireAfterWrite() != null
+                ? region.getExpireAfterWrite() : defaults.getExpireAfterWrite();
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        return configuration;
+    }
+}
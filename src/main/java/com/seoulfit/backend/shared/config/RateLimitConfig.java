@@ -0,0 +1,41 @@
+package com.seoulfit.backend.shared.config;
+
+import com.seoulfit.backend.shared.security.ratelimit.GcraRateLimiter;
+import com.seoulfit.backend.shared.security.ratelimit.LocalRateLimitStateStore;
+import com.seoulfit.backend.shared.security.ratelimit.RateLimitProperties;
+import com.seoulfit.backend.shared.security.ratelimit.RateLimitStateStore;
+import com.seoulfit.backend.shared.security.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rate Limit 설정
+ *
+ * 기본적으로 인메모리 상태 저장소를 사용합니다.
+ * 여러 인스턴스가 제한을 공유해야 하면 {@link RateLimitStateStore} 빈(예: Redis 구현)을 등록하면 됩니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(RateLimitStateStore.class)
+    public RateLimitStateStore localRateLimitStateStore(RateLimitProperties properties) {
+        log.info("Using local rate limit state store (maxBuckets={})", properties.getMaxBuckets());
+        return new LocalRateLimitStateStore(
+                properties.getMaxBuckets(),
+                Duration.ofMinutes(properties.getIdleTimeoutMinutes()));
+    }
+
+    @Bean
+    public RateLimiter rateLimiter(RateLimitStateStore rateLimitStateStore, MeterRegistry meterRegistry) {
+        return new GcraRateLimiter(rateLimitStateStore, meterRegistry);
+    }
+}
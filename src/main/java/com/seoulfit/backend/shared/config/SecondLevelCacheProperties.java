@@ -0,0 +1,49 @@
+package com.seoulfit.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 설정
+ *
+ * 리전별 최대 엔트리 수(max-size)와 쓰기 후 만료 시간(expire-after-write)을 설정합니다.
+ * 설정하지 않은 리전은 defaults 값을 사용합니다.
+ */
+@ConfigurationProperties(prefix = "seoulfit.jpa.second-level-cache")
+@Setter
+@Getter
+public class SecondLevelCacheProperties {
+
+    /**
+     * 2차 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    private Region defaults = new Region(1_000, Duration.ofHours(1));
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public Region regionOf(String name) {
+        return regions.getOrDefault(name, defaults);
+    }
+
+    @Setter
+    @Getter
+    public static class Region {
+        private long maxSize;
+        private Duration expireAfterWrite;
+
+        public Region() {
+        }
+
+        public Region(long maxSize, Duration expireAfterWrite) {
+            this.maxSize = maxSize;
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+}
@@ -67,7 +67,8 @@ public class SecurityConfig {
                                     "/api/location/parks",
                                     "/api/location/sports-facilities",
                                     "/api/location/cooling-centers",
-                                    "/api/location/advanced/recommend-scale").permitAll()
+                                    "/api/location/advanced/recommend-scale",
+                                    "/api/location/tiles/**").permitAll()
                             .requestMatchers(
                                     "/api/admin/batch/**",
                                     "/actuator/health",
@@ -0,0 +1,55 @@
+package com.seoulfit.backend.shared.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본 데이터소스 설정
+ *
+ * 복제본 접속 정보와 지연 허용치를 설정합니다.
+ * 커넥션 풀 설정은 seoulfit.datasource.replica.hikari 아래에 둡니다.
+ */
+@ConfigurationProperties(prefix = "seoulfit.datasource.replica")
+@Setter
+@Getter
+public class ReplicaDataSourceProperties {
+
+    /**
+     * 복제본 라우팅 사용 여부 (false면 모든 요청이 기본 데이터소스를 사용)
+     */
+    private boolean enabled = false;
+
+    private String driverClassName;
+    private String url;
+    private String username;
+    private String password;
+
+    /**
+     * 이 값보다 복제 지연이 크면 읽기 전용 트랜잭션도 primary로 보냄
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * 복제 지연(밀리초)을 한 행 한 열로 반환하는 쿼리 (기본값은 PostgreSQL 스탠바이용)
+     *
+     * 지연을 알 수 없으면 NULL을 반환해야 하며, NULL이나 빈 결과는 복제본 사용 불가로 처리합니다.
+     * 기본 쿼리는 WAL 수신이 streaming 상태가 아니거나(수신 중단 시 수신/재생 위치가 같아 지연 0으로 보이는 경우 포함)
+     * 마지막 재생 시각을 모르면 NULL을 반환합니다. pg_stat_wal_receiver 상태를 보려면 pg_read_all_stats 권한이 필요합니다.
+     */
+    private String lagQuery = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+            END
+            """;
+
+    /**
+     * 시설 배치 커밋 후 읽기 전용 트랜잭션을 primary로 고정하는 시간
+     */
+    private Duration primaryHoldAfterRefresh = Duration.ofSeconds(30);
+}
@@ -0,0 +1,108 @@
+package com.seoulfit.backend.shared.datasource;
+
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 복제본 지연 감시
+ *
+ * 주기적으로 복제본의 복제 지연을 조회해 읽기 전용 트랜잭션을 복제본으로 보내도 되는지 판단합니다.
+ * 아래 경우에는 복제본을 쓰지 않고 primary로 보냅니다.
+ * - 지연이 허용치(max-lag)를 넘거나, 지연 조회에 실패했거나, 지연을 알 수 없는(NULL 또는 결과 없음) 경우
+ *   (다음 조회에서 회복되면 다시 사용)
+ * - 복제본 커넥션 획득에 실패한 경우
+ * - 시설 배치 커밋 직후 일정 시간 (지도 레이어와 응답 스냅샷이 갱신 전 데이터로 다시 만들어지지 않도록)
+ *
+ * 기동 직후 첫 조회 전까지는 primary를 사용합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration primaryHoldAfterRefresh;
+
+    private volatile boolean replicaHealthy;
+    private volatile long primaryHoldUntilNanos = System.nanoTime();
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, Duration maxLag,
+                             Duration primaryHoldAfterRefresh) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.primaryHoldAfterRefresh = primaryHoldAfterRefresh;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 복제본으로 보내도 되는지 여부
+     */
+    public boolean isReplicaAvailable() {
+        return replicaHealthy && System.nanoTime() - primaryHoldUntilNanos >= 0;
+    }
+
+    /**
+     * 복제 지연 조회
+     */
+    @Scheduled(fixedDelayString = "${seoulfit.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                update(false, "복제 지연 조회 결과 없음");
+                return;
+            }
+            double lag = rs.getDouble(1);
+            if (rs.wasNull()) {
+                update(false, "복제 지연 알 수 없음 (NULL)");
+                return;
+            }
+            long lagMillis = Math.round(lag);
+            update(lagMillis <= maxLag.toMillis(), "복제 지연 " + lagMillis + "ms");
+        } catch (SQLException e) {
+            update(false, "복제 지연 조회 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 복제본 커넥션 획득 실패 시 다음 지연 조회까지 복제본 사용 중지
+     */
+    public void markUnavailable(SQLException cause) {
+        update(false, "복제본 커넥션 획득 실패: " + cause.getMessage());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onPoiDataRefreshed(PoiDataRefreshedEvent event) {
+        primaryHoldUntilNanos = System.nanoTime() + primaryHoldAfterRefresh.toNanos();
+        log.info("시설 데이터 갱신으로 {}초 동안 읽기 전용 트랜잭션을 primary로 보냄: {}",
+                primaryHoldAfterRefresh.toSeconds(), event.poiType());
+    }
+
+    private void update(boolean healthy, String reason) {
+        boolean previous = replicaHealthy;
+        replicaHealthy = healthy;
+        if (previous != healthy) {
+            if (healthy) {
+                log.info("복제본 사용 재개 ({})", reason);
+            } else {
+                log.warn("복제본 사용 중지, primary로 전환 ({})", reason);
+            }
+        }
+    }
+}
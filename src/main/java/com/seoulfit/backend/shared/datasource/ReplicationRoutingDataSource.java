@@ -0,0 +1,64 @@
+package com.seoulfit.backend.shared.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 트랜잭션 읽기 전용 여부로 primary/복제본을 고르는 라우팅 데이터소스
+ *
+ * {@code @Transactional(readOnly = true)} 안에서 얻는 커넥션은 복제본, 그 밖(쓰기 트랜잭션, 트랜잭션 없음)은 primary로 보냅니다.
+ * 트랜잭션 관리자는 읽기 전용 표시를 하기 전에 커넥션을 얻으므로,
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸 첫 쿼리 시점에 고르게 해야 합니다.
+ * 쓰기 트랜잭션 안에서 호출한 읽기 전용 메서드는 바깥 트랜잭션에 참여하므로 primary를 그대로 사용합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicationRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+                                        ReplicaLagMonitor lagMonitor) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primaryDataSource, Target.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isReplicaAvailable()
+                ? Target.REPLICA
+                : Target.PRIMARY;
+    }
+
+    /**
+     * 복제본 커넥션을 얻지 못하면 primary 커넥션으로 대신하고 복제본 사용을 멈춤
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() != Target.REPLICA) {
+            return primaryDataSource.getConnection();
+        }
+        try {
+            return replicaDataSource.getConnection();
+        } catch (SQLException e) {
+            lagMonitor.markUnavailable(e);
+            return primaryDataSource.getConnection();
+        }
+    }
+}
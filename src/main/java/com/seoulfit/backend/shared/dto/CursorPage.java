@@ -0,0 +1,54 @@
+package com.seoulfit.backend.shared.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지 응답
+ *
+ * 저장소는 요청 크기보다 한 건 더 조회하고, 남는 한 건으로 다음 페이지 존재 여부를 판단합니다.
+ * 전체 건수(COUNT)는 계산하지 않습니다.
+ *
+ * @param content 페이지 항목
+ * @param nextCursor 다음 페이지 요청에 넘길 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ * @param <T> 항목 타입
+ */
+@Schema(description = "커서 페이지 응답")
+public record CursorPage<T>(
+        @Schema(description = "페이지 항목")
+        List<T> content,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+        String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청 페이지 크기를 1 ~ {@link #MAX_SIZE} 범위로 보정
+     */
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * 요청 크기 + 1건으로 조회한 행으로 페이지 생성
+     *
+     * @param rows 최신순으로 최대 size + 1건 조회한 행
+     * @param size 보정된 페이지 크기
+     * @param cursorOf 행의 커서 추출 함수
+     * @param mapper 응답 항목 변환 함수
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, KeysetCursor> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
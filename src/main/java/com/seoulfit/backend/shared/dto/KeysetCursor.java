@@ -0,0 +1,59 @@
+package com.seoulfit.backend.shared.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션 위치
+ *
+ * 최신순 목록에서 마지막으로 내려준 행의 (시각, ID)를 담습니다.
+ * 다음 페이지는 이 값보다 앞선 행을 인덱스에서 바로 찾아 읽으므로 OFFSET처럼 앞 페이지 행을 건너뛰며 읽지 않습니다.
+ * 같은 시각의 행은 ID로 순서를 정해 페이지 경계에서 누락되거나 중복되지 않습니다.
+ *
+ * 클라이언트에는 URL-safe Base64로 인코딩한 불투명 토큰으로 전달합니다.
+ *
+ * @param time 마지막 행의 시각
+ * @param id 마지막 행의 ID
+ */
+public record KeysetCursor(LocalDateTime time, Long id) {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    public KeysetCursor {
+        if (time == null || id == null) {
+            throw new IllegalArgumentException("커서의 시각과 ID는 필수입니다.");
+        }
+    }
+
+    /**
+     * 불투명 토큰으로 인코딩
+     */
+    public String encode() {
+        String raw = VERSION + DELIMITER + time + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 디코딩 (토큰이 없으면 첫 페이지를 뜻하는 null)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new KeysetCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
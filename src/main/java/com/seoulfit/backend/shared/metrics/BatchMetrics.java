@@ -0,0 +1,78 @@
+package com.seoulfit.backend.shared.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공공 데이터 배치 메트릭
+ *
+ * 배치 작업의 실행 시간과 단계별 처리 건수를 기록합니다.
+ * Actuator의 /actuator/prometheus, /actuator/metrics 로 노출됩니다.
+ *
+ * **메트릭:**
+ * - seoulfit.batch.duration{batch, outcome=success|failure}: 배치 한 번의 소요 시간
+ * - seoulfit.batch.rows{batch, stage=fetched|saved|updated|skipped}: 배치 한 번에서 단계별 처리 건수
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchMetrics {
+
+    public static final String FETCHED = "fetched";
+    public static final String SAVED = "saved";
+    public static final String UPDATED = "updated";
+    public static final String SKIPPED = "skipped";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 배치 시간 측정을 시작합니다.
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * 성공한 배치의 소요 시간을 기록합니다.
+     */
+    public void recordSuccess(String batch, Timer.Sample sample) {
+        sample.stop(durationTimer(batch, "success"));
+    }
+
+    /**
+     * 실패한 배치의 소요 시간을 기록합니다.
+     */
+    public void recordFailure(String batch, Timer.Sample sample) {
+        sample.stop(durationTimer(batch, "failure"));
+    }
+
+    /**
+     * 배치 단계별 처리 건수를 기록합니다.
+     *
+     * @param batch 배치 이름
+     * @param stage 처리 단계 (fetched, saved, updated, skipped)
+     * @param rows 처리 건수
+     */
+    public void recordRows(String batch, String stage, long rows) {
+        DistributionSummary.builder("seoulfit.batch.rows")
+                .description("Rows processed per batch run")
+                .baseUnit("rows")
+                .tag("batch", batch)
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+    private Timer durationTimer(String batch, String outcome) {
+        return Timer.builder("seoulfit.batch.duration")
+                .description("Duration of one batch run")
+                .tag("batch", batch)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
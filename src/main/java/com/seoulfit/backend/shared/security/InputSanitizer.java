@@ -11,6 +11,9 @@ import java.util.regex.Pattern;
  * SQL Injection, XSS, Command Injection 등의 공격을 방지하기 위한
  * 입력값 검증 및 살균 기능을 제공합니다.
  * 
+ * 위협 패턴 검사는 {@link InputThreatScanner}가 입력값을 한 번만 순회하여 수행하며,
+ * 위협이 없는 입력에 대해서는 객체를 생성하지 않습니다.
+ * 
  * @author Seoul Fit
  * @since 1.0.0
  */
@@ -18,29 +21,8 @@ import java.util.regex.Pattern;
 @Component
 public class InputSanitizer {
 
-    // SQL Injection 패턴
-    private static final Pattern SQL_PATTERN = Pattern.compile(
-        "('.+--)|(--)|(\\|\\|)|(;)|(\\*)|(<>)|(!=)|" +
-        "(\\b(OR|AND)\\b\\s+['\"]?[^\\s=]+['\"]?\\s*=\\s*['\"]?[^\\s]+)|" +
-        "(\\b(ALTER|CREATE|DELETE|DROP|EXEC(UTE)?|INSERT( +INTO)?|MERGE|SELECT|UPDATE|UNION( +ALL)?)\\b)",
-        Pattern.CASE_INSENSITIVE
-    );
-
-    // XSS 패턴
-    private static final Pattern XSS_PATTERN = Pattern.compile(
-        "(<script[^>]*>.*?</script>)|" +
-        "(<iframe[^>]*>.*?</iframe>)|" +
-        "(javascript:)|" +
-        "(on\\w+\\s*=)|" +
-        "(<[^>]+style\\s*=\\s*['\"].*?expression\\s*\\([^>]*>)|" +
-        "(<[^>]+style\\s*=\\s*['\"].*?javascript\\s*:[^>]*>)",
-        Pattern.CASE_INSENSITIVE | Pattern.DOTALL
-    );
-
-    // 파일 경로 탐색 패턴
-    private static final Pattern PATH_TRAVERSAL_PATTERN = Pattern.compile(
-        "(\\.\\./)|(\\.\\\\)|(%2e%2e)|(%252e%252e)"
-    );
+    // HTML 태그 패턴
+    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
 
     // 이메일 검증 패턴
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
@@ -56,57 +38,31 @@ public class InputSanitizer {
      * SQL Injection 검사
      */
     public boolean containsSqlInjection(String input) {
-        if (input == null || input.isEmpty()) {
-            return false;
-        }
-        
-        boolean hasSqlPattern = SQL_PATTERN.matcher(input).find();
-        if (hasSqlPattern) {
-            log.warn("SQL Injection pattern detected in input: {}", 
-                    input.substring(0, Math.min(input.length(), 50)));
-        }
-        return hasSqlPattern;
+        return detect(input, InputThreatScanner.SQL_INJECTION);
     }
 
     /**
      * XSS 공격 검사
      */
     public boolean containsXss(String input) {
-        if (input == null || input.isEmpty()) {
-            return false;
-        }
-        
-        boolean hasXssPattern = XSS_PATTERN.matcher(input).find();
-        if (hasXssPattern) {
-            log.warn("XSS pattern detected in input: {}", 
-                    input.substring(0, Math.min(input.length(), 50)));
-        }
-        return hasXssPattern;
+        return detect(input, InputThreatScanner.XSS);
     }
 
     /**
      * 경로 탐색 공격 검사
      */
     public boolean containsPathTraversal(String input) {
-        if (input == null || input.isEmpty()) {
-            return false;
-        }
-        
-        boolean hasPathTraversal = PATH_TRAVERSAL_PATTERN.matcher(input).find();
-        if (hasPathTraversal) {
-            log.warn("Path traversal pattern detected in input: {}", input);
-        }
-        return hasPathTraversal;
+        return detect(input, InputThreatScanner.PATH_TRAVERSAL);
     }
 
     /**
      * HTML 태그 제거
      */
     public String stripHtmlTags(String input) {
-        if (input == null) {
-            return null;
+        if (input == null || input.indexOf('<') < 0) {
+            return input;
         }
-        return input.replaceAll("<[^>]*>", "");
+        return HTML_TAG_PATTERN.matcher(input).replaceAll("");
     }
 
     /**
@@ -149,18 +105,29 @@ public class InputSanitizer {
             return null;
         }
         
-        // 위험한 문자 제거
-        String sanitized = fileName.replaceAll("[^a-zA-Z0-9._-]", "_");
-        
-        // 경로 구분자 제거
-        sanitized = sanitized.replace("/", "_").replace("\\", "_");
+        // 위험한 문자와 경로 구분자를 코드 포인트 단위로 '_'로 치환
+        int limit = Math.min(fileName.length(), 255);
+        StringBuilder sanitized = null;
+        for (int i = 0; i < fileName.length(); ) {
+            int codePoint = fileName.codePointAt(i);
+            int next = i + Character.charCount(codePoint);
+            if (!isSafeFileNameChar(codePoint) && sanitized == null) {
+                sanitized = new StringBuilder(limit).append(fileName, 0, Math.min(i, 255));
+            }
+            if (sanitized != null) {
+                if (sanitized.length() >= 255) {
+                    break;
+                }
+                sanitized.append(isSafeFileNameChar(codePoint) ? (char) codePoint : '_');
+            }
+            i = next;
+        }
         
         // 길이 제한
-        if (sanitized.length() > 255) {
-            sanitized = sanitized.substring(0, 255);
+        if (sanitized == null) {
+            return fileName.length() > 255 ? fileName.substring(0, 255) : fileName;
         }
-        
-        return sanitized;
+        return sanitized.toString();
     }
 
     /**
@@ -180,8 +147,7 @@ public class InputSanitizer {
         if (phone == null || phone.isEmpty()) {
             return false;
         }
-        String cleaned = phone.replaceAll("[^0-9]", "");
-        return PHONE_PATTERN.matcher(cleaned).matches();
+        return PHONE_PATTERN.matcher(digitsOnly(phone)).matches();
     }
 
     /**
@@ -231,12 +197,19 @@ public class InputSanitizer {
             return ValidationResult.invalid("입력값이 비어있습니다.");
         }
         
-        // 공통 검사
-        if (containsSqlInjection(input)) {
+        // 공통 검사 (한 번의 순회로 모든 위협 유형 판정)
+        int categories = type == InputType.FILE_NAME
+                ? InputThreatScanner.ALL
+                : InputThreatScanner.SQL_INJECTION | InputThreatScanner.XSS;
+        int threats = InputThreatScanner.scan(input, categories);
+        
+        if ((threats & InputThreatScanner.SQL_INJECTION) != 0) {
+            logThreat(InputThreatScanner.SQL_INJECTION, input);
             return ValidationResult.invalid("허용되지 않은 SQL 패턴이 포함되어 있습니다.");
         }
         
-        if (containsXss(input)) {
+        if ((threats & InputThreatScanner.XSS) != 0) {
+            logThreat(InputThreatScanner.XSS, input);
             return ValidationResult.invalid("허용되지 않은 스크립트 패턴이 포함되어 있습니다.");
         }
         
@@ -253,7 +226,8 @@ public class InputSanitizer {
                 }
                 break;
             case FILE_NAME:
-                if (containsPathTraversal(input)) {
+                if ((threats & InputThreatScanner.PATH_TRAVERSAL) != 0) {
+                    logThreat(InputThreatScanner.PATH_TRAVERSAL, input);
                     return ValidationResult.invalid("파일 경로 탐색 패턴이 포함되어 있습니다.");
                 }
                 break;
@@ -270,6 +244,47 @@ public class InputSanitizer {
         return ValidationResult.valid();
     }
 
+    private boolean detect(String input, int category) {
+        boolean detected = (InputThreatScanner.scan(input, category) & category) != 0;
+        if (detected) {
+            logThreat(category, input);
+        }
+        return detected;
+    }
+
+    private void logThreat(int category, String input) {
+        switch (category) {
+            case InputThreatScanner.SQL_INJECTION -> log.warn("SQL Injection pattern detected in input: {}",
+                    input.substring(0, Math.min(input.length(), 50)));
+            case InputThreatScanner.XSS -> log.warn("XSS pattern detected in input: {}",
+                    input.substring(0, Math.min(input.length(), 50)));
+            default -> log.warn("Path traversal pattern detected in input: {}", input);
+        }
+    }
+
+    private static boolean isSafeFileNameChar(int codePoint) {
+        return (codePoint >= 'a' && codePoint <= 'z') || (codePoint >= 'A' && codePoint <= 'Z')
+                || (codePoint >= '0' && codePoint <= '9')
+                || codePoint == '.' || codePoint == '_' || codePoint == '-';
+    }
+
+    /**
+     * 숫자만 남긴 문자열 (이미 숫자만 있으면 원본 반환)
+     */
+    private static String digitsOnly(String input) {
+        StringBuilder digits = null;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            if (!digit && digits == null) {
+                digits = new StringBuilder(input.length()).append(input, 0, i);
+            } else if (digit && digits != null) {
+                digits.append(c);
+            }
+        }
+        return digits == null ? input : digits.toString();
+    }
+
     /**
      * 입력 타입 열거형
      */
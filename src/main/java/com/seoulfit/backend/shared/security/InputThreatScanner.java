@@ -0,0 +1,286 @@
+package com.seoulfit.backend.shared.security;
+
+/**
+ * 단일 패스 입력값 위협 스캐너
+ *
+ * {@link InputSanitizer}가 사용하던 SQL Injection / XSS / 경로 탐색 정규식과 동일한 판정을
+ * 문자열 한 번의 순회로 수행합니다. 위협 유형별로 입력 전체를 다시 훑지 않으며,
+ * 위협이 없는 입력에 대해서는 객체를 생성하지 않습니다.
+ *
+ * 정규식과의 판정 일치 여부는 InputThreatScannerTest에서 검증합니다.
+ * 대소문자 무시 비교와 단어 문자(\w, \b)는 정규식 기본 동작과 같이 ASCII 기준입니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+final class InputThreatScanner {
+
+    static final int SQL_INJECTION = 1;
+    static final int XSS = 1 << 1;
+    static final int PATH_TRAVERSAL = 1 << 2;
+    static final int ALL = SQL_INJECTION | XSS | PATH_TRAVERSAL;
+
+    // 소문자로 보관, 단어 전체가 일치해야 함
+    private static final String[] SQL_KEYWORDS = {
+        "alter", "create", "delete", "drop", "exec", "execute",
+        "insert", "merge", "select", "update", "union"
+    };
+
+    private InputThreatScanner() {
+    }
+
+    /**
+     * 입력값을 한 번 순회하며 위협 유형을 판정
+     *
+     * @param input 검사할 문자열
+     * @param categories 검사할 위협 유형 비트 조합
+     * @return 발견된 위협 유형 비트 조합 (없으면 0)
+     */
+    static int scan(String input, int categories) {
+        if (input == null || input.isEmpty() || categories == 0) {
+            return 0;
+        }
+
+        final boolean sql = (categories & SQL_INJECTION) != 0;
+        final boolean xss = (categories & XSS) != 0;
+        final boolean path = (categories & PATH_TRAVERSAL) != 0;
+        final int length = input.length();
+
+        int found = 0;
+        int wordStart = -1;
+
+        // <script ...> ... </script>, <iframe ...> ... </iframe>
+        // 0: 시작 태그 대기, 1: 시작 태그의 '>' 대기, 2: 종료 태그 대기
+        int scriptState = 0;
+        int iframeState = 0;
+
+        // <... style = '...expression( ...>
+        int tagStart = -1;          // 마지막 '>' 이후 처음 나온 '<' 위치
+        int styleValueFrom = -1;    // style 속성 값 시작 위치 (따옴표 다음)
+        int styleCallFrom = -1;     // expression( 또는 javascript: 다음 위치
+
+        for (int i = 0; i <= length; i++) {
+            if ((found & categories) == categories) {
+                return found;
+            }
+
+            char c = i < length ? input.charAt(i) : '\0';
+            boolean wordChar = i < length && isWordChar(c);
+
+            // 단어 경계에서 단어 단위 검사
+            if (wordChar) {
+                if (wordStart < 0) {
+                    wordStart = i;
+                }
+            } else if (wordStart >= 0) {
+                if (sql && (found & SQL_INJECTION) == 0 && isSqlWordThreat(input, wordStart, i)) {
+                    found |= SQL_INJECTION;
+                }
+                if (xss && (found & XSS) == 0 && isEventHandlerAttribute(input, wordStart, i)) {
+                    found |= XSS;
+                }
+                wordStart = -1;
+            }
+
+            if (i == length) {
+                break;
+            }
+
+            char next = i + 1 < length ? input.charAt(i + 1) : '\0';
+
+            if (sql && (found & SQL_INJECTION) == 0) {
+                if (c == ';' || c == '*'
+                        || (c == '-' && next == '-')
+                        || (c == '|' && next == '|')
+                        || (c == '<' && next == '>')
+                        || (c == '!' && next == '=')) {
+                    found |= SQL_INJECTION;
+                }
+            }
+
+            if (path && (found & PATH_TRAVERSAL) == 0) {
+                if ((c == '.' && (next == '\\' || (next == '.' && i + 2 < length && input.charAt(i + 2) == '/')))
+                        || (c == '%' && (input.startsWith("%2e%2e", i) || input.startsWith("%252e%252e", i)))) {
+                    found |= PATH_TRAVERSAL;
+                }
+            }
+
+            if (xss && (found & XSS) == 0) {
+                if (c == '<') {
+                    if (tagStart < 0) {
+                        tagStart = i;
+                    }
+                    if (scriptState == 0 && matchesIgnoreCase(input, i, "<script")) {
+                        scriptState = 1;
+                    } else if (scriptState == 2 && matchesIgnoreCase(input, i, "</script>")) {
+                        found |= XSS;
+                    }
+                    if (iframeState == 0 && matchesIgnoreCase(input, i, "<iframe")) {
+                        iframeState = 1;
+                    } else if (iframeState == 2 && matchesIgnoreCase(input, i, "</iframe>")) {
+                        found |= XSS;
+                    }
+                } else if (c == '>') {
+                    if (scriptState == 1) {
+                        scriptState = 2;
+                    }
+                    if (iframeState == 1) {
+                        iframeState = 2;
+                    }
+                    if (styleCallFrom >= 0 && i >= styleCallFrom) {
+                        found |= XSS;
+                    }
+                    tagStart = -1;
+                } else if (c == 'j' || c == 'J') {
+                    if (matchesIgnoreCase(input, i, "javascript:")) {
+                        found |= XSS;
+                    } else if (styleCallFrom < 0 && styleValueFrom >= 0 && i >= styleValueFrom
+                            && matchesIgnoreCase(input, i, "javascript")) {
+                        styleCallFrom = afterCall(input, i + 10, ':');
+                    }
+                } else if (c == 'e' || c == 'E') {
+                    if (styleCallFrom < 0 && styleValueFrom >= 0 && i >= styleValueFrom
+                            && matchesIgnoreCase(input, i, "expression")) {
+                        styleCallFrom = afterCall(input, i + 10, '(');
+                    }
+                } else if (c == 's' || c == 'S') {
+                    if (styleValueFrom < 0 && tagStart >= 0 && i >= tagStart + 2
+                            && matchesIgnoreCase(input, i, "style")) {
+                        styleValueFrom = afterStyleAssignment(input, i + 5);
+                    }
+                }
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * SQL 키워드 또는 OR/AND 조건식 여부
+     */
+    private static boolean isSqlWordThreat(String input, int start, int end) {
+        int length = end - start;
+        if (length == 2 && matchesIgnoreCase(input, start, "or")
+                || length == 3 && matchesIgnoreCase(input, start, "and")) {
+            return isTautologyCondition(input, end);
+        }
+        if (length < 4 || length > 7) {
+            return false;
+        }
+        for (String keyword : SQL_KEYWORDS) {
+            if (keyword.length() == length && matchesIgnoreCase(input, start, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * OR/AND 뒤의 {@code \s+ 피연산자 \s* = \s* 피연산자} 형태 확인
+     */
+    private static boolean isTautologyCondition(String input, int from) {
+        int length = input.length();
+        int i = from;
+        if (i >= length || !isSpace(input.charAt(i))) {
+            return false;
+        }
+        i = skipSpaces(input, i);
+
+        int operandStart = i;
+        while (i < length && !isSpace(input.charAt(i)) && input.charAt(i) != '=') {
+            i++;
+        }
+        if (i == operandStart) {
+            return false;
+        }
+
+        i = skipSpaces(input, i);
+        if (i >= length || input.charAt(i) != '=') {
+            return false;
+        }
+        return skipSpaces(input, i + 1) < length;
+    }
+
+    /**
+     * on으로 시작하는 이벤트 핸들러 속성 ({@code on\w+\s*=}) 여부
+     */
+    private static boolean isEventHandlerAttribute(String input, int start, int end) {
+        // "on" 뒤에 단어 문자가 최소 1개 있어야 함
+        boolean containsOn = false;
+        for (int i = start; i + 2 < end; i++) {
+            char c = input.charAt(i);
+            if ((c == 'o' || c == 'O') && (input.charAt(i + 1) == 'n' || input.charAt(i + 1) == 'N')) {
+                containsOn = true;
+                break;
+            }
+        }
+        if (!containsOn) {
+            return false;
+        }
+        int i = skipSpaces(input, end);
+        return i < input.length() && input.charAt(i) == '=';
+    }
+
+    /**
+     * style 뒤의 {@code \s*=\s*['"]} 확인
+     *
+     * @return 속성 값 시작 위치, 형식이 맞지 않으면 -1
+     */
+    private static int afterStyleAssignment(String input, int from) {
+        int i = skipSpaces(input, from);
+        if (i >= input.length() || input.charAt(i) != '=') {
+            return -1;
+        }
+        i = skipSpaces(input, i + 1);
+        if (i >= input.length() || (input.charAt(i) != '\'' && input.charAt(i) != '"')) {
+            return -1;
+        }
+        return i + 1;
+    }
+
+    /**
+     * {@code \s*} 뒤에 기대 문자가 오는지 확인
+     *
+     * @return 기대 문자 다음 위치, 없으면 -1
+     */
+    private static int afterCall(String input, int from, char expected) {
+        int i = skipSpaces(input, from);
+        return i < input.length() && input.charAt(i) == expected ? i + 1 : -1;
+    }
+
+    private static int skipSpaces(String input, int from) {
+        int i = from;
+        while (i < input.length() && isSpace(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * ASCII 대소문자 무시 비교 (lowerKeyword는 소문자)
+     */
+    private static boolean matchesIgnoreCase(String input, int offset, String lowerKeyword) {
+        int keywordLength = lowerKeyword.length();
+        if (offset + keywordLength > input.length()) {
+            return false;
+        }
+        for (int k = 0; k < keywordLength; k++) {
+            char c = input.charAt(offset + k);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (c != lowerKeyword.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
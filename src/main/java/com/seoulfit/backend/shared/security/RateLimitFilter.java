@@ -4,6 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.seoulfit.backend.shared.dto.ApiResponse;
+import com.seoulfit.backend.shared.security.ratelimit.RateLimitDecision;
+import com.seoulfit.backend.shared.security.ratelimit.RateLimitPolicy;
+import com.seoulfit.backend.shared.security.ratelimit.RateLimitProperties;
+import com.seoulfit.backend.shared.security.ratelimit.RateLimiter;
+import com.seoulfit.backend.shared.security.ratelimit.RouteNormalizer;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -12,7 +17,6 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 
@@ -25,12 +29,14 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Rate Limiting 필터
  * 
  * DDoS 공격과 API 남용을 방지하기 위한 요청 제한 필터입니다.
- * IP 주소별로 요청 횟수를 제한합니다.
+ * 클라이언트 IP와 정규화된 라우트 템플릿 조합마다 토큰 버킷(GCRA)을 두어 요청을 제한합니다.
  * 
- * **Rate Limit 정책:**
+ * **Rate Limit 정책 (기본값, seoulfit.security.rate-limit.* 로 변경 가능):**
  * - 일반 API: 분당 100회
  * - 인증 API: 분당 10회
  * - 검색 API: 분당 50회
+ * - 쓰기 API(POST/PUT/DELETE): 분당 30회
+ * - 동기화 API: 분당 5회
  * - 관리자 API: 무제한
  * 
  * @author Seoul Fit
@@ -38,13 +44,20 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RateLimitFilter implements Filter {
 
     private final ObjectMapper objectMapper;
+    private final RateLimiter rateLimiter;
+    private final String clientIpHeader;
+
+    private final RateLimitPolicy authPolicy;
+    private final RateLimitPolicy searchPolicy;
+    private final RateLimitPolicy syncPolicy;
+    private final RateLimitPolicy writePolicy;
+    private final RateLimitPolicy standardPolicy;
     
-    // IP별 요청 카운터 캐시 (1분 TTL)
-    private final Cache<String, AtomicInteger> requestCountCache = Caffeine.newBuilder()
+    // IP별 제한 초과 횟수 (1분 TTL)
+    private final Cache<String, AtomicInteger> rejectionCountCache = Caffeine.newBuilder()
             .maximumSize(10000)
             .expireAfterWrite(Duration.ofMinutes(1))
             .build();
@@ -55,6 +68,17 @@ public class RateLimitFilter implements Filter {
             .expireAfterWrite(Duration.ofHours(1))
             .build();
 
+    public RateLimitFilter(ObjectMapper objectMapper, RateLimiter rateLimiter, RateLimitProperties properties) {
+        this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.clientIpHeader = properties.getClientIpHeader();
+        this.authPolicy = properties.getAuth().toRateLimitPolicy("auth");
+        this.searchPolicy = properties.getSearch().toRateLimitPolicy("search");
+        this.syncPolicy = properties.getSync().toRateLimitPolicy("sync");
+        this.writePolicy = properties.getWrite().toRateLimitPolicy("write");
+        this.standardPolicy = properties.getStandard().toRateLimitPolicy("standard");
+    }
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
@@ -62,7 +86,6 @@ public class RateLimitFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
         
-        String clientIp = getClientIp(httpRequest);
         String endpoint = httpRequest.getRequestURI();
         
         // 관리자 엔드포인트는 Rate Limit 제외
@@ -71,6 +94,8 @@ public class RateLimitFilter implements Filter {
             return;
         }
         
+        String clientIp = getClientIp(httpRequest);
+        
         // 블랙리스트 체크
         if (isBlacklisted(clientIp)) {
             sendTooManyRequestsResponse(httpResponse, "일시적으로 차단된 IP입니다. 1시간 후 다시 시도해주세요.");
@@ -78,23 +103,26 @@ public class RateLimitFilter implements Filter {
         }
         
         // Rate Limit 체크
-        int limit = getRateLimitForEndpoint(endpoint);
-        int currentCount = incrementAndGetRequestCount(clientIp, endpoint);
+        RateLimitPolicy policy = getRateLimitPolicy(endpoint, httpRequest.getMethod());
+        String bucketKey = policy.name() + '|' + RouteNormalizer.normalize(endpoint) + '|' + clientIp;
+        RateLimitDecision decision = rateLimiter.tryAcquire(bucketKey, policy);
         
         // 헤더에 Rate Limit 정보 추가
-        httpResponse.setHeader("X-Rate-Limit-Limit", String.valueOf(limit));
-        httpResponse.setHeader("X-Rate-Limit-Remaining", String.valueOf(Math.max(0, limit - currentCount)));
-        httpResponse.setHeader("X-Rate-Limit-Reset", String.valueOf(System.currentTimeMillis() + 60000));
-        
-        if (currentCount > limit) {
-            // 과도한 요청 시 블랙리스트 추가
-            if (currentCount > limit * 2) {
+        httpResponse.setHeader("X-Rate-Limit-Limit", String.valueOf(decision.limit()));
+        httpResponse.setHeader("X-Rate-Limit-Remaining", String.valueOf(decision.remaining()));
+        httpResponse.setHeader("X-Rate-Limit-Reset",
+                String.valueOf(System.currentTimeMillis() + decision.resetAfterMillis()));
+        
+        if (!decision.allowed()) {
+            // 제한 초과가 계속되면 블랙리스트 추가
+            if (incrementAndGetRejectionCount(clientIp) > policy.capacity()) {
                 addToBlacklist(clientIp);
                 log.warn("IP {} has been blacklisted due to excessive requests", clientIp);
             }
             
+            httpResponse.setHeader("Retry-After", String.valueOf(Math.max(1L, (decision.retryAfterMillis() + 999) / 1000)));
             sendTooManyRequestsResponse(httpResponse, 
-                String.format("요청 횟수 제한을 초과했습니다. (제한: %d회/분)", limit));
+                String.format("요청 횟수 제한을 초과했습니다. (제한: %d회/분)", policy.refillPerMinute()));
             return;
         }
         
@@ -103,27 +131,16 @@ public class RateLimitFilter implements Filter {
 
     /**
      * 클라이언트 IP 추출
+     * 
+     * 설정된 프록시 헤더 하나만 확인하고, 없으면 remoteAddr을 사용합니다.
      */
     private String getClientIp(HttpServletRequest request) {
-        String[] headers = {
-            "X-Forwarded-For",
-            "Proxy-Client-IP",
-            "WL-Proxy-Client-IP",
-            "HTTP_X_FORWARDED_FOR",
-            "HTTP_X_FORWARDED",
-            "HTTP_X_CLUSTER_CLIENT_IP",
-            "HTTP_CLIENT_IP",
-            "HTTP_FORWARDED_FOR",
-            "HTTP_FORWARDED",
-            "HTTP_VIA",
-            "REMOTE_ADDR"
-        };
-        
-        for (String header : headers) {
-            String ip = request.getHeader(header);
+        if (clientIpHeader != null && !clientIpHeader.isEmpty()) {
+            String ip = request.getHeader(clientIpHeader);
             if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
                 // 여러 IP가 있는 경우 첫 번째 IP 사용
-                return ip.split(",")[0].trim();
+                int comma = ip.indexOf(',');
+                return (comma < 0 ? ip : ip.substring(0, comma)).trim();
             }
         }
         
@@ -131,40 +148,39 @@ public class RateLimitFilter implements Filter {
     }
 
     /**
-     * 엔드포인트별 Rate Limit 설정
+     * 엔드포인트별 Rate Limit 정책
      */
-    private int getRateLimitForEndpoint(String endpoint) {
+    private RateLimitPolicy getRateLimitPolicy(String endpoint, String method) {
         // 인증 관련 엔드포인트 - 엄격한 제한
         if (endpoint.startsWith("/api/auth") || endpoint.startsWith("/oauth2")) {
-            return 10; // 분당 10회
+            return authPolicy;
         }
         
         // 검색 엔드포인트 - 중간 제한
         if (endpoint.contains("search") || endpoint.contains("query")) {
-            return 50; // 분당 50회
+            return searchPolicy;
         }
         
         // 데이터 동기화 엔드포인트 - 낮은 제한
         if (endpoint.contains("sync")) {
-            return 5; // 분당 5회
+            return syncPolicy;
         }
         
         // 쓰기 작업 - 중간 제한
-        if ("POST".equalsIgnoreCase(endpoint) || "PUT".equalsIgnoreCase(endpoint) || 
-            "DELETE".equalsIgnoreCase(endpoint)) {
-            return 30; // 분당 30회
+        if ("POST".equalsIgnoreCase(method) || "PUT".equalsIgnoreCase(method) || 
+            "DELETE".equalsIgnoreCase(method)) {
+            return writePolicy;
         }
         
         // 기본값 - 일반적인 제한
-        return 100; // 분당 100회
+        return standardPolicy;
     }
 
     /**
-     * 요청 카운트 증가 및 조회
+     * 제한 초과 횟수 증가 및 조회
      */
-    private int incrementAndGetRequestCount(String clientIp, String endpoint) {
-        String key = clientIp + ":" + endpoint;
-        AtomicInteger count = requestCountCache.get(key, k -> new AtomicInteger(0));
+    private int incrementAndGetRejectionCount(String clientIp) {
+        AtomicInteger count = rejectionCountCache.get(clientIp, k -> new AtomicInteger(0));
         return count.incrementAndGet();
     }
 
@@ -1,6 +1,5 @@
 package com.seoulfit.backend.shared.security.audit;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -10,7 +9,6 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * 보안 감사 로그 서비스
@@ -33,39 +31,20 @@ import java.util.concurrent.CompletableFuture;
 public class AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
-    private final ObjectMapper objectMapper;
+    private final AuditLogWriter auditLogWriter;
 
     /**
      * 감사 로그 기록
+     * 
+     * 전용 writer의 버퍼에 넣고 즉시 반환합니다. 저장은 {@link AuditLogWriter}가 배치로 처리합니다.
      */
     public void logAuditEvent(AuditEvent event) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                AuditLog auditLog = AuditLog.builder()
-                        .eventType(event.getType())
-                        .userId(event.getUserId())
-                        .username(event.getUsername())
-                        .ipAddress(event.getIpAddress())
-                        .userAgent(event.getUserAgent())
-                        .resource(event.getResource())
-                        .action(event.getAction())
-                        .result(event.getResult())
-                        .errorMessage(event.getErrorMessage())
-                        .metadata(objectMapper.writeValueAsString(event.getMetadata()))
-                        .timestamp(LocalDateTime.now())
-                        .build();
-                
-                auditLogRepository.save(auditLog);
-                
-                // 중요 이벤트는 별도 로그 파일에도 기록
-                if (event.getType().isCritical()) {
-                    logCriticalEvent(event);
-                }
-                
-            } catch (Exception e) {
-                log.error("Failed to save audit log", e);
-            }
-        });
+        // 중요 이벤트는 별도 로그 파일에도 기록
+        if (event.getType().isCritical()) {
+            logCriticalEvent(event);
+        }
+        
+        auditLogWriter.enqueue(event);
     }
 
     /**
@@ -212,4 +191,4 @@ public class AuditLogService {
     public Map<String, Long> getSecurityViolationStats(LocalDateTime from, LocalDateTime to) {
         return auditLogRepository.getViolationStatsByType(from, to);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,236 @@
+package com.seoulfit.backend.shared.security.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 감사 로그 비동기 배치 writer
+ *
+ * 호출 스레드는 고정 크기 버퍼에 이벤트를 넣기만 하고 즉시 반환합니다.
+ * 전용 writer 스레드 하나가 버퍼를 비우면서 batchSize 건마다 또는 flushInterval마다
+ * JDBC batch insert로 저장합니다. 공용 ForkJoinPool이나 요청 스레드에서 JDBC 작업을 하지 않습니다.
+ *
+ * 버퍼가 가득 차면 이벤트는 버려지고 overflow 카운터에 집계됩니다.
+ * 한 행의 바인딩 오류가 batch 전체를 실패시키지 않도록, 이벤트 유형이 없는 이벤트는 버퍼에 넣지 않고
+ * 결과가 없는 이벤트는 ERROR로 저장합니다 (result 컬럼은 NOT NULL).
+ *
+ * **메트릭:**
+ * - seoulfit.audit.queue.depth: 버퍼에 대기 중인 이벤트 수
+ * - seoulfit.audit.events{outcome=written|dropped|failed}: 처리 결과별 이벤트 수
+ * - seoulfit.audit.write.latency: batch insert 한 번의 소요 시간
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (event_type, user_id, username, ip_address, user_agent, resource, " +
+            "action, result, error_message, metadata, timestamp) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<PendingAuditEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer writeTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${seoulfit.audit.writer.queue-capacity:10000}") int queueCapacity,
+                          @Value("${seoulfit.audit.writer.batch-size:200}") int batchSize,
+                          @Value("${seoulfit.audit.writer.flush-interval-ms:500}") long flushIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.buffer = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        Gauge.builder("seoulfit.audit.queue.depth", buffer, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("seoulfit.audit.events")
+                .tag("outcome", "written")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("seoulfit.audit.events")
+                .tag("outcome", "dropped")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("seoulfit.audit.events")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        this.writeTimer = Timer.builder("seoulfit.audit.write.latency")
+                .description("Latency of one audit batch insert")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit log writer started (queueCapacity={}, batchSize={}, flushIntervalMs={})",
+                buffer.remainingCapacity(), batchSize, flushIntervalMillis);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        // 종료 시 남은 이벤트 저장
+        List<PendingAuditEvent> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+        log.info("Audit log writer stopped (dropped total={})", droppedCount.get());
+    }
+
+    /**
+     * 이벤트를 버퍼에 추가 (블로킹 없음)
+     *
+     * @return 버퍼에 들어갔으면 true, 가득 차서 버려졌으면 false
+     */
+    boolean enqueue(AuditEvent event) {
+        if (event.getType() == null) {
+            failedCounter.increment();
+            log.warn("Audit event without type rejected: action={}, resource={}", event.getAction(), event.getResource());
+            return false;
+        }
+        if (buffer.offer(new PendingAuditEvent(event, LocalDateTime.now()))) {
+            return true;
+        }
+        long dropped = droppedCount.incrementAndGet();
+        droppedCounter.increment();
+        // 버려진 수가 2의 거듭제곱일 때만 경고하여 로그 폭주 방지
+        if (Long.bitCount(dropped) == 1) {
+            log.warn("Audit log buffer full, events dropped so far: {}", dropped);
+        }
+        return false;
+    }
+
+    /**
+     * 현재 대기 중인 이벤트 수
+     */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * 버퍼 overflow로 버려진 이벤트 누적 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void drainLoop() {
+        List<PendingAuditEvent> batch = new ArrayList<>(batchSize);
+        long deadline = System.currentTimeMillis() + flushIntervalMillis;
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                long wait = Math.max(0L, deadline - System.currentTimeMillis());
+                PendingAuditEvent first = buffer.poll(wait, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    buffer.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            }
+
+            if (batch.size() >= batchSize || System.currentTimeMillis() >= deadline) {
+                if (!batch.isEmpty()) {
+                    write(batch);
+                    batch.clear();
+                }
+                deadline = System.currentTimeMillis() + flushIntervalMillis;
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<PendingAuditEvent> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+                AuditEvent event = pending.event();
+                ps.setString(1, event.getType().name());
+                if (event.getUserId() != null) {
+                    ps.setLong(2, event.getUserId());
+                } else {
+                    ps.setNull(2, Types.BIGINT);
+                }
+                ps.setString(3, event.getUsername());
+                ps.setString(4, event.getIpAddress());
+                ps.setString(5, event.getUserAgent());
+                ps.setString(6, event.getResource());
+                ps.setString(7, event.getAction());
+                ps.setString(8, event.getResult() != null ? event.getResult().name() : AuditResult.ERROR.name());
+                ps.setString(9, event.getErrorMessage());
+                ps.setString(10, serializeMetadata(event));
+                ps.setTimestamp(11, Timestamp.valueOf(pending.occurredAt()));
+            });
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.error("Failed to write {} audit logs", batch.size(), e);
+        } finally {
+            sample.stop(writeTimer);
+        }
+    }
+
+    private String serializeMetadata(AuditEvent event) {
+        if (event.getMetadata() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(event.getMetadata());
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize audit metadata: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private record PendingAuditEvent(AuditEvent event, LocalDateTime occurredAt) {
+    }
+}
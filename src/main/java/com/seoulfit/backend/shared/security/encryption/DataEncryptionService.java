@@ -1,6 +1,5 @@
 package com.seoulfit.backend.shared.security.encryption;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -10,10 +9,13 @@ import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 
 /**
  * 민감 데이터 암호화 서비스
@@ -32,43 +34,57 @@ import java.util.Base64;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class DataEncryptionService {
 
     private static final String ALGORITHM = "AES/GCM/NoPadding";
     private static final int GCM_IV_LENGTH = 12;
     private static final int GCM_TAG_LENGTH = 128;
+
+    /**
+     * 스레드별 Cipher 캐시
+     * 
+     * Cipher.getInstance는 매번 provider 조회를 수행하므로 스레드마다 한 번만 생성해 재사용합니다.
+     * Cipher는 스레드 안전하지 않지만 스레드 로컬이라 공유되지 않고, 호출마다 새 IV로 init하므로
+     * GCM의 IV 재사용 제약에도 걸리지 않습니다.
+     */
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new EncryptionException("Failed to create cipher: " + ALGORITHM, e);
+        }
+    });
     
-    @Value("${app.security.encryption.key:#{null}}")
-    private String encryptionKeyBase64;
-    
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
     private final SecureRandom secureRandom = new SecureRandom();
 
+    public DataEncryptionService(@Value("${app.security.encryption.key:#{null}}") String encryptionKeyBase64) {
+        this.secretKey = createSecretKey(encryptionKeyBase64);
+    }
+
     /**
      * 암호화 키 초기화
      */
-    private SecretKey getOrCreateSecretKey() {
-        if (secretKey == null) {
-            if (encryptionKeyBase64 != null && !encryptionKeyBase64.isEmpty()) {
-                // 설정된 키 사용
-                byte[] decodedKey = Base64.getDecoder().decode(encryptionKeyBase64);
-                secretKey = new SecretKeySpec(decodedKey, "AES");
-            } else {
-                // 새 키 생성 (개발 환경용)
-                try {
-                    KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
-                    keyGenerator.init(256);
-                    secretKey = keyGenerator.generateKey();
-                    log.warn("Generated new encryption key. For production, set app.security.encryption.key");
-                    log.debug("Generated key (Base64): {}", 
-                            Base64.getEncoder().encodeToString(secretKey.getEncoded()));
-                } catch (Exception e) {
-                    throw new EncryptionException("Failed to generate encryption key", e);
-                }
-            }
+    private static SecretKey createSecretKey(String encryptionKeyBase64) {
+        if (encryptionKeyBase64 != null && !encryptionKeyBase64.isEmpty()) {
+            // 설정된 키 사용
+            byte[] decodedKey = Base64.getDecoder().decode(encryptionKeyBase64);
+            return new SecretKeySpec(decodedKey, "AES");
+        }
+        
+        // 새 키 생성 (개발 환경용)
+        try {
+            KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+            keyGenerator.init(256);
+            SecretKey generated = keyGenerator.generateKey();
+            log.warn("Generated new encryption key. For production, set app.security.encryption.key");
+            log.debug("Generated key (Base64): {}", 
+                    Base64.getEncoder().encodeToString(generated.getEncoded()));
+            // SecretKeySpec으로 고정하여 매 init마다 키 변환이 일어나지 않도록 함
+            return new SecretKeySpec(generated.getEncoded(), "AES");
+        } catch (Exception e) {
+            throw new EncryptionException("Failed to generate encryption key", e);
         }
-        return secretKey;
     }
 
     /**
@@ -83,26 +99,7 @@ public class DataEncryptionService {
         }
         
         try {
-            // IV 생성
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            secureRandom.nextBytes(iv);
-            
-            // 암호화
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, getOrCreateSecretKey(), parameterSpec);
-            
-            byte[] plaintextBytes = plaintext.getBytes(StandardCharsets.UTF_8);
-            byte[] ciphertext = cipher.doFinal(plaintextBytes);
-            
-            // IV와 암호문 결합
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + ciphertext.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(ciphertext);
-            
-            // Base64 인코딩
-            return Base64.getEncoder().encodeToString(byteBuffer.array());
-            
+            return encrypt(CIPHER.get(), plaintext);
         } catch (Exception e) {
             log.error("Encryption failed", e);
             throw new EncryptionException("Failed to encrypt data", e);
@@ -121,31 +118,99 @@ public class DataEncryptionService {
         }
         
         try {
-            // Base64 디코딩
-            byte[] cipherMessage = Base64.getDecoder().decode(encryptedData);
-            
-            // IV와 암호문 분리
-            ByteBuffer byteBuffer = ByteBuffer.wrap(cipherMessage);
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
-            byte[] ciphertext = new byte[byteBuffer.remaining()];
-            byteBuffer.get(ciphertext);
-            
-            // 복호화
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, getOrCreateSecretKey(), parameterSpec);
-            
-            byte[] plaintext = cipher.doFinal(ciphertext);
-            
-            return new String(plaintext, StandardCharsets.UTF_8);
-            
+            return decrypt(CIPHER.get(), encryptedData);
         } catch (Exception e) {
             log.error("Decryption failed", e);
             throw new EncryptionException("Failed to decrypt data", e);
         }
     }
 
+    /**
+     * 여러 문자열 일괄 암호화
+     * 
+     * 입력 순서를 유지하며, null 원소는 null로 반환합니다.
+     * 
+     * @param plaintexts 평문 목록
+     * @return 암호문 목록
+     */
+    public List<String> encryptAll(List<String> plaintexts) {
+        if (plaintexts == null) {
+            return null;
+        }
+        
+        Cipher cipher = CIPHER.get();
+        List<String> result = new ArrayList<>(plaintexts.size());
+        try {
+            for (String plaintext : plaintexts) {
+                result.add(plaintext != null ? encrypt(cipher, plaintext) : null);
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("Bulk encryption failed at index {}", result.size(), e);
+            throw new EncryptionException("Failed to encrypt data", e);
+        }
+    }
+
+    /**
+     * 여러 문자열 일괄 복호화
+     * 
+     * 입력 순서를 유지하며, null 원소는 null로 반환합니다.
+     * 
+     * @param encryptedData 암호문 목록
+     * @return 평문 목록
+     */
+    public List<String> decryptAll(List<String> encryptedData) {
+        if (encryptedData == null) {
+            return null;
+        }
+        
+        Cipher cipher = CIPHER.get();
+        List<String> result = new ArrayList<>(encryptedData.size());
+        try {
+            for (String data : encryptedData) {
+                result.add(data != null ? decrypt(cipher, data) : null);
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("Bulk decryption failed at index {}", result.size(), e);
+            throw new EncryptionException("Failed to decrypt data", e);
+        }
+    }
+
+    private String encrypt(Cipher cipher, String plaintext) throws GeneralSecurityException {
+        // IV 생성
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        
+        // 암호화
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+        byte[] plaintextBytes = plaintext.getBytes(StandardCharsets.UTF_8);
+        
+        // IV와 암호문을 하나의 배열에 바로 기록
+        byte[] message = new byte[GCM_IV_LENGTH + cipher.getOutputSize(plaintextBytes.length)];
+        System.arraycopy(iv, 0, message, 0, GCM_IV_LENGTH);
+        int written = cipher.doFinal(plaintextBytes, 0, plaintextBytes.length, message, GCM_IV_LENGTH);
+        
+        // Base64 인코딩
+        return Base64.getEncoder().encodeToString(
+                written + GCM_IV_LENGTH == message.length ? message : Arrays.copyOf(message, written + GCM_IV_LENGTH));
+    }
+
+    private String decrypt(Cipher cipher, String encryptedData) throws GeneralSecurityException {
+        // Base64 디코딩
+        byte[] cipherMessage = Base64.getDecoder().decode(encryptedData);
+        if (cipherMessage.length <= GCM_IV_LENGTH) {
+            throw new IllegalArgumentException("Encrypted data is too short");
+        }
+        
+        // IV와 암호문을 복사하지 않고 오프셋으로 전달
+        cipher.init(Cipher.DECRYPT_MODE, secretKey, 
+                new GCMParameterSpec(GCM_TAG_LENGTH, cipherMessage, 0, GCM_IV_LENGTH));
+        byte[] plaintext = cipher.doFinal(cipherMessage, GCM_IV_LENGTH, cipherMessage.length - GCM_IV_LENGTH);
+        
+        return new String(plaintext, StandardCharsets.UTF_8);
+    }
+
     /**
      * 개인정보 마스킹
      * 
@@ -247,4 +312,4 @@ public class DataEncryptionService {
             super(message, cause);
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.seoulfit.backend.shared.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 기반 Rate Limiter
+ *
+ * 버킷마다 "이론적 도착 시각(TAT)" long 값 하나만 유지하는 토큰 버킷 등가 알고리즘입니다.
+ * 고정 윈도우와 달리 토큰이 시간에 비례해 연속적으로 충전되므로 윈도우 경계에서
+ * 요청이 두 배로 몰리는 문제가 없고, compare-and-set 루프로 동작하여 락을 사용하지 않습니다.
+ *
+ * **메트릭:**
+ * - seoulfit.ratelimit.requests{policy, result=allowed|rejected}
+ * - seoulfit.ratelimit.buckets (추적 중인 버킷 수)
+ */
+public class GcraRateLimiter implements RateLimiter {
+
+    private static final int MAX_CAS_ATTEMPTS = 16;
+
+    private final RateLimitStateStore stateStore;
+    private final LongSupplier clock;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> allowedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public GcraRateLimiter(RateLimitStateStore stateStore, MeterRegistry meterRegistry) {
+        this(stateStore, meterRegistry, System::currentTimeMillis);
+    }
+
+    GcraRateLimiter(RateLimitStateStore stateStore, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.stateStore = stateStore;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        Gauge.builder("seoulfit.ratelimit.buckets", stateStore, RateLimitStateStore::size)
+                .description("Number of rate limit buckets currently tracked")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimitPolicy policy) {
+        long interval = policy.emissionIntervalMillis();
+        long tolerance = policy.burstToleranceMillis();
+
+        for (int attempt = 0; attempt < MAX_CAS_ATTEMPTS; attempt++) {
+            long now = clock.getAsLong();
+            long stored = stateStore.get(key);
+            long tat = stored == RateLimitStateStore.ABSENT ? now : Math.max(stored, now);
+            long newTat = tat + interval;
+            long ahead = newTat - now;
+
+            if (ahead > tolerance) {
+                counter(rejectedCounters, policy, "rejected").increment();
+                long retryAfter = ahead - tolerance;
+                return new RateLimitDecision(false, policy.capacity(), 0, retryAfter, tat - now);
+            }
+
+            if (stateStore.compareAndSet(key, stored, newTat)) {
+                counter(allowedCounters, policy, "allowed").increment();
+                int remaining = (int) ((tolerance - ahead) / interval);
+                return new RateLimitDecision(true, policy.capacity(), remaining, 0L, ahead);
+            }
+        }
+
+        // 동일 버킷에 대한 경합이 계속되면 보수적으로 거부
+        counter(rejectedCounters, policy, "rejected").increment();
+        return new RateLimitDecision(false, policy.capacity(), 0, interval, tolerance);
+    }
+
+    private Counter counter(Map<String, Counter> counters, RateLimitPolicy policy, String result) {
+        return counters.computeIfAbsent(policy.name(), name -> Counter.builder("seoulfit.ratelimit.requests")
+                .description("Rate limit decisions")
+                .tag("policy", name)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,44 @@
+package com.seoulfit.backend.shared.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인메모리 Rate Limit 상태 저장소
+ *
+ * 단일 인스턴스 환경용 기본 구현입니다. 공유 저장소를 쓰는 구현이 등록되지 않으면 사용됩니다.
+ * 일정 시간 접근이 없는 버킷은 자동으로 제거됩니다.
+ */
+public class LocalRateLimitStateStore implements RateLimitStateStore {
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public LocalRateLimitStateStore(long maximumSize, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public long get(String key) {
+        AtomicLong value = buckets.getIfPresent(key);
+        return value != null ? value.get() : ABSENT;
+    }
+
+    @Override
+    public boolean compareAndSet(String key, long expected, long update) {
+        if (expected == ABSENT) {
+            return buckets.asMap().putIfAbsent(key, new AtomicLong(update)) == null;
+        }
+        AtomicLong value = buckets.getIfPresent(key);
+        return value != null && value.compareAndSet(expected, update);
+    }
+
+    @Override
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,14 @@
+package com.seoulfit.backend.shared.security.ratelimit;
+
+/**
+ * Rate Limit 판정 결과
+ *
+ * @param allowed 요청 허용 여부
+ * @param limit 버킷 크기
+ * @param remaining 남은 토큰 수
+ * @param retryAfterMillis 다음 토큰이 사용 가능해질 때까지의 시간 (허용 시 0)
+ * @param resetAfterMillis 버킷이 가득 찰 때까지의 시간
+ */
+public record RateLimitDecision(boolean allowed, int limit, int remaining,
+                                long retryAfterMillis, long resetAfterMillis) {
+}
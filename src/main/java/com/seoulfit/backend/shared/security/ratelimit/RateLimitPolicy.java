@@ -0,0 +1,36 @@
+package com.seoulfit.backend.shared.security.ratelimit;
+
+/**
+ * Rate Limit 정책
+ *
+ * 토큰 버킷 관점에서 capacity는 버킷 크기(순간 허용 가능한 요청 수),
+ * refillPerMinute는 분당 채워지는 토큰 수입니다.
+ *
+ * @param name 정책 이름 (메트릭 태그로 사용)
+ * @param capacity 버킷 크기
+ * @param refillPerMinute 분당 충전량
+ */
+public record RateLimitPolicy(String name, int capacity, int refillPerMinute) {
+
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    public RateLimitPolicy {
+        if (capacity <= 0 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerMinute must be positive: " + name);
+        }
+    }
+
+    /**
+     * 토큰 하나가 충전되는 간격 (GCRA의 emission interval)
+     */
+    public long emissionIntervalMillis() {
+        return Math.max(1L, MILLIS_PER_MINUTE / refillPerMinute);
+    }
+
+    /**
+     * 버킷이 가득 찼을 때 허용되는 최대 선행 시간 (GCRA의 burst tolerance)
+     */
+    public long burstToleranceMillis() {
+        return emissionIntervalMillis() * capacity;
+    }
+}
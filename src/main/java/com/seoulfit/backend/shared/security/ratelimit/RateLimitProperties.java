@@ -0,0 +1,58 @@
+package com.seoulfit.backend.shared.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate Limit 설정
+ *
+ * 정책별 버킷 크기(capacity)와 분당 충전량(refill-per-minute)을 설정합니다.
+ */
+@ConfigurationProperties(prefix = "seoulfit.security.rate-limit")
+@Component
+@Setter
+@Getter
+public class RateLimitProperties {
+
+    /**
+     * 클라이언트 IP를 읽을 프록시 헤더 (비어 있으면 remoteAddr만 사용)
+     */
+    private String clientIpHeader = "X-Forwarded-For";
+
+    /**
+     * 로컬 저장소에서 추적할 최대 버킷 수
+     */
+    private long maxBuckets = 100_000;
+
+    /**
+     * 접근이 없는 버킷을 제거할 때까지의 시간 (분)
+     */
+    private long idleTimeoutMinutes = 10;
+
+    private Policy auth = new Policy(10, 10);
+    private Policy search = new Policy(50, 50);
+    private Policy sync = new Policy(5, 5);
+    private Policy write = new Policy(30, 30);
+    private Policy standard = new Policy(100, 100);
+
+    @Setter
+    @Getter
+    public static class Policy {
+        private int capacity;
+        private int refillPerMinute;
+
+        public Policy() {
+        }
+
+        public Policy(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+        }
+
+        public RateLimitPolicy toRateLimitPolicy(String name) {
+            return new RateLimitPolicy(name, capacity, refillPerMinute);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.seoulfit.backend.shared.security.ratelimit;
+
+/**
+ * Rate Limit 상태 저장소
+ *
+ * 버킷마다 long 값 하나(GCRA의 theoretical arrival time, epoch millis)만 저장합니다.
+ * 조회와 compare-and-set 두 연산만 요구하므로 Redis 등 공유 저장소로 교체하면
+ * 여러 인스턴스 사이에서도 동일한 제한이 적용됩니다.
+ */
+public interface RateLimitStateStore {
+
+    /**
+     * 저장된 값이 없음을 나타내는 값
+     */
+    long ABSENT = Long.MIN_VALUE;
+
+    /**
+     * 버킷 상태 조회
+     *
+     * @param key 버킷 키
+     * @return 저장된 값, 없으면 {@link #ABSENT}
+     */
+    long get(String key);
+
+    /**
+     * 현재 값이 expected일 때만 update로 교체
+     *
+     * @param key 버킷 키
+     * @param expected 기대 값 ({@link #ABSENT}이면 새로 생성)
+     * @param update 새 값
+     * @return 교체 성공 여부
+     */
+    boolean compareAndSet(String key, long expected, long update);
+
+    /**
+     * 추적 중인 버킷 수 (근사치)
+     */
+    long size();
+}
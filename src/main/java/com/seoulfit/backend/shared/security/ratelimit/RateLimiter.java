@@ -0,0 +1,18 @@
+package com.seoulfit.backend.shared.security.ratelimit;
+
+/**
+ * Rate Limiter
+ *
+ * 버킷 키와 정책을 받아 요청 허용 여부를 판정합니다.
+ */
+public interface RateLimiter {
+
+    /**
+     * 토큰 하나를 소비 시도
+     *
+     * @param key 버킷 키 (정책 + 라우트 + 클라이언트)
+     * @param policy 적용할 정책
+     * @return 판정 결과
+     */
+    RateLimitDecision tryAcquire(String key, RateLimitPolicy policy);
+}
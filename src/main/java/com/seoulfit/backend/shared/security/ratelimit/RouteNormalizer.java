@@ -0,0 +1,74 @@
+package com.seoulfit.backend.shared.security.ratelimit;
+
+/**
+ * 요청 경로를 라우트 템플릿으로 정규화
+ *
+ * 필터 단계에서는 핸들러 매핑 정보가 없으므로, 식별자로 보이는 경로 세그먼트
+ * (숫자, UUID, 긴 16진수/토큰 문자열)를 {@code {id}}로 치환합니다.
+ * 이렇게 해야 /api/users/1, /api/users/2 등이 같은 버킷을 공유합니다.
+ *
+ * 정규식 없이 한 번의 순회로 처리하며, 치환할 세그먼트가 없으면 원본 문자열을 그대로 반환합니다.
+ */
+public final class RouteNormalizer {
+
+    static final String ID_PLACEHOLDER = "{id}";
+    private static final int LONG_TOKEN_LENGTH = 16;
+
+    private RouteNormalizer() {
+    }
+
+    public static String normalize(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+
+        StringBuilder normalized = null;
+        int length = path.length();
+        int segmentStart = 0;
+
+        for (int i = 0; i <= length; i++) {
+            if (i < length && path.charAt(i) != '/') {
+                continue;
+            }
+            boolean identifier = i > segmentStart && isIdentifier(path, segmentStart, i);
+            if (identifier && normalized == null) {
+                normalized = new StringBuilder(length);
+                normalized.append(path, 0, segmentStart);
+            }
+            if (normalized != null) {
+                if (identifier) {
+                    normalized.append(ID_PLACEHOLDER);
+                } else {
+                    normalized.append(path, segmentStart, i);
+                }
+                if (i < length) {
+                    normalized.append('/');
+                }
+            }
+            segmentStart = i + 1;
+        }
+
+        return normalized != null ? normalized.toString() : path;
+    }
+
+    private static boolean isIdentifier(String path, int start, int end) {
+        int length = end - start;
+        boolean allDigits = true;
+        boolean hexOrDash = true;
+        boolean hasDigit = false;
+
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            hasDigit |= digit;
+            allDigits &= digit;
+            hexOrDash &= digit || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F') || c == '-';
+        }
+
+        if (allDigits) {
+            return true;
+        }
+        // UUID 또는 긴 16진수/해시 형태
+        return hexOrDash && hasDigit && length >= LONG_TOKEN_LENGTH;
+    }
+}
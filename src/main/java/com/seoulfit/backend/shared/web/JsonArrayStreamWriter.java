@@ -0,0 +1,89 @@
+package com.seoulfit.backend.shared.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * JSON 배열 스트리밍 출력
+ *
+ * 전체 목록을 메모리에 만들지 않고 행을 받는 대로 {@link JsonGenerator}로 출력 스트림에 씁니다.
+ * 일정 행마다 flush하므로 행 수와 관계없이 버퍼 크기만큼의 메모리만 사용합니다.
+ * {@code StreamingResponseBody} 안에서 DB 스트림 조회와 함께 사용합니다.
+ *
+ * 배열은 모든 행을 출력한 뒤 {@link #finish()}를 호출해야 닫힙니다.
+ * 중간에 실패해 {@link #finish()} 없이 {@link #close()}되면 배열을 닫지 않으므로,
+ * 클라이언트는 잘린 응답을 완전한 배열로 오인하지 않고 JSON 파싱 오류로 알 수 있습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public class JsonArrayStreamWriter implements Closeable {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final JsonGenerator generator;
+    private long count;
+
+    private JsonArrayStreamWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * 배열 시작
+     *
+     * @param objectMapper 행 직렬화에 사용할 ObjectMapper
+     * @param output       출력 스트림 (닫지 않음)
+     */
+    public static JsonArrayStreamWriter open(ObjectMapper objectMapper, OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 실패 후 close()에서 열린 배열/객체를 자동으로 닫지 않도록 함
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.writeStartArray();
+        return new JsonArrayStreamWriter(generator);
+    }
+
+    /**
+     * 행 하나 출력
+     *
+     * @throws UncheckedIOException 클라이언트 연결이 끊기는 등 출력에 실패한 경우
+     */
+    public void write(Object row) {
+        try {
+            generator.writeObject(row);
+            if (++count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 출력한 행 수
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * 배열 종료 (모든 행을 정상적으로 출력한 뒤 호출)
+     */
+    public void finish() throws IOException {
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    /**
+     * 생성기 정리 ({@link #finish()} 없이 닫으면 배열을 닫지 않은 채로 남김)
+     */
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,206 @@
+package com.seoulfit.backend.shared.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 배치 주기로만 바뀌는 목록 응답의 직렬화 스냅샷
+ *
+ * 데이터셋별 응답을 배치 세대마다 한 번만 JSON으로 직렬화해 gzip 바이트와 강한 ETag(SHA-256)로 보관합니다.
+ * <ul>
+ *   <li>If-None-Match가 실제로 보낼 표현의 ETag와 같으면 DB 조회 없이 304 응답</li>
+ *   <li>gzip을 받는 클라이언트(Accept-Encoding의 q가 0보다 큰 경우)에는 압축 바이트를 그대로, 그 외에는 풀어서 응답</li>
+ *   <li>강한 ETag는 content-coding마다 달라야 하므로 gzip 표현은 "-gzip"을 붙인 ETag를 사용</li>
+ *   <li>시설 배치가 끝나면({@link PoiDataRefreshedEvent}) 해당 데이터셋의 세대를 올려 다음 요청에서 다시 만듦</li>
+ * </ul>
+ * 스냅샷을 만드는 중에 배치가 끝나도, 만들기 시작한 세대가 현재 세대와 다르면 사용하지 않으므로 이전 데이터가 남지 않습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ResponseSnapshotCache {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public ResponseSnapshotCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 스냅샷으로 응답
+     *
+     * @param dataset  데이터셋 이름 (무효화 단위)
+     * @param request  요청 (If-None-Match, Accept-Encoding 확인)
+     * @param loader   스냅샷이 없을 때 응답 본문을 만드는 함수
+     * @return 200(JSON 본문) 또는 304
+     */
+    public ResponseEntity<byte[]> respond(String dataset, WebRequest request, Supplier<?> loader) {
+        Snapshot snapshot = snapshot(dataset, loader);
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? snapshot.gzipETag() : snapshot.eTag();
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag)
+                .cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzipBody());
+        }
+        return builder.body(gunzip(snapshot.gzipBody(), snapshot.length()));
+    }
+
+    /**
+     * Accept-Encoding으로 gzip 응답 가능 여부 판단
+     *
+     * gzip(x-gzip)이 명시되어 있으면 그 q 값, 없으면 *의 q 값이 0보다 클 때만 gzip으로 응답합니다.
+     *
+     * @param acceptEncoding Accept-Encoding 헤더 값 (없으면 null)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(tokens);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String parameter = tokens[i].trim();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 데이터셋 스냅샷 무효화
+     */
+    public void invalidate(String dataset) {
+        generation(dataset).incrementAndGet();
+        snapshots.remove(dataset);
+        log.debug("응답 스냅샷 무효화: {}", dataset);
+    }
+
+    @EventListener
+    public void onPoiDataRefreshed(PoiDataRefreshedEvent event) {
+        invalidate(event.poiType().name());
+    }
+
+    private Snapshot snapshot(String dataset, Supplier<?> loader) {
+        AtomicLong generation = generation(dataset);
+        Snapshot snapshot = snapshots.get(dataset);
+        if (snapshot != null && snapshot.generation() == generation.get()) {
+            return snapshot;
+        }
+        synchronized (generation) {
+            snapshot = snapshots.get(dataset);
+            long current = generation.get();
+            if (snapshot != null && snapshot.generation() == current) {
+                return snapshot;
+            }
+            snapshot = serialize(current, loader.get());
+            snapshots.put(dataset, snapshot);
+            log.info("응답 스냅샷 생성: {} (세대 {}, {}바이트 → gzip {}바이트)",
+                    dataset, current, snapshot.length(), snapshot.gzipBody().length);
+            return snapshot;
+        }
+    }
+
+    private AtomicLong generation(String dataset) {
+        return generations.computeIfAbsent(dataset, key -> new AtomicLong());
+    }
+
+    private Snapshot serialize(long generation, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            String hash = Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+            return new Snapshot(generation, "\"" + hash + "\"", "\"" + hash + "-gzip\"", gzip(json), json.length);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 스냅샷 직렬화 실패", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed, int length) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readNBytes(length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Snapshot(long generation, String eTag, String gzipETag, byte[] gzipBody, int length) {
+    }
+}
@@ -3,12 +3,19 @@ package com.seoulfit.backend.trigger;
 import com.seoulfit.backend.trigger.dto.TriggerContext;
 import com.seoulfit.backend.trigger.dto.TriggerResult;
 import com.seoulfit.backend.trigger.strategy.TriggerStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 트리거 시스템의 중앙 관리자 클래스입니다.
@@ -28,6 +35,13 @@ import java.util.Optional;
  * <p>트리거 전략은 우선순위에 따라 정렬되어 실행되며, 
  * 가장 높은 우선순위의 발동된 트리거 결과를 반환합니다.</p>
  * 
+ * <p>전략별 메트릭:</p>
+ * <ul>
+ *   <li>seoulfit.trigger.strategy.latency{strategy}: evaluate 한 번의 소요 시간</li>
+ *   <li>seoulfit.trigger.strategy.evaluations{strategy, outcome=triggered|not_triggered|error}:
+ *       평가 결과별 횟수 (triggered / 전체 = 발동률)</li>
+ * </ul>
+ * 
  * @author Seoul Fit
  * @version 1.0.0
  * @since 2025-01-01
@@ -46,6 +60,16 @@ public class TriggerManager {
      */
     private final List<TriggerStrategy> triggerStrategies;
     
+    /**
+     * 전략별 메트릭을 등록할 레지스트리입니다.
+     */
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * 전략 인스턴스별 메트릭 캐시입니다.
+     */
+    private final Map<TriggerStrategy, StrategyMeters> strategyMeters = new ConcurrentHashMap<>();
+    
     /**
      * 주어진 컨텍스트에 대해 모든 트리거 전략을 평가합니다.
      * 
@@ -64,15 +88,7 @@ public class TriggerManager {
                 .sorted((s1, s2) -> Integer.compare(s1.getPriority(), s2.getPriority()))
                 .peek(strategy -> log.debug("트리거 전략 실행: type={}, priority={}", 
                         strategy.getSupportedTriggerType(), strategy.getPriority()))
-                .map(strategy -> {
-                    try {
-                        return strategy.evaluate(context);
-                    } catch (Exception e) {
-                        log.error("트리거 전략 실행 중 오류 발생: type={}, userId={}", 
-                                strategy.getSupportedTriggerType(), context.getUser().getId(), e);
-                        return TriggerResult.notTriggered();
-                    }
-                })
+                .map(strategy -> evaluate(strategy, context))
                 .filter(TriggerResult::isTriggered)
                 .findFirst();
     }
@@ -95,15 +111,53 @@ public class TriggerManager {
                 .filter(strategy -> strategy.getSupportedTriggerType().equals(triggerType))
                 .filter(TriggerStrategy::isEnabled)
                 .findFirst()
-                .map(strategy -> {
-                    try {
-                        return strategy.evaluate(context);
-                    } catch (Exception e) {
-                        log.error("트리거 전략 실행 중 오류 발생: type={}, userId={}", 
-                                triggerType, context.getUser().getId(), e);
-                        return TriggerResult.notTriggered();
-                    }
-                });
+                .map(strategy -> evaluate(strategy, context));
+    }
+    
+    /**
+     * 단일 전략을 실행하고 소요 시간과 결과를 기록합니다.
+     * 
+     * <p>전략 실행 중 예외가 발생하면 로그를 남기고 미발동 결과를 반환합니다.</p>
+     * 
+     * @param strategy 실행할 트리거 전략
+     * @param context 트리거 평가에 필요한 컨텍스트 정보
+     * @return 트리거 실행 결과
+     */
+    private TriggerResult evaluate(TriggerStrategy strategy, TriggerContext context) {
+        StrategyMeters meters = strategyMeters.computeIfAbsent(strategy, this::registerMeters);
+        long startNanos = System.nanoTime();
+        try {
+            TriggerResult result = strategy.evaluate(context);
+            (result.isTriggered() ? meters.triggered() : meters.notTriggered()).increment();
+            return result;
+        } catch (Exception e) {
+            meters.error().increment();
+            log.error("트리거 전략 실행 중 오류 발생: type={}, userId={}", 
+                    strategy.getSupportedTriggerType(), context.getUser().getId(), e);
+            return TriggerResult.notTriggered();
+        } finally {
+            meters.latency().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private StrategyMeters registerMeters(TriggerStrategy strategy) {
+        String name = Objects.requireNonNullElse(
+                strategy.getSupportedTriggerType(), strategy.getClass().getSimpleName());
+        return new StrategyMeters(
+                Timer.builder("seoulfit.trigger.strategy.latency")
+                        .description("Latency of one trigger strategy evaluation")
+                        .tag("strategy", name)
+                        .register(meterRegistry),
+                evaluationCounter(name, "triggered"),
+                evaluationCounter(name, "not_triggered"),
+                evaluationCounter(name, "error"));
+    }
+    
+    private Counter evaluationCounter(String strategy, String outcome) {
+        return Counter.builder("seoulfit.trigger.strategy.evaluations")
+                .tag("strategy", strategy)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
     
     /**
@@ -137,6 +191,12 @@ public class TriggerManager {
                 .count();
     }
     
+    /**
+     * 전략 하나에 대한 메트릭 묶음입니다.
+     */
+    private record StrategyMeters(Timer latency, Counter triggered, Counter notTriggered, Counter error) {
+    }
+    
     /**
      * 트리거 전략의 메타데이터 정보를 담는 내부 클래스입니다.
      * 
@@ -1,5 +1,6 @@
 package com.seoulfit.backend.trigger.adapter.in.web;
 
+import com.seoulfit.backend.shared.dto.CursorPage;
 import com.seoulfit.backend.trigger.adapter.in.web.dto.LocationTriggerRequest;
 import com.seoulfit.backend.trigger.adapter.in.web.dto.TriggerEvaluationResponse;
 import com.seoulfit.backend.trigger.application.port.in.EvaluateTriggerUseCase;
@@ -75,4 +76,20 @@ public class TriggerController {
                 userDetails.getUsername(), page, size);
         return ResponseEntity.ok(history);
     }
+
+    @Operation(
+            summary = "사용자 트리거 히스토리 커서 조회",
+            description = "사용자의 트리거 발동 히스토리를 최신순으로 조회합니다. " +
+                    "응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어지는 페이지를 조회합니다."
+    )
+    @GetMapping("/history/cursor")
+    public ResponseEntity<CursorPage<TriggerEvaluationResponse>> getTriggerHistoryByCursor(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "이전 응답의 다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        CursorPage<TriggerEvaluationResponse> history = evaluateTriggerUseCase.getTriggerHistoryByCursor(
+                userDetails.getUsername(), cursor, size);
+        return ResponseEntity.ok(history);
+    }
 }
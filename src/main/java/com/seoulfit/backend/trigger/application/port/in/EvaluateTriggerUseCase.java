@@ -1,5 +1,6 @@
 package com.seoulfit.backend.trigger.application.port.in;
 
+import com.seoulfit.backend.shared.dto.CursorPage;
 import com.seoulfit.backend.trigger.adapter.in.web.dto.TriggerStrategyInfoResponse;
 import com.seoulfit.backend.trigger.adapter.in.web.dto.TriggerEvaluationResponse;
 import com.seoulfit.backend.trigger.application.port.in.dto.LocationTriggerCommand;
@@ -36,4 +37,14 @@ public interface EvaluateTriggerUseCase {
      * @return 트리거 히스토리 목록
      */
     List<TriggerEvaluationResponse> getTriggerHistory(String userId, int page, int size);
+
+    /**
+     * 사용자 트리거 히스토리 커서 조회
+     * 
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 다음 페이지 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 트리거 히스토리 페이지
+     */
+    CursorPage<TriggerEvaluationResponse> getTriggerHistoryByCursor(String userId, String cursor, int size);
 }
@@ -0,0 +1,121 @@
+package com.seoulfit.backend.trigger.application.service;
+
+import com.seoulfit.backend.location.domain.CityHotspot;
+import com.seoulfit.backend.location.infrastructure.CityHotspotRegistry;
+import com.seoulfit.backend.publicdata.PublicDataApiClient;
+import com.seoulfit.backend.trigger.domain.AreaCongestion;
+import com.seoulfit.backend.trigger.infrastructure.CongestionIndex;
+import com.seoulfit.backend.trigger.utils.TriggerUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 실시간 도시데이터 전체 장소 수집기
+ *
+ * 스케줄러 틱마다 {@link CityHotspotRegistry}의 모든 장소에 대해 실시간 도시데이터를 동시에 조회하고
+ * (동시 요청 수는 {@code seoulfit.citydata.fetch.concurrency}로 제한), 장소별 혼잡도로 {@link CongestionIndex}를 새로 만듭니다.
+ * 조회에 실패한 장소는 해당 틱의 인덱스에서만 빠지며 나머지 장소는 그대로 반영합니다.
+ * 전체 조회가 제한 시간({@code seoulfit.citydata.fetch.timeout-seconds})을 넘기면 남은 요청을 취소하고 이전 인덱스를 유지하므로,
+ * 느린 틱에서도 예외 없이 트리거 평가가 이어집니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class CityDataFetcher {
+
+    private final PublicDataApiClient publicDataApiClient;
+    private final CityHotspotRegistry hotspotRegistry;
+    private final int concurrency;
+    private final Duration timeout;
+    private final AtomicReference<CongestionIndex> congestionIndex = new AtomicReference<>(CongestionIndex.empty());
+
+    public CityDataFetcher(
+            PublicDataApiClient publicDataApiClient,
+            CityHotspotRegistry hotspotRegistry,
+            @Value("${seoulfit.citydata.fetch.concurrency:8}") int concurrency,
+            @Value("${seoulfit.citydata.fetch.timeout-seconds:120}") long timeoutSeconds) {
+        this.publicDataApiClient = publicDataApiClient;
+        this.hotspotRegistry = hotspotRegistry;
+        this.concurrency = concurrency;
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+    }
+
+    /**
+     * 전체 장소 실시간 도시데이터 조회 후 혼잡도 인덱스 교체
+     *
+     * @return 새 혼잡도 인덱스 (전체 조회가 제한 시간을 넘기면 이전 인덱스)
+     */
+    public CongestionIndex refresh() {
+        long startTime = System.currentTimeMillis();
+        List<CityHotspot> hotspots = hotspotRegistry.getHotspots();
+
+        List<AreaCongestion> congestions = Flux.fromIterable(hotspots)
+                .flatMap(this::fetch, concurrency)
+                .collectList()
+                .timeout(timeout)
+                .onErrorResume(error -> {
+                    log.warn("실시간 도시데이터 수집 실패 ({}), 이전 혼잡도 인덱스 유지", error.toString());
+                    return Mono.empty();
+                })
+                .block();
+        if (congestions == null) {
+            return congestionIndex.get();
+        }
+
+        CongestionIndex index = new CongestionIndex(congestions);
+        congestionIndex.set(index);
+        log.info("실시간 도시데이터 수집 완료: {}/{}곳, {}ms",
+                index.size(), hotspots.size(), System.currentTimeMillis() - startTime);
+        return index;
+    }
+
+    /**
+     * 마지막으로 만든 혼잡도 인덱스
+     */
+    public CongestionIndex getCongestionIndex() {
+        return congestionIndex.get();
+    }
+
+    private Mono<AreaCongestion> fetch(CityHotspot hotspot) {
+        return publicDataApiClient.getCityData(hotspot.areaName())
+                .flatMap(cityData -> Mono.justOrEmpty(toAreaCongestion(hotspot, cityData)))
+                .onErrorResume(error -> {
+                    log.warn("실시간 도시데이터 조회 실패: area={}, error={}", hotspot.areaName(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 응답의 CITYDATA.LIVE_PPLTN_STTS 첫 항목을 장소 혼잡도로 변환
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<AreaCongestion> toAreaCongestion(CityHotspot hotspot, Map<String, Object> response) {
+        if (!(response.get("CITYDATA") instanceof Map<?, ?> cityData)
+                || !(cityData.get("LIVE_PPLTN_STTS") instanceof List<?> population)
+                || population.isEmpty()
+                || !(population.get(0) instanceof Map<?, ?> live)) {
+            log.debug("실시간 인구 데이터 없음: area={}", hotspot.areaName());
+            return Optional.empty();
+        }
+
+        Map<String, Object> livePopulation = (Map<String, Object>) live;
+        return Optional.of(new AreaCongestion(
+                hotspot,
+                TriggerUtils.getStringValue(livePopulation, "AREA_CONGEST_LVL"),
+                TriggerUtils.getStringValue(livePopulation, "AREA_CONGEST_MSG"),
+                TriggerUtils.getStringValue(livePopulation, "AREA_PPLTN_MIN"),
+                TriggerUtils.getStringValue(livePopulation, "AREA_PPLTN_MAX"),
+                response));
+    }
+}
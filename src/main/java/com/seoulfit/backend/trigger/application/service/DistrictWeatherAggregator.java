@@ -0,0 +1,270 @@
+package com.seoulfit.backend.trigger.application.service;
+
+import com.seoulfit.backend.location.domain.AdministrativeRegion;
+import com.seoulfit.backend.location.domain.CityHotspot;
+import com.seoulfit.backend.location.infrastructure.AdministrativeRegionIndex;
+import com.seoulfit.backend.trigger.domain.AreaCongestion;
+import com.seoulfit.backend.trigger.domain.DistrictWeather;
+import com.seoulfit.backend.trigger.infrastructure.CongestionIndex;
+import com.seoulfit.backend.trigger.infrastructure.DistrictWeatherIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자치구별 날씨 집계기
+ *
+ * 스케줄러 틱마다 {@link CityDataFetcher}가 모은 장소별 실시간 도시데이터에서 WEATHER_STTS를 한 번만 파싱하고,
+ * 장소 좌표가 속한 구로 묶어 {@link DistrictWeatherIndex}를 만듭니다.
+ * 관측 장소가 없는 구는 중심이 가장 가까운, 관측 장소가 있는 구의 값을 사용합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class DistrictWeatherAggregator {
+
+    /**
+     * 강수확률 최댓값을 볼 예보 시간 수 (FCST24HOURS 앞쪽 항목)
+     */
+    private static final int FORECAST_HOURS = 6;
+
+    private static final Pattern NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?");
+
+    private final AdministrativeRegionIndex regionIndex;
+    private final Map<String, String> districtNames = new LinkedHashMap<>();
+    private final Map<String, double[]> districtCenters = new HashMap<>();
+
+    public DistrictWeatherAggregator(AdministrativeRegionIndex regionIndex) {
+        this.regionIndex = regionIndex;
+
+        // 구 중심은 소속 동 중심의 평균
+        Map<String, double[]> sums = new HashMap<>();
+        for (AdministrativeRegion region : regionIndex.getRegions()) {
+            districtNames.putIfAbsent(region.districtCode(), region.sigunguName());
+            double[] sum = sums.computeIfAbsent(region.districtCode(), code -> new double[3]);
+            sum[0] += region.centerLat();
+            sum[1] += region.centerLng();
+            sum[2]++;
+        }
+        sums.forEach((code, sum) -> districtCenters.put(code, new double[]{sum[0] / sum[2], sum[1] / sum[2]}));
+    }
+
+    /**
+     * 장소별 실시간 도시데이터로 구별 날씨 집계 생성
+     *
+     * @param congestionIndex 이번 틱에 수집한 장소별 혼잡도 (응답 원본 포함)
+     * @return 구별 날씨 집계, 날씨 데이터가 하나도 없으면 빈 인덱스
+     */
+    public DistrictWeatherIndex aggregate(CongestionIndex congestionIndex) {
+        Map<String, List<WeatherReading>> readingsByDistrict = new HashMap<>();
+        List<WeatherReading> allReadings = new ArrayList<>();
+
+        for (AreaCongestion congestion : congestionIndex.getCongestions()) {
+            WeatherReading reading = parseWeather(congestion.cityData());
+            if (reading == null) {
+                continue;
+            }
+            allReadings.add(reading);
+            CityHotspot hotspot = congestion.hotspot();
+            regionIndex.resolveDistrictCode(hotspot.latitude(), hotspot.longitude())
+                    .ifPresent(code -> readingsByDistrict.computeIfAbsent(code, key -> new ArrayList<>()).add(reading));
+        }
+
+        if (allReadings.isEmpty()) {
+            log.warn("날씨 데이터가 있는 장소 없음, 구별 날씨 집계 생략");
+            return DistrictWeatherIndex.empty();
+        }
+
+        Map<String, DistrictWeather> weatherByDistrict = new HashMap<>();
+        readingsByDistrict.forEach((code, readings) ->
+                weatherByDistrict.put(code, combine(code, districtNames.get(code), readings)));
+
+        // 관측 장소가 없는 구는 중심이 가장 가까운 관측 구의 값 사용
+        for (Map.Entry<String, String> district : districtNames.entrySet()) {
+            if (!weatherByDistrict.containsKey(district.getKey())) {
+                String nearest = nearestObservedDistrict(district.getKey(), readingsByDistrict.keySet());
+                if (nearest != null) {
+                    weatherByDistrict.put(district.getKey(),
+                            weatherByDistrict.get(nearest).borrowedBy(district.getKey(), district.getValue()));
+                }
+            }
+        }
+
+        DistrictWeather citywide = combine(null, "서울특별시", allReadings);
+        log.debug("구별 날씨 집계 완료: 장소 {}곳, 관측 구 {}곳", allReadings.size(), readingsByDistrict.size());
+        return new DistrictWeatherIndex(weatherByDistrict, citywide);
+    }
+
+    /**
+     * 좌표가 속한 구 코드
+     *
+     * @return 시도 + 시군구 코드, 서울 범위 밖이면 null
+     */
+    public String resolveDistrictCode(double latitude, double longitude) {
+        return regionIndex.resolveDistrictCode(latitude, longitude).orElse(null);
+    }
+
+    private String nearestObservedDistrict(String districtCode, Iterable<String> observed) {
+        double[] center = districtCenters.get(districtCode);
+        double lngScale = Math.cos(Math.toRadians(center[0]));
+        String nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (String candidate : observed) {
+            double[] other = districtCenters.get(candidate);
+            double dLat = other[0] - center[0];
+            double dLng = (other[1] - center[1]) * lngScale;
+            double distance = dLat * dLat + dLng * dLng;
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = candidate;
+            }
+        }
+        return nearest;
+    }
+
+    private DistrictWeather combine(String districtCode, String districtName, List<WeatherReading> readings) {
+        double temperatureSum = 0;
+        int temperatureCount = 0;
+        double sensibleSum = 0;
+        int sensibleCount = 0;
+        double hourlyRainfall = 0;
+        double dailyRainfall = 0;
+        Integer rainChance = null;
+
+        for (WeatherReading reading : readings) {
+            if (reading.temperature() != null) {
+                temperatureSum += reading.temperature();
+                temperatureCount++;
+            }
+            if (reading.sensibleTemperature() != null) {
+                sensibleSum += reading.sensibleTemperature();
+                sensibleCount++;
+            }
+            hourlyRainfall = Math.max(hourlyRainfall, reading.hourlyRainfall());
+            dailyRainfall = Math.max(dailyRainfall, reading.dailyRainfall());
+            if (reading.rainChance() != null && (rainChance == null || reading.rainChance() > rainChance)) {
+                rainChance = reading.rainChance();
+            }
+        }
+
+        return new DistrictWeather(
+                districtCode,
+                districtName,
+                temperatureCount == 0 ? null : temperatureSum / temperatureCount,
+                sensibleCount == 0 ? null : sensibleSum / sensibleCount,
+                hourlyRainfall,
+                dailyRainfall,
+                rainChance,
+                readings.size());
+    }
+
+    /**
+     * 실시간 도시데이터 응답에서 WEATHER_STTS 첫 항목 파싱
+     *
+     * CITYDATA로 감싼 응답과 CITYDATA 내용만 담은 맵을 모두 받습니다.
+     * WEATHER_STTS에 강수량이 없으면 별도 강수량 API 데이터(rainInfo 첫 항목)의 값을 사용합니다.
+     *
+     * @return 날씨 관측값, WEATHER_STTS와 rainInfo가 모두 없으면 null
+     */
+    static WeatherReading parseWeather(Map<String, Object> response) {
+        Map<?, ?> data = response.get("CITYDATA") instanceof Map<?, ?> cityData ? cityData : response;
+        Map<?, ?> weather = firstItem(data.get("WEATHER_STTS"));
+        Map<?, ?> rainInfo = firstItem(data.containsKey("rainInfo") ? data.get("rainInfo") : response.get("rainInfo"));
+        if (weather == null && rainInfo == null) {
+            return null;
+        }
+
+        Double hourlyRainfall = rainfall(weather, "RAIN_HOUR", "RAINFALL_1H", "PRECIPITATION");
+        if (hourlyRainfall == null) {
+            hourlyRainfall = rainfall(rainInfo, "RAINFALL1H", "RF1H");
+        }
+        Double dailyRainfall = rainfall(weather, "RAIN_DAY", "RAINFALL_24H");
+        if (dailyRainfall == null) {
+            dailyRainfall = rainfall(rainInfo, "RAINFALL24H", "RF24H");
+        }
+
+        return new WeatherReading(
+                weather == null ? null : number(weather.get("TEMP")),
+                weather == null ? null : number(weather.get("SENSIBLE_TEMP")),
+                hourlyRainfall == null ? 0.0 : hourlyRainfall,
+                dailyRainfall == null ? 0.0 : dailyRainfall,
+                weather == null ? null : maxRainChance(weather.get("FCST24HOURS")));
+    }
+
+    private static Map<?, ?> firstItem(Object items) {
+        return items instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof Map<?, ?> first
+                ? first
+                : null;
+    }
+
+    /**
+     * 여러 키 중 처음 값이 있는 키의 강수량 (강수 없음 "-"과 "1mm미만"은 0)
+     *
+     * @return 강수량, 맵이 없거나 값이 있는 키가 없으면 null
+     */
+    private static Double rainfall(Map<?, ?> weather, String... keys) {
+        if (weather == null) {
+            return null;
+        }
+        for (String key : keys) {
+            Object value = weather.get(key);
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof String text && text.contains("미만")) {
+                return 0.0;
+            }
+            Double rainfall = number(value);
+            return rainfall == null ? 0.0 : Math.max(rainfall, 0.0);
+        }
+        return null;
+    }
+
+    private static Integer maxRainChance(Object forecasts) {
+        if (!(forecasts instanceof List<?> hours)) {
+            return null;
+        }
+        Integer max = null;
+        for (int i = 0; i < Math.min(FORECAST_HOURS, hours.size()); i++) {
+            if (hours.get(i) instanceof Map<?, ?> forecast) {
+                Double chance = number(forecast.get("RAIN_CHANCE"));
+                if (chance != null && (max == null || chance > max)) {
+                    max = chance.intValue();
+                }
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 숫자 또는 숫자가 들어 있는 문자열 (예: "31.0", "12mm")
+     */
+    private static Double number(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String text) {
+            Matcher matcher = NUMBER.matcher(text);
+            if (matcher.find()) {
+                return Double.parseDouble(matcher.group());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 장소 한 곳의 날씨 관측값
+     */
+    record WeatherReading(Double temperature, Double sensibleTemperature,
+                          double hourlyRainfall, double dailyRainfall, Integer rainChance) {
+    }
+}
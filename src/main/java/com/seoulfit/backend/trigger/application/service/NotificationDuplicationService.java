@@ -4,6 +4,8 @@ import com.seoulfit.backend.trigger.domain.NotificationDuplicationPolicy;
 import com.seoulfit.backend.trigger.domain.TriggerCondition;
 import com.seoulfit.backend.trigger.dto.TriggerResult;
 import com.seoulfit.backend.trigger.infrastructure.TriggerHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,6 +17,7 @@ import java.util.Map;
  * 알림 중복 방지 서비스
  * 
  * 다양한 트리거 조건에 대한 중복 알림 방지 로직을 관리
+ * 억제된 중복 알림은 seoulfit.notification.duplicates.suppressed{condition} 카운터로 집계
  * 
  * @author Seoul Fit
  * @since 1.0.0
@@ -25,6 +28,7 @@ import java.util.Map;
 public class NotificationDuplicationService {
     
     private final TriggerHistoryRepository triggerHistoryRepository;
+    private final MeterRegistry meterRegistry;
     
     /**
      * 알림 중복 여부를 확인합니다.
@@ -47,7 +51,15 @@ public class NotificationDuplicationService {
         }
         
         try {
-            return checkDuplicationByPolicy(userId, triggerResult, userLatitude, userLongitude, policy);
+            boolean isDuplicate = checkDuplicationByPolicy(userId, triggerResult, userLatitude, userLongitude, policy);
+            if (isDuplicate) {
+                Counter.builder("seoulfit.notification.duplicates.suppressed")
+                        .description("Notifications suppressed by the duplication policy")
+                        .tag("condition", condition.name())
+                        .register(meterRegistry)
+                        .increment();
+            }
+            return isDuplicate;
         } catch (Exception e) {
             log.warn("중복 확인 중 오류 발생: userId={}, condition={}, error={}", 
                     userId, condition, e.getMessage());
@@ -183,4 +195,4 @@ public class NotificationDuplicationService {
         log.debug("알림 중복 방지 정책: condition={}, policy={}, duration={}, type={}", 
                 condition, policy.name(), policy.getPreventionDuration(), policy.getCheckType());
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
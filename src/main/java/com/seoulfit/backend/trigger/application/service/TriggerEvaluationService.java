@@ -2,6 +2,8 @@ package com.seoulfit.backend.trigger.application.service;
 
 import com.seoulfit.backend.notification.domain.NotificationEvent;
 import com.seoulfit.backend.publicdata.PublicDataApiClient;
+import com.seoulfit.backend.shared.dto.CursorPage;
+import com.seoulfit.backend.shared.dto.KeysetCursor;
 import com.seoulfit.backend.trigger.TriggerManager;
 import com.seoulfit.backend.trigger.adapter.in.web.dto.TriggerEvaluationResponse;
 import com.seoulfit.backend.trigger.application.port.in.EvaluateTriggerUseCase;
@@ -148,6 +150,23 @@ public class TriggerEvaluationService implements EvaluateTriggerUseCase {
                 .toList();
     }
 
+    @Override
+    public CursorPage<TriggerEvaluationResponse> getTriggerHistoryByCursor(String userId, String cursor, int size) {
+        User user = userPort.findByEmail(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = CursorPage.normalizeSize(size);
+        List<TriggerHistory> histories = position == null
+                ? triggerHistoryRepository.findFirstPageByUserId(user.getId(), pageSize + 1)
+                : triggerHistoryRepository.findPageByUserIdBefore(
+                        user.getId(), position.time(), position.id(), pageSize + 1);
+
+        return CursorPage.of(histories, pageSize,
+                history -> new KeysetCursor(history.getTriggeredAt(), history.getId()),
+                this::convertToResponse);
+    }
+
     /**
      * 공공 API 데이터 조회
      */
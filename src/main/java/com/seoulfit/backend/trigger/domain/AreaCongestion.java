@@ -0,0 +1,25 @@
+package com.seoulfit.backend.trigger.domain;
+
+import com.seoulfit.backend.location.domain.CityHotspot;
+
+import java.util.Map;
+
+/**
+ * 실시간 도시데이터 장소 한 곳의 인구 혼잡도
+ *
+ * @param hotspot           장소
+ * @param congestionLevel   혼잡도 (여유, 보통, 약간 붐빔, 붐빔)
+ * @param congestionMessage 혼잡도 안내 문구
+ * @param populationMin     실시간 인구 최솟값
+ * @param populationMax     실시간 인구 최댓값
+ * @param cityData          장소의 실시간 도시데이터 응답 원본
+ */
+public record AreaCongestion(
+        CityHotspot hotspot,
+        String congestionLevel,
+        String congestionMessage,
+        String populationMin,
+        String populationMax,
+        Map<String, Object> cityData
+) {
+}
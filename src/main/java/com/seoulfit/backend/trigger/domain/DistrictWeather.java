@@ -0,0 +1,36 @@
+package com.seoulfit.backend.trigger.domain;
+
+/**
+ * 자치구(시군구) 단위 날씨 집계
+ *
+ * 한 번의 스케줄러 틱에서 구 안의 실시간 도시데이터 장소들의 WEATHER_STTS를 모아 만든 값입니다.
+ * 기온은 장소 평균, 강수량과 강수확률은 장소 중 최댓값입니다.
+ *
+ * @param districtCode        시도 + 시군구 코드 (예: 11010), 서울 전체 집계면 null
+ * @param districtName        시군구명
+ * @param temperature         기온 (°C), 관측값이 없으면 null
+ * @param sensibleTemperature 체감온도 (°C), 관측값이 없으면 null
+ * @param hourlyRainfall      시간당 강수량 (mm/h)
+ * @param dailyRainfall       일 누적 강수량 (mm)
+ * @param rainChance          향후 예보 강수확률 (%), 예보가 없으면 null
+ * @param sampleCount         집계한 장소 수 (0이면 가까운 구의 값을 빌려 쓴 것)
+ */
+public record DistrictWeather(
+        String districtCode,
+        String districtName,
+        Double temperature,
+        Double sensibleTemperature,
+        double hourlyRainfall,
+        double dailyRainfall,
+        Integer rainChance,
+        int sampleCount
+) {
+
+    /**
+     * 관측 장소가 없는 구에 이 집계값을 그대로 적용
+     */
+    public DistrictWeather borrowedBy(String districtCode, String districtName) {
+        return new DistrictWeather(districtCode, districtName, temperature, sensibleTemperature,
+                hourlyRainfall, dailyRainfall, rainChance, 0);
+    }
+}
@@ -8,12 +8,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * 트리거 히스토리 엔티티
  * 
  * 트리거 발동 이력을 저장하여 중복 알림 방지 및 분석에 활용
+ * PostgreSQL에서는 triggered_at 기준 일 단위 파티션 테이블 (V4 마이그레이션)
  * 
  * @author Seoul Fit
  * @since 1.0.0
@@ -23,7 +26,9 @@ import java.util.Map;
     @Index(name = "idx_trigger_history_user_type_time", 
            columnList = "user_id, trigger_type, triggered_at"),
     @Index(name = "idx_trigger_history_user_time", 
-           columnList = "user_id, triggered_at")
+           columnList = "user_id, triggered_at"),
+    @Index(name = "idx_trigger_history_user_condition_time",
+           columnList = "user_id, trigger_condition, triggered_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -75,8 +80,8 @@ public class TriggerHistory {
     @CollectionTable(name = "trigger_history_metadata", 
                     joinColumns = @JoinColumn(name = "trigger_history_id"))
     @MapKeyColumn(name = "metadata_key")
-    @Column(name = "metadata_value")
-    private Map<String, String> metadata;
+    @Getter(AccessLevel.NONE)
+    private Map<String, TriggerHistoryMetadataValue> metadata;
 
     @Builder
     public TriggerHistory(Long userId, String triggerType, NotificationType notificationType,
@@ -96,7 +101,32 @@ public class TriggerHistory {
         this.priority = priority;
         this.triggeredAt = triggeredAt != null ? triggeredAt : LocalDateTime.now();
         this.evaluationSource = evaluationSource;
-        this.metadata = metadata;
+        this.metadata = toMetadataValues(metadata, this.triggeredAt);
+    }
+
+    /**
+     * 메타데이터 조회 (키 → 값)
+     */
+    public Map<String, String> getMetadata() {
+        if (metadata == null) {
+            return null;
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        metadata.forEach((key, value) -> values.put(key, value.getMetadataValue()));
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * 메타데이터 행에 발동 시각을 함께 저장 (메타데이터 파티션 키)
+     */
+    private static Map<String, TriggerHistoryMetadataValue> toMetadataValues(Map<String, String> metadata,
+                                                                             LocalDateTime triggeredAt) {
+        if (metadata == null) {
+            return null;
+        }
+        Map<String, TriggerHistoryMetadataValue> values = new LinkedHashMap<>();
+        metadata.forEach((key, value) -> values.put(key, new TriggerHistoryMetadataValue(value, triggeredAt)));
+        return values;
     }
 
     /**
@@ -0,0 +1,35 @@
+package com.seoulfit.backend.trigger.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트리거 히스토리 메타데이터 값
+ *
+ * 메타데이터 테이블도 triggered_at 기준으로 파티셔닝되므로
+ * 값과 함께 부모 히스토리의 발동 시각을 저장합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TriggerHistoryMetadataValue {
+
+    @Column(name = "metadata_value")
+    private String metadataValue;
+
+    @Column(name = "triggered_at", nullable = false)
+    private LocalDateTime triggeredAt;
+
+    public TriggerHistoryMetadataValue(String metadataValue, LocalDateTime triggeredAt) {
+        this.metadataValue = metadataValue;
+        this.triggeredAt = triggeredAt;
+    }
+}
@@ -0,0 +1,135 @@
+package com.seoulfit.backend.trigger.infrastructure;
+
+import com.seoulfit.backend.trigger.domain.AreaCongestion;
+import com.seoulfit.backend.trigger.utils.TriggerUtils;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 장소별 인구 혼잡도 공간 인덱스
+ *
+ * 한 번의 스케줄러 틱에서 모은 장소별 혼잡도를 장소 대표 좌표로 STR-tree(JTS)에 넣어 두고,
+ * 사용자 위치 기준 반경 조회와 가장 가까운 장소 조회를 제공합니다.
+ * 트리의 x축은 경도에 서울 위도의 축척(cos 위도)을 곱한 값이라 x, y 모두 위도 1도 단위 거리로 비교합니다.
+ *
+ * 생성 후 변경하지 않으므로 틱마다 새로 만들어 교체하고, 여러 스레드에서 동시에 조회할 수 있습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public class CongestionIndex {
+
+    /**
+     * 트리거 컨텍스트 메타데이터에 인덱스를 담는 키
+     */
+    public static final String CONTEXT_KEY = "congestionIndex";
+
+    private static final double LNG_SCALE = Math.cos(Math.toRadians(37.55));
+    private static final double METERS_PER_DEGREE = 111_000.0;
+
+    /**
+     * 평면 근사와 하버사인 거리 차이를 덮는 조회 범위 여유 비율
+     */
+    private static final double SEARCH_MARGIN = 1.05;
+
+    private static final CongestionIndex EMPTY = new CongestionIndex(List.of());
+
+    private final List<AreaCongestion> congestions;
+    private final STRtree tree;
+
+    public CongestionIndex(Collection<AreaCongestion> congestions) {
+        this.congestions = List.copyOf(congestions);
+        this.tree = new STRtree();
+        for (AreaCongestion congestion : this.congestions) {
+            double x = congestion.hotspot().longitude() * LNG_SCALE;
+            double y = congestion.hotspot().latitude();
+            tree.insert(new Envelope(x, x, y, y), congestion);
+        }
+        tree.build();
+    }
+
+    public static CongestionIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 인덱스에 담긴 장소 수
+     */
+    public int size() {
+        return congestions.size();
+    }
+
+    public boolean isEmpty() {
+        return congestions.isEmpty();
+    }
+
+    /**
+     * 전체 장소별 혼잡도
+     */
+    public List<AreaCongestion> getCongestions() {
+        return congestions;
+    }
+
+    /**
+     * 반경 안의 장소별 혼잡도 조회
+     *
+     * @param latitude     위도
+     * @param longitude    경도
+     * @param radiusMeters 반경 (미터)
+     * @return 가까운 순 장소별 혼잡도와 거리
+     */
+    @SuppressWarnings("unchecked")
+    public List<Nearby> findWithinRadius(double latitude, double longitude, double radiusMeters) {
+        if (congestions.isEmpty()) {
+            return List.of();
+        }
+        double x = longitude * LNG_SCALE;
+        double delta = radiusMeters / METERS_PER_DEGREE * SEARCH_MARGIN;
+        List<AreaCongestion> candidates = tree.query(new Envelope(x - delta, x + delta, latitude - delta, latitude + delta));
+
+        List<Nearby> result = new ArrayList<>(candidates.size());
+        for (AreaCongestion congestion : candidates) {
+            double distance = TriggerUtils.calculateDistance(latitude, longitude,
+                    congestion.hotspot().latitude(), congestion.hotspot().longitude());
+            if (distance <= radiusMeters) {
+                result.add(new Nearby(congestion, distance));
+            }
+        }
+        result.sort(Comparator.comparingDouble(Nearby::distanceMeters));
+        return result;
+    }
+
+    /**
+     * 가장 가까운 장소의 혼잡도 조회
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 가장 가까운 장소, 인덱스가 비어 있으면 empty
+     */
+    public Optional<AreaCongestion> findNearest(double latitude, double longitude) {
+        if (congestions.isEmpty()) {
+            return Optional.empty();
+        }
+        double x = longitude * LNG_SCALE;
+        Object nearest = tree.nearestNeighbour(new Envelope(x, x, latitude, latitude), null,
+                (ItemBoundable first, ItemBoundable second) ->
+                        ((Envelope) first.getBounds()).distance((Envelope) second.getBounds()));
+        return Optional.ofNullable((AreaCongestion) nearest);
+    }
+
+    /**
+     * 반경 조회 결과
+     *
+     * @param congestion     장소별 혼잡도
+     * @param distanceMeters 조회 좌표로부터의 거리 (미터)
+     */
+    public record Nearby(AreaCongestion congestion, double distanceMeters) {
+    }
+}
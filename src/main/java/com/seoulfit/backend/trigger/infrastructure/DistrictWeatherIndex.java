@@ -0,0 +1,88 @@
+package com.seoulfit.backend.trigger.infrastructure;
+
+import com.seoulfit.backend.trigger.domain.DistrictWeather;
+import com.seoulfit.backend.trigger.dto.TriggerContext;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 자치구별 날씨 집계 인덱스
+ *
+ * 스케줄러 틱마다 한 번 만들어 트리거 컨텍스트 메타데이터로 모든 사용자에게 공유합니다.
+ * 전략은 원본 응답을 다시 파싱하지 않고 사용자 구 코드로 집계값을 바로 찾습니다.
+ * 구 코드가 없거나 모르는 구이면 서울 전체 집계를 돌려줍니다.
+ *
+ * 생성 후 변경하지 않으므로 여러 스레드에서 동시에 조회할 수 있습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public class DistrictWeatherIndex {
+
+    /**
+     * 트리거 컨텍스트 메타데이터에 인덱스를 담는 키
+     */
+    public static final String CONTEXT_KEY = "districtWeather";
+
+    /**
+     * 트리거 컨텍스트 메타데이터에 사용자 구 코드를 담는 키
+     */
+    public static final String DISTRICT_CODE_KEY = "districtCode";
+
+    private static final DistrictWeatherIndex EMPTY = new DistrictWeatherIndex(Map.of(), null);
+
+    private final Map<String, DistrictWeather> weatherByDistrict;
+    private final DistrictWeather citywide;
+
+    public DistrictWeatherIndex(Map<String, DistrictWeather> weatherByDistrict, DistrictWeather citywide) {
+        this.weatherByDistrict = Map.copyOf(weatherByDistrict);
+        this.citywide = citywide;
+    }
+
+    public static DistrictWeatherIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 컨텍스트 메타데이터의 인덱스와 사용자 구 코드로 날씨 집계 조회
+     *
+     * @return 사용자 구의 날씨 집계, 메타데이터에 인덱스가 없으면 empty
+     */
+    public static Optional<DistrictWeather> lookup(TriggerContext context) {
+        DistrictWeatherIndex index = context.getMetadata(CONTEXT_KEY, DistrictWeatherIndex.class);
+        if (index == null) {
+            return Optional.empty();
+        }
+        return index.find(context.getMetadata(DISTRICT_CODE_KEY, String.class));
+    }
+
+    /**
+     * 구 코드로 날씨 집계 조회
+     *
+     * @param districtCode 시도 + 시군구 코드, null이면 서울 전체 집계
+     * @return 구의 날씨 집계 (모르는 구이면 서울 전체 집계), 집계가 비어 있으면 empty
+     */
+    public Optional<DistrictWeather> find(String districtCode) {
+        DistrictWeather weather = districtCode == null ? null : weatherByDistrict.get(districtCode);
+        return Optional.ofNullable(weather != null ? weather : citywide);
+    }
+
+    /**
+     * 서울 전체 집계
+     */
+    public Optional<DistrictWeather> getCitywide() {
+        return Optional.ofNullable(citywide);
+    }
+
+    /**
+     * 집계가 있는 구 수
+     */
+    public int size() {
+        return weatherByDistrict.size();
+    }
+
+    public boolean isEmpty() {
+        return citywide == null;
+    }
+}
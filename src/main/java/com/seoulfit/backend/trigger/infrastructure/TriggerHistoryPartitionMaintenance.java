@@ -0,0 +1,188 @@
+package com.seoulfit.backend.trigger.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 트리거 히스토리 파티션 관리
+ *
+ * PostgreSQL에서 trigger_history, trigger_history_metadata는 triggered_at 기준 일 단위
+ * range 파티션 테이블입니다 (V4 마이그레이션). 매일 다음 작업을 수행합니다.
+ *
+ * - 오늘부터 premake-days 일 뒤까지의 파티션을 미리 생성
+ * - 보존 기간(retention-days)이 지난 파티션을 DROP 또는 DETACH (메타데이터 파티션 먼저)
+ * - default 파티션에 들어간 보존 기간 경과 행 삭제
+ *
+ * 파티션 테이블이 아닌 경우(H2, 마이그레이션 전 DB)에는 보존 기간이 지난 행을 DELETE로 정리합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class TriggerHistoryPartitionMaintenance {
+
+    static final String HISTORY_TABLE = "trigger_history";
+    static final String METADATA_TABLE = "trigger_history_metadata";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String IS_PARTITIONED_SQL =
+            "SELECT COUNT(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid " +
+            "WHERE c.relname = ? AND pg_table_is_visible(c.oid)";
+
+    private static final String LIST_PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = ? AND pg_table_is_visible(p.oid) ORDER BY c.relname";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionDays;
+    private final int premakeDays;
+    private final RetentionMode retentionMode;
+
+    public TriggerHistoryPartitionMaintenance(
+            JdbcTemplate jdbcTemplate,
+            @Value("${seoulfit.trigger.history.retention-days:90}") int retentionDays,
+            @Value("${seoulfit.trigger.history.premake-days:7}") int premakeDays,
+            @Value("${seoulfit.trigger.history.retention-mode:drop}") String retentionMode) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = retentionDays;
+        this.premakeDays = premakeDays;
+        this.retentionMode = RetentionMode.valueOf(retentionMode.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * 파티션 생성과 보존 기간 정리를 수행
+     *
+     * @param today 기준일 (보존 기간은 기준일 0시부터 역산)
+     * @return 정리 결과
+     */
+    public MaintenanceResult maintain(LocalDate today) {
+        LocalDate cutoff = today.minusDays(retentionDays);
+        Timestamp cutoffAt = Timestamp.valueOf(cutoff.atStartOfDay());
+
+        if (!isPartitioned()) {
+            jdbcTemplate.update("DELETE FROM " + METADATA_TABLE + " WHERE triggered_at < ?", cutoffAt);
+            int deletedRows = jdbcTemplate.update("DELETE FROM " + HISTORY_TABLE + " WHERE triggered_at < ?", cutoffAt);
+            MaintenanceResult result = new MaintenanceResult(false, 0, 0, deletedRows);
+            log.info("트리거 히스토리 보존 기간 정리 완료 (일반 테이블): cutoff={}, {}", cutoff, result);
+            return result;
+        }
+
+        int created = 0;
+        for (LocalDate day = today; !day.isAfter(today.plusDays(premakeDays)); day = day.plusDays(1)) {
+            created += createPartition(METADATA_TABLE, day);
+            created += createPartition(HISTORY_TABLE, day);
+        }
+
+        int retired = 0;
+        retired += retirePartitions(METADATA_TABLE, cutoff);
+        retired += retirePartitions(HISTORY_TABLE, cutoff);
+
+        jdbcTemplate.update("DELETE FROM " + METADATA_TABLE + "_default WHERE triggered_at < ?", cutoffAt);
+        int deletedRows = jdbcTemplate.update("DELETE FROM " + HISTORY_TABLE + "_default WHERE triggered_at < ?", cutoffAt);
+
+        MaintenanceResult result = new MaintenanceResult(true, created, retired, deletedRows);
+        log.info("트리거 히스토리 파티션 관리 완료: cutoff={}, mode={}, {}", cutoff, retentionMode, result);
+        return result;
+    }
+
+    private boolean isPartitioned() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            return false;
+        }
+        Integer count = jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Integer.class, HISTORY_TABLE);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 하루치 파티션 생성
+     *
+     * default 파티션에 같은 날짜의 행이 이미 있으면 생성이 실패하므로 경고만 남기고 건너뜁니다.
+     */
+    private int createPartition(String table, LocalDate day) {
+        String partition = partitionName(table, day);
+        if (!listPartitions(table).contains(partition)) {
+            try {
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                        partition, table, day, day.plusDays(1)));
+                return 1;
+            } catch (DataAccessException e) {
+                log.warn("트리거 히스토리 파티션 생성 실패: {} - {}", partition, e.getMessage());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 보존 기간이 지난 날짜 파티션 제거 (DROP) 또는 분리 (DETACH, 아카이브용으로 테이블은 유지)
+     */
+    private int retirePartitions(String table, LocalDate cutoff) {
+        Pattern pattern = Pattern.compile("^" + table + "_p(\\d{8})$");
+        int retired = 0;
+        for (String partition : listPartitions(table)) {
+            Matcher matcher = pattern.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            LocalDate day = LocalDate.parse(matcher.group(1), PARTITION_SUFFIX);
+            if (!day.isBefore(cutoff)) {
+                continue;
+            }
+            if (retentionMode == RetentionMode.DETACH) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+            } else {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+            retired++;
+        }
+        return retired;
+    }
+
+    private List<String> listPartitions(String table) {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, table);
+    }
+
+    static String partitionName(String table, LocalDate day) {
+        return table + "_p" + day.format(PARTITION_SUFFIX);
+    }
+
+    /**
+     * 보존 기간이 지난 파티션 처리 방식
+     */
+    public enum RetentionMode {
+        /** 파티션 테이블 삭제 */
+        DROP,
+        /** 파티션 분리 (아카이브용 일반 테이블로 유지) */
+        DETACH
+    }
+
+    /**
+     * 파티션 관리 결과
+     *
+     * @param partitioned 파티션 테이블 여부
+     * @param createdPartitions 새로 생성한 파티션 수 (히스토리 + 메타데이터)
+     * @param retiredPartitions 삭제 또는 분리한 파티션 수 (히스토리 + 메타데이터)
+     * @param deletedRows DELETE로 정리한 히스토리 행 수 (일반 테이블 또는 default 파티션)
+     */
+    public record MaintenanceResult(boolean partitioned, int createdPartitions, int retiredPartitions,
+                                    int deletedRows) {
+    }
+}
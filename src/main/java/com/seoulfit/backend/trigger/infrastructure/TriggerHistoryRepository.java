@@ -13,6 +13,9 @@ import java.util.List;
 /**
  * 트리거 히스토리 레포지토리
  * 
+ * 기간 조건이 있는 중복 확인 쿼리는 히스토리와 메타데이터 모두 triggered_at으로 필터링하여
+ * PostgreSQL 파티션 테이블에서 조회 범위 밖의 파티션을 읽지 않도록 합니다.
+ * 
  * @author Seoul Fit
  * @since 1.0.0
  */
@@ -28,6 +31,28 @@ public interface TriggerHistoryRepository extends JpaRepository<TriggerHistory,
                                                            @Param("offset") int offset, 
                                                            @Param("limit") int limit);
 
+    /**
+     * 사용자별 트리거 히스토리 첫 페이지 조회 (최신순, 키셋 페이지네이션)
+     */
+    @Query("SELECT th FROM TriggerHistory th WHERE th.userId = :userId " +
+           "ORDER BY th.triggeredAt DESC, th.id DESC LIMIT :limit")
+    List<TriggerHistory> findFirstPageByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * 커서 (triggeredAt, id) 이후의 사용자별 트리거 히스토리 조회 (최신순, 키셋 페이지네이션)
+     *
+     * triggeredAt <= :triggeredAt 조건을 함께 두어 (user_id, triggered_at) 인덱스 범위 탐색과
+     * 파티션 프루닝이 적용되도록 하고, 같은 시각의 행은 id로 이어서 읽습니다.
+     */
+    @Query("SELECT th FROM TriggerHistory th WHERE th.userId = :userId " +
+           "AND th.triggeredAt <= :triggeredAt " +
+           "AND (th.triggeredAt < :triggeredAt OR th.id < :id) " +
+           "ORDER BY th.triggeredAt DESC, th.id DESC LIMIT :limit")
+    List<TriggerHistory> findPageByUserIdBefore(@Param("userId") Long userId,
+                                                @Param("triggeredAt") LocalDateTime triggeredAt,
+                                                @Param("id") Long id,
+                                                @Param("limit") int limit);
+
     /**
      * 최근 특정 시간 내 동일 트리거 발동 여부 확인
      */
@@ -60,7 +85,7 @@ public interface TriggerHistoryRepository extends JpaRepository<TriggerHistory,
            "WHERE th.userId = :userId " +
            "AND th.triggerCondition IN ('CULTURAL_EVENT', 'CULTURAL_EVENT_START') " +
            "AND KEY(m) = 'cultural_event_id' " +
-           "AND VALUE(m) = :culturalEventId")
+           "AND VALUE(m).metadataValue = :culturalEventId")
     boolean existsByUserIdAndCulturalEventId(@Param("userId") Long userId, 
                                            @Param("culturalEventId") String culturalEventId);
 
@@ -73,8 +98,9 @@ public interface TriggerHistoryRepository extends JpaRepository<TriggerHistory,
            "WHERE th.userId = :userId " +
            "AND th.triggerCondition IN ('CULTURAL_EVENT', 'CULTURAL_EVENT_START') " +
            "AND KEY(m) = 'cultural_event_id' " +
-           "AND VALUE(m) = :culturalEventId " +
-           "AND th.triggeredAt >= :since")
+           "AND VALUE(m).metadataValue = :culturalEventId " +
+           "AND th.triggeredAt >= :since " +
+           "AND VALUE(m).triggeredAt >= :since")
     boolean existsByUserIdAndCulturalEventIdSince(@Param("userId") Long userId, 
                                                 @Param("culturalEventId") String culturalEventId,
                                                 @Param("since") LocalDateTime since);
@@ -100,7 +126,7 @@ public interface TriggerHistoryRepository extends JpaRepository<TriggerHistory,
            "WHERE th.userId = :userId " +
            "AND th.triggerCondition = :triggerCondition " +
            "AND KEY(m) = :identifierKey " +
-           "AND VALUE(m) = :identifierValue")
+           "AND VALUE(m).metadataValue = :identifierValue")
     boolean existsByUserIdAndUniqueIdentifier(@Param("userId") Long userId,
                                              @Param("triggerCondition") TriggerCondition triggerCondition,
                                              @Param("identifierKey") String identifierKey,
@@ -115,8 +141,9 @@ public interface TriggerHistoryRepository extends JpaRepository<TriggerHistory,
            "WHERE th.userId = :userId " +
            "AND th.triggerCondition = :triggerCondition " +
            "AND KEY(m) = :identifierKey " +
-           "AND VALUE(m) = :identifierValue " +
-           "AND th.triggeredAt >= :since")
+           "AND VALUE(m).metadataValue = :identifierValue " +
+           "AND th.triggeredAt >= :since " +
+           "AND VALUE(m).triggeredAt >= :since")
     boolean existsByUserIdAndUniqueIdentifierSince(@Param("userId") Long userId,
                                                   @Param("triggerCondition") TriggerCondition triggerCondition,
                                                   @Param("identifierKey") String identifierKey,
@@ -0,0 +1,591 @@
+package com.seoulfit.backend.trigger.rule;
+
+import com.seoulfit.backend.trigger.domain.AreaCongestion;
+import com.seoulfit.backend.trigger.dto.TriggerContext;
+import com.seoulfit.backend.trigger.dto.TriggerResult;
+import com.seoulfit.backend.trigger.infrastructure.CongestionIndex;
+import com.seoulfit.backend.trigger.utils.TriggerUtils;
+import com.seoulfit.backend.user.domain.InterestCategory;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 컴파일된 트리거 규칙 집합
+ *
+ * 규칙 파일을 불러올 때 한 번 컴파일해 데이터 소스 → 필드 슬롯 → 조건 비트 구조로 색인합니다.
+ * <ul>
+ *   <li>사용자 관심사에 해당하는 규칙이 없으면 데이터를 보지 않고 끝냅니다.</li>
+ *   <li>소스 레코드마다 규칙들이 읽는 필드 값을 한 번만 읽고, 같은 필드 값 조합의 조건 결과는 캐시합니다.
+ *       값이 바뀌지 않은 레코드는 다음 틱이나 다른 사용자에게서 조건을 다시 평가하지 않습니다.</li>
+ *   <li>사용자마다 달라지는 관심사, 반경, 재발동 제한만 매번 확인합니다.</li>
+ * </ul>
+ *
+ * 생성 후 규칙은 변경하지 않으며 조건 결과 캐시는 동시 접근을 허용하므로 여러 스레드에서 평가할 수 있습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public final class CompiledRuleSet {
+
+    private static final String CITY_DATA = "CITYDATA";
+    private static final String CONGESTION_INDEX = "congestion";
+    private static final int DEFAULT_PRIORITY = 50;
+
+    /**
+     * 소스별 조건 결과 캐시 최대 크기 (넘으면 비움)
+     */
+    private static final int MAX_CACHED_INPUTS = 10_000;
+
+    private final List<CompiledRule> rules;
+    private final List<CompiledSource> sources;
+    private final Set<InterestCategory> interests;
+    private final AtomicLong conditionEvaluations;
+
+    private CompiledRuleSet(List<CompiledRule> rules, List<CompiledSource> sources, AtomicLong conditionEvaluations) {
+        this.rules = rules;
+        this.sources = sources;
+        this.conditionEvaluations = conditionEvaluations;
+        this.interests = rules.isEmpty() ? EnumSet.noneOf(InterestCategory.class)
+                : EnumSet.copyOf(rules.stream().map(CompiledRule::interest).toList());
+    }
+
+    /**
+     * 규칙 정의 컴파일
+     *
+     * @throws IllegalArgumentException 규칙 정의가 잘못된 경우 (규칙 id 포함)
+     */
+    public static CompiledRuleSet compile(TriggerRuleDefinition.Document document) {
+        Map<String, TriggerRuleDefinition.Source> sourceDefinitions = new HashMap<>();
+        if (document.sources() != null) {
+            document.sources().forEach(source -> sourceDefinitions.put(source.name(), source));
+        }
+
+        Map<List<String>, SourceBuilder> sourceBuilders = new LinkedHashMap<>();
+        List<RuleBuilder> ruleBuilders = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+
+        for (TriggerRuleDefinition definition : document.rules()) {
+            try {
+                validate(definition);
+                if (!ids.add(definition.id())) {
+                    throw new IllegalArgumentException("중복된 규칙 id");
+                }
+                SourceBuilder source = sourceBuilders.computeIfAbsent(List.copyOf(definition.source()),
+                        names -> new SourceBuilder(sourceBuilders.size(), names, sourceDefinitions.get(names.get(0))));
+                if (definition.radius() != null && !source.located()) {
+                    throw new IllegalArgumentException("radius는 좌표 필드가 정의된 소스에서만 사용할 수 있습니다: "
+                            + definition.source());
+                }
+                ruleBuilders.add(new RuleBuilder(definition, source, source.addConditions(definition.when())));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("트리거 규칙 컴파일 실패: id=" + definition.id() + ", " + e.getMessage(), e);
+            }
+        }
+
+        AtomicLong conditionEvaluations = new AtomicLong();
+        List<CompiledSource> sources = sourceBuilders.values().stream()
+                .map(builder -> builder.build(conditionEvaluations))
+                .toList();
+        List<CompiledRule> rules = ruleBuilders.stream()
+                .map(builder -> builder.build(sources.get(builder.source().ordinal)))
+                .sorted(Comparator.comparingInt(CompiledRule::order))
+                .toList();
+        return new CompiledRuleSet(rules, sources, conditionEvaluations);
+    }
+
+    /**
+     * 모든 규칙 평가
+     */
+    public Optional<RuleMatch> evaluate(TriggerContext context) {
+        return evaluate(context, rule -> true);
+    }
+
+    /**
+     * 평가 순서대로 규칙을 확인해 처음 발동한 규칙 반환
+     *
+     * @param context  트리거 컨텍스트
+     * @param eligible 사용자별 평가 대상 규칙 (재발동 제한 등), 제외된 규칙은 다음 규칙으로 넘어감
+     * @return 발동한 규칙과 결과, 없으면 empty
+     */
+    public Optional<RuleMatch> evaluate(TriggerContext context, Predicate<CompiledRule> eligible) {
+        List<InterestCategory> userInterests = context.getUserInterests();
+        if (userInterests == null || userInterests.stream().noneMatch(interests::contains)) {
+            return Optional.empty();
+        }
+
+        List<SourceRecord>[] recordsBySource = newRecordTable();
+        for (CompiledRule rule : rules) {
+            if (!userInterests.contains(rule.interest()) || !eligible.test(rule)) {
+                continue;
+            }
+            Optional<RuleMatch> match = rule.evaluate(context, records(rule.source(), rule, context, recordsBySource));
+            if (match.isPresent()) {
+                return match;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 조건을 실제로 평가한 누적 횟수 (캐시 적중은 제외)
+     */
+    public long conditionEvaluations() {
+        return conditionEvaluations.get();
+    }
+
+    /**
+     * 평가 순서대로 정렬된 규칙
+     */
+    public List<CompiledRule> rules() {
+        return rules;
+    }
+
+    /**
+     * 가장 먼저 평가하는 규칙의 순서 값
+     */
+    public int minOrder() {
+        return rules.isEmpty() ? Integer.MAX_VALUE : rules.get(0).order();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SourceRecord>[] newRecordTable() {
+        return new List[sources.size() * 2];
+    }
+
+    /**
+     * 이번 평가에서 규칙이 볼 소스 레코드 (소스마다 한 번만 읽음)
+     */
+    private List<SourceRecord> records(CompiledSource source, CompiledRule rule, TriggerContext context,
+                                       List<SourceRecord>[] recordsBySource) {
+        boolean located = rule.radius() != null;
+        int slot = source.ordinal() * 2 + (located ? 1 : 0);
+        if (recordsBySource[slot] == null || located) {
+            recordsBySource[slot] = located ? locatedRecords(source, rule.radius(), context) : firstRecord(source, context);
+        }
+        return recordsBySource[slot];
+    }
+
+    private List<SourceRecord> firstRecord(CompiledSource source, TriggerContext context) {
+        List<?> rows = source.rows(context.getPublicApiData());
+        if (rows.isEmpty() || !(rows.get(0) instanceof Map<?, ?> row)) {
+            return List.of();
+        }
+        return List.of(source.record(cast(row), null, null, null));
+    }
+
+    private List<SourceRecord> locatedRecords(CompiledSource source, double radius, TriggerContext context) {
+        Double latitude = context.getUserLatitude();
+        Double longitude = context.getUserLongitude();
+        if (latitude == null || longitude == null) {
+            return List.of();
+        }
+
+        CongestionIndex congestionIndex = source.congestionIndex()
+                ? context.getMetadata(CongestionIndex.CONTEXT_KEY, CongestionIndex.class) : null;
+        if (congestionIndex != null) {
+            return congestionIndex.findWithinRadius(latitude, longitude, radius).stream()
+                    .map(nearby -> source.record(congestionRow(nearby.congestion()),
+                            nearby.congestion().hotspot().latitude(), nearby.congestion().hotspot().longitude(),
+                            nearby.distanceMeters()))
+                    .toList();
+        }
+
+        List<SourceRecord> records = new ArrayList<>();
+        for (Object item : source.rows(context.getPublicApiData())) {
+            if (!(item instanceof Map<?, ?> map)) {
+                continue;
+            }
+            Map<String, Object> row = cast(map);
+            Double rowLatitude = TriggerUtils.getDoubleValue(row, source.latitudeField());
+            Double rowLongitude = TriggerUtils.getDoubleValue(row, source.longitudeField());
+            if (rowLatitude == null || rowLongitude == null) {
+                continue;
+            }
+            double distance = TriggerUtils.calculateDistance(latitude, longitude, rowLatitude, rowLongitude);
+            if (distance <= radius) {
+                records.add(source.record(row, rowLatitude, rowLongitude, distance));
+            }
+        }
+        return records;
+    }
+
+    private static Map<String, Object> congestionRow(AreaCongestion congestion) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("AREA_NM", congestion.hotspot().areaName());
+        row.put("AREA_CONGEST_LVL", congestion.congestionLevel());
+        row.put("AREA_CONGEST_MSG", congestion.congestionMessage());
+        row.put("AREA_PPLTN_MIN", congestion.populationMin());
+        row.put("AREA_PPLTN_MAX", congestion.populationMax());
+        return row;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> cast(Map<?, ?> map) {
+        return (Map<String, Object>) map;
+    }
+
+    private static void validate(TriggerRuleDefinition definition) {
+        if (definition.id() == null || definition.id().isBlank()) {
+            throw new IllegalArgumentException("규칙 id가 없습니다.");
+        }
+        if (definition.interest() == null || definition.notificationType() == null || definition.condition() == null) {
+            throw new IllegalArgumentException("interest, notification-type, condition은 필수입니다.");
+        }
+        if (definition.source() == null || definition.source().isEmpty()) {
+            throw new IllegalArgumentException("source가 없습니다.");
+        }
+        if (definition.when() == null || definition.when().isEmpty()) {
+            throw new IllegalArgumentException("when 조건이 없습니다.");
+        }
+        if (definition.title() == null || definition.message() == null) {
+            throw new IllegalArgumentException("title, message는 필수입니다.");
+        }
+        if (definition.match() != null && !definition.match().equals("all") && !definition.match().equals("any")) {
+            throw new IllegalArgumentException("match는 all 또는 any입니다: " + definition.match());
+        }
+    }
+
+    /**
+     * 발동한 규칙과 결과
+     */
+    public record RuleMatch(CompiledRule rule, TriggerResult result) {
+    }
+
+    /**
+     * 소스 레코드 한 개 (필드 값과 조건 결과 비트)
+     */
+    private record SourceRecord(Map<String, Object> row, Object[] values, long outcomes,
+                                Double latitude, Double longitude, Double distance) {
+    }
+
+    /**
+     * 컴파일된 규칙
+     */
+    public static final class CompiledRule {
+
+        private final String id;
+        private final int order;
+        private final InterestCategory interest;
+        private final CompiledSource source;
+        private final long mask;
+        private final boolean matchAny;
+        private final Double radius;
+        private final Duration cooldown;
+        private final TriggerRuleDefinition definition;
+        private final int priority;
+        private final MessageTemplate title;
+        private final MessageTemplate message;
+        private final MessageTemplate location;
+        private final Map<String, ConditionSlot> conditionsByName;
+
+        private CompiledRule(TriggerRuleDefinition definition, CompiledSource source, List<ConditionSlot> conditions) {
+            this.id = definition.id();
+            this.order = definition.order();
+            this.interest = definition.interest();
+            this.source = source;
+            this.matchAny = "any".equals(definition.match());
+            this.radius = definition.radius();
+            this.cooldown = definition.cooldown() == null ? null : DurationStyle.detectAndParse(definition.cooldown());
+            this.definition = definition;
+            this.priority = definition.priority() == null ? DEFAULT_PRIORITY : definition.priority();
+            this.title = MessageTemplate.parse(definition.title());
+            this.message = MessageTemplate.parse(definition.message());
+            this.location = definition.location() == null ? null : MessageTemplate.parse(definition.location());
+
+            long bits = 0;
+            this.conditionsByName = new HashMap<>();
+            for (ConditionSlot condition : conditions) {
+                bits |= 1L << condition.bit();
+                conditionsByName.putIfAbsent(condition.id(), condition);
+                for (String field : condition.fields()) {
+                    conditionsByName.putIfAbsent(field, condition);
+                }
+            }
+            this.mask = bits;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public int order() {
+            return order;
+        }
+
+        public InterestCategory interest() {
+            return interest;
+        }
+
+        /**
+         * 같은 사용자에게 다시 발동하기까지의 시간, 제한이 없으면 null
+         */
+        public Duration cooldown() {
+            return cooldown;
+        }
+
+        Double radius() {
+            return radius;
+        }
+
+        CompiledSource source() {
+            return source;
+        }
+
+        private Optional<RuleMatch> evaluate(TriggerContext context, List<SourceRecord> records) {
+            for (SourceRecord record : records) {
+                long hit = record.outcomes() & mask;
+                if (matchAny ? hit != 0 : hit == mask) {
+                    return Optional.of(new RuleMatch(this, toResult(context, record)));
+                }
+            }
+            return Optional.empty();
+        }
+
+        private TriggerResult toResult(TriggerContext context, SourceRecord record) {
+            MessageTemplate.Resolver resolver = new MessageTemplate.Resolver() {
+                @Override
+                public Object value(String name) {
+                    return resolve(context, record, name);
+                }
+
+                @Override
+                public boolean enabled(String name) {
+                    ConditionSlot condition = conditionsByName.get(name);
+                    if (condition != null && condition.id().equals(name)) {
+                        return (record.outcomes() & (1L << condition.bit())) != 0;
+                    }
+                    Object value = resolve(context, record, name);
+                    return value != null && !String.valueOf(value).isEmpty();
+                }
+            };
+
+            String locationInfo = location == null ? null : location.render(resolver);
+            return TriggerResult.builder()
+                    .triggered(true)
+                    .notificationType(definition.notificationType())
+                    .triggerCondition(definition.condition())
+                    .title(title.render(resolver))
+                    .message(message.render(resolver))
+                    .locationInfo(locationInfo == null || locationInfo.isEmpty() ? null : locationInfo)
+                    .priority(priority)
+                    .additionalData(Map.of("ruleId", id))
+                    .build();
+        }
+
+        private Object resolve(TriggerContext context, SourceRecord record, String name) {
+            ConditionSlot condition = conditionsByName.get(name);
+            if (condition != null) {
+                return condition.value(record.values());
+            }
+            if (record.row().containsKey(name)) {
+                return record.row().get(name);
+            }
+            switch (name) {
+                case "distance":
+                    return record.distance();
+                case "latitude":
+                    return record.latitude();
+                case "longitude":
+                    return record.longitude();
+                default:
+                    Map<String, Object> publicApiData = context.getPublicApiData();
+                    return publicApiData == null ? null : publicApiData.get(name);
+            }
+        }
+    }
+
+    /**
+     * 컴파일된 조건 (소스 안에서의 비트 위치와 읽을 필드 슬롯)
+     */
+    private record ConditionSlot(String id, List<String> fields, int[] slots, int bit, Predicate<Object> test) {
+
+        /**
+         * 값이 있는 첫 필드의 값
+         */
+        Object value(Object[] values) {
+            for (int slot : slots) {
+                if (values[slot] != null) {
+                    return values[slot];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 컴파일된 데이터 소스
+     *
+     * 소스 규칙들이 읽는 필드를 슬롯으로 모아 두고, 필드 값 조합별 조건 결과를 캐시합니다.
+     */
+    private static final class CompiledSource {
+
+        private final int ordinal;
+        private final List<String> names;
+        private final TriggerRuleDefinition.Source definition;
+        private final String[] fields;
+        private final List<ConditionSlot> conditions;
+        private final AtomicLong conditionEvaluations;
+        private final Map<List<Object>, Long> outcomeCache = new ConcurrentHashMap<>();
+
+        private CompiledSource(int ordinal, List<String> names, TriggerRuleDefinition.Source definition,
+                               String[] fields, List<ConditionSlot> conditions, AtomicLong conditionEvaluations) {
+            this.ordinal = ordinal;
+            this.names = names;
+            this.definition = definition;
+            this.fields = fields;
+            this.conditions = conditions;
+            this.conditionEvaluations = conditionEvaluations;
+        }
+
+        int ordinal() {
+            return ordinal;
+        }
+
+        String latitudeField() {
+            return definition.latitudeField();
+        }
+
+        String longitudeField() {
+            return definition.longitudeField();
+        }
+
+        boolean congestionIndex() {
+            return CONGESTION_INDEX.equals(definition.index());
+        }
+
+        /**
+         * 값이 있는 첫 후보 소스의 레코드 목록 (최상위 또는 CITYDATA 아래)
+         */
+        List<?> rows(Map<String, Object> publicApiData) {
+            if (publicApiData == null) {
+                return List.of();
+            }
+            Object cityData = publicApiData.get(CITY_DATA);
+            for (String name : names) {
+                Object value = publicApiData.get(name);
+                if (value == null && cityData instanceof Map<?, ?> nested) {
+                    value = nested.get(name);
+                }
+                if (value instanceof List<?> list && !list.isEmpty()) {
+                    return list;
+                }
+                if (value instanceof Map<?, ?> map) {
+                    return List.of(map);
+                }
+            }
+            return List.of();
+        }
+
+        SourceRecord record(Map<String, Object> row, Double latitude, Double longitude, Double distance) {
+            Object[] values = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = row.get(fields[i]);
+            }
+            List<Object> key = Arrays.asList(values);
+            Long outcomes = outcomeCache.get(key);
+            if (outcomes == null) {
+                outcomes = evaluateConditions(values);
+                if (outcomeCache.size() >= MAX_CACHED_INPUTS) {
+                    outcomeCache.clear();
+                }
+                outcomeCache.put(key, outcomes);
+            }
+            return new SourceRecord(row, values, outcomes, latitude, longitude, distance);
+        }
+
+        private long evaluateConditions(Object[] values) {
+            long outcomes = 0;
+            for (ConditionSlot condition : conditions) {
+                conditionEvaluations.incrementAndGet();
+                if (condition.test().test(condition.value(values))) {
+                    outcomes |= 1L << condition.bit();
+                }
+            }
+            return outcomes;
+        }
+    }
+
+    /**
+     * 컴파일 중인 소스 (규칙을 모두 읽은 뒤 필드 슬롯을 고정)
+     */
+    private static final class SourceBuilder {
+
+        private final int ordinal;
+        private final List<String> names;
+        private final TriggerRuleDefinition.Source definition;
+        private final List<String> fields = new ArrayList<>();
+        private final List<ConditionSlot> conditions = new ArrayList<>();
+
+        private SourceBuilder(int ordinal, List<String> names, TriggerRuleDefinition.Source definition) {
+            this.ordinal = ordinal;
+            this.names = names;
+            this.definition = definition != null ? definition
+                    : new TriggerRuleDefinition.Source(names.get(0), null, null, null);
+        }
+
+        boolean located() {
+            return definition.latitudeField() != null && definition.longitudeField() != null;
+        }
+
+        List<ConditionSlot> addConditions(List<TriggerRuleDefinition.Condition> definitions) {
+            List<ConditionSlot> added = new ArrayList<>();
+            for (TriggerRuleDefinition.Condition definition : definitions) {
+                if (definition.field() == null || definition.operator() == null) {
+                    throw new IllegalArgumentException("조건에 field, operator가 필요합니다.");
+                }
+                if (conditions.size() == Long.SIZE) {
+                    throw new IllegalArgumentException("한 소스의 조건은 " + Long.SIZE + "개를 넘을 수 없습니다.");
+                }
+                List<String> conditionFields = new ArrayList<>();
+                conditionFields.add(definition.field());
+                if (definition.aliases() != null) {
+                    conditionFields.addAll(definition.aliases());
+                }
+                int[] slots = conditionFields.stream().mapToInt(this::slot).toArray();
+                ConditionSlot condition = new ConditionSlot(
+                        definition.id() != null ? definition.id() : definition.field(),
+                        List.copyOf(conditionFields), slots, conditions.size(),
+                        definition.operator().compile(definition.threshold()));
+                conditions.add(condition);
+                added.add(condition);
+            }
+            return added;
+        }
+
+        private int slot(String field) {
+            int index = fields.indexOf(field);
+            if (index < 0) {
+                fields.add(field);
+                index = fields.size() - 1;
+            }
+            return index;
+        }
+
+        CompiledSource build(AtomicLong conditionEvaluations) {
+            return new CompiledSource(ordinal, names, definition, fields.toArray(String[]::new),
+                    List.copyOf(conditions), conditionEvaluations);
+        }
+    }
+
+    private record RuleBuilder(TriggerRuleDefinition definition, SourceBuilder source, List<ConditionSlot> conditions) {
+
+        CompiledRule build(CompiledSource compiled) {
+            return new CompiledRule(definition, compiled, conditions);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.seoulfit.backend.trigger.rule;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 트리거 규칙 메시지 템플릿
+ *
+ * 규칙을 불러올 때 한 번 파싱해 두고 발동할 때마다 값만 채웁니다.
+ * <ul>
+ *   <li>{NAME}: 값 (없으면 빈 문자열)</li>
+ *   <li>{NAME:%.1f}: 숫자 값을 String.format 형식으로 출력</li>
+ *   <li>{#NAME}...{/NAME}: NAME 조건이 참이거나 값이 비어 있지 않을 때만 출력하는 구간 (중첩 가능)</li>
+ * </ul>
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+final class MessageTemplate {
+
+    private final List<Node> nodes;
+
+    private MessageTemplate(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * 템플릿 파싱
+     *
+     * @throws IllegalArgumentException 중괄호나 구간이 짝이 맞지 않는 경우
+     */
+    static MessageTemplate parse(String template) {
+        Deque<Section> open = new ArrayDeque<>();
+        List<Node> root = new ArrayList<>();
+        List<Node> current = root;
+        int position = 0;
+
+        while (position < template.length()) {
+            int start = template.indexOf('{', position);
+            if (start < 0) {
+                current.add(new Text(template.substring(position)));
+                break;
+            }
+            if (start > position) {
+                current.add(new Text(template.substring(position, start)));
+            }
+            int end = template.indexOf('}', start);
+            if (end < 0) {
+                throw new IllegalArgumentException("닫히지 않은 중괄호: " + template);
+            }
+
+            String token = template.substring(start + 1, end);
+            if (token.startsWith("#")) {
+                Section section = new Section(token.substring(1), new ArrayList<>());
+                current.add(section);
+                open.push(section);
+                current = section.nodes();
+            } else if (token.startsWith("/")) {
+                if (open.isEmpty() || !open.peek().name().equals(token.substring(1))) {
+                    throw new IllegalArgumentException("짝이 맞지 않는 구간 종료 {" + token + "}: " + template);
+                }
+                open.pop();
+                current = open.isEmpty() ? root : open.peek().nodes();
+            } else {
+                int colon = token.indexOf(':');
+                current.add(colon < 0
+                        ? new Value(token, null)
+                        : new Value(token.substring(0, colon), token.substring(colon + 1)));
+            }
+            position = end + 1;
+        }
+
+        if (!open.isEmpty()) {
+            throw new IllegalArgumentException("닫히지 않은 구간 {#" + open.peek().name() + "}: " + template);
+        }
+        return new MessageTemplate(List.copyOf(root));
+    }
+
+    /**
+     * 템플릿이 참조하는 값 이름 (구간 이름 포함)
+     */
+    List<String> names() {
+        List<String> names = new ArrayList<>();
+        collectNames(nodes, names);
+        return names;
+    }
+
+    String render(Resolver resolver) {
+        StringBuilder out = new StringBuilder();
+        render(nodes, resolver, out);
+        return out.toString();
+    }
+
+    private static void render(List<Node> nodes, Resolver resolver, StringBuilder out) {
+        for (Node node : nodes) {
+            if (node instanceof Text text) {
+                out.append(text.text());
+            } else if (node instanceof Value value) {
+                out.append(format(resolver.value(value.name()), value.format()));
+            } else if (node instanceof Section section && resolver.enabled(section.name())) {
+                render(section.nodes(), resolver, out);
+            }
+        }
+    }
+
+    private static void collectNames(List<Node> nodes, List<String> names) {
+        for (Node node : nodes) {
+            if (node instanceof Value value) {
+                names.add(value.name());
+            } else if (node instanceof Section section) {
+                names.add(section.name());
+                collectNames(section.nodes(), names);
+            }
+        }
+    }
+
+    private static String format(Object value, String format) {
+        if (value == null) {
+            return "";
+        }
+        if (format != null) {
+            Double number = RuleOperator.toNumber(value);
+            if (number != null) {
+                return String.format(format, number);
+            }
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * 템플릿 값 조회
+     */
+    interface Resolver {
+
+        Object value(String name);
+
+        /**
+         * 구간 출력 여부
+         */
+        boolean enabled(String name);
+    }
+
+    private sealed interface Node permits Text, Value, Section {
+    }
+
+    private record Text(String text) implements Node {
+    }
+
+    private record Value(String name, String format) implements Node {
+    }
+
+    private record Section(String name, List<Node> nodes) implements Node {
+    }
+}
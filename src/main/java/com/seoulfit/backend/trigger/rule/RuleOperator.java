@@ -0,0 +1,74 @@
+package com.seoulfit.backend.trigger.rule;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.DoublePredicate;
+import java.util.function.Predicate;
+
+/**
+ * 트리거 규칙 비교 연산자
+ *
+ * 숫자 연산자는 필드 값이 숫자이거나 숫자 문자열일 때만 참이며, 값이 없으면 항상 거짓입니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public enum RuleOperator {
+
+    GT, GTE, LT, LTE, EQ, IN;
+
+    /**
+     * 임계값을 묶어 필드 값 판정 함수로 컴파일
+     *
+     * @throws IllegalArgumentException 임계값이 연산자에 맞지 않는 경우
+     */
+    Predicate<Object> compile(List<String> threshold) {
+        if (threshold == null || threshold.isEmpty()) {
+            throw new IllegalArgumentException(name() + " 연산자에 임계값이 없습니다.");
+        }
+        if (this == IN) {
+            Set<String> values = Set.copyOf(threshold);
+            return value -> value != null && values.contains(String.valueOf(value));
+        }
+        if (this == EQ) {
+            String expected = threshold.get(0);
+            return value -> value != null && expected.equals(String.valueOf(value));
+        }
+
+        double limit;
+        try {
+            limit = Double.parseDouble(threshold.get(0).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name() + " 연산자의 임계값이 숫자가 아닙니다: " + threshold.get(0), e);
+        }
+        return switch (this) {
+            case GT -> value -> compare(value, number -> number > limit);
+            case GTE -> value -> compare(value, number -> number >= limit);
+            case LT -> value -> compare(value, number -> number < limit);
+            case LTE -> value -> compare(value, number -> number <= limit);
+            default -> throw new IllegalStateException(name());
+        };
+    }
+
+    private static boolean compare(Object value, DoublePredicate test) {
+        Double number = toNumber(value);
+        return number != null && test.test(number);
+    }
+
+    /**
+     * 숫자 또는 숫자 문자열을 double로 변환 (변환할 수 없으면 null)
+     */
+    static Double toNumber(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Double.parseDouble(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
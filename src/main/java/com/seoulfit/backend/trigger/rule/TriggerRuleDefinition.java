@@ -0,0 +1,85 @@
+package com.seoulfit.backend.trigger.rule;
+
+import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.trigger.domain.TriggerCondition;
+import com.seoulfit.backend.user.domain.InterestCategory;
+
+import java.util.List;
+
+/**
+ * 트리거 규칙 정의 (trigger/rules.yml의 rules 항목 한 개)
+ *
+ * @param id               규칙 식별자
+ * @param order            평가 순서 (낮을수록 먼저, 기존 전략 우선순위와 같은 척도)
+ * @param interest         규칙을 평가할 사용자 관심사
+ * @param source           데이터 소스 후보 (값이 있는 첫 소스를 사용, 예: [WEATHER_STTS, rainInfo])
+ * @param match            조건 결합 방식 (all | any, 기본 all)
+ * @param when             조건 목록
+ * @param radius           위치 소스에서 사용자 주변으로 볼 반경 (미터), 위치 소스가 아니면 null
+ * @param cooldown         같은 사용자에게 다시 발동하기까지의 시간 (예: 30m, PT1H), 없으면 제한 없음
+ * @param notificationType 알림 유형
+ * @param condition        트리거 조건
+ * @param title            알림 제목
+ * @param message          알림 메시지 템플릿 ({@link MessageTemplate})
+ * @param location         위치 정보 템플릿
+ * @param priority         알림 우선순위 (기본 50)
+ */
+public record TriggerRuleDefinition(
+        String id,
+        int order,
+        InterestCategory interest,
+        List<String> source,
+        String match,
+        List<Condition> when,
+        Double radius,
+        String cooldown,
+        NotificationType notificationType,
+        TriggerCondition condition,
+        String title,
+        String message,
+        String location,
+        Integer priority
+) {
+
+    /**
+     * 규칙 조건 한 개
+     *
+     * @param id        조건 식별자 (메시지 템플릿 구간 {#id}...{/id}에서 사용), 없으면 field
+     * @param field     데이터 필드
+     * @param aliases   field가 없을 때 차례로 볼 필드
+     * @param operator  비교 연산자
+     * @param threshold 임계값 (IN이면 목록)
+     */
+    public record Condition(
+            String id,
+            String field,
+            List<String> aliases,
+            RuleOperator operator,
+            List<String> threshold
+    ) {
+    }
+
+    /**
+     * 데이터 소스 정의 (trigger/rules.yml의 sources 항목)
+     *
+     * 위치가 있는 소스는 레코드 좌표 필드를 지정하며, 반경 규칙에서 사용자 주변 레코드만 평가합니다.
+     *
+     * @param name           소스 이름 (공공 API 데이터 키)
+     * @param latitudeField  레코드 위도 필드
+     * @param longitudeField 레코드 경도 필드
+     * @param index          레코드 대신 사용할 공간 인덱스 (congestion: 컨텍스트의 CongestionIndex)
+     */
+    public record Source(
+            String name,
+            String latitudeField,
+            String longitudeField,
+            String index
+    ) {
+    }
+
+    /**
+     * 규칙 파일 전체
+     */
+    public record Document(List<Source> sources, List<TriggerRuleDefinition> rules) {
+    }
+}
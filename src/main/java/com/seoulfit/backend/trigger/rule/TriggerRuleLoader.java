@@ -0,0 +1,78 @@
+package com.seoulfit.backend.trigger.rule;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.core.io.Resource;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 트리거 규칙 파일(YAML) 로더
+ *
+ * 문자열 값의 ${...} 자리표시자는 애플리케이션 설정으로 치환하므로 기존 임계값 설정
+ * (예: seoulfit.trigger.temperature.high-threshold)을 규칙에서 그대로 참조할 수 있습니다.
+ * 키는 kebab-case이며 모르는 키가 있으면 오타로 보고 실패합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+public final class TriggerRuleLoader {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.KEBAB_CASE)
+            .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+            .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private TriggerRuleLoader() {
+    }
+
+    /**
+     * 규칙 파일을 읽어 컴파일
+     *
+     * @param resource         규칙 파일
+     * @param propertyResolver 자리표시자 치환에 사용할 설정
+     * @throws IllegalStateException 파일을 읽지 못하거나 규칙이 잘못된 경우
+     */
+    public static CompiledRuleSet load(Resource resource, PropertyResolver propertyResolver) {
+        try (InputStream in = resource.getInputStream()) {
+            Object tree = resolvePlaceholders(new Yaml().load(in), propertyResolver);
+            TriggerRuleDefinition.Document document =
+                    OBJECT_MAPPER.convertValue(tree, TriggerRuleDefinition.Document.class);
+            if (document == null || document.rules() == null) {
+                throw new IllegalStateException("트리거 규칙이 비어 있습니다: " + resource.getDescription());
+            }
+            return CompiledRuleSet.compile(document);
+        } catch (IOException e) {
+            throw new UncheckedIOException("트리거 규칙 파일을 읽을 수 없습니다: " + resource.getDescription(), e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("트리거 규칙 파일이 올바르지 않습니다: " + resource.getDescription()
+                    + " - " + e.getMessage(), e);
+        }
+    }
+
+    private static Object resolvePlaceholders(Object node, PropertyResolver propertyResolver) {
+        if (node instanceof String text) {
+            return propertyResolver.resolveRequiredPlaceholders(text);
+        }
+        if (node instanceof Map<?, ?> map) {
+            Map<Object, Object> resolved = new LinkedHashMap<>();
+            map.forEach((key, value) -> resolved.put(key, resolvePlaceholders(value, propertyResolver)));
+            return resolved;
+        }
+        if (node instanceof List<?> list) {
+            List<Object> resolved = new ArrayList<>(list.size());
+            list.forEach(value -> resolved.add(resolvePlaceholders(value, propertyResolver)));
+            return resolved;
+        }
+        return node;
+    }
+}
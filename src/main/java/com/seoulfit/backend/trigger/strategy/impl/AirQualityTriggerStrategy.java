@@ -8,6 +8,7 @@ import com.seoulfit.backend.trigger.strategy.TriggerStrategy;
 import com.seoulfit.backend.trigger.utils.TriggerUtils;
 import com.seoulfit.backend.user.domain.InterestCategory;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -23,6 +24,7 @@ import java.util.List;
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "seoulfit.trigger.rules.enabled", havingValue = "false", matchIfMissing = true)
 public class AirQualityTriggerStrategy implements TriggerStrategy {
     
     private static final List<String> BAD_AIR_QUALITY_LEVELS = Arrays.asList("나쁨", "매우나쁨");
@@ -1,14 +1,17 @@
 package com.seoulfit.backend.trigger.strategy.impl;
 
 import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.trigger.domain.AreaCongestion;
 import com.seoulfit.backend.trigger.domain.TriggerCondition;
 import com.seoulfit.backend.trigger.dto.TriggerContext;
 import com.seoulfit.backend.trigger.dto.TriggerResult;
+import com.seoulfit.backend.trigger.infrastructure.CongestionIndex;
 import com.seoulfit.backend.trigger.strategy.TriggerStrategy;
 import com.seoulfit.backend.trigger.utils.TriggerUtils;
 import com.seoulfit.backend.user.domain.InterestCategory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -19,14 +22,18 @@ import java.util.List;
  * 
  * 특정 지역의 인구 혼잡도가 높을 때 알림을 발송하는 전략
  * 
+ * 트리거 컨텍스트 메타데이터에 {@link CongestionIndex}가 있으면 사용자 위치 반경 안의 장소를 인덱스에서 조회하고,
+ * 없으면 공공 API 데이터의 LIVE_PPLTN_STTS 목록을 직접 확인합니다.
+ * 
  * @author Seoul Fit
  * @since 1.0.0
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "seoulfit.trigger.rules.enabled", havingValue = "false", matchIfMissing = true)
 public class CongestionTriggerStrategy implements TriggerStrategy {
     
-    private static final List<String> CROWDED_LEVELS = Arrays.asList("혼잡", "매우혼잡");
+    private static final List<String> CROWDED_LEVELS = Arrays.asList("붐빔", "매우붐빔", "혼잡", "매우혼잡");
     
     @Value("${seoulfit.trigger.congestion.location-radius:1000}")
     private double locationRadius; // 미터 단위
@@ -47,8 +54,11 @@ public class CongestionTriggerStrategy implements TriggerStrategy {
             return TriggerResult.notTriggered();
         }
         
-        // 공공 API 데이터에서 혼잡도 정보 추출
-        List<CongestionInfo> nearbyCongestions = extractNearbyCongestionInfo(context);
+        // 혼잡도 인덱스 또는 공공 API 데이터에서 주변 혼잡도 정보 추출
+        CongestionIndex congestionIndex = context.getMetadata(CongestionIndex.CONTEXT_KEY, CongestionIndex.class);
+        List<CongestionInfo> nearbyCongestions = congestionIndex != null
+                ? findNearbyCongestionInfo(congestionIndex, context)
+                : extractNearbyCongestionInfo(context);
         if (nearbyCongestions.isEmpty()) {
             log.debug("주변 혼잡도 정보 없음: userId={}", context.getUser().getId());
             return TriggerResult.notTriggered();
@@ -73,6 +83,33 @@ public class CongestionTriggerStrategy implements TriggerStrategy {
         return TriggerResult.notTriggered();
     }
     
+    /**
+     * 혼잡도 인덱스에서 사용자 위치 반경 안의 혼잡도 정보를 가까운 순으로 조회합니다.
+     * 
+     * @param congestionIndex 장소별 혼잡도 인덱스
+     * @param context 트리거 컨텍스트
+     * @return 주변 혼잡도 정보 목록
+     */
+    private List<CongestionInfo> findNearbyCongestionInfo(CongestionIndex congestionIndex, TriggerContext context) {
+        return congestionIndex.findWithinRadius(context.getUserLatitude(), context.getUserLongitude(), locationRadius)
+                .stream()
+                .map(nearby -> {
+                    AreaCongestion congestion = nearby.congestion();
+                    CongestionInfo info = CongestionInfo.builder()
+                            .areaName(congestion.hotspot().areaName())
+                            .congestionLevel(congestion.congestionLevel())
+                            .latitude(congestion.hotspot().latitude())
+                            .longitude(congestion.hotspot().longitude())
+                            .populationMin(congestion.populationMin())
+                            .populationMax(congestion.populationMax())
+                            .congestionMessage(congestion.congestionMessage())
+                            .build();
+                    info.distance = nearby.distanceMeters();
+                    return info;
+                })
+                .toList();
+    }
+    
     /**
      * 공공 API 데이터에서 주변 혼잡도 정보를 추출합니다.
      * 
@@ -206,4 +243,4 @@ public class CongestionTriggerStrategy implements TriggerStrategy {
         private final String congestionMessage;
         private double distance; // 사용자로부터의 거리
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
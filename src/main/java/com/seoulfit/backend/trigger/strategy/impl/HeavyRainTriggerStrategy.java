@@ -1,14 +1,17 @@
 package com.seoulfit.backend.trigger.strategy.impl;
 
 import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.trigger.domain.DistrictWeather;
 import com.seoulfit.backend.trigger.domain.TriggerCondition;
 import com.seoulfit.backend.trigger.dto.TriggerContext;
 import com.seoulfit.backend.trigger.dto.TriggerResult;
+import com.seoulfit.backend.trigger.infrastructure.DistrictWeatherIndex;
 import com.seoulfit.backend.trigger.strategy.TriggerStrategy;
 import com.seoulfit.backend.trigger.utils.TriggerUtils;
 import com.seoulfit.backend.user.domain.InterestCategory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,11 +19,15 @@ import org.springframework.stereotype.Component;
  * 
  * 강수량이 설정된 임계값을 초과할 때 알림을 발송하는 전략
  * 
+ * 컨텍스트 메타데이터에 구별 날씨 집계({@link DistrictWeatherIndex})가 있으면 사용자 구의 강수량을 사용하고,
+ * 없으면 공공 API 데이터의 WEATHER_STTS / rainInfo를 직접 파싱합니다.
+ * 
  * @author Seoul Fit
  * @since 1.0.0
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "seoulfit.trigger.rules.enabled", havingValue = "false", matchIfMissing = true)
 public class HeavyRainTriggerStrategy implements TriggerStrategy {
     
     @Value("${seoulfit.trigger.rain.heavy-threshold:15.0}")
@@ -80,12 +87,33 @@ public class HeavyRainTriggerStrategy implements TriggerStrategy {
     }
     
     /**
-     * 공공 API 데이터에서 강수량 정보를 추출합니다.
+     * 구별 날씨 집계 또는 공공 API 데이터에서 강수량 정보를 추출합니다.
      * 
      * @param context 트리거 컨텍스트
      * @return 강수량 정보
      */
     private RainfallInfo extractRainfallInfo(TriggerContext context) {
+        // 틱마다 한 번 만든 구별 날씨 집계가 있으면 강수 여부와 관계없이 사용자 구의 값 사용
+        // (집계 시 rainInfo 강수량도 반영하므로 원본 데이터를 다시 파싱하지 않음)
+        java.util.Optional<DistrictWeather> districtWeather = DistrictWeatherIndex.lookup(context);
+        if (districtWeather.isPresent()) {
+            return RainfallInfo.builder()
+                    .hourlyRainfall(districtWeather.get().hourlyRainfall())
+                    .dailyRainfall(districtWeather.get().dailyRainfall())
+                    .build();
+        }
+        
+        // 집계가 없으면 컨텍스트의 원본 데이터에서 추출
+        return extractRawRainfallInfo(context);
+    }
+    
+    /**
+     * 공공 API 원본 데이터(WEATHER_STTS, rainInfo)에서 강수량 정보를 추출합니다.
+     * 
+     * @param context 트리거 컨텍스트
+     * @return 강수량 정보, 데이터가 없으면 null
+     */
+    private RainfallInfo extractRawRainfallInfo(TriggerContext context) {
         // 서울시 실시간 도시 데이터에서 강수량 추출
         Object weatherData = context.getPublicApiData().get("WEATHER_STTS");
         if (weatherData instanceof java.util.List) {
@@ -169,4 +197,4 @@ public class HeavyRainTriggerStrategy implements TriggerStrategy {
         private final double hourlyRainfall;  // 시간당 강수량 (mm/h)
         private final double dailyRainfall;   // 일 누적 강수량 (mm)
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.seoulfit.backend.trigger.strategy.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seoulfit.backend.trigger.dto.TriggerContext;
+import com.seoulfit.backend.trigger.dto.TriggerResult;
+import com.seoulfit.backend.trigger.rule.CompiledRuleSet;
+import com.seoulfit.backend.trigger.rule.TriggerRuleLoader;
+import com.seoulfit.backend.trigger.strategy.TriggerStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 선언형 규칙 기반 트리거 전략
+ *
+ * 규칙 파일(seoulfit.trigger.rules.path, 기본 classpath:trigger/rules.yml)을 시작 시 컴파일해
+ * 폭우, 온도, 대기질, 혼잡도 전략을 대신합니다. 규칙의 임계값, 반경, 재발동 제한, 메시지를 바꿀 때
+ * 코드를 고치지 않고 규칙 파일만 바꾸면 됩니다 (외부 파일 경로 지정 가능).
+ *
+ * seoulfit.trigger.rules.enabled=true일 때만 등록되며, 이때 대체되는 하드코딩 전략은 등록되지 않습니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ * @see CompiledRuleSet
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "seoulfit.trigger.rules.enabled", havingValue = "true")
+public class RuleTriggerStrategy implements TriggerStrategy {
+
+    private final CompiledRuleSet ruleSet;
+
+    /**
+     * 사용자 + 규칙별 마지막 발동 시각 (재발동 제한용)
+     *
+     * 가장 긴 재발동 제한 시간이 지나면 더 이상 필요 없으므로 그 시간 뒤에 만료시켜,
+     * 한 번이라도 발동한 사용자·규칙이 계속 쌓이지 않게 합니다.
+     */
+    private final Cache<String, LocalDateTime> lastTriggered;
+
+    public RuleTriggerStrategy(
+            ResourceLoader resourceLoader,
+            Environment environment,
+            @Value("${seoulfit.trigger.rules.path:classpath:trigger/rules.yml}") String rulesPath) {
+        this.ruleSet = TriggerRuleLoader.load(resourceLoader.getResource(rulesPath), environment);
+        this.lastTriggered = Caffeine.newBuilder()
+                .expireAfterWrite(longestCooldown(ruleSet))
+                .build();
+        log.info("트리거 규칙 컴파일 완료: {}개, path={}", ruleSet.rules().size(), rulesPath);
+    }
+
+    @Override
+    public TriggerResult evaluate(TriggerContext context) {
+        LocalDateTime now = context.getCurrentTime() != null ? context.getCurrentTime() : LocalDateTime.now();
+        Long userId = context.getUser().getId();
+
+        return ruleSet.evaluate(context, rule -> rule.cooldown() == null || userId == null
+                        || isCooledDown(cooldownKey(userId, rule.id()), rule.cooldown(), now))
+                .map(match -> {
+                    if (match.rule().cooldown() != null && userId != null) {
+                        lastTriggered.put(cooldownKey(userId, match.rule().id()), now);
+                    }
+                    log.debug("트리거 규칙 발동: userId={}, rule={}", userId, match.rule().id());
+                    return match.result();
+                })
+                .orElseGet(TriggerResult::notTriggered);
+    }
+
+    private boolean isCooledDown(String key, Duration cooldown, LocalDateTime now) {
+        LocalDateTime last = lastTriggered.getIfPresent(key);
+        return last == null || !now.isBefore(last.plus(cooldown));
+    }
+
+    private static Duration longestCooldown(CompiledRuleSet ruleSet) {
+        return ruleSet.rules().stream()
+                .map(CompiledRuleSet.CompiledRule::cooldown)
+                .filter(Objects::nonNull)
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+    }
+
+    private static String cooldownKey(Long userId, String ruleId) {
+        return userId + ":" + ruleId;
+    }
+
+    @Override
+    public String getSupportedTriggerType() {
+        return "RULES";
+    }
+
+    /**
+     * 가장 먼저 평가하는 규칙의 순서 (기존 전략 우선순위와 같은 척도)
+     */
+    @Override
+    public int getPriority() {
+        return ruleSet.minOrder();
+    }
+
+    @Override
+    public String getDescription() {
+        return "규칙 파일에 정의된 조건(폭우, 온도, 대기질, 혼잡도)을 만족할 때 알림을 발송합니다.";
+    }
+}
@@ -1,13 +1,16 @@
 package com.seoulfit.backend.trigger.strategy.impl;
 
 import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.trigger.domain.DistrictWeather;
 import com.seoulfit.backend.trigger.domain.TriggerCondition;
 import com.seoulfit.backend.trigger.dto.TriggerContext;
 import com.seoulfit.backend.trigger.dto.TriggerResult;
+import com.seoulfit.backend.trigger.infrastructure.DistrictWeatherIndex;
 import com.seoulfit.backend.trigger.strategy.TriggerStrategy;
 import com.seoulfit.backend.user.domain.InterestCategory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
@@ -22,6 +25,7 @@ import org.springframework.stereotype.Component;
  *   <li>저온 임계값 미만 시 한파 주의보 발송</li>
  *   <li>사용자 관심사 기반 필터링 (날씨 관심사 필요)</li>
  *   <li>설정 가능한 온도 임계값</li>
+ *   <li>구별 날씨 집계가 있으면 사용자 구의 기온 사용</li>
  * </ul>
  * 
  * <p>임계값 설정:</p>
@@ -39,6 +43,7 @@ import org.springframework.stereotype.Component;
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "seoulfit.trigger.rules.enabled", havingValue = "false", matchIfMissing = true)
 public class TemperatureTriggerStrategy implements TriggerStrategy {
     
     /**
@@ -114,15 +119,22 @@ public class TemperatureTriggerStrategy implements TriggerStrategy {
     }
     
     /**
-     * 공공 API 데이터에서 온도 정보를 추출합니다.
+     * 구별 날씨 집계 또는 공공 API 데이터에서 온도 정보를 추출합니다.
      * 
-     * <p>서울시 실시간 도시 데이터의 날씨 정보에서 현재 온도를 파싱합니다.
+     * <p>컨텍스트 메타데이터에 {@link DistrictWeatherIndex}가 있으면 사용자 구의 평균 기온을 그대로 사용합니다.
+     * 없으면 서울시 실시간 도시 데이터의 날씨 정보에서 현재 온도를 파싱합니다.
      * 데이터 형식이 다양할 수 있으므로 String과 Number 타입을 모두 처리합니다.</p>
      * 
      * @param context 온도 정보가 포함된 트리거 컨텍스트
      * @return 현재 온도 (°C), 추출 실패 시 null
      */
     private Double extractTemperature(TriggerContext context) {
+        // 틱마다 한 번 만든 구별 날씨 집계가 있으면 사용자 구의 값 사용
+        java.util.Optional<DistrictWeather> districtWeather = DistrictWeatherIndex.lookup(context);
+        if (districtWeather.isPresent()) {
+            return districtWeather.get().temperature();
+        }
+        
         // 서울시 실시간 도시 데이터에서 온도 추출
         Object weatherData = context.getPublicApiData().get("WEATHER_STTS");
         if (weatherData instanceof java.util.List) {
@@ -25,6 +25,7 @@ import com.seoulfit.backend.user.application.port.in.dto.TokenResult;
 import com.seoulfit.backend.user.application.service.OAuthService;
 import com.seoulfit.backend.user.domain.User;
 import com.seoulfit.backend.user.infrastructure.jwt.JwtTokenProvider;
+import com.seoulfit.backend.user.infrastructure.security.AuthenticatedUserCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -61,6 +62,7 @@ public class AuthController {
     private final EvaluateTriggerUseCase evaluateTriggerUseCase;
     private final UserPort userPort;
     private final JwtTokenProvider jwtTokenProvider;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     @Operation(
             summary = "01. OAuth 인가코드 검증",
@@ -188,6 +190,7 @@ public class AuthController {
             // 사용자의 OAuth 토큰 제거
             user.clearOAuthToken();
             userPort.save(user);
+            authenticatedUserCache.evict(user.getId());
 
             result.put("message", "로그아웃이 완료되었습니다.");
             return ResponseEntity.ok(result);
@@ -285,6 +288,7 @@ public class AuthController {
             user.delete(); // 또는 user.deactivate();
             user.clearOAuthToken();
             userPort.save(user);
+            authenticatedUserCache.evict(user.getId());
 
             result.put("message", "연결 해제가 완료되었습니다.");
             return ResponseEntity.ok(result);
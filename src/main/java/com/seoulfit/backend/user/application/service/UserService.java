@@ -6,8 +6,10 @@ import com.seoulfit.backend.user.application.port.in.dto.UserResult;
 import com.seoulfit.backend.user.application.port.out.UserPort;
 import com.seoulfit.backend.user.domain.AuthProvider;
 import com.seoulfit.backend.user.domain.User;
+import com.seoulfit.backend.user.domain.UserAccountChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService implements ManageUserUseCase {
 
     private final UserPort userPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserResult getUser(Long userId) {
@@ -68,6 +71,7 @@ public class UserService implements ManageUserUseCase {
         }
 
         User savedUser = userPort.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(savedUser.getId()));
         return UserResult.from(savedUser);
     }
 
@@ -79,6 +83,7 @@ public class UserService implements ManageUserUseCase {
 
         // 하드 삭제 - 데이터베이스에서 완전 삭제
         userPort.deleteById(userId);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
         log.info("사용자 완전 삭제 완료: userId={}", userId);
     }
 }
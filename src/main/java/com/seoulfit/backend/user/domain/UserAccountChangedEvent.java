@@ -0,0 +1,12 @@
+package com.seoulfit.backend.user.domain;
+
+/**
+ * 사용자 계정 변경 이벤트
+ *
+ * 사용자 정보 수정이나 삭제처럼 인증에 쓰이는 사용자 상태가 바뀔 수 있는 변경 후 발행하며,
+ * 인증 사용자 캐시가 커밋 이후 이 이벤트를 받아 해당 사용자를 무효화합니다.
+ *
+ * @param userId 변경된 사용자 ID
+ */
+public record UserAccountChangedEvent(Long userId) {
+}
@@ -96,12 +96,24 @@ public class JwtTokenProvider {
      * @return 사용자 ID
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
+        Claims claims = parseClaims(token);
+        return Long.valueOf(claims.getSubject());
+    }
+
+    /**
+     * 토큰 서명 검증 후 클레임 반환
+     * 서명 검증은 이 메서드 한 번으로 끝내고, 필요한 값은 반환된 클레임에서 꺼내 쓴다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 클레임
+     * @throws JwtException 서명이 유효하지 않거나 만료된 경우
+     */
+    public Claims parseClaims(String token) {
+        return Jwts.parser()
                 .verifyWith(secretKey)
                 .build()
                 .parseSignedClaims(token)
                 .getPayload();
-        return Long.valueOf(claims.getSubject());
     }
 
     /**
@@ -112,10 +124,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.debug("Invalid JWT token: {}", e.getMessage());
@@ -131,11 +140,7 @@ public class JwtTokenProvider {
      */
     public boolean isAccessToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parseClaims(token);
             return "access".equals(claims.get("type", String.class));
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -150,11 +155,7 @@ public class JwtTokenProvider {
      */
     public boolean isRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parseClaims(token);
             return "refresh".equals(claims.get("type", String.class));
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -0,0 +1,21 @@
+package com.seoulfit.backend.user.infrastructure.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰의 클레임 요약
+ *
+ * @param userId 토큰 subject의 사용자 ID
+ * @param type 토큰 타입 (access / refresh)
+ * @param expiresAt 토큰 만료 시각
+ */
+public record VerifiedToken(Long userId, String type, Instant expiresAt) {
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
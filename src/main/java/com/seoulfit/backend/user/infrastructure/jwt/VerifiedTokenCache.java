@@ -0,0 +1,122 @@
+package com.seoulfit.backend.user.infrastructure.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 JWT 클레임 캐시
+ *
+ * 동일한 토큰이 요청마다 반복해서 HMAC 검증되지 않도록, 한 번 검증한 결과를
+ * 토큰 해시(SHA-256) 기준으로 보관한다. 각 엔트리는 토큰의 만료 시각에 맞춰 제거되므로
+ * 만료된 토큰이 캐시를 통해 통과하는 일은 없다.
+ * 검증에 실패한 토큰은 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.verified-cache.maximum-size:50000}") long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 토큰 검증 (캐시 우선)
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보, 유효하지 않으면 empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(hash(token), key -> parse(token)));
+    }
+
+    /**
+     * 특정 토큰을 캐시에서 제거 (로그아웃 등)
+     *
+     * @param token JWT 토큰
+     */
+    public void invalidate(String token) {
+        if (token != null && !token.isEmpty()) {
+            cache.invalidate(hash(token));
+        }
+    }
+
+    long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private VerifiedToken parse(String token) {
+        try {
+            Claims claims = jwtTokenProvider.parseClaims(token);
+            if (claims.getExpiration() == null) {
+                return null;
+            }
+            return new VerifiedToken(
+                    Long.valueOf(claims.getSubject()),
+                    claims.get("type", String.class),
+                    claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            // NumberFormatException(숫자가 아닌 subject)도 여기서 처리된다
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 엔트리 수명을 토큰의 남은 유효기간으로 제한
+     */
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAt().toEpochMilli() - Instant.now().toEpochMilli();
+            return Math.max(0L, remainingMillis) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
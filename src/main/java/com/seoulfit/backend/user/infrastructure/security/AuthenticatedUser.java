@@ -0,0 +1,50 @@
+package com.seoulfit.backend.user.infrastructure.security;
+
+import com.seoulfit.backend.user.domain.User;
+import com.seoulfit.backend.user.domain.UserStatus;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 인증 사용자 스냅샷
+ *
+ * 인증 사용자 캐시에 저장되어 여러 요청이 함께 읽는 불변 principal.
+ * 준영속 {@link User} 엔티티(지연 로딩 관심사 컬렉션 포함)를 요청 간에 공유하지 않도록
+ * 인증에 필요한 값만 복사해 둔다.
+ *
+ * @param id 사용자 ID
+ * @param email 이메일 (username으로 사용)
+ * @param status 캐시 적재 시점의 사용자 상태
+ */
+public record AuthenticatedUser(Long id, String email, UserStatus status) implements UserDetails {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getStatus());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return status == UserStatus.ACTIVE;
+    }
+}
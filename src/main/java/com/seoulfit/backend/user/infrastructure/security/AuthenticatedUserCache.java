@@ -0,0 +1,87 @@
+package com.seoulfit.backend.user.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seoulfit.backend.user.adapter.out.persistence.UserRepository;
+import com.seoulfit.backend.user.domain.UserAccountChangedEvent;
+import com.seoulfit.backend.user.domain.UserStatus;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인증 필터용 사용자 상태 캐시
+ *
+ * JWT 인증 시 매 요청마다 사용자 상태를 DB에서 조회하지 않도록 활성 사용자를 짧게 캐시한다.
+ * 엔티티가 아닌 불변 스냅샷({@link AuthenticatedUser})을 저장하므로 요청 간에 공유해도 안전하다.
+ * 사용자 상태(비활성화, 삭제 등)를 변경하는 코드는 {@link #evict(Long)}를 호출하거나
+ * {@link UserAccountChangedEvent}를 발행해야 하며, TTL은 누락된 무효화에 대한 안전장치 역할만 한다.
+ * 무효화 직후 다시 적재할 때 복제본의 지연된 상태를 캐시하지 않도록 적재는 primary로 가는 읽기/쓰기 트랜잭션에서 한다.
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate primaryReadTransaction;
+    private final Cache<Long, AuthenticatedUser> activeUsers;
+
+    public AuthenticatedUserCache(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${jwt.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.user-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        // 리포지토리의 readOnly 트랜잭션이 복제본으로 가지 않도록 읽기/쓰기 트랜잭션 안에서 조회
+        this.primaryReadTransaction = new TransactionTemplate(transactionManager);
+        this.primaryReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.activeUsers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 활성 사용자 조회 (캐시 우선)
+     *
+     * @param userId 사용자 ID
+     * @return 활성 상태인 사용자 스냅샷, 없거나 비활성이면 empty
+     */
+    public Optional<AuthenticatedUser> findActiveUser(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(activeUsers.get(userId, this::loadActiveUser));
+    }
+
+    /**
+     * 사용자 상태 변경 시 캐시 무효화
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        if (userId != null) {
+            activeUsers.invalidate(userId);
+        }
+    }
+
+    /**
+     * 사용자 변경이 커밋된 뒤 캐시 무효화 (트랜잭션 밖에서 발행되면 즉시 무효화)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evict(event.userId());
+    }
+
+    private AuthenticatedUser loadActiveUser(Long userId) {
+        return primaryReadTransaction.execute(status -> userRepository.findById(userId)
+                .filter(user -> user.getStatus() == UserStatus.ACTIVE)
+                .map(AuthenticatedUser::from)
+                .orElse(null));
+    }
+}
@@ -1,15 +1,12 @@
 package com.seoulfit.backend.user.infrastructure.security;
 
-import com.seoulfit.backend.user.adapter.out.persistence.UserRepository;
-import com.seoulfit.backend.user.domain.User;
-import com.seoulfit.backend.user.domain.UserStatus;
-import com.seoulfit.backend.user.infrastructure.jwt.JwtTokenProvider;
+import com.seoulfit.backend.user.infrastructure.jwt.VerifiedToken;
+import com.seoulfit.backend.user.infrastructure.jwt.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,8 +21,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -33,27 +30,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token) &&
-                jwtTokenProvider.isAccessToken(token)) {
-
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-            Optional<User> userOptional = userRepository.findById(userId);
-
-            if (userOptional.isPresent()) {
-                User user = userOptional.get();
-                if (user.getStatus() == UserStatus.ACTIVE) {
-                    CustomUserDetails userDetails = new CustomUserDetails(user);
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
-            }
+        if (StringUtils.hasText(token)) {
+            // 서명 검증은 토큰당 한 번, 사용자 상태는 캐시에서 조회
+            verifiedTokenCache.verify(token)
+                    .filter(VerifiedToken::isAccessToken)
+                    .flatMap(verified -> authenticatedUserCache.findActiveUser(verified.userId()))
+                    .ifPresent(user -> authenticate(request, user));
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private void authenticate(HttpServletRequest request, AuthenticatedUser user) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     private String extractTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,19 @@
+-- 체육시설 프로그램 자연키: 일일 배치가 행 단위 upsert와 미수집 행 정리를 할 수 있도록 추가
+ALTER TABLE sports_facility_programs
+    ADD COLUMN program_key varchar(32);
+
+UPDATE sports_facility_programs
+SET program_key = md5(concat_ws('|',
+        coalesce(center_name, ''), coalesce(ground_name, ''), coalesce(program_name, ''),
+        coalesce(class_name, ''), coalesce(term, ''), coalesce(week, ''), coalesce(class_time, '')));
+
+-- 기존 배치는 실행마다 새 행을 추가했으므로 자연키별 최신 행만 남김
+DELETE FROM sports_facility_programs older
+    USING sports_facility_programs newer
+WHERE older.program_key = newer.program_key
+  AND older.id < newer.id;
+
+ALTER TABLE sports_facility_programs
+    ALTER COLUMN program_key SET NOT NULL;
+
+CREATE UNIQUE INDEX uk_sports_program_key ON sports_facility_programs (program_key);
@@ -0,0 +1,84 @@
+-- 트리거 히스토리 일 단위 range 파티셔닝
+-- 중복 알림 확인 쿼리가 최근 파티션만 읽도록 trigger_history와 메타데이터 테이블을 triggered_at 기준으로 분할
+-- 파티션 생성/보존 기간 정리는 TriggerHistoryPartitionMaintenance가 매일 수행
+
+-- 1. 기존 테이블을 legacy로 이동
+ALTER TABLE trigger_history_metadata DROP CONSTRAINT fkpmuy0fehjsrv8yqfascgtnrhn;
+
+ALTER TABLE trigger_history RENAME TO trigger_history_legacy;
+ALTER TABLE trigger_history_legacy RENAME CONSTRAINT trigger_history_pkey TO trigger_history_legacy_pkey;
+ALTER INDEX idx_trigger_history_user_time RENAME TO idx_trigger_history_legacy_user_time;
+ALTER INDEX idx_trigger_history_user_type_time RENAME TO idx_trigger_history_legacy_user_type_time;
+ALTER SEQUENCE trigger_history_id_seq RENAME TO trigger_history_legacy_id_seq;
+
+ALTER TABLE trigger_history_metadata RENAME TO trigger_history_metadata_legacy;
+ALTER TABLE trigger_history_metadata_legacy
+    RENAME CONSTRAINT trigger_history_metadata_pkey TO trigger_history_metadata_legacy_pkey;
+
+-- 2. 파티션 테이블 생성
+-- PostgreSQL 16은 파티션 테이블의 identity 컬럼을 지원하지 않으므로 시퀀스 기본값을 사용
+CREATE SEQUENCE trigger_history_id_seq;
+SELECT setval('trigger_history_id_seq', COALESCE((SELECT MAX(id) FROM trigger_history_legacy), 0) + 1, false);
+
+CREATE TABLE trigger_history (
+    LIKE trigger_history_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS
+) PARTITION BY RANGE (triggered_at);
+
+ALTER TABLE trigger_history ALTER COLUMN id SET DEFAULT nextval('trigger_history_id_seq');
+ALTER SEQUENCE trigger_history_id_seq OWNED BY trigger_history.id;
+ALTER TABLE trigger_history ADD CONSTRAINT trigger_history_pkey PRIMARY KEY (id, triggered_at);
+
+CREATE INDEX idx_trigger_history_user_type_time ON trigger_history (user_id, trigger_type, triggered_at);
+CREATE INDEX idx_trigger_history_user_time ON trigger_history (user_id, triggered_at);
+CREATE INDEX idx_trigger_history_user_condition_time ON trigger_history (user_id, trigger_condition, triggered_at);
+
+-- 메타데이터는 부모 행의 triggered_at을 함께 저장하여 같은 날짜 파티션에 둠
+-- 파티션 단위 DROP을 위해 부모 테이블 FK는 두지 않음 (정리 작업이 메타데이터 파티션을 먼저 제거)
+CREATE TABLE trigger_history_metadata (
+    trigger_history_id bigint NOT NULL,
+    metadata_key character varying(255) NOT NULL,
+    metadata_value character varying(255),
+    triggered_at timestamp(6) without time zone NOT NULL,
+    CONSTRAINT trigger_history_metadata_pkey PRIMARY KEY (trigger_history_id, metadata_key, triggered_at)
+) PARTITION BY RANGE (triggered_at);
+
+CREATE INDEX idx_trigger_history_metadata_key_value
+    ON trigger_history_metadata (metadata_key, metadata_value, trigger_history_id);
+
+-- 3. 파티션 생성: 범위 밖의 행은 default 파티션으로
+CREATE TABLE trigger_history_default PARTITION OF trigger_history DEFAULT;
+CREATE TABLE trigger_history_metadata_default PARTITION OF trigger_history_metadata DEFAULT;
+
+DO $$
+DECLARE
+    first_day date;
+    partition_day date;
+BEGIN
+    SELECT GREATEST(COALESCE(MIN(triggered_at)::date, CURRENT_DATE), CURRENT_DATE - 90)
+    INTO first_day
+    FROM trigger_history_legacy;
+
+    partition_day := first_day;
+    WHILE partition_day <= CURRENT_DATE + 7 LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF trigger_history FOR VALUES FROM (%L) TO (%L)',
+                       'trigger_history_p' || to_char(partition_day, 'YYYYMMDD'), partition_day, partition_day + 1);
+        EXECUTE format('CREATE TABLE %I PARTITION OF trigger_history_metadata FOR VALUES FROM (%L) TO (%L)',
+                       'trigger_history_metadata_p' || to_char(partition_day, 'YYYYMMDD'), partition_day, partition_day + 1);
+        partition_day := partition_day + 1;
+    END LOOP;
+END $$;
+
+-- 4. 데이터 이관 후 legacy 테이블 제거
+INSERT INTO trigger_history (latitude, longitude, priority, id, triggered_at, user_id, evaluation_source,
+                             trigger_type, location_info, title, message, notification_type, trigger_condition)
+SELECT latitude, longitude, priority, id, triggered_at, user_id, evaluation_source,
+       trigger_type, location_info, title, message, notification_type, trigger_condition
+FROM trigger_history_legacy;
+
+INSERT INTO trigger_history_metadata (trigger_history_id, metadata_key, metadata_value, triggered_at)
+SELECT m.trigger_history_id, m.metadata_key, m.metadata_value, th.triggered_at
+FROM trigger_history_metadata_legacy m
+    JOIN trigger_history_legacy th ON th.id = m.trigger_history_id;
+
+DROP TABLE trigger_history_metadata_legacy;
+DROP TABLE trigger_history_legacy;
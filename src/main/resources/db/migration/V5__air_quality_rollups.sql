@@ -0,0 +1,72 @@
+-- 대기질 측정소별 시간/일 단위 롤업: 실시간 배치가 저장한 측정값이 속한 구간만 다시 집계
+CREATE TABLE air_quality_rollups (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    granularity character varying(10) NOT NULL,
+    station_name character varying(100) NOT NULL,
+    region_name character varying(100),
+    bucket_start timestamp(6) without time zone NOT NULL,
+    sample_count bigint NOT NULL,
+    pm10_min double precision,
+    pm10_max double precision,
+    pm10_sum double precision NOT NULL,
+    pm10_count bigint NOT NULL,
+    pm25_min double precision,
+    pm25_max double precision,
+    pm25_sum double precision NOT NULL,
+    pm25_count bigint NOT NULL,
+    o3_min double precision,
+    o3_max double precision,
+    o3_sum double precision NOT NULL,
+    o3_count bigint NOT NULL,
+    khai_min double precision,
+    khai_max double precision,
+    khai_sum double precision NOT NULL,
+    khai_count bigint NOT NULL,
+    good_count bigint NOT NULL,
+    moderate_count bigint NOT NULL,
+    unhealthy_count bigint NOT NULL,
+    updated_at timestamp(6) without time zone NOT NULL,
+    CONSTRAINT air_quality_rollups_granularity_check CHECK (granularity IN ('HOURLY', 'DAILY')),
+    CONSTRAINT uk_air_quality_rollup UNIQUE (granularity, station_name, bucket_start)
+);
+
+CREATE INDEX idx_air_quality_rollup_granularity_bucket ON air_quality_rollups (granularity, bucket_start);
+
+-- 측정소별 최신값/구간 조회용
+CREATE INDEX idx_air_quality_station_time ON air_quality (msr_ste_nm, msr_dt);
+
+-- 기존 측정값으로 롤업 초기화 (시간 단위 → 일 단위)
+INSERT INTO air_quality_rollups (granularity, station_name, region_name, bucket_start, sample_count,
+                                 pm10_min, pm10_max, pm10_sum, pm10_count,
+                                 pm25_min, pm25_max, pm25_sum, pm25_count,
+                                 o3_min, o3_max, o3_sum, o3_count,
+                                 khai_min, khai_max, khai_sum, khai_count,
+                                 good_count, moderate_count, unhealthy_count, updated_at)
+SELECT 'HOURLY', msr_ste_nm, MIN(msr_rgn_nm), date_trunc('hour', msr_dt), COUNT(*),
+       MIN(pm10_value), MAX(pm10_value), COALESCE(SUM(pm10_value), 0), COUNT(pm10_value),
+       MIN(pm25_value), MAX(pm25_value), COALESCE(SUM(pm25_value), 0), COUNT(pm25_value),
+       MIN(o3_value), MAX(o3_value), COALESCE(SUM(o3_value), 0), COUNT(o3_value),
+       MIN(khai_value), MAX(khai_value), COALESCE(SUM(khai_value), 0), COUNT(khai_value),
+       COUNT(*) FILTER (WHERE khai_value <= 50),
+       COUNT(*) FILTER (WHERE khai_value > 50 AND khai_value <= 100),
+       COUNT(*) FILTER (WHERE khai_value > 100),
+       now()
+FROM air_quality
+GROUP BY msr_ste_nm, date_trunc('hour', msr_dt);
+
+INSERT INTO air_quality_rollups (granularity, station_name, region_name, bucket_start, sample_count,
+                                 pm10_min, pm10_max, pm10_sum, pm10_count,
+                                 pm25_min, pm25_max, pm25_sum, pm25_count,
+                                 o3_min, o3_max, o3_sum, o3_count,
+                                 khai_min, khai_max, khai_sum, khai_count,
+                                 good_count, moderate_count, unhealthy_count, updated_at)
+SELECT 'DAILY', station_name, MIN(region_name), date_trunc('day', bucket_start), SUM(sample_count),
+       MIN(pm10_min), MAX(pm10_max), SUM(pm10_sum), SUM(pm10_count),
+       MIN(pm25_min), MAX(pm25_max), SUM(pm25_sum), SUM(pm25_count),
+       MIN(o3_min), MAX(o3_max), SUM(o3_sum), SUM(o3_count),
+       MIN(khai_min), MAX(khai_max), SUM(khai_sum), SUM(khai_count),
+       SUM(good_count), SUM(moderate_count), SUM(unhealthy_count),
+       now()
+FROM air_quality_rollups
+WHERE granularity = 'HOURLY'
+GROUP BY station_name, date_trunc('day', bucket_start);
@@ -0,0 +1,2 @@
+-- 알림 히스토리 키셋 페이지네이션: 사용자별 (발송 시각, ID) 역순 탐색용 인덱스
+CREATE INDEX idx_notification_histories_user_sent ON notification_histories (user_id, sent_at, id);
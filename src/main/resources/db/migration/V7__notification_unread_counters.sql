@@ -0,0 +1,11 @@
+-- 사용자별 읽지 않은 알림 카운터: 배지 조회 시 notification_histories COUNT 대신 PK 조회
+CREATE TABLE notification_unread_counters (
+    user_id bigint PRIMARY KEY,
+    unread_count bigint NOT NULL,
+    updated_at timestamp(6) without time zone NOT NULL
+);
+
+INSERT INTO notification_unread_counters (user_id, unread_count, updated_at)
+SELECT user_id, count(*) FILTER (WHERE read_at IS NULL), now()
+FROM notification_histories
+GROUP BY user_id;
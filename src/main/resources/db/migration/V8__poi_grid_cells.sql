@@ -0,0 +1,50 @@
+-- 반경 조회용 격자 셀: 0.01도 격자의 (행 * 36000 + 열), 계산식은 GeoGrid.cellOf와 같아야 함
+-- 반경 조회는 반경을 덮는 셀 목록으로 인덱스에서 후보를 고른 뒤 정확한 거리로 거름
+CREATE FUNCTION grid_cell_of(lat double precision, lng double precision) RETURNS integer
+    LANGUAGE sql IMMUTABLE AS $$
+    SELECT CASE
+        WHEN lat IS NULL OR lng IS NULL OR lat < -90 OR lat > 90 OR lng < -180 OR lng > 180 THEN NULL
+        ELSE LEAST(CAST(floor((lat + 90) * 100) AS integer), 17999) * 36000
+            + CAST(floor((lng + 180) * 100) AS integer) % 36000
+    END
+$$;
+
+ALTER TABLE restaurants ADD COLUMN grid_cell integer;
+UPDATE restaurants SET grid_cell = grid_cell_of(latitude, longitude);
+CREATE INDEX idx_restaurants_grid_cell ON restaurants (grid_cell);
+
+ALTER TABLE parks ADD COLUMN grid_cell integer;
+UPDATE parks SET grid_cell = grid_cell_of(latitude, longitude);
+CREATE INDEX idx_parks_grid_cell ON parks (grid_cell);
+
+-- 도서관은 xcnts가 위도, ydnts가 경도
+ALTER TABLE libraries ADD COLUMN grid_cell integer;
+UPDATE libraries SET grid_cell = grid_cell_of(xcnts, ydnts);
+CREATE INDEX idx_libraries_grid_cell ON libraries (grid_cell);
+
+ALTER TABLE cooling_centers ADD COLUMN grid_cell integer;
+UPDATE cooling_centers SET grid_cell = grid_cell_of(latitude, longitude);
+CREATE INDEX idx_cooling_centers_grid_cell ON cooling_centers (grid_cell);
+
+ALTER TABLE sports_reservation_facilities ADD COLUMN grid_cell integer;
+UPDATE sports_reservation_facilities SET grid_cell = grid_cell_of(latitude, longitude);
+CREATE INDEX idx_sports_res_facilities_grid_cell ON sports_reservation_facilities (grid_cell);
+
+-- numeric 좌표는 애플리케이션과 같이 double precision으로 변환한 값으로 계산
+ALTER TABLE cultural_spaces ADD COLUMN grid_cell integer;
+UPDATE cultural_spaces
+SET grid_cell = grid_cell_of(CAST(latitude AS double precision), CAST(longitude AS double precision));
+CREATE INDEX idx_space_grid_cell ON cultural_spaces (grid_cell);
+
+ALTER TABLE cultural_events ADD COLUMN grid_cell integer;
+UPDATE cultural_events
+SET grid_cell = grid_cell_of(CAST(latitude AS double precision), CAST(longitude AS double precision));
+CREATE INDEX idx_event_grid_cell ON cultural_events (grid_cell);
+
+-- 문화예약 좌표는 문자열 (y_coord 위도, x_coord 경도), 숫자가 아닌 값은 셀 없음
+ALTER TABLE cultural_reservation ADD COLUMN grid_cell integer;
+UPDATE cultural_reservation
+SET grid_cell = grid_cell_of(CAST(trim(y_coord) AS double precision), CAST(trim(x_coord) AS double precision))
+WHERE trim(y_coord) ~ '^[-+]?([0-9]+\.?[0-9]*|\.[0-9]+)$'
+  AND trim(x_coord) ~ '^[-+]?([0-9]+\.?[0-9]*|\.[0-9]+)$';
+CREATE INDEX idx_reservation_grid_cell ON cultural_reservation (grid_cell);
@@ -1,5 +1,7 @@
 package com.seoulfit.backend.admin.adapter.in.web;
 
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import com.seoulfit.backend.location.domain.PoiType;
 import com.seoulfit.backend.publicdata.culture.adapter.in.web.dto.res.SeoulCulturalSpaceApiResponse;
 import com.seoulfit.backend.publicdata.culture.application.service.CulturalEventService;
 import com.seoulfit.backend.publicdata.culture.application.service.CulturalReservationService;
@@ -17,13 +19,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +45,7 @@ class AdminBatchControllerTest {
     @Mock private SportsFacilityProgramBatchUseCase sportsProgramBatchUseCase;
     @Mock private RestaurantBatchUseCase restaurantBatchUseCase;
     @Mock private SearchIndexBatchUseCase searchIndexBatchUseCase;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private AdminBatchController controller;
 
@@ -56,6 +62,7 @@ class AdminBatchControllerTest {
                 sportsProgramBatchUseCase,
                 restaurantBatchUseCase,
                 searchIndexBatchUseCase,
+                eventPublisher,
                 30);
     }
 
@@ -96,6 +103,11 @@ class AdminBatchControllerTest {
         assertCount("search-index", 3517);
 
         verify(searchIndexBatchUseCase).syncAllPublicDataToIndex();
+        verify(eventPublisher).publishEvent(new PoiDataRefreshedEvent(PoiType.PARKS));
+        verify(eventPublisher).publishEvent(new PoiDataRefreshedEvent(PoiType.CULTURAL_SPACES));
+        verify(eventPublisher).publishEvent(new PoiDataRefreshedEvent(PoiType.COOLING_CENTERS));
+        verify(eventPublisher).publishEvent(new PoiDataRefreshedEvent(PoiType.LIBRARIES));
+        verify(eventPublisher).publishEvent(new PoiDataRefreshedEvent(PoiType.RESTAURANTS));
     }
 
     @Test
@@ -124,6 +136,7 @@ class AdminBatchControllerTest {
         assertThat(response.dataset()).isEqualTo("air-quality-cleanup");
         assertThat(response.processedCount()).isEqualTo(2);
         verify(airQualityBatchUseCase).cleanupOldData(30);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     private void assertCount(String dataset, int expectedCount) {
@@ -1,8 +1,12 @@
 package com.seoulfit.backend.config;
 
+import com.seoulfit.backend.shared.security.ratelimit.RateLimitProperties;
+import com.seoulfit.backend.shared.security.ratelimit.RateLimiter;
 import com.seoulfit.backend.user.adapter.out.persistence.UserRepository;
 import com.seoulfit.backend.user.application.service.CustomOAuth2UserService;
 import com.seoulfit.backend.user.infrastructure.jwt.JwtTokenProvider;
+import com.seoulfit.backend.user.infrastructure.jwt.VerifiedTokenCache;
+import com.seoulfit.backend.user.infrastructure.security.AuthenticatedUserCache;
 import com.seoulfit.backend.user.infrastructure.security.OAuth2LoginSuccessHandler;
 import org.mockito.Mockito;
 import org.springframework.context.annotation.Bean;
@@ -25,6 +29,26 @@ public class TestSecurityConfig {
         return Mockito.mock(UserRepository.class);
     }
 
+    @Bean
+    VerifiedTokenCache verifiedTokenCache() {
+        return Mockito.mock(VerifiedTokenCache.class);
+    }
+
+    @Bean
+    AuthenticatedUserCache authenticatedUserCache() {
+        return Mockito.mock(AuthenticatedUserCache.class);
+    }
+
+    @Bean
+    RateLimiter rateLimiter() {
+        return Mockito.mock(RateLimiter.class);
+    }
+
+    @Bean
+    RateLimitProperties rateLimitProperties() {
+        return new RateLimitProperties();
+    }
+
     @Bean
     CustomOAuth2UserService customOAuth2UserService() {
         return Mockito.mock(CustomOAuth2UserService.class);
@@ -0,0 +1,83 @@
+package com.seoulfit.backend.location.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoulfit.backend.location.domain.MapPoint;
+import com.seoulfit.backend.location.domain.PoiType;
+import com.seoulfit.backend.location.domain.TileCoordinate;
+import com.seoulfit.backend.location.infrastructure.PoiTileEncoder;
+import com.seoulfit.backend.location.infrastructure.PoiTileStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PoiTileService 테스트
+ *
+ * 서울 영역 밖 타일 거부, 빈 타일 미저장, 저장소에서 내보내진 타일 재생성을 검증합니다.
+ */
+@DisplayName("PoiTileService 테스트")
+class PoiTileServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private PoiTileStore tileStore;
+    private PoiTileService poiTileService;
+    private List<MapPoint> points;
+
+    @BeforeEach
+    void setUp() {
+        tileStore = new PoiTileStore(64L * 1024 * 1024);
+        poiTileService = new PoiTileService(mock(MapPointLoader.class), tileStore, 10, 16);
+        points = List.of(
+                new MapPoint(PoiType.PARKS, 1L, "서울광장", 37.5665, 126.9780),
+                new MapPoint(PoiType.LIBRARIES, 2L, "서울도서관", 37.5662, 126.9779),
+                new MapPoint(PoiType.RESTAURANTS, 3L, "잠실 맛집", 37.5133, 127.1001));
+        poiTileService.rebuild(points);
+    }
+
+    @Test
+    @DisplayName("서울 영역 밖 타일 좌표는 거부")
+    void getTile_OutsideSeoul_Rejected() {
+        assertThatThrownBy(() -> poiTileService.getTile(14, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> poiTileService.getTile(14, 13970, 7000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> poiTileService.getTile(9, 436, 198))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("시설이 없는 서울 영역 타일은 저장하지 않고 빈 타일 반환")
+    void getTile_EmptyTile_NotStored() throws IOException {
+        long storedBefore = tileStore.size();
+
+        PoiTileService.PoiTile tile = poiTileService.getTile(16, 55833, 25343);
+
+        assertThat(OBJECT_MAPPER.readTree(tile.body()).get("features")).isEmpty();
+        assertThat(tileStore.size()).isEqualTo(storedBefore);
+    }
+
+    @Test
+    @DisplayName("저장소에서 내보내진 타일은 타일별 시설 목록으로 다시 만듦")
+    void getTile_Evicted_RebuiltFromPartition() throws IOException {
+        TileCoordinate cityHall = TileCoordinate.of(14, 37.5665, 126.9780);
+        PoiTileService.PoiTile built = poiTileService.getTile(14, cityHall.x(), cityHall.y());
+        tileStore.retainGeneration(-1);
+
+        PoiTileService.PoiTile rebuilt = poiTileService.getTile(14, cityHall.x(), cityHall.y());
+
+        JsonNode features = OBJECT_MAPPER.readTree(rebuilt.body()).get("features");
+        assertThat(features).hasSize(2);
+        assertThat(rebuilt.body()).isEqualTo(built.body())
+                .isEqualTo(PoiTileEncoder.encodeTile(points, cityHall));
+        assertThat(tileStore.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.seoulfit.backend.location.domain.AdministrativeRegion;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdministrativeRegionIndex 테스트
+ *
+ * 행정구역 CSV 전체로 인덱스를 만들어 좌표 → 행정구역 조회 결과를 검증합니다.
+ */
+@DisplayName("AdministrativeRegionIndex 테스트")
+class AdministrativeRegionIndexTest {
+
+    private static AdministrativeRegionIndex index;
+
+    @BeforeAll
+    static void setUp() {
+        index = new AdministrativeRegionIndex(new DefaultResourceLoader(), "classpath:geo/seoul_comprehensive_regions.csv");
+    }
+
+    @Test
+    @DisplayName("CSV 전체 행을 읽음")
+    void loadsAllRows() {
+        assertThat(index.getRegions()).hasSize(426);
+        assertThat(index.findByAdminCode("11010530"))
+                .hasValueSatisfying(region -> assertThat(region.emdName()).isEqualTo("사직동"));
+    }
+
+    @Test
+    @DisplayName("모든 행정구역 중심 좌표는 자기 행으로 조회")
+    void everyCenter_ResolvesToItsOwnRow() {
+        for (AdministrativeRegion region : index.getRegions()) {
+            assertThat(index.resolve(region.centerLat(), region.centerLng()))
+                    .as("%s %s", region.sigunguName(), region.emdName())
+                    .contains(region);
+        }
+    }
+
+    @Test
+    @DisplayName("경계가 겹치면 중심이 가장 가까운 행정구역을 선택")
+    void overlappingBounds_PickNearestCenter() {
+        List<AdministrativeRegion> regions = index.getRegions();
+        for (AdministrativeRegion region : regions) {
+            // 중심에서 경계 쪽으로 조금 이동한 좌표
+            double latitude = region.centerLat() + (region.maxLat() - region.centerLat()) * 0.9;
+            double longitude = region.centerLng() - (region.centerLng() - region.minLng()) * 0.9;
+
+            AdministrativeRegion expected = regions.stream()
+                    .filter(candidate -> candidate.contains(latitude, longitude))
+                    .min((a, b) -> Double.compare(distance(a, latitude, longitude), distance(b, latitude, longitude)))
+                    .orElseThrow();
+            assertThat(index.resolve(latitude, longitude)).contains(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("경계 사이 빈틈은 가장 가까운 행정구역, 서울 밖은 empty")
+    void gapsAndOutside() {
+        // 어느 경계에도 속하지 않지만 서울 범위 안인 좌표와 중심이 가장 가까운 행정동
+        assertGapResolvesTo(37.6029, 127.1019, "11070690"); // 중랑구 신내1동
+        assertGapResolvesTo(37.5029, 126.8019, "11160510"); // 강서구 염창동
+        assertGapResolvesTo(37.4629, 126.8619, "11170510"); // 구로구 신도림동
+
+        AdministrativeRegion first = index.getRegions().get(0);
+        assertThat(index.resolve(35.1796, 129.0756)).isEmpty(); // 부산
+        assertThat(index.resolveDistrictCode(first.centerLat(), first.centerLng())).contains("11010");
+    }
+
+    private static void assertGapResolvesTo(double latitude, double longitude, String expectedAdminCode) {
+        assertThat(index.getRegions())
+                .as("(%s, %s)는 경계 사이 빈틈", latitude, longitude)
+                .noneMatch(region -> region.contains(latitude, longitude));
+        assertThat(index.resolve(latitude, longitude))
+                .map(AdministrativeRegion::adminCode)
+                .contains(expectedAdminCode);
+    }
+
+    private static double distance(AdministrativeRegion region, double latitude, double longitude) {
+        double scale = Math.cos(Math.toRadians(37.55));
+        double dLat = region.centerLat() - latitude;
+        double dLng = (region.centerLng() - longitude) * scale;
+        return dLat * dLat + dLng * dLng;
+    }
+}
@@ -0,0 +1,217 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.seoulfit.backend.location.domain.SportsFacility;
+import com.seoulfit.backend.location.util.GeoGrid;
+import com.seoulfit.backend.publicdata.culture.adapter.out.custom.CulturalEventRepository;
+import com.seoulfit.backend.publicdata.culture.adapter.out.repository.CulturalReservationRepository;
+import com.seoulfit.backend.publicdata.culture.adapter.out.repository.CulturalSpaceRepository;
+import com.seoulfit.backend.publicdata.culture.domain.CulturalEvent;
+import com.seoulfit.backend.publicdata.culture.domain.CulturalReservation;
+import com.seoulfit.backend.publicdata.culture.domain.CulturalSpace;
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository.CoolingCenterRepository;
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository.LibraryRepository;
+import com.seoulfit.backend.publicdata.facilities.domain.CoolingCenter;
+import com.seoulfit.backend.publicdata.facilities.domain.Library;
+import com.seoulfit.backend.publicdata.park.adapter.out.persistence.repository.ParkRepository;
+import com.seoulfit.backend.publicdata.park.domain.Park;
+import com.seoulfit.backend.publicdata.restaurant.adapter.out.persistence.repository.RestaurantRepository;
+import com.seoulfit.backend.publicdata.restaurant.domain.Restaurant;
+import com.seoulfit.backend.publicdata.sports.domain.Sports;
+import com.seoulfit.backend.publicdata.sports.infrastructure.SportsRepository;
+import com.seoulfit.backend.shared.config.JpaAuditingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 격자 셀 반경 조회 테스트
+ *
+ * 서울 영역에 무작위 좌표의 POI를 넣고, 격자 셀로 후보를 고르는 반경 조회가
+ * 기존 전체 거리 계산 쿼리와 같은 행을 같은 순서로 반환하는지 POI 종류별로 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaAuditingConfig.class)
+@DisplayName("격자 셀 반경 조회 테스트")
+class GridCellRadiusQueryTest {
+
+    private static final int ROWS = 300;
+    private static final int CENTERS = 40;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private ParkRepository parkRepository;
+
+    @Autowired
+    private LibraryRepository libraryRepository;
+
+    @Autowired
+    private CoolingCenterRepository coolingCenterRepository;
+
+    @Autowired
+    private SportsFacilityRepository sportsFacilityRepository;
+
+    @Autowired
+    private SportsRepository sportsRepository;
+
+    @Autowired
+    private CulturalSpaceRepository culturalSpaceRepository;
+
+    @Autowired
+    private CulturalEventRepository culturalEventRepository;
+
+    @Autowired
+    private CulturalReservationRepository culturalReservationRepository;
+
+    private final Random random = new Random(20250901L);
+    private List<double[]> centers;
+
+    @BeforeEach
+    void setUp() {
+        centers = new ArrayList<>();
+        for (int i = 0; i < CENTERS; i++) {
+            // 반경 0.2~8km, 셀 경계 근처를 포함하도록 중심도 무작위
+            centers.add(new double[]{37.45 + random.nextDouble() * 0.23, 126.80 + random.nextDouble() * 0.36,
+                    0.2 + random.nextDouble() * 7.8});
+        }
+    }
+
+    @Test
+    @DisplayName("맛집/공원/도서관/무더위쉼터 반경 조회가 전체 거리 계산 결과와 같음")
+    void facilities_MatchDistanceScan() {
+        for (int i = 0; i < ROWS; i++) {
+            double[] point = randomPoint();
+            restaurantRepository.save(Restaurant.builder().name("맛집 " + i)
+                    .latitude(point[0]).longitude(point[1]).build());
+            parkRepository.save(Park.builder().name("공원 " + i)
+                    .latitude(point[0]).longitude(point[1]).build());
+            libraryRepository.save(Library.builder().lbrryName("도서관 " + i)
+                    .xcnts(point[0]).ydnts(point[1]).build());
+            coolingCenterRepository.save(CoolingCenter.builder().name("쉼터 " + i)
+                    .latitude(point[0]).longitude(point[1]).build());
+        }
+        restaurantRepository.save(Restaurant.builder().name("좌표 없음").build());
+        restaurantRepository.flush();
+
+        assertSameResults(
+                c -> ids(restaurantRepository.findByLocationWithinRadius(c[0], c[1], c[2]), Restaurant::getId),
+                c -> ids(restaurantRepository.findByDistanceWithinRadius(c[0], c[1], c[2]), Restaurant::getId));
+        assertSameResults(
+                c -> ids(parkRepository.findByLocationWithinRadius(c[0], c[1], c[2]), Park::getId),
+                c -> ids(parkRepository.findByDistanceWithinRadius(c[0], c[1], c[2]), Park::getId));
+        assertSameResults(
+                c -> ids(libraryRepository.findByLocationWithinRadius(c[0], c[1], c[2]), Library::getId),
+                c -> ids(libraryRepository.findByDistanceWithinRadius(c[0], c[1], c[2]), Library::getId));
+        assertSameResults(
+                c -> ids(coolingCenterRepository.findByLocationWithinRadius(c[0], c[1], c[2]), CoolingCenter::getId),
+                c -> ids(coolingCenterRepository.findByDistanceWithinRadius(c[0], c[1], c[2]), CoolingCenter::getId));
+    }
+
+    @Test
+    @DisplayName("체육시설 반경 조회가 전체 거리 계산 결과와 같음")
+    void sportsFacilities_MatchDistanceScan() {
+        for (int i = 0; i < ROWS; i++) {
+            double[] point = randomPoint();
+            sportsRepository.save(Sports.builder().facilityName("체육시설 " + i)
+                    .latitude(point[0]).longitude(point[1]).build());
+        }
+        sportsRepository.flush();
+
+        assertSameResults(
+                c -> ids(sportsRepository.findByLocationWithinRadius(c[0], c[1], c[2]), Sports::getId),
+                c -> ids(sportsRepository.findByDistanceWithinRadius(c[0], c[1], c[2]), Sports::getId));
+        assertSameResults(
+                c -> ids(sportsFacilityRepository.findByLocationWithinRadius(c[0], c[1], c[2]), SportsFacility::getId),
+                c -> ids(sportsFacilityRepository.findByDistanceWithinRadius(c[0], c[1], c[2]), SportsFacility::getId));
+    }
+
+    @Test
+    @DisplayName("문화공간/문화행사/문화예약 반경 조회가 전체 거리 계산 결과와 같음")
+    void culture_MatchDistanceScan() {
+        for (int i = 0; i < ROWS; i++) {
+            double[] point = randomPoint();
+            BigDecimal latitude = BigDecimal.valueOf(point[0]).setScale(8, RoundingMode.HALF_UP);
+            BigDecimal longitude = BigDecimal.valueOf(point[1]).setScale(8, RoundingMode.HALF_UP);
+            culturalSpaceRepository.save(CulturalSpace.builder().facilityName("문화공간 " + i).address("서울")
+                    .latitude(latitude).longitude(longitude).build());
+            culturalEventRepository.save(CulturalEvent.builder().codeName("전시").district("중구")
+                    .title("문화행사 " + i).externalId("EVT" + i)
+                    .latitude(latitude).longitude(longitude).build());
+            culturalReservationRepository.save(CulturalReservation.builder().svcNm("예약 " + i)
+                    .y(latitude.toPlainString()).x(longitude.toPlainString()).build());
+        }
+        culturalReservationRepository.flush();
+
+        assertSameResults(
+                c -> ids(culturalSpaceRepository.findWithInRadius(decimal(c[0]), decimal(c[1]), c[2]), CulturalSpace::getId),
+                c -> ids(culturalSpaceRepository.findByDistanceWithinRadius(decimal(c[0]), decimal(c[1]), c[2]), CulturalSpace::getId));
+        assertSameResults(
+                c -> ids(culturalEventRepository.findWithInRadius(decimal(c[0]), decimal(c[1]), c[2]), CulturalEvent::getId),
+                c -> ids(culturalEventRepository.findByDistanceWithinRadius(decimal(c[0]), decimal(c[1]), c[2]), CulturalEvent::getId));
+        assertSameResults(
+                c -> ids(culturalReservationRepository.findWithInRadius(decimal(c[1]), decimal(c[0]), c[2]), CulturalReservation::getId),
+                c -> ids(culturalReservationRepository.findByDistanceWithinRadius(decimal(c[1]), decimal(c[0]), c[2]), CulturalReservation::getId));
+    }
+
+    @Test
+    @DisplayName("저장 시 좌표로 격자 셀이 채워지고 좌표를 바꾸면 다시 계산됨")
+    void gridCell_AssignedOnPersistAndUpdate() {
+        Restaurant restaurant = restaurantRepository.saveAndFlush(Restaurant.builder().name("시청 맛집")
+                .latitude(37.5665).longitude(126.9780).build());
+        assertThat(restaurant.getGridCell()).isEqualTo(GeoGrid.cellOf(37.5665, 126.9780));
+
+        CulturalReservation reservation = culturalReservationRepository.saveAndFlush(CulturalReservation.builder()
+                .svcNm("좌표 오류").x("정보없음").y("37.5").build());
+        assertThat(reservation.getGridCell()).isNull();
+    }
+
+    @Test
+    @DisplayName("격자로 덮을 수 없는 넓은 반경은 전체 거리 계산으로 조회")
+    void wideRadius_FallsBackToDistanceScan() {
+        restaurantRepository.save(Restaurant.builder().name("서울").latitude(37.5665).longitude(126.9780).build());
+        restaurantRepository.save(Restaurant.builder().name("대전").latitude(36.3504).longitude(127.3845).build());
+        restaurantRepository.flush();
+
+        assertThat(GeoGrid.cellsWithin(37.5665, 126.9780, 150.0)).isEmpty();
+        assertThat(restaurantRepository.findByLocationWithinRadius(37.5665, 126.9780, 150.0))
+                .extracting(Restaurant::getName)
+                .containsExactly("서울", "대전");
+    }
+
+    private void assertSameResults(Function<double[], List<Long>> gridQuery, Function<double[], List<Long>> scanQuery) {
+        int matched = 0;
+        for (double[] center : centers) {
+            List<Long> expected = scanQuery.apply(center);
+            assertThat(gridQuery.apply(center)).containsExactlyElementsOf(expected);
+            matched += expected.size();
+        }
+        assertThat(matched).isPositive();
+    }
+
+    private double[] randomPoint() {
+        return new double[]{37.43 + random.nextDouble() * 0.27, 126.76 + random.nextDouble() * 0.42};
+    }
+
+    private static BigDecimal decimal(double value) {
+        return BigDecimal.valueOf(value);
+    }
+
+    private static <T> List<Long> ids(List<T> entities, Function<T, Long> id) {
+        return entities.stream().map(id).toList();
+    }
+}
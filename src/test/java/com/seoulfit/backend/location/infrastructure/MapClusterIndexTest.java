@@ -0,0 +1,143 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.seoulfit.backend.location.domain.MapCluster;
+import com.seoulfit.backend.location.domain.MapPoint;
+import com.seoulfit.backend.location.domain.MapScale;
+import com.seoulfit.backend.location.domain.PoiType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * MapClusterIndex 테스트
+ *
+ * 서울 전역에 흩어진 시설과 몇몇 밀집 지역(같은 좌표 포함)으로 인덱스를 만들고,
+ * 모든 축적 레벨에서 클러스터 시설 수의 합이 원본 시설 수와 같은지 검증합니다.
+ */
+@DisplayName("MapClusterIndex 테스트")
+class MapClusterIndexTest {
+
+    private static final MapScale.BoundingBox SEOUL = box(37.40, 37.72, 126.75, 127.20);
+    private static final double[][] HOTSPOTS = {{37.5665, 126.9780}, {37.4979, 127.0276}, {37.5563, 126.9236}};
+
+    private static List<MapPoint> points;
+    private static MapClusterIndex index;
+
+    @BeforeAll
+    static void setUp() {
+        Random random = new Random(20250815L);
+        points = new ArrayList<>();
+        PoiType[] types = PoiType.values();
+        long id = 1;
+        for (int i = 0; i < 3000; i++) {
+            double latitude = 37.43 + random.nextDouble() * 0.26;
+            double longitude = 126.80 + random.nextDouble() * 0.37;
+            points.add(new MapPoint(types[random.nextInt(types.length)], id++, "시설" + i, latitude, longitude));
+        }
+        for (double[] hotspot : HOTSPOTS) {
+            for (int i = 0; i < 400; i++) {
+                double latitude = hotspot[0] + random.nextGaussian() * 0.002;
+                double longitude = hotspot[1] + random.nextGaussian() * 0.002;
+                points.add(new MapPoint(types[random.nextInt(types.length)], id++, "밀집" + i, latitude, longitude));
+            }
+        }
+        // 같은 좌표에 여러 시설
+        for (int i = 0; i < 20; i++) {
+            points.add(new MapPoint(PoiType.CULTURAL_SPACES, id++, "복합문화공간" + i, 37.5700, 126.9920));
+        }
+        index = new MapClusterIndex(points);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MapScale.class)
+    @DisplayName("모든 축적 레벨에서 클러스터 시설 수 합계가 원본 시설 수와 같음")
+    void clusters_ConserveTotalCountAtEveryScale(MapScale scale) {
+        List<MapCluster> clusters = index.clusters(scale, SEOUL, EnumSet.allOf(PoiType.class));
+
+        assertThat(clusters.stream().mapToInt(MapCluster::count).sum()).isEqualTo(points.size());
+        assertThat(clusters).allSatisfy(cluster -> {
+            assertThat(cluster.countsByType().values().stream().mapToInt(Integer::intValue).sum())
+                    .isEqualTo(cluster.count());
+            assertThat(cluster.isPoint()).isEqualTo(cluster.count() == 1);
+        });
+        assertThat(clusters).extracting(MapCluster::id).doesNotHaveDuplicates();
+    }
+
+    @ParameterizedTest
+    @EnumSource(MapScale.class)
+    @DisplayName("시설 종류 필터를 적용해도 종류별 시설 수가 보존됨")
+    void clusters_ConserveCountPerType(MapScale scale) {
+        Set<PoiType> selected = EnumSet.of(PoiType.PARKS, PoiType.CULTURAL_SPACES);
+        Map<PoiType, Long> expected = points.stream()
+                .filter(point -> selected.contains(point.type()))
+                .collect(Collectors.groupingBy(MapPoint::type, Collectors.counting()));
+
+        List<MapCluster> clusters = index.clusters(scale, SEOUL, selected);
+
+        for (PoiType type : selected) {
+            assertThat(clusters.stream().mapToInt(cluster -> cluster.countsByType().getOrDefault(type, 0)).sum())
+                    .as("%s %s", scale, type)
+                    .isEqualTo(expected.get(type).intValue());
+        }
+        assertThat(clusters).allSatisfy(cluster -> assertThat(cluster.countsByType().keySet()).isSubsetOf(selected));
+    }
+
+    @Test
+    @DisplayName("축적이 넓어질수록 클러스터 수가 줄어들고, 개별 시설 조회는 원본과 같음")
+    void clusters_MergeAsScaleGrows() {
+        int previous = Integer.MAX_VALUE;
+        for (MapScale scale : MapScale.values()) {
+            int clusterCount = index.clusters(scale, SEOUL, EnumSet.allOf(PoiType.class)).size();
+            assertThat(clusterCount).as("%s", scale).isLessThanOrEqualTo(previous);
+            previous = clusterCount;
+        }
+        assertThat(previous).isLessThan(100);
+        assertThat(index.points(SEOUL, EnumSet.allOf(PoiType.class))).hasSize(points.size());
+    }
+
+    @Test
+    @DisplayName("화면을 둘로 나눠 조회한 결과의 합이 전체 조회와 같음")
+    void clusters_SplitViewportSumsToWhole() {
+        MapScale.BoundingBox west = box(37.40, 37.72, 126.75, 126.97531);
+        MapScale.BoundingBox east = box(37.40, 37.72, 126.97532, 127.20);
+
+        for (MapScale scale : MapScale.values()) {
+            int westCount = index.clusters(scale, west, EnumSet.allOf(PoiType.class)).stream()
+                    .mapToInt(MapCluster::count).sum();
+            int eastCount = index.clusters(scale, east, EnumSet.allOf(PoiType.class)).stream()
+                    .mapToInt(MapCluster::count).sum();
+            assertThat(westCount + eastCount).as("%s", scale).isEqualTo(points.size());
+        }
+    }
+
+    @Test
+    @DisplayName("클러스터 좌표는 포함된 시설 좌표의 평균")
+    void clusters_CentroidIsMeanOfMembers() {
+        MapScale.BoundingBox around = box(37.5690, 37.5710, 126.9910, 126.9930);
+
+        List<MapCluster> clusters = index.clusters(MapScale.NEIGHBORHOOD_MEDIUM, around,
+                EnumSet.of(PoiType.CULTURAL_SPACES));
+
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).count()).isEqualTo(20);
+        assertThat(clusters.get(0).latitude()).isCloseTo(37.5700, within(1e-9));
+        assertThat(clusters.get(0).longitude()).isCloseTo(126.9920, within(1e-9));
+    }
+
+    private static MapScale.BoundingBox box(double minLat, double maxLat, double minLng, double maxLng) {
+        return MapScale.BoundingBox.builder().minLat(minLat).maxLat(maxLat).minLng(minLng).maxLng(maxLng).build();
+    }
+}
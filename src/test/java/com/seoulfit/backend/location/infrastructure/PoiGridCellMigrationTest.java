@@ -0,0 +1,136 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.seoulfit.backend.location.util.GeoGrid;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * POI 격자 셀 마이그레이션 테스트 (PostgreSQL 16, Testcontainers)
+ *
+ * V7까지 마이그레이션한 스키마에 좌표가 있는 기존 행을 넣고 V8을 적용한 뒤,
+ * grid_cell_of 함수로 채운 grid_cell이 애플리케이션의 GeoGrid.cellOf 계산과 같은지 확인합니다.
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("POI 격자 셀 마이그레이션 테스트")
+class PoiGridCellMigrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final int ROWS = 500;
+
+    @Test
+    @DisplayName("V8 백필 결과가 GeoGrid.cellOf와 같음")
+    void backfill_MatchesGeoGrid() throws SQLException {
+        flyway("7").migrate();
+        Random random = new Random(20250901L);
+
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+            try (PreparedStatement restaurant = connection.prepareStatement(
+                         "INSERT INTO restaurants (id, name, latitude, longitude) VALUES (?, 'r', ?, ?)");
+                 PreparedStatement library = connection.prepareStatement(
+                         "INSERT INTO libraries (id, lbrry_name, xcnts, ydnts) VALUES (?, 'l', ?, ?)");
+                 PreparedStatement event = connection.prepareStatement(
+                         "INSERT INTO cultural_events (id, code_name, district, title, latitude, longitude, "
+                                 + "created_at, updated_at) VALUES (?, 'c', 'd', 't', ?, ?, now(), now())");
+                 PreparedStatement reservation = connection.prepareStatement(
+                         "INSERT INTO cultural_reservation (id, y_coord, x_coord) VALUES (?, ?, ?)")) {
+                for (int i = 1; i <= ROWS; i++) {
+                    // 셀 경계(0.01도 배수)에 걸친 좌표도 섞음
+                    double latitude = i % 10 == 0 ? 37.45 + (i % 27) * 0.01 : 37.43 + random.nextDouble() * 0.27;
+                    double longitude = i % 10 == 0 ? 126.77 + (i % 41) * 0.01 : 126.76 + random.nextDouble() * 0.42;
+                    BigDecimal decimalLatitude = BigDecimal.valueOf(latitude).setScale(8, RoundingMode.HALF_UP);
+                    BigDecimal decimalLongitude = BigDecimal.valueOf(longitude).setScale(8, RoundingMode.HALF_UP);
+
+                    bind(restaurant, i, latitude, longitude);
+                    bind(library, i, latitude, longitude);
+                    event.setLong(1, i);
+                    event.setBigDecimal(2, decimalLatitude);
+                    event.setBigDecimal(3, decimalLongitude);
+                    event.addBatch();
+                    reservation.setLong(1, i);
+                    reservation.setString(2, i == ROWS ? "정보없음" : " " + decimalLatitude.toPlainString());
+                    reservation.setString(3, decimalLongitude.toPlainString());
+                    reservation.addBatch();
+                }
+                restaurant.setLong(1, ROWS + 1);
+                restaurant.setNull(2, Types.DOUBLE);
+                restaurant.setNull(3, Types.DOUBLE);
+                restaurant.addBatch();
+
+                restaurant.executeBatch();
+                library.executeBatch();
+                event.executeBatch();
+                reservation.executeBatch();
+            }
+
+            flyway("latest").migrate();
+
+            assertGridCells(connection, "SELECT latitude, longitude, grid_cell FROM restaurants", ROWS + 1,
+                    rs -> GeoGrid.cellOf((Double) rs.getObject(1), (Double) rs.getObject(2)));
+            assertGridCells(connection, "SELECT xcnts, ydnts, grid_cell FROM libraries", ROWS,
+                    rs -> GeoGrid.cellOf(rs.getDouble(1), rs.getDouble(2)));
+            assertGridCells(connection, "SELECT latitude, longitude, grid_cell FROM cultural_events", ROWS,
+                    rs -> GeoGrid.cellOf(rs.getBigDecimal(1), rs.getBigDecimal(2)));
+            assertGridCells(connection, "SELECT y_coord, x_coord, grid_cell FROM cultural_reservation", ROWS,
+                    rs -> GeoGrid.cellOf(rs.getString(1), rs.getString(2)));
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(
+                         "SELECT count(*) FROM pg_indexes WHERE indexname LIKE 'idx\\_%grid\\_cell'")) {
+                rs.next();
+                assertThat(rs.getInt(1)).isEqualTo(8);
+            }
+        }
+    }
+
+    private void assertGridCells(Connection connection, String sql, int expectedRows, CellFunction expectedCell)
+            throws SQLException {
+        int rows = 0;
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                assertThat((Integer) rs.getObject(3)).as(sql + " row " + rows).isEqualTo(expectedCell.apply(rs));
+                rows++;
+            }
+        }
+        assertThat(rows).isEqualTo(expectedRows);
+    }
+
+    private void bind(PreparedStatement statement, long id, double latitude, double longitude) throws SQLException {
+        statement.setLong(1, id);
+        statement.setDouble(2, latitude);
+        statement.setDouble(3, longitude);
+        statement.addBatch();
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .target(target)
+                .load();
+    }
+
+    @FunctionalInterface
+    private interface CellFunction {
+        Integer apply(ResultSet rs) throws SQLException;
+    }
+}
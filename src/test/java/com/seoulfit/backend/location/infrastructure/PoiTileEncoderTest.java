@@ -0,0 +1,94 @@
+package com.seoulfit.backend.location.infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoulfit.backend.location.domain.MapPoint;
+import com.seoulfit.backend.location.domain.PoiType;
+import com.seoulfit.backend.location.domain.TileCoordinate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PoiTileEncoder 테스트
+ *
+ * 줌 레벨마다 타일을 만들어 GeoJSON을 다시 읽고, 타일별 시설 수의 합이 전체 시설 수와 같은지 검증합니다.
+ */
+@DisplayName("PoiTileEncoder 테스트")
+class PoiTileEncoderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static List<MapPoint> points;
+
+    @BeforeAll
+    static void setUp() {
+        Random random = new Random(20250816L);
+        PoiType[] types = PoiType.values();
+        points = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            double latitude = 37.43 + random.nextDouble() * 0.26;
+            double longitude = 126.80 + random.nextDouble() * 0.37;
+            points.add(new MapPoint(types[random.nextInt(types.length)], (long) i, "시설 \"" + i + "\"", latitude, longitude));
+        }
+        // 줌 14 타일 경계(x = 13970 시작 경도) 위의 시설
+        double boundaryLongitude = 13970 / Math.pow(2, 14) * 360.0 - 180.0;
+        points.add(new MapPoint(PoiType.PARKS, 9999L, "경계 공원", 37.5665, boundaryLongitude));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 11, 12, 13, 14, 15, 16})
+    @DisplayName("줌 레벨별 타일의 시설 수 합계가 전체 시설 수와 같음")
+    void tiles_PointCountsSumToTotal(int zoom) throws IOException {
+        Map<TileCoordinate, List<MapPoint>> tiles = PoiTileEncoder.partition(points, zoom);
+
+        int total = 0;
+        Set<String> featureIds = new HashSet<>();
+        for (Map.Entry<TileCoordinate, List<MapPoint>> entry : tiles.entrySet()) {
+            JsonNode tile = OBJECT_MAPPER.readTree(PoiTileEncoder.encode(entry.getValue()));
+            assertThat(tile.get("type").asText()).isEqualTo("FeatureCollection");
+            for (JsonNode feature : tile.get("features")) {
+                JsonNode coordinates = feature.get("geometry").get("coordinates");
+                assertThat(entry.getKey().contains(coordinates.get(1).asDouble(), coordinates.get(0).asDouble())).isTrue();
+                featureIds.add(feature.get("id").asText());
+                total++;
+            }
+        }
+
+        assertThat(total).isEqualTo(points.size());
+        assertThat(featureIds).hasSize(points.size());
+    }
+
+    @Test
+    @DisplayName("단일 타일 생성은 분할 결과와 같은 시설을 담음")
+    void encodeTile_MatchesPartition() throws IOException {
+        Map<TileCoordinate, List<MapPoint>> tiles = PoiTileEncoder.partition(points, 14);
+
+        for (Map.Entry<TileCoordinate, List<MapPoint>> entry : tiles.entrySet()) {
+            JsonNode tile = OBJECT_MAPPER.readTree(PoiTileEncoder.encodeTile(points, entry.getKey()));
+            assertThat(tile.get("features")).hasSize(entry.getValue().size());
+        }
+        JsonNode empty = OBJECT_MAPPER.readTree(PoiTileEncoder.encodeTile(points, new TileCoordinate(14, 0, 0)));
+        assertThat(empty.get("features")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서울시청 좌표는 잘 알려진 타일 좌표로 변환")
+    void tileCoordinate_MatchesKnownTile() {
+        assertThat(TileCoordinate.of(14, 37.5665, 126.9780)).isEqualTo(new TileCoordinate(14, 13970, 6344));
+        assertThatThrownBy(() -> new TileCoordinate(14, 16384, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
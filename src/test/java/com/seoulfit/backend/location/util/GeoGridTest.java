@@ -0,0 +1,90 @@
+package com.seoulfit.backend.location.util;
+
+import com.seoulfit.backend.trigger.utils.TriggerUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GeoGrid 테스트
+ */
+@DisplayName("GeoGrid 테스트")
+class GeoGridTest {
+
+    @Test
+    @DisplayName("셀 번호는 0.01도 격자의 행 * 36000 + 열")
+    void cellOf_ComputesRowMajorCell() {
+        // 위도 37.5665 -> 행 12756, 경도 126.9780 -> 열 30697
+        assertThat(GeoGrid.cellOf(37.5665, 126.9780)).isEqualTo(12756 * 36000 + 30697);
+        assertThat(GeoGrid.cellOf(-90.0, -180.0)).isZero();
+        assertThat(GeoGrid.cellOf(90.0, 180.0)).isEqualTo(17999 * 36000);
+    }
+
+    @Test
+    @DisplayName("좌표가 없거나 범위를 벗어나거나 숫자가 아니면 셀 없음")
+    void cellOf_ReturnsNullForInvalidCoordinates() {
+        assertThat(GeoGrid.cellOf((Double) null, 126.9780)).isNull();
+        assertThat(GeoGrid.cellOf(91.0, 126.9780)).isNull();
+        assertThat(GeoGrid.cellOf(37.5665, Double.NaN)).isNull();
+        assertThat(GeoGrid.cellOf("37.5665", "정보없음")).isNull();
+        assertThat(GeoGrid.cellOf((BigDecimal) null, BigDecimal.ONE)).isNull();
+    }
+
+    @Test
+    @DisplayName("숫자/문자열 좌표의 셀은 같은 값의 double 좌표와 같음")
+    void cellOf_OverloadsAgree() {
+        assertThat(GeoGrid.cellOf(new BigDecimal("37.56650000"), new BigDecimal("126.97800000")))
+                .isEqualTo(GeoGrid.cellOf(37.5665, 126.9780));
+        assertThat(GeoGrid.cellOf(" 37.5665 ", "126.9780"))
+                .isEqualTo(GeoGrid.cellOf(37.5665, 126.9780));
+    }
+
+    @Test
+    @DisplayName("반경 안의 모든 점은 반경을 덮는 셀 목록에 속함")
+    void cellsWithin_CoversEveryPointInRadius() {
+        Random random = new Random(20250901L);
+
+        for (int i = 0; i < 200; i++) {
+            double latitude = 37.43 + random.nextDouble() * 0.27;
+            double longitude = 126.76 + random.nextDouble() * 0.42;
+            double radiusKm = 0.1 + random.nextDouble() * 10;
+            Set<Integer> cells = new HashSet<>(GeoGrid.cellsWithin(latitude, longitude, radiusKm).orElseThrow());
+
+            for (int j = 0; j < 200; j++) {
+                // 반경 경계 바로 안쪽을 포함해 중심 주변에 점을 뿌림
+                double bearing = random.nextDouble() * 2 * Math.PI;
+                double distanceKm = radiusKm * (j % 4 == 0 ? 0.9999 : random.nextDouble());
+                double pointLatitude = latitude + Math.toDegrees(distanceKm / 6371.0) * Math.cos(bearing);
+                double pointLongitude = longitude + Math.toDegrees(distanceKm / 6371.0) * Math.sin(bearing)
+                        / Math.cos(Math.toRadians(latitude));
+                if (TriggerUtils.calculateDistance(latitude, longitude, pointLatitude, pointLongitude) / 1000
+                        <= radiusKm) {
+                    assertThat(cells).contains(GeoGrid.cellOf(pointLatitude, pointLongitude));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("날짜변경선을 넘는 반경은 반대편 경도의 셀을 포함")
+    void cellsWithin_WrapsAroundAntimeridian() {
+        List<Integer> cells = GeoGrid.cellsWithin(0.0, 179.999, 1.0).orElseThrow();
+
+        assertThat(cells).contains(GeoGrid.cellOf(0.0, -179.995), GeoGrid.cellOf(0.0, 179.999));
+    }
+
+    @Test
+    @DisplayName("최대 반경을 넘으면 셀 목록 없음")
+    void cellsWithin_EmptyBeyondMaxRadius() {
+        assertThat(GeoGrid.cellsWithin(37.5665, 126.9780, GeoGrid.MAX_RADIUS_KM)).isPresent();
+        assertThat(GeoGrid.cellsWithin(37.5665, 126.9780, GeoGrid.MAX_RADIUS_KM + 1)).isEmpty();
+        assertThat(GeoGrid.cellsWithin(89.9, 0.0, 10.0)).isEmpty();
+    }
+}
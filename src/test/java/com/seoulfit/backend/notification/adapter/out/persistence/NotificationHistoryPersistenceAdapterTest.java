@@ -0,0 +1,140 @@
+package com.seoulfit.backend.notification.adapter.out.persistence;
+
+import com.seoulfit.backend.notification.application.port.in.dto.NotificationHistoryResult;
+import com.seoulfit.backend.notification.application.port.out.NotificationSenderPort;
+import com.seoulfit.backend.notification.application.service.NotificationService;
+import com.seoulfit.backend.notification.application.service.NotificationUnreadCounterService;
+import com.seoulfit.backend.notification.domain.NotificationHistory;
+import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.shared.config.JpaAuditingConfig;
+import com.seoulfit.backend.shared.dto.CursorPage;
+import com.seoulfit.backend.trigger.domain.TriggerCondition;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 알림 히스토리 키셋 페이지네이션 테스트 (H2)
+ *
+ * 발송 시각이 같은 알림이 페이지 경계에 걸쳐도 커서를 따라 읽은 결과가
+ * OFFSET 조회 전체 결과와 순서까지 같은지 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, NotificationHistoryPersistenceAdapter.class, NotificationService.class,
+        NotificationUnreadCounterPersistenceAdapter.class, NotificationUnreadCounterService.class})
+@DisplayName("알림 히스토리 키셋 페이지네이션 테스트")
+class NotificationHistoryPersistenceAdapterTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 5, 1, 9, 0);
+    private static final int TOTAL = 57;
+
+    @MockitoBean
+    private NotificationSenderPort notificationSenderPort;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationHistoryJpaRepository notificationHistoryJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < TOTAL; i++) {
+            NotificationHistory saved = notificationHistoryJpaRepository.save(notification(USER_ID, i));
+            notificationHistoryJpaRepository.save(notification(OTHER_USER_ID, i));
+            notificationHistoryJpaRepository.flush();
+            // 세 건씩 같은 발송 시각을 갖도록 하여 페이지 경계에 동일 시각 행이 걸치게 함
+            jdbcTemplate.update("UPDATE notification_histories SET sent_at = ? WHERE id = ?",
+                    BASE_TIME.plusMinutes(i / 3), saved.getId());
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("커서를 따라 읽은 전체 결과가 OFFSET 조회 결과와 같은 순서")
+    void cursorPages_MatchOffsetOrder() {
+        // given
+        List<Long> expected = notificationHistoryJpaRepository.findByUserIdOrderBySentAtDesc(USER_ID,
+                        PageRequest.of(0, TOTAL, Sort.by(Sort.Direction.DESC, "id")))
+                .map(NotificationHistory::getId)
+                .getContent();
+
+        // when
+        List<Long> actual = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<NotificationHistoryResult> page =
+                    notificationService.getNotificationHistoryByCursor(USER_ID, cursor, 10);
+            page.content().forEach(result -> actual.add(result.id()));
+            cursor = page.nextCursor();
+            pages++;
+            assertThat(page.hasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        // then
+        assertThat(pages).isEqualTo(6);
+        assertThat(actual).hasSize(TOTAL).doesNotHaveDuplicates().containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("첫 페이지 이후 새 알림이 추가되어도 다음 페이지가 밀리지 않음")
+    void cursorPages_StableWhenNewRowsArrive() {
+        // given
+        CursorPage<NotificationHistoryResult> first = notificationService.getNotificationHistoryByCursor(USER_ID, null, 10);
+        NotificationHistoryResult lastOfFirst = first.content().get(first.content().size() - 1);
+
+        // when
+        notificationHistoryJpaRepository.saveAndFlush(notification(USER_ID, TOTAL));
+        CursorPage<NotificationHistoryResult> second =
+                notificationService.getNotificationHistoryByCursor(USER_ID, first.nextCursor(), 10);
+
+        // then
+        assertThat(second.content()).hasSize(10)
+                .allSatisfy(result -> assertThat(result.sentAt()).isBeforeOrEqualTo(lastOfFirst.sentAt()))
+                .extracting(NotificationHistoryResult::id)
+                .doesNotContainAnyElementsOf(first.content().stream().map(NotificationHistoryResult::id).toList());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException")
+    void invalidCursor_ThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> notificationService.getNotificationHistoryByCursor(USER_ID, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private NotificationHistory notification(Long userId, int index) {
+        return NotificationHistory.builder()
+                .userId(userId)
+                .notificationType(NotificationType.WEATHER)
+                .title("날씨 알림 " + index)
+                .message("비 소식이 있습니다")
+                .triggerCondition(TriggerCondition.HEAVY_RAIN)
+                .build();
+    }
+}
@@ -52,6 +52,9 @@ class NotificationServiceTest {
     @Mock
     private NotificationSettingRepository notificationSettingRepository;
 
+    @Mock
+    private NotificationUnreadCounterService unreadCounterService;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -108,6 +111,7 @@ class NotificationServiceTest {
         assertThat(result.message()).isEqualTo("오늘 비가 예상됩니다");
         
         verify(notificationHistoryPort).save(any(NotificationHistory.class));
+        verify(unreadCounterService).increment(1L);
     }
 
     @Test
@@ -202,15 +206,32 @@ class NotificationServiceTest {
         // given
         when(notificationHistoryPort.findById(100L))
                 .thenReturn(Optional.of(notificationHistory));
-        when(notificationHistoryPort.save(any(NotificationHistory.class)))
-                .thenReturn(notificationHistory);
+        when(notificationHistoryPort.markAsReadIfUnread(eq(100L), any(LocalDateTime.class)))
+                .thenReturn(true);
 
         // when
         notificationService.markAsRead(100L, 1L);
 
         // then
         verify(notificationHistoryPort).findById(100L);
-        verify(notificationHistoryPort).save(any(NotificationHistory.class));
+        verify(notificationHistoryPort).markAsReadIfUnread(eq(100L), any(LocalDateTime.class));
+        verify(unreadCounterService).decrement(1L, 1);
+    }
+
+    @Test
+    @DisplayName("알림 읽음 처리 - 이미 읽은 알림은 카운터를 줄이지 않음")
+    void markAsRead_AlreadyRead() {
+        // given
+        when(notificationHistoryPort.findById(100L))
+                .thenReturn(Optional.of(notificationHistory));
+        when(notificationHistoryPort.markAsReadIfUnread(eq(100L), any(LocalDateTime.class)))
+                .thenReturn(false);
+
+        // when
+        notificationService.markAsRead(100L, 1L);
+
+        // then
+        verify(unreadCounterService, never()).decrement(anyLong(), anyLong());
     }
 
     @Test
@@ -226,7 +247,7 @@ class NotificationServiceTest {
                 .hasMessage("알림을 찾을 수 없습니다.");
         
         verify(notificationHistoryPort).findById(999L);
-        verify(notificationHistoryPort, never()).save(any());
+        verify(notificationHistoryPort, never()).markAsReadIfUnread(anyLong(), any());
     }
 
     @Test
@@ -242,24 +263,28 @@ class NotificationServiceTest {
                 .hasMessage("해당 사용자의 알림이 아닙니다.");
         
         verify(notificationHistoryPort).findById(100L);
-        verify(notificationHistoryPort, never()).save(any());
+        verify(notificationHistoryPort, never()).markAsReadIfUnread(anyLong(), any());
     }
 
     @Test
     @DisplayName("모든 알림 읽음 처리 - 성공")
     void markAllAsRead_Success() {
-        // given & when
+        // given
+        when(notificationHistoryPort.markAllAsReadByUserId(1L)).thenReturn(3);
+
+        // when
         notificationService.markAllAsRead(1L);
 
         // then
         verify(notificationHistoryPort).markAllAsReadByUserId(1L);
+        verify(unreadCounterService).decrement(1L, 3);
     }
 
     @Test
     @DisplayName("읽지 않은 알림 개수 조회")
     void getUnreadCount() {
         // given
-        when(notificationHistoryPort.countUnreadByUserId(1L))
+        when(unreadCounterService.getUnreadCount(1L))
                 .thenReturn(5L);
 
         // when
@@ -267,7 +292,7 @@ class NotificationServiceTest {
 
         // then
         assertThat(count).isEqualTo(5L);
-        verify(notificationHistoryPort).countUnreadByUserId(1L);
+        verify(notificationHistoryPort, never()).countUnreadByUserId(anyLong());
     }
 
     @Test
@@ -310,4 +335,4 @@ class NotificationServiceTest {
             throw new RuntimeException("Failed to set notification ID", e);
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.seoulfit.backend.notification.application.service;
+
+import com.seoulfit.backend.notification.adapter.out.persistence.NotificationHistoryJpaRepository;
+import com.seoulfit.backend.notification.adapter.out.persistence.NotificationHistoryPersistenceAdapter;
+import com.seoulfit.backend.notification.adapter.out.persistence.NotificationUnreadCounterPersistenceAdapter;
+import com.seoulfit.backend.notification.application.port.in.dto.CreateNotificationCommand;
+import com.seoulfit.backend.notification.application.port.out.NotificationSenderPort;
+import com.seoulfit.backend.notification.domain.NotificationHistory;
+import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.shared.config.JpaAuditingConfig;
+import com.seoulfit.backend.trigger.domain.TriggerCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽지 않은 알림 카운터 테스트 (H2)
+ *
+ * 여러 스레드가 알림 저장, 읽음 처리, 배지 조회를 섞어 실행한 뒤
+ * 카운터가 알림 히스토리를 다시 센 값과 같은지 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, NotificationHistoryPersistenceAdapter.class,
+        NotificationUnreadCounterPersistenceAdapter.class, NotificationUnreadCounterService.class,
+        NotificationService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("읽지 않은 알림 카운터 테스트")
+class NotificationUnreadCounterServiceTest {
+
+    private static final int USERS = 12;
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 150;
+
+    @MockitoBean
+    private NotificationSenderPort notificationSenderPort;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationUnreadCounterService unreadCounterService;
+
+    @Autowired
+    private NotificationHistoryJpaRepository notificationHistoryJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM notification_unread_counters");
+        jdbcTemplate.update("DELETE FROM notification_histories");
+    }
+
+    @Test
+    @DisplayName("동시 저장/읽음 처리/조회 후 카운터가 전체 재집계 값과 일치")
+    void concurrentSendsAndReads_MatchFullRecount() throws Exception {
+        // given
+        Map<Long, List<Long>> notificationIds = new ConcurrentHashMap<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            notificationIds.put(userId, new CopyOnWriteArrayList<>());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    long userId = 1 + random.nextInt(USERS);
+                    List<Long> ids = notificationIds.get(userId);
+                    int operation = random.nextInt(100);
+                    if (operation < 55 || ids.isEmpty()) {
+                        ids.add(notificationService.createNotification(command(userId, i)).id());
+                    } else if (operation < 80) {
+                        // 같은 알림을 여러 스레드가 동시에 읽음 처리해도 한 번만 감소해야 함
+                        notificationService.markAsRead(ids.get(random.nextInt(ids.size())), userId);
+                    } else if (operation < 85) {
+                        notificationService.markAllAsRead(userId);
+                    } else {
+                        assertThat(notificationService.getUnreadCount(userId)).isNotNegative();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        // then
+        for (long userId = 1; userId <= USERS; userId++) {
+            long recount = notificationHistoryJpaRepository.countByUserIdAndReadAtIsNull(userId);
+            assertThat(notificationService.getUnreadCount(userId)).as("userId=%d", userId).isEqualTo(recount);
+            assertThat(storedCount(userId)).as("stored userId=%d", userId).isEqualTo(recount);
+        }
+        assertThat(unreadCounterService.reconcile().correctedUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("카운터가 없는 사용자는 첫 조회 시 알림 히스토리로 카운터 생성")
+    void getUnreadCount_InitializesMissingCounter() {
+        // given: 카운터 도입 전에 쌓인 알림
+        for (int i = 0; i < 3; i++) {
+            notificationHistoryJpaRepository.save(NotificationHistory.create(
+                    99L, NotificationType.WEATHER, "알림", "메시지", TriggerCondition.HEAVY_RAIN, null));
+        }
+
+        // when
+        long count = notificationService.getUnreadCount(99L);
+        notificationService.createNotification(command(99L, 3));
+
+        // then
+        assertThat(count).isEqualTo(3L);
+        assertThat(notificationService.getUnreadCount(99L)).isEqualTo(4L);
+        assertThat(storedCount(99L)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("재집계는 어긋난 카운터를 보정하고 캐시를 무효화")
+    void reconcile_FixesDrift() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            notificationService.createNotification(command(1L, i));
+            notificationService.createNotification(command(2L, i));
+        }
+        assertThat(notificationService.getUnreadCount(1L)).isEqualTo(5L);
+        jdbcTemplate.update("UPDATE notification_unread_counters SET unread_count = 42 WHERE user_id = 1");
+
+        // when
+        NotificationUnreadCounterService.ReconcileResult result = unreadCounterService.reconcile();
+
+        // then
+        assertThat(result.checkedUsers()).isEqualTo(2);
+        assertThat(result.correctedUsers()).isEqualTo(1);
+        assertThat(storedCount(1L)).isEqualTo(5L);
+        assertThat(notificationService.getUnreadCount(1L)).isEqualTo(5L);
+    }
+
+    private long storedCount(long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT unread_count FROM notification_unread_counters WHERE user_id = ?", Long.class, userId);
+    }
+
+    private CreateNotificationCommand command(long userId, int index) {
+        return CreateNotificationCommand.of(userId, NotificationType.WEATHER, "날씨 알림 " + index,
+                "비 소식이 있습니다", TriggerCondition.HEAVY_RAIN, "서울특별시 중구", 10);
+    }
+}
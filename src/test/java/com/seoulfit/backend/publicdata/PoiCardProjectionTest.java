@@ -0,0 +1,171 @@
+package com.seoulfit.backend.publicdata;
+
+import com.seoulfit.backend.location.domain.PoiCard;
+import com.seoulfit.backend.location.domain.PoiType;
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.QueryCoolingCenterAdapter;
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.QueryLibraryAdapter;
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository.CoolingCenterRepository;
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository.LibraryRepository;
+import com.seoulfit.backend.publicdata.facilities.domain.CoolingCenter;
+import com.seoulfit.backend.publicdata.facilities.domain.Library;
+import com.seoulfit.backend.publicdata.park.adapter.out.persistence.ParkQueryAdapter;
+import com.seoulfit.backend.publicdata.park.adapter.out.persistence.repository.ParkRepository;
+import com.seoulfit.backend.publicdata.park.domain.Park;
+import com.seoulfit.backend.publicdata.restaurant.adapter.out.persistence.RestaurantQueryAdapter;
+import com.seoulfit.backend.publicdata.restaurant.adapter.out.persistence.repository.RestaurantRepository;
+import com.seoulfit.backend.publicdata.restaurant.domain.Restaurant;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지도 카드 프로젝션 조회 테스트
+ *
+ * 근처 시설 카드 조회가 카드 컬럼만 읽어 엔티티를 영속성 컨텍스트에 올리지 않는지 Hibernate 통계로 확인하고,
+ * 기존 엔티티 조회와 같은 시설을 같은 순서로 반환하는지 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({QueryLibraryAdapter.class, QueryCoolingCenterAdapter.class, ParkQueryAdapter.class,
+        RestaurantQueryAdapter.class})
+@DisplayName("지도 카드 프로젝션 조회 테스트")
+class PoiCardProjectionTest {
+
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+
+    @Autowired
+    private QueryLibraryAdapter libraryAdapter;
+
+    @Autowired
+    private QueryCoolingCenterAdapter coolingCenterAdapter;
+
+    @Autowired
+    private ParkQueryAdapter parkAdapter;
+
+    @Autowired
+    private RestaurantQueryAdapter restaurantAdapter;
+
+    @Autowired
+    private LibraryRepository libraryRepository;
+
+    @Autowired
+    private CoolingCenterRepository coolingCenterRepository;
+
+    @Autowired
+    private ParkRepository parkRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(20250905L);
+        for (int i = 0; i < 60; i++) {
+            // 시청 주변 약 ±3km, 일부는 반경 2km 밖
+            double latitude = LATITUDE + (random.nextDouble() - 0.5) * 0.05;
+            double longitude = LONGITUDE + (random.nextDouble() - 0.5) * 0.06;
+            libraryRepository.save(Library.builder().lbrryName("도서관 " + i).lbrrySeName("작은도서관")
+                    .adres("서울특별시 중구 세종대로 " + i).xcnts(latitude).ydnts(longitude).build());
+            coolingCenterRepository.save(CoolingCenter.builder().name("쉼터 " + i).facilityType2("경로당")
+                    .lotAddress("서울특별시 중구 태평로1가 " + i).latitude(latitude).longitude(longitude).build());
+            parkRepository.save(Park.builder().name("공원 " + i).zone("중구").content("긴 공원 개요 ".repeat(50))
+                    .address("서울 중구 남산공원길 " + i).latitude(latitude).longitude(longitude).build());
+            restaurantRepository.save(Restaurant.builder().name("맛집 " + i).representativeMenu("비빔밥")
+                    .address("서울특별시 중구 명동길 " + i).newAddress(i % 2 == 0 ? "중구 명동8길 " + i : null)
+                    .latitude(latitude).longitude(longitude).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("카드 조회는 엔티티를 로드하지 않고 영속성 컨텍스트를 비워 둠")
+    void cards_DoNotLoadEntities() {
+        List<PoiCard> libraries = libraryAdapter.queryLibraryCardLocation(LATITUDE, LONGITUDE);
+        List<PoiCard> centers = coolingCenterAdapter.queryCoolingCenterCardLocation(LATITUDE, LONGITUDE);
+        List<PoiCard> parks = parkAdapter.getParkCardLocation(LATITUDE, LONGITUDE);
+        List<PoiCard> restaurants = restaurantAdapter.getRestaurantCardLocation(LATITUDE, LONGITUDE);
+
+        assertThat(libraries).isNotEmpty();
+        assertThat(centers).hasSameSizeAs(libraries);
+        assertThat(parks).hasSameSizeAs(libraries);
+        assertThat(restaurants).hasSameSizeAs(libraries);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(managedEntityCount()).isZero();
+
+        // 같은 조회를 엔티티로 하면 결과 수만큼 영속성 컨텍스트에 올라감
+        List<Library> entities = libraryAdapter.queryLibraryLocation(LATITUDE, LONGITUDE);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(entities.size());
+        assertThat(managedEntityCount()).isEqualTo(entities.size());
+    }
+
+    @Test
+    @DisplayName("카드 조회 결과는 엔티티 조회와 같은 시설을 같은 순서로 반환")
+    void cards_MatchEntityQueries() {
+        assertThat(libraryAdapter.queryLibraryCardLocation(LATITUDE, LONGITUDE)).extracting(PoiCard::id)
+                .containsExactlyElementsOf(libraryAdapter.queryLibraryLocation(LATITUDE, LONGITUDE).stream()
+                        .map(Library::getId).toList());
+        assertThat(coolingCenterAdapter.queryCoolingCenterCardLocation(LATITUDE, LONGITUDE)).extracting(PoiCard::id)
+                .containsExactlyElementsOf(coolingCenterAdapter.queryCoolingCenterLocation(LATITUDE, LONGITUDE).stream()
+                        .map(CoolingCenter::getId).toList());
+        assertThat(parkAdapter.getParkCardLocation(LATITUDE, LONGITUDE)).extracting(PoiCard::id)
+                .containsExactlyElementsOf(parkAdapter.getParkLocation(LATITUDE, LONGITUDE).stream()
+                        .map(Park::getId).toList());
+        assertThat(restaurantAdapter.getRestaurantCardLocation(LATITUDE, LONGITUDE)).extracting(PoiCard::id)
+                .containsExactlyElementsOf(restaurantAdapter.getRestaurantLocation(LATITUDE, LONGITUDE).stream()
+                        .map(Restaurant::getId).toList());
+    }
+
+    @Test
+    @DisplayName("카드는 종류별 분류와 시/도 이름을 뺀 짧은 주소를 담음")
+    void cards_MapCategoryAndShortAddress() {
+        Library library = libraryAdapter.queryLibraryLocation(LATITUDE, LONGITUDE).get(0);
+        PoiCard libraryCard = libraryAdapter.queryLibraryCardLocation(LATITUDE, LONGITUDE).get(0);
+
+        assertThat(libraryCard).isEqualTo(new PoiCard(PoiType.LIBRARIES, library.getId(), library.getLbrryName(),
+                library.getXcnts(), library.getYdnts(), "작은도서관", library.getAdres().substring("서울특별시 ".length())));
+        assertThat(coolingCenterAdapter.queryCoolingCenterCardLocation(LATITUDE, LONGITUDE))
+                .allSatisfy(card -> {
+                    assertThat(card.category()).isEqualTo("경로당");
+                    assertThat(card.address()).startsWith("중구 태평로1가 ");
+                });
+        assertThat(parkAdapter.getParkCardLocation(LATITUDE, LONGITUDE))
+                .allSatisfy(card -> {
+                    assertThat(card.category()).isEqualTo("중구");
+                    assertThat(card.address()).startsWith("중구 남산공원길 ");
+                });
+        assertThat(restaurantAdapter.getRestaurantCardLocation(LATITUDE, LONGITUDE))
+                .allSatisfy(card -> {
+                    assertThat(card.type()).isEqualTo(PoiType.RESTAURANTS);
+                    assertThat(card.category()).isEqualTo("비빔밥");
+                    assertThat(card.address()).matches("중구 명동(8)?길 \\d+");
+                });
+    }
+
+    private int managedEntityCount() {
+        return entityManager.unwrap(SessionImplementor.class).getPersistenceContextInternal()
+                .getNumberOfManagedEntities();
+    }
+}
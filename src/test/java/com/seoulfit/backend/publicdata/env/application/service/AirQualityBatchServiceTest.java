@@ -10,6 +10,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -40,6 +41,9 @@ class AirQualityBatchServiceTest {
     @Mock
     private AirQualityRepository repository;
     
+    @Mock
+    private AirQualityRollupService rollupService;
+    
     @InjectMocks
     private AirQualityBatchService airQualityBatchService;
     
@@ -96,6 +100,7 @@ class AirQualityBatchServiceTest {
             verify(apiClient).fetchRealTimeAirQuality();
             verify(repository, times(3)).findByStationAndDateTime(anyString(), any(LocalDateTime.class));
             verify(repository).saveAll(anyList());
+            verify(rollupService).refresh(anyList());
         }
         
         @Test
@@ -311,6 +316,31 @@ class AirQualityBatchServiceTest {
         }
     }
     
+    @Nested
+    @DisplayName("보관 정리 테스트")
+    class CleanupOldDataTest {
+        
+        @Test
+        @DisplayName("보관 기간이 지난 원본 측정값과 시간/일 단위 롤업을 같은 기준 시각으로 삭제")
+        void cleanupOldData_PrunesRawDataAndRollups() {
+            // given
+            when(repository.deleteOldData(any(LocalDateTime.class))).thenReturn(120);
+            when(rollupService.deleteBefore(any(LocalDateTime.class))).thenReturn(8);
+            
+            // when
+            int deletedCount = airQualityBatchService.cleanupOldData(30);
+            
+            // then
+            ArgumentCaptor<LocalDateTime> rawCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+            ArgumentCaptor<LocalDateTime> rollupCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(repository).deleteOldData(rawCutoff.capture());
+            verify(rollupService).deleteBefore(rollupCutoff.capture());
+            assertThat(rollupCutoff.getValue()).isEqualTo(rawCutoff.getValue());
+            assertThat(rawCutoff.getValue()).isBefore(LocalDateTime.now().minusDays(29));
+            assertThat(deletedCount).isEqualTo(120);
+        }
+    }
+    
     // Helper methods
     private AirQualityApiResponse.AirQualityRow createMockAirQualityRow(
             String region, String station, String measureTime,
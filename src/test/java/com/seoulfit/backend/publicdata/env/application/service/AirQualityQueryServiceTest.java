@@ -2,8 +2,10 @@ package com.seoulfit.backend.publicdata.env.application.service;
 
 import com.seoulfit.backend.publicdata.env.application.port.in.AirQualityQueryUseCase;
 import com.seoulfit.backend.publicdata.env.application.port.out.AirQualityRepository;
+import com.seoulfit.backend.publicdata.env.application.port.out.AirQualityRollupRepository;
 import com.seoulfit.backend.publicdata.env.domain.AirQuality;
 import com.seoulfit.backend.publicdata.env.domain.AirQualityStatus;
+import com.seoulfit.backend.publicdata.env.domain.RollupGranularity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -33,6 +35,9 @@ class AirQualityQueryServiceTest {
     @Mock
     private AirQualityRepository repository;
     
+    @Mock
+    private AirQualityRollupRepository rollupRepository;
+    
     @InjectMocks
     private AirQualityQueryService airQualityQueryService;
     
@@ -269,11 +274,11 @@ class AirQualityQueryServiceTest {
             // given
             LocalDateTime startTime = testDateTime.minusHours(24);
             LocalDateTime endTime = testDateTime;
-            AirQualityQueryUseCase.AirQualityStatistics mockStatistics = 
-                new AirQualityQueryUseCase.AirQualityStatistics(
-                    50.0, 30.0, 25.0, 15L, 100L, 10L, 80L, LocalDateTime.now()
-                );
-            when(repository.getStatistics(startTime, endTime)).thenReturn(mockStatistics);
+            AirQualityRollupRepository.RollupTotals totals = new AirQualityRollupRepository.RollupTotals(
+                    1000.0, 20L, 600.0, 20L, 500.0, 20L, 15L, 100L, 10L, 125L);
+            // 날짜 경계를 하나만 넘는 기간은 시간 단위 롤업 한 번으로 합산
+            when(rollupRepository.sumTotals(RollupGranularity.HOURLY, startTime, endTime.plusHours(1)))
+                    .thenReturn(totals);
             
             // when
             AirQualityQueryUseCase.AirQualityStatistics result = 
@@ -283,7 +288,9 @@ class AirQualityQueryServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.avgPm10()).isEqualTo(50.0);
             assertThat(result.avgPm25()).isEqualTo(30.0);
-            verify(repository).getStatistics(startTime, endTime);
+            assertThat(result.avgKhai()).isEqualTo(25.0);
+            assertThat(result.totalCount()).isEqualTo(125L);
+            verify(rollupRepository).sumTotals(RollupGranularity.HOURLY, startTime, endTime.plusHours(1));
         }
     }
     
@@ -445,4 +452,4 @@ class AirQualityQueryServiceTest {
                 .pm2524hAvg(pm25 + 5)
                 .build();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
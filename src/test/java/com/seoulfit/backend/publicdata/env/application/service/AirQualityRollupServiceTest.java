@@ -0,0 +1,204 @@
+package com.seoulfit.backend.publicdata.env.application.service;
+
+import com.seoulfit.backend.publicdata.env.adapter.out.persistence.AirQualityJpaRepository;
+import com.seoulfit.backend.publicdata.env.adapter.out.persistence.AirQualityRepositoryAdapter;
+import com.seoulfit.backend.publicdata.env.adapter.out.persistence.AirQualityRollupJpaRepository;
+import com.seoulfit.backend.publicdata.env.adapter.out.persistence.AirQualityRollupRepositoryAdapter;
+import com.seoulfit.backend.publicdata.env.application.port.in.AirQualityQueryUseCase.AirQualityStatistics;
+import com.seoulfit.backend.publicdata.env.domain.AirQuality;
+import com.seoulfit.backend.publicdata.env.domain.AirQualityRollup;
+import com.seoulfit.backend.publicdata.env.domain.MetricRollup;
+import com.seoulfit.backend.publicdata.env.domain.RollupGranularity;
+import com.seoulfit.backend.shared.config.JpaAuditingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * AirQualityRollupService 테스트
+ *
+ * 측정소 5곳의 3일치 시간별 측정값을 실시간 배치처럼 한 시간씩 저장하면서 롤업을 갱신하고,
+ * 일부 측정값을 다시 갱신한 뒤 롤업이 원본 측정값으로 다시 계산한 값과 같은지 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, AirQualityRepositoryAdapter.class, AirQualityRollupRepositoryAdapter.class,
+        AirQualityRollupService.class, AirQualityQueryService.class})
+@DisplayName("AirQualityRollupService 테스트")
+class AirQualityRollupServiceTest {
+
+    private static final String[] STATIONS = {"강남구", "중구", "마포구", "송파구", "종로구"};
+    private static final LocalDateTime FIRST_HOUR = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final int HOURS = 72;
+
+    @Autowired
+    private AirQualityRollupService rollupService;
+
+    @Autowired
+    private AirQualityQueryService queryService;
+
+    @Autowired
+    private AirQualityJpaRepository airQualityJpaRepository;
+
+    @Autowired
+    private AirQualityRollupJpaRepository rollupJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(20250301L);
+
+        // 실시간 배치처럼 한 시간 단위로 저장 후 롤업 갱신
+        for (int hour = 0; hour < HOURS; hour++) {
+            List<AirQuality> batch = new ArrayList<>();
+            for (String station : STATIONS) {
+                batch.add(measurement(station, FIRST_HOUR.plusHours(hour), random));
+            }
+            rollupService.refresh(airQualityJpaRepository.saveAll(batch));
+        }
+
+        // 이미 집계된 측정값 재수신: 같은 측정소·시각의 값이 바뀌어도 중복 집계되지 않아야 함
+        List<AirQuality> revised = new ArrayList<>();
+        for (AirQuality airQuality : airQualityJpaRepository.findAll()) {
+            if (airQuality.getMsrDt().getHour() % 7 == 3) {
+                airQuality.updateData(random.nextInt(200), null, random.nextDouble() * 0.1,
+                        null, null, null, 120, "나쁨", null, null);
+                revised.add(airQuality);
+            }
+        }
+        rollupService.refresh(revised);
+    }
+
+    @Test
+    @DisplayName("시간/일 단위 롤업이 원본 측정값으로 다시 계산한 값과 일치")
+    void rollups_MatchRecomputedValues() {
+        List<AirQuality> raw = airQualityJpaRepository.findAll();
+
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            Map<String, List<AirQuality>> expectedBuckets = raw.stream()
+                    .collect(Collectors.groupingBy(a -> key(a.getMsrSteNm(), granularity.bucketStart(a.getMsrDt()))));
+            List<AirQualityRollup> rollups = rollupJpaRepository.findAll().stream()
+                    .filter(r -> r.getGranularity() == granularity)
+                    .toList();
+
+            assertThat(rollups).hasSize(expectedBuckets.size());
+            for (AirQualityRollup rollup : rollups) {
+                List<AirQuality> bucket = expectedBuckets.get(key(rollup.getStationName(), rollup.getBucketStart()));
+                assertThat(bucket).as("bucket %s %s", rollup.getStationName(), rollup.getBucketStart()).isNotNull();
+                assertThat(rollup.getSampleCount()).isEqualTo(bucket.size());
+                assertMetric(rollup.getPm10(), bucket, AirQuality::getPm10Value);
+                assertMetric(rollup.getPm25(), bucket, AirQuality::getPm25Value);
+                assertMetric(rollup.getO3(), bucket, AirQuality::getO3Value);
+                assertMetric(rollup.getKhai(), bucket, AirQuality::getKhaiValue);
+                assertThat(rollup.getUnhealthyCount())
+                        .isEqualTo(bucket.stream().filter(a -> a.getKhaiValue() != null && a.getKhaiValue() > 100).count());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("기간 통계는 원본 측정값으로 계산한 통계와 일치")
+    void statistics_MatchRawComputation() {
+        // 앞뒤로 하루가 안 되는 시간이 남는 기간 (시간 단위 + 일 단위 롤업 조합)
+        LocalDateTime start = FIRST_HOUR.plusHours(5).plusMinutes(30);
+        LocalDateTime end = FIRST_HOUR.plusDays(2).plusHours(10);
+
+        AirQualityStatistics statistics = queryService.getAirQualityStatistics(start, end);
+
+        List<AirQuality> raw = airQualityJpaRepository.findAll().stream()
+                .filter(a -> !a.getMsrDt().isBefore(start) && !a.getMsrDt().isAfter(end))
+                .toList();
+        assertThat(statistics.totalCount()).isEqualTo(raw.size());
+        assertThat(statistics.avgPm10()).isCloseTo(average(raw, AirQuality::getPm10Value), within(1e-9));
+        assertThat(statistics.avgPm25()).isCloseTo(average(raw, AirQuality::getPm25Value), within(1e-9));
+        assertThat(statistics.avgKhai()).isCloseTo(average(raw, AirQuality::getKhaiValue), within(1e-9));
+        assertThat(statistics.goodCount())
+                .isEqualTo(raw.stream().filter(a -> a.getKhaiValue() != null && a.getKhaiValue() <= 50).count());
+        assertThat(statistics.moderateCount() + statistics.unhealthyCount() + statistics.goodCount())
+                .isEqualTo(raw.stream().filter(a -> a.getKhaiValue() != null).count());
+    }
+
+    @Test
+    @DisplayName("추이 조회는 측정소의 구간을 시간순으로 반환")
+    void trend_ReturnsBucketsInOrder() {
+        List<AirQualityRollup> hourly = queryService.getAirQualityRollups(
+                "중구", RollupGranularity.HOURLY, FIRST_HOUR.plusHours(10), FIRST_HOUR.plusHours(34));
+        List<AirQualityRollup> daily = queryService.getAirQualityRollups(
+                "중구", RollupGranularity.DAILY, FIRST_HOUR, FIRST_HOUR.plusDays(3));
+
+        assertThat(hourly).hasSize(24)
+                .extracting(AirQualityRollup::getBucketStart)
+                .isSorted()
+                .startsWith(FIRST_HOUR.plusHours(10));
+        assertThat(daily).hasSize(3)
+                .allSatisfy(rollup -> assertThat(rollup.getSampleCount()).isEqualTo(24));
+    }
+
+    @Test
+    @DisplayName("보관 정리는 구간 전체가 기준 시각 이전인 시간/일 단위 롤업만 삭제")
+    void deleteBefore_PrunesExpiredBuckets() {
+        LocalDateTime cutoff = FIRST_HOUR.plusDays(1).plusHours(5).plusMinutes(30);
+
+        int deletedCount = rollupService.deleteBefore(cutoff);
+
+        List<AirQualityRollup> remaining = rollupJpaRepository.findAll();
+        assertThat(deletedCount).isEqualTo((29 + 1) * STATIONS.length);
+        assertThat(remaining).filteredOn(r -> r.getGranularity() == RollupGranularity.HOURLY)
+                .hasSize((HOURS - 29) * STATIONS.length)
+                .allSatisfy(r -> assertThat(r.getBucketStart()).isAfterOrEqualTo(FIRST_HOUR.plusDays(1).plusHours(5)));
+        assertThat(remaining).filteredOn(r -> r.getGranularity() == RollupGranularity.DAILY)
+                .hasSize(2 * STATIONS.length)
+                .allSatisfy(r -> assertThat(r.getBucketStart()).isAfterOrEqualTo(FIRST_HOUR.plusDays(1)));
+    }
+
+    private void assertMetric(MetricRollup metric, List<AirQuality> bucket, Function<AirQuality, ? extends Number> getter) {
+        List<Double> values = bucket.stream().map(getter).filter(Objects::nonNull).map(Number::doubleValue).toList();
+        assertThat(metric.getCount()).isEqualTo(values.size());
+        if (values.isEmpty()) {
+            assertThat(metric.getMin()).isNull();
+            assertThat(metric.getMax()).isNull();
+            assertThat(metric.getAvg()).isNull();
+            return;
+        }
+        assertThat(metric.getMin()).isEqualTo(values.stream().mapToDouble(Double::doubleValue).min().orElseThrow());
+        assertThat(metric.getMax()).isEqualTo(values.stream().mapToDouble(Double::doubleValue).max().orElseThrow());
+        assertThat(metric.getAvg())
+                .isCloseTo(values.stream().mapToDouble(Double::doubleValue).average().orElseThrow(), within(1e-9));
+    }
+
+    private double average(List<AirQuality> rows, Function<AirQuality, ? extends Number> getter) {
+        return rows.stream().map(getter).filter(Objects::nonNull).mapToDouble(Number::doubleValue).average().orElse(0.0);
+    }
+
+    private String key(String station, LocalDateTime bucketStart) {
+        return station + "|" + bucketStart;
+    }
+
+    private AirQuality measurement(String station, LocalDateTime measuredAt, Random random) {
+        return AirQuality.builder()
+                .msrDt(measuredAt)
+                .msrRgnNm(station)
+                .msrSteNm(station)
+                .pm10Value(random.nextInt(10) == 0 ? null : 10 + random.nextInt(140))
+                .pm25Value(random.nextInt(10) == 0 ? null : 5 + random.nextInt(80))
+                .o3Value(random.nextInt(10) == 0 ? null : random.nextDouble() * 0.12)
+                .khaiValue(random.nextInt(10) == 0 ? null : 20 + random.nextInt(160))
+                .khaiGrade("보통")
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.seoulfit.backend.publicdata.facilities.adapter.in.web;
+
+import com.seoulfit.backend.config.TestSecurityConfig;
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import com.seoulfit.backend.location.domain.PoiType;
+import com.seoulfit.backend.publicdata.facilities.application.port.in.query.QueryLibraryUseCase;
+import com.seoulfit.backend.publicdata.facilities.domain.Library;
+import com.seoulfit.backend.shared.web.ResponseSnapshotCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(LibraryController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, ResponseSnapshotCache.class})
+@DisplayName("LibraryController 테스트")
+class LibraryControllerTest {
+
+    private static final String ALL_URL = "/api/v1/libraries/all";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ResponseSnapshotCache responseSnapshotCache;
+
+    @MockitoBean
+    private QueryLibraryUseCase queryLibraryUseCase;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 컨텍스트가 재사용되므로 이전 테스트의 스냅샷 제거
+        responseSnapshotCache.invalidate(PoiType.LIBRARIES.name());
+    }
+
+    @Test
+    @DisplayName("전체 조회 - ETag와 함께 200, 같은 ETag로 다시 요청하면 DB 조회 없이 304")
+    void getAllLibraries_NotModified() throws Exception {
+        // given
+        given(queryLibraryUseCase.getAllLibrary()).willReturn(List.of(createLibrary("남산도서관")));
+
+        // when
+        MvcResult first = mockMvc.perform(get(ALL_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$[0].lbrryName").value("남산도서관"))
+                .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then
+        mockMvc.perform(get(ALL_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().bytes(new byte[0]));
+        verify(queryLibraryUseCase, times(1)).getAllLibrary();
+    }
+
+    @Test
+    @DisplayName("전체 조회 - gzip을 받는 클라이언트에는 압축 바이트로 응답")
+    void getAllLibraries_Gzip() throws Exception {
+        // given
+        given(queryLibraryUseCase.getAllLibrary()).willReturn(List.of(createLibrary("정독도서관")));
+
+        // when
+        MvcResult result = mockMvc.perform(get(ALL_URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        // then
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).contains("정독도서관");
+        }
+    }
+
+    @Test
+    @DisplayName("전체 조회 - gzip 표현과 비압축 표현은 ETag가 다르고, 보낼 표현의 ETag와 같을 때만 304")
+    void getAllLibraries_ETagPerContentCoding() throws Exception {
+        // given
+        given(queryLibraryUseCase.getAllLibrary()).willReturn(List.of(createLibrary("남산도서관")));
+        String identityETag = mockMvc.perform(get(ALL_URL))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String gzipETag = mockMvc.perform(get(ALL_URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then
+        assertThat(gzipETag).isNotEqualTo(identityETag).endsWith("-gzip\"");
+        mockMvc.perform(get(ALL_URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, identityETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, gzipETag));
+        mockMvc.perform(get(ALL_URL).header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, identityETag));
+        mockMvc.perform(get(ALL_URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, gzipETag));
+        verify(queryLibraryUseCase, times(1)).getAllLibrary();
+    }
+
+    @Test
+    @DisplayName("전체 조회 - Accept-Encoding에서 gzip의 q가 0이면 압축하지 않고 응답")
+    void getAllLibraries_GzipRefused() throws Exception {
+        // given
+        given(queryLibraryUseCase.getAllLibrary()).willReturn(List.of(createLibrary("정독도서관")));
+
+        // when & then
+        for (String acceptEncoding : List.of("gzip;q=0", "deflate, gzip; q=0.0", "*;q=0", "br")) {
+            mockMvc.perform(get(ALL_URL).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(jsonPath("$[0].lbrryName").value("정독도서관"));
+        }
+        mockMvc.perform(get(ALL_URL).header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, *;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    @Test
+    @DisplayName("전체 조회 - 도서관 배치가 끝나면 이전 ETag로 요청해도 새 데이터로 200")
+    void getAllLibraries_InvalidatedAfterBatch() throws Exception {
+        // given
+        given(queryLibraryUseCase.getAllLibrary()).willReturn(List.of(createLibrary("남산도서관")));
+        String oldETag = mockMvc.perform(get(ALL_URL))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        given(queryLibraryUseCase.getAllLibrary())
+                .willReturn(List.of(createLibrary("남산도서관"), createLibrary("용산도서관")));
+        eventPublisher.publishEvent(new PoiDataRefreshedEvent(PoiType.LIBRARIES));
+
+        // then
+        String newETag = mockMvc.perform(get(ALL_URL).header(HttpHeaders.IF_NONE_MATCH, oldETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].lbrryName").value("용산도서관"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(oldETag);
+        verify(queryLibraryUseCase, times(2)).getAllLibrary();
+    }
+
+    private Library createLibrary(String name) {
+        return Library.builder()
+                .lbrrySeqNo(name)
+                .lbrryName(name)
+                .codeValue("중구")
+                .adres("서울특별시 중구")
+                .xcnts(37.5536)
+                .ydnts(126.9816)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.seoulfit.backend.publicdata.facilities.adapter.out.persistence;
+
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository.LibraryRepository;
+import com.seoulfit.backend.publicdata.facilities.domain.Library;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서관 전체 스트리밍 조회 테스트 (H2)
+ *
+ * 전체 목록을 한 행씩 흘려보내는 동안 이미 넘긴 도서관이 영속성 컨텍스트에 쌓이지 않고,
+ * 저장한 행을 빠짐없이 한 번씩 넘기는지 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QueryLibraryAdapter.class)
+@DisplayName("도서관 전체 스트리밍 조회 테스트")
+class QueryLibraryAdapterTest {
+
+    private static final int TOTAL = 1_234;
+
+    @Autowired
+    private QueryLibraryAdapter queryLibraryAdapter;
+
+    @Autowired
+    private LibraryRepository libraryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        List<Library> libraries = new ArrayList<>(TOTAL);
+        for (int i = 0; i < TOTAL; i++) {
+            libraries.add(Library.builder()
+                    .lbrrySeqNo(String.valueOf(i))
+                    .lbrryName("도서관 " + i)
+                    .codeValue("중구")
+                    .adres("서울특별시 중구 " + i)
+                    .xcnts(37.50 + (i % 100) * 0.001)
+                    .ydnts(126.95 + (i / 100) * 0.001)
+                    .build());
+        }
+        libraryRepository.saveAll(libraries);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("넘긴 도서관은 영속성 컨텍스트에서 분리되어 관리 엔티티 수가 늘지 않고, 전체 행을 한 번씩 넘김")
+    void forEachLibrary_DetachesStreamedRows() {
+        // given
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        Set<String> seen = new HashSet<>();
+        List<Integer> retainedCounts = new ArrayList<>();
+
+        // when
+        long count = queryLibraryAdapter.forEachLibrary(library -> {
+            // 지금 넘겨받은 행을 빼면 관리 중인 엔티티가 없어야 함 (이전 행은 모두 분리)
+            int managed = session.getPersistenceContext().getNumberOfManagedEntities();
+            retainedCounts.add(managed - (entityManager.contains(library) ? 1 : 0));
+            seen.add(library.getLbrrySeqNo());
+        });
+
+        // then
+        assertThat(count).isEqualTo(TOTAL);
+        assertThat(seen).hasSize(TOTAL);
+        assertThat(retainedCounts).hasSize(TOTAL).containsOnly(0);
+        assertThat(session.getPersistenceContext().getNumberOfManagedEntities()).isZero();
+    }
+}
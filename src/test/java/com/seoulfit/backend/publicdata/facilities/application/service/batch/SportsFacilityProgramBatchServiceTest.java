@@ -0,0 +1,246 @@
+package com.seoulfit.backend.publicdata.facilities.application.service.batch;
+
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.SportsFacilityProgramRepositoryAdapter;
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.api.dto.SportsFacilityProgramApiResponse;
+import com.seoulfit.backend.publicdata.facilities.application.port.in.SportsFacilityProgramBatchUseCase.SportsFacilityProgramBatchResult;
+import com.seoulfit.backend.publicdata.facilities.application.port.out.SportsFacilityProgramApiClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * SportsFacilityProgramBatchService 적재 테스트
+ *
+ * 합성 프로그램 데이터 3만 건을 1,000건 단위 페이지로 제공하고
+ * 전체 페이지 적재, 재적재 시 갱신/정리, 중간 페이지 실패 시 롤백,
+ * 0건/부분 응답 시 미수집 행 정리 생략을 검증합니다.
+ * 배치는 자체 트랜잭션을 사용하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SportsFacilityProgramRepositoryAdapter.class, SportsFacilityProgramBatchService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("SportsFacilityProgramBatchService 적재 테스트")
+class SportsFacilityProgramBatchServiceTest {
+
+    private static final int ROWS = 30_000;
+    private static final int DUPLICATES = 500;
+    private static final long SEED = 20250101L;
+
+    @Autowired
+    private SportsFacilityProgramBatchService batchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private SportsFacilityProgramApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM sports_facility_programs");
+    }
+
+    @Test
+    @DisplayName("전체 페이지를 적재하고 자연키 중복은 한 번만 저장")
+    void processDailyBatch_IngestsAllPages() {
+        // given
+        List<SportsFacilityProgramApiResponse.ProgramInfo> source = syntheticPrograms(0, ROWS, "20,000");
+        Random random = new Random(SEED);
+        for (int i = 0; i < DUPLICATES; i++) {
+            source.add(source.get(random.nextInt(ROWS)));
+        }
+        stubPages(source, -1);
+
+        // when
+        long startedAt = System.nanoTime();
+        SportsFacilityProgramBatchResult result = batchService.processDailyBatch("20250101");
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        // then
+        assertThat(result.success()).isTrue();
+        assertThat(result.totalFetched()).isEqualTo(ROWS + DUPLICATES);
+        assertThat(result.totalSaved()).isEqualTo(ROWS);
+        assertThat(result.totalUpdated()).isZero();
+        assertThat(result.totalDeleted()).isZero();
+        assertThat(countRows()).isEqualTo(ROWS);
+        assertThat(ROWS / elapsedSeconds)
+                .as("throughput (rows/s)")
+                .isGreaterThan(2_000);
+    }
+
+    @Test
+    @DisplayName("재적재 시 기존 행은 갱신하고 원천에서 사라진 행은 삭제")
+    void processDailyBatch_UpdatesAndRetiresStaleRows() {
+        // given
+        stubPages(syntheticPrograms(0, ROWS, "20,000"), -1);
+        batchService.processDailyBatch("20250101");
+
+        int removed = 3_000;
+        int added = 1_000;
+        List<SportsFacilityProgramApiResponse.ProgramInfo> next = syntheticPrograms(removed, ROWS, "25,000");
+        next.addAll(syntheticPrograms(ROWS, ROWS + added, "25,000"));
+        stubPages(next, -1);
+
+        // when
+        SportsFacilityProgramBatchResult result = batchService.processDailyBatch("20250102");
+
+        // then
+        assertThat(result.success()).isTrue();
+        assertThat(result.totalUpdated()).isEqualTo(ROWS - removed);
+        assertThat(result.totalSaved()).isEqualTo(added);
+        assertThat(result.totalDeleted()).isEqualTo(removed);
+        assertThat(countRows()).isEqualTo(ROWS - removed + added);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sports_facility_programs WHERE fee <> '25,000' OR data_date <> '20250102'",
+                Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("중간 페이지 조회가 실패하면 갱신과 정리를 모두 롤백")
+    void processDailyBatch_PageFailure_RollsBack() {
+        // given
+        stubPages(syntheticPrograms(0, ROWS, "20,000"), -1);
+        batchService.processDailyBatch("20250101");
+
+        stubPages(syntheticPrograms(0, ROWS / 2, "25,000"), 5_001);
+
+        // when
+        SportsFacilityProgramBatchResult result = batchService.processDailyBatch("20250102");
+
+        // then
+        assertThat(result.success()).isFalse();
+        assertThat(countRows()).isEqualTo(ROWS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sports_facility_programs WHERE fee = '25,000'", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 건수가 0건이면 기존 행을 정리하지 않음")
+    void processDailyBatch_EmptySource_KeepsRows() {
+        // given
+        stubPages(syntheticPrograms(0, ROWS, "20,000"), -1);
+        batchService.processDailyBatch("20250101");
+
+        stubPages(List.of(), -1);
+
+        // when
+        SportsFacilityProgramBatchResult result = batchService.processDailyBatch("20250102");
+
+        // then
+        assertThat(result.success()).isTrue();
+        assertThat(result.totalFetched()).isZero();
+        assertThat(result.totalDeleted()).isZero();
+        assertThat(countRows()).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("페이지가 전체 건수보다 적게 오면 받은 행만 갱신하고 미수집 행은 정리하지 않음")
+    void processDailyBatch_ShortPages_SkipsCleanup() {
+        // given
+        stubPages(syntheticPrograms(0, ROWS, "20,000"), -1);
+        batchService.processDailyBatch("20250101");
+
+        stubPages(syntheticPrograms(0, ROWS / 2, "25,000"), -1, ROWS);
+
+        // when
+        SportsFacilityProgramBatchResult result = batchService.processDailyBatch("20250102");
+
+        // then
+        assertThat(result.success()).isTrue();
+        assertThat(result.totalFetched()).isEqualTo(ROWS / 2);
+        assertThat(result.totalUpdated()).isEqualTo(ROWS / 2);
+        assertThat(result.totalDeleted()).isZero();
+        assertThat(countRows()).isEqualTo(ROWS);
+    }
+
+    private long countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sports_facility_programs", Long.class);
+    }
+
+    /**
+     * API 페이지 조회 스텁
+     * @param failingStartIndex 이 시작 인덱스의 페이지는 실패 응답 (-1이면 모두 성공)
+     */
+    private void stubPages(List<SportsFacilityProgramApiResponse.ProgramInfo> source, int failingStartIndex) {
+        stubPages(source, failingStartIndex, source.size());
+    }
+
+    /**
+     * API 페이지 조회 스텁
+     * @param reportedTotal 응답에 실을 전체 건수 (source보다 크면 뒤쪽 페이지가 짧거나 비어 있음)
+     */
+    private void stubPages(List<SportsFacilityProgramApiResponse.ProgramInfo> source, int failingStartIndex,
+                           int reportedTotal) {
+        when(apiClient.fetchProgramInfo(anyInt(), anyInt(), isNull())).thenAnswer(invocation -> {
+            int startIndex = invocation.getArgument(0);
+            int endIndex = invocation.getArgument(1);
+            if (startIndex == failingStartIndex) {
+                return response(reportedTotal, List.of(), "ERROR-500");
+            }
+            int from = Math.min(startIndex - 1, source.size());
+            int to = Math.min(endIndex, source.size());
+            return response(reportedTotal, source.subList(from, to), "INFO-000");
+        });
+    }
+
+    private SportsFacilityProgramApiResponse response(int totalCount,
+                                                      List<SportsFacilityProgramApiResponse.ProgramInfo> rows,
+                                                      String code) {
+        SportsFacilityProgramApiResponse.Result result = new SportsFacilityProgramApiResponse.Result();
+        result.setCode(code);
+        result.setMessage(code);
+
+        SportsFacilityProgramApiResponse.ListProgramByPublicSportsFacilitiesService body =
+                new SportsFacilityProgramApiResponse.ListProgramByPublicSportsFacilitiesService();
+        body.setListTotalCount(totalCount);
+        body.setResult(result);
+        body.setRow(new ArrayList<>(rows));
+
+        SportsFacilityProgramApiResponse response = new SportsFacilityProgramApiResponse();
+        response.setListProgramByPublicSportsFacilitiesService(body);
+        return response;
+    }
+
+    private List<SportsFacilityProgramApiResponse.ProgramInfo> syntheticPrograms(int from, int to, String fee) {
+        String[] subjects = {"수영", "헬스", "요가", "배드민턴", "탁구", "테니스", "필라테스", "농구"};
+        String[] weeks = {"월수금", "화목", "토일", "월~금"};
+        List<SportsFacilityProgramApiResponse.ProgramInfo> programs = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            SportsFacilityProgramApiResponse.ProgramInfo program = new SportsFacilityProgramApiResponse.ProgramInfo();
+            program.setCenterName("체육센터-" + (i % 400));
+            program.setGroundName("시설-" + (i % 7));
+            program.setProgramName(subjects[i % subjects.length] + " 강좌 " + i);
+            program.setSubjectName(subjects[i % subjects.length]);
+            program.setPlace("서울특별시");
+            program.setAddress("서울특별시 중구 세종대로 " + (i % 400));
+            program.setClassName("반-" + (i % 5));
+            program.setTerm("2025.01.01~2025.03.31");
+            program.setWeek(weeks[i % weeks.length]);
+            program.setClassTime(String.format("%02d:00~%02d:50", 6 + i % 14, 6 + i % 14));
+            program.setFee(fee);
+            program.setCapacity(String.valueOf(10 + i % 30));
+            program.setUseYn("Y");
+            program.setFeeFree("N");
+            programs.add(program);
+        }
+        return programs;
+    }
+}
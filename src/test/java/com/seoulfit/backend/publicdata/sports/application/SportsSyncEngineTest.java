@@ -0,0 +1,182 @@
+package com.seoulfit.backend.publicdata.sports.application;
+
+import com.seoulfit.backend.publicdata.sports.infrastructure.SportsApiClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * SportsSyncEngine 테스트
+ *
+ * H2에서 체육시설 5,000건을 기존 행 단위 경로(SportsService.saveSingleSportsData)와
+ * 집합 기반 동기화 경로로 각각 적재하여 결과와 소요 시간을 비교합니다.
+ * 두 경로 모두 자체 트랜잭션을 사용하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SportsService.class, SportsSyncEngine.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("SportsSyncEngine 테스트")
+class SportsSyncEngineTest {
+
+    private static final int ROWS = 5_000;
+    private static final String SNAPSHOT_SQL =
+            "SELECT facility_name || '|' || COALESCE(address, '') || '|' || COALESCE(fee_info, '') " +
+            "FROM sports_reservation_facilities ORDER BY facility_name";
+
+    @Autowired
+    private SportsService sportsService;
+
+    @Autowired
+    private SportsSyncEngine sportsSyncEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private SportsApiClient sportsApiClient;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM sports_reservation_facilities");
+    }
+
+    @Test
+    @DisplayName("5,000건 적재 시 행 단위 경로와 같은 결과를 더 빠르게 반영")
+    void sync_MatchesLegacyPathAndIsFaster() {
+        // given
+        List<SportsApiClient.SportsApiDto> apiData = syntheticFacilities(0, ROWS, "무료");
+
+        // 기존 경로: 행마다 조회 + 저장 + 커밋
+        long legacyStartedAt = System.nanoTime();
+        for (SportsApiClient.SportsApiDto dto : apiData) {
+            sportsService.saveSingleSportsData(dto);
+        }
+        long legacyNanos = System.nanoTime() - legacyStartedAt;
+        List<String> legacySnapshot = snapshot();
+
+        jdbcTemplate.update("DELETE FROM sports_reservation_facilities");
+
+        // when: 집합 기반 경로
+        long syncStartedAt = System.nanoTime();
+        SportsSyncEngine.SyncResult result = sportsSyncEngine.sync(apiData);
+        long syncNanos = System.nanoTime() - syncStartedAt;
+
+        // then
+        assertThat(result.inserted()).isEqualTo(ROWS);
+        assertThat(snapshot()).isEqualTo(legacySnapshot).hasSize(ROWS);
+        assertThat(syncNanos)
+                .as("set-based %d ms vs per-row %d ms", syncNanos / 1_000_000, legacyNanos / 1_000_000)
+                .isLessThan(legacyNanos);
+    }
+
+    @Test
+    @DisplayName("재동기화 시 변경분만 갱신하고 사라진 시설과 중복 행은 삭제")
+    void sync_ComputesInsertsUpdatesAndDeletes() {
+        // given
+        sportsSyncEngine.sync(syntheticFacilities(0, ROWS, "무료"));
+        jdbcTemplate.update("INSERT INTO sports_reservation_facilities (facility_name, created_at, updated_at) " +
+                "VALUES ('체육시설-00001', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+        List<SportsApiClient.SportsApiDto> next = new ArrayList<>();
+        next.addAll(syntheticFacilities(500, 4_000, "무료"));      // 변경 없음
+        next.addAll(syntheticFacilities(4_000, ROWS, "유료"));     // 이용료 변경
+        next.addAll(syntheticFacilities(ROWS, ROWS + 200, "무료")); // 신규
+        next.add(SportsApiClient.SportsApiDto.builder().facilityName(" ").build());
+        next.add(facility(1, "무료"));                              // 중복 행이 있던 시설
+
+        // when
+        SportsSyncEngine.SyncResult result = sportsSyncEngine.sync(next);
+
+        // then
+        assertThat(result.inserted()).isEqualTo(200);
+        assertThat(result.updated()).isEqualTo(1_000);
+        assertThat(result.unchanged()).isEqualTo(3_500 + 1);
+        assertThat(result.deleted()).isEqualTo(500 - 1 + 1);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sports_reservation_facilities", Long.class)).isEqualTo(4_701L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sports_reservation_facilities WHERE fee_info = '유료'", Long.class))
+                .isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("반영 도중 실패하면 신규/변경/삭제 전체를 롤백")
+    void sync_FailureRollsBackAllPhases() {
+        // given
+        sportsSyncEngine.sync(syntheticFacilities(0, ROWS, "무료"));
+        List<String> before = snapshot();
+
+        // 신규 1,500건(두 chunk)이 먼저 반영된 뒤 변경 단계의 네 번째 chunk에서 실패
+        List<SportsApiClient.SportsApiDto> next = new ArrayList<>();
+        next.addAll(syntheticFacilities(1_000, 4_000, "유료"));       // 변경 (나머지는 삭제 대상)
+        next.addAll(syntheticFacilities(ROWS, ROWS + 1_500, "무료"));  // 신규
+        next.add(SportsApiClient.SportsApiDto.builder()
+                .facilityName(String.format("체육시설-%05d", 4_500))
+                .phoneNumber("0".repeat(100))                           // 컬럼 길이 초과
+                .build());
+
+        // when & then
+        assertThatThrownBy(() -> sportsSyncEngine.sync(next)).isInstanceOf(DataAccessException.class);
+        assertThat(snapshot()).isEqualTo(before).hasSize(ROWS);
+    }
+
+    @Test
+    @DisplayName("syncSportsData는 전체 페이지 조회 결과로 동기화하고 신규 건수를 반환")
+    void syncSportsData_UsesAllPages() {
+        // given
+        when(sportsApiClient.getAllSportsData()).thenReturn(syntheticFacilities(0, 1_500, "무료"));
+
+        // when
+        int saved = sportsService.syncSportsData();
+
+        // then
+        assertThat(saved).isEqualTo(1_500);
+    }
+
+    private List<String> snapshot() {
+        return jdbcTemplate.queryForList(SNAPSHOT_SQL, String.class);
+    }
+
+    private List<SportsApiClient.SportsApiDto> syntheticFacilities(int from, int to, String feeInfo) {
+        List<SportsApiClient.SportsApiDto> facilities = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            facilities.add(facility(i, feeInfo));
+        }
+        return facilities;
+    }
+
+    private SportsApiClient.SportsApiDto facility(int i, String feeInfo) {
+        String[] types = {"수영장", "체육관", "테니스장", "축구장", "배드민턴장"};
+        String[] districts = {"강남구", "서초구", "송파구", "마포구", "종로구"};
+        return SportsApiClient.SportsApiDto.builder()
+                .facilityName(String.format("체육시설-%05d", i))
+                .facilityType(types[i % types.length])
+                .address("서울특별시 " + districts[i % districts.length] + " " + i)
+                .phoneNumber("02-000-" + (1000 + i % 9000))
+                .operatingHours("06:00 ~ 22:00")
+                .feeInfo(feeInfo)
+                .district(districts[i % districts.length])
+                .xCoordinate(String.valueOf(126.9 + (i % 100) * 0.001))
+                .yCoordinate(String.valueOf(37.5 + (i % 100) * 0.001))
+                .serviceId("S" + i)
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.seoulfit.backend.shared.config;
+
+import com.seoulfit.backend.location.application.PoiEntityCacheEvictionListener;
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import com.seoulfit.backend.location.domain.PoiType;
+import com.seoulfit.backend.location.domain.SportsFacility;
+import com.seoulfit.backend.location.infrastructure.SportsFacilityRepository;
+import com.seoulfit.backend.publicdata.culture.adapter.out.repository.CulturalSpaceRepository;
+import com.seoulfit.backend.publicdata.culture.domain.CulturalSpace;
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository.CoolingCenterRepository;
+import com.seoulfit.backend.publicdata.facilities.adapter.out.persistence.repository.LibraryRepository;
+import com.seoulfit.backend.publicdata.facilities.domain.CoolingCenter;
+import com.seoulfit.backend.publicdata.facilities.domain.Library;
+import com.seoulfit.backend.publicdata.park.adapter.out.persistence.ParkCommandAdapter;
+import com.seoulfit.backend.publicdata.park.adapter.out.persistence.repository.ParkRepository;
+import com.seoulfit.backend.publicdata.park.domain.Park;
+import com.seoulfit.backend.publicdata.restaurant.adapter.out.persistence.repository.RestaurantRepository;
+import com.seoulfit.backend.publicdata.restaurant.domain.Restaurant;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 2차 캐시 테스트 (H2)
+ *
+ * 시설 엔티티의 ID 조회가 리전별로 첫 조회는 미스, 다음 조회는 히트로 집계되는지 Statistics로 확인하고,
+ * 배치 갱신(TRUNCATE 후 저장, 완료 이벤트)이 해당 리전만 비우는지 검증합니다.
+ * 커밋 시점에 캐시가 채워지므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, HibernateCacheConfig.class, PoiEntityCacheEvictionListener.class,
+        ParkCommandAdapter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Hibernate 2차 캐시 테스트")
+class HibernateSecondLevelCacheTest {
+
+    @Autowired
+    private LibraryRepository libraryRepository;
+
+    @Autowired
+    private CoolingCenterRepository coolingCenterRepository;
+
+    @Autowired
+    private ParkRepository parkRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private SportsFacilityRepository sportsFacilityRepository;
+
+    @Autowired
+    private CulturalSpaceRepository culturalSpaceRepository;
+
+    @Autowired
+    private ParkCommandAdapter parkCommandAdapter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("libraries", "cooling_centers", "parks", "restaurants",
+                "sports_reservation_facilities", "cultural_spaces")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        cache = entityManagerFactory.getCache();
+        cache.evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("시설 엔티티 ID 조회는 첫 조회에서 미스, 이후 조회에서 리전 히트")
+    void findById_MissThenHitPerRegion() {
+        Long libraryId = libraryRepository.save(Library.builder().lbrryName("시청 도서관").build()).getId();
+        Long coolingCenterId = coolingCenterRepository.save(CoolingCenter.builder().name("시청 쉼터").build()).getId();
+        Long parkId = parkRepository.save(Park.builder().name("남산공원").build()).getId();
+        Long restaurantId = restaurantRepository.save(Restaurant.builder().name("명동 맛집").build()).getId();
+        Long sportsFacilityId = sportsFacilityRepository.save(SportsFacility.builder().facilityName("체육관").build())
+                .getId();
+        Long culturalSpaceId = culturalSpaceRepository.save(CulturalSpace.builder().facilityName("미술관")
+                .address("서울 중구").latitude(new BigDecimal("37.5665")).longitude(new BigDecimal("126.9780"))
+                .build()).getId();
+        cache.evictAll();
+        statistics.clear();
+
+        assertMissThenHit(HibernateCacheConfig.Regions.LIBRARY, libraryRepository, libraryId);
+        assertMissThenHit(HibernateCacheConfig.Regions.COOLING_CENTER, coolingCenterRepository, coolingCenterId);
+        assertMissThenHit(HibernateCacheConfig.Regions.PARK, parkRepository, parkId);
+        assertMissThenHit(HibernateCacheConfig.Regions.RESTAURANT, restaurantRepository, restaurantId);
+        assertMissThenHit(HibernateCacheConfig.Regions.SPORTS_FACILITY, sportsFacilityRepository, sportsFacilityId);
+        assertMissThenHit(HibernateCacheConfig.Regions.CULTURAL_SPACE, culturalSpaceRepository, culturalSpaceId);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(6);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("배치 갱신 완료 시 해당 리전을 비우고 다른 리전은 유지")
+    void batchRefresh_EvictsOnlyItsRegion() {
+        Long oldParkId = parkRepository.save(Park.builder().name("기존 공원").build()).getId();
+        Long libraryId = libraryRepository.save(Library.builder().lbrryName("도서관").build()).getId();
+        parkRepository.findById(oldParkId);
+        libraryRepository.findById(libraryId);
+        assertThat(cache.contains(Park.class, oldParkId)).isTrue();
+        assertThat(cache.contains(Library.class, libraryId)).isTrue();
+
+        // ParkDailyBatch와 같은 순서: 한 트랜잭션에서 TRUNCATE 후 저장, 커밋 뒤 완료 이벤트 발행
+        List<Park> newParks = new TransactionTemplate(transactionManager).execute(status -> {
+            parkCommandAdapter.truncate();
+            return parkCommandAdapter.saveAllPark(List.of(
+                    Park.builder().name("새 공원 1").build(), Park.builder().name("새 공원 2").build()));
+        });
+        assertThat(cache.contains(Park.class, oldParkId)).isFalse();
+        assertThat(cache.contains(Library.class, libraryId)).isTrue();
+
+        eventPublisher.publishEvent(new PoiDataRefreshedEvent(PoiType.PARKS));
+
+        assertThat(newParks).allSatisfy(park -> assertThat(cache.contains(Park.class, park.getId())).isFalse());
+        assertThat(cache.contains(Library.class, libraryId)).isTrue();
+
+        statistics.clear();
+        assertThat(parkRepository.findById(newParks.get(0).getId())).isPresent();
+        assertThat(regionStatistics(HibernateCacheConfig.Regions.PARK).getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("완료 이벤트만으로도 리전의 모든 엔티티를 비움")
+    void refreshEvent_EvictsRegionExplicitly() {
+        Long restaurantId = restaurantRepository.save(Restaurant.builder().name("맛집").build()).getId();
+        Long coolingCenterId = coolingCenterRepository.save(CoolingCenter.builder().name("쉼터").build()).getId();
+        restaurantRepository.findById(restaurantId);
+        coolingCenterRepository.findById(coolingCenterId);
+
+        eventPublisher.publishEvent(new PoiDataRefreshedEvent(PoiType.RESTAURANTS));
+
+        assertThat(cache.contains(Restaurant.class, restaurantId)).isFalse();
+        assertThat(cache.contains(CoolingCenter.class, coolingCenterId)).isTrue();
+    }
+
+    private <T> void assertMissThenHit(String region, JpaRepository<T, Long> repository, Long id) {
+        assertThat(repository.findById(id)).isPresent();
+        assertThat(regionStatistics(region).getMissCount()).as(region + " miss").isEqualTo(1);
+        assertThat(regionStatistics(region).getPutCount()).as(region + " put").isEqualTo(1);
+        assertThat(regionStatistics(region).getHitCount()).as(region + " first hit").isZero();
+
+        assertThat(repository.findById(id)).isPresent();
+        assertThat(regionStatistics(region).getHitCount()).as(region + " hit").isEqualTo(1);
+        assertThat(regionStatistics(region).getMissCount()).as(region + " miss after hit").isEqualTo(1);
+    }
+
+    private CacheRegionStatistics regionStatistics(String region) {
+        return statistics.getDomainDataRegionStatistics(region);
+    }
+}
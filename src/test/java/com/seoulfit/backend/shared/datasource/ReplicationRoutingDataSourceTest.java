@@ -0,0 +1,216 @@
+package com.seoulfit.backend.shared.datasource;
+
+import com.seoulfit.backend.location.domain.PoiDataRefreshedEvent;
+import com.seoulfit.backend.location.domain.PoiType;
+import com.seoulfit.backend.notification.adapter.out.persistence.NotificationHistoryPersistenceAdapter;
+import com.seoulfit.backend.notification.adapter.out.persistence.NotificationUnreadCounterPersistenceAdapter;
+import com.seoulfit.backend.notification.application.service.NotificationUnreadCounterService;
+import com.seoulfit.backend.shared.config.DataSourceRoutingConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복제본 라우팅 데이터소스 테스트 (H2 두 개)
+ *
+ * primary와 replica H2 인메모리 DB에 서로 다른 표식 행을 넣고,
+ * JPA 트랜잭션의 읽기 전용 여부에 따라 어느 DB에서 읽는지와 지연/장애 시 primary로 돌아가는지 검증합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=" + ReplicationRoutingDataSourceTest.PRIMARY_URL,
+        "seoulfit.datasource.replica.enabled=true",
+        "seoulfit.datasource.replica.url=" + ReplicationRoutingDataSourceTest.REPLICA_URL,
+        "seoulfit.datasource.replica.username=sa",
+        "seoulfit.datasource.replica.password=",
+        "seoulfit.datasource.replica.lag-query=SELECT lag_millis FROM replica_lag",
+        "seoulfit.datasource.replica.primary-hold-after-refresh=300ms"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DataSourceRoutingConfig.class, NotificationHistoryPersistenceAdapter.class,
+        NotificationUnreadCounterPersistenceAdapter.class, NotificationUnreadCounterService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("복제본 라우팅 데이터소스 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final String MARKER_QUERY = "SELECT name FROM routing_marker";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private NotificationUnreadCounterService unreadCounterService;
+
+    // 복제본 풀은 읽기 전용이므로 준비 작업은 별도 커넥션으로 실행
+    private final JdbcTemplate replicaSetup = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate primarySetup = new JdbcTemplate(primaryDataSource);
+        primarySetup.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        primarySetup.update("DELETE FROM routing_marker");
+        primarySetup.update("INSERT INTO routing_marker VALUES ('primary')");
+
+        replicaSetup.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        replicaSetup.update("DELETE FROM routing_marker");
+        replicaSetup.update("INSERT INTO routing_marker VALUES ('replica')");
+        replicaSetup.execute("CREATE TABLE IF NOT EXISTS replica_lag (lag_millis BIGINT)");
+        replicaSetup.update("DELETE FROM replica_lag");
+        replicaSetup.update("INSERT INTO replica_lag VALUES (0)");
+
+        replicaLagMonitor.checkLag();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션과 트랜잭션 밖은 primary에서 읽음")
+    void routesByReadOnlyFlag() {
+        assertThat(readMarker(true)).isEqualTo("replica");
+        assertThat(readMarker(false)).isEqualTo("primary");
+        assertThat(new JdbcTemplate(dataSource).queryForObject(MARKER_QUERY, String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안의 읽기 전용 호출은 바깥 트랜잭션의 primary 커넥션을 사용")
+    void readOnlyInsideWriteTransaction_StaysOnPrimary() {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+
+        String marker = outer.execute(status -> readMarker(true));
+
+        assertThat(marker).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘거나 지연 조회에 실패하면 primary로 전환하고, 회복되면 복제본으로 복귀")
+    void lagBeyondThreshold_FallsBackToPrimary() {
+        replicaSetup.update("UPDATE replica_lag SET lag_millis = 60000");
+        replicaLagMonitor.checkLag();
+        assertThat(readMarker(true)).isEqualTo("primary");
+
+        replicaSetup.update("UPDATE replica_lag SET lag_millis = 100");
+        replicaLagMonitor.checkLag();
+        assertThat(readMarker(true)).isEqualTo("replica");
+
+        replicaSetup.execute("DROP TABLE replica_lag");
+        replicaLagMonitor.checkLag();
+        assertThat(readMarker(true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 NULL이거나 조회 결과가 없으면 복제본을 쓰지 않음")
+    void unknownLag_FallsBackToPrimary() {
+        replicaSetup.update("UPDATE replica_lag SET lag_millis = NULL");
+        replicaLagMonitor.checkLag();
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(readMarker(true)).isEqualTo("primary");
+
+        replicaSetup.update("DELETE FROM replica_lag");
+        replicaLagMonitor.checkLag();
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(readMarker(true)).isEqualTo("primary");
+
+        replicaSetup.update("INSERT INTO replica_lag VALUES (0)");
+        replicaLagMonitor.checkLag();
+        assertThat(readMarker(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("시설 배치 커밋 직후에는 읽기 전용 트랜잭션도 잠시 primary에서 읽음")
+    void poiRefresh_HoldsPrimaryBriefly() throws InterruptedException {
+        eventPublisher.publishEvent(new PoiDataRefreshedEvent(PoiType.PARKS));
+        assertThat(readMarker(true)).isEqualTo("primary");
+
+        Thread.sleep(400);
+        assertThat(readMarker(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제본 커넥션을 얻지 못하면 primary 커넥션으로 대신하고 복제본 사용을 멈춤")
+    void replicaConnectionFailure_FallsBackToPrimary() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(new DriverManagerDataSource(REPLICA_URL, "sa", ""),
+                "SELECT lag_millis FROM replica_lag", Duration.ofSeconds(5), Duration.ZERO);
+        monitor.checkLag();
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+
+        DataSource unreachableReplica = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable", "sa", "");
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primaryDataSource, unreachableReplica, monitor));
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        readOnly.setReadOnly(true);
+
+        String marker = readOnly.execute(status ->
+                new JdbcTemplate(routing).queryForObject(MARKER_QUERY, String.class));
+
+        assertThat(marker).isEqualTo("primary");
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션에서 부른 읽지 않은 알림 개수 캐시 적재는 primary에서 읽음")
+    void unreadCountReload_ReadsPrimary() {
+        // given: 복제본은 읽음 처리 전 값(5)에 머물러 있고 primary는 이미 3으로 감소
+        new JdbcTemplate(primaryDataSource).update("DELETE FROM notification_unread_counters");
+        new JdbcTemplate(primaryDataSource).update(
+                "INSERT INTO notification_unread_counters (user_id, unread_count, updated_at) VALUES (1, 3, CURRENT_TIMESTAMP)");
+        replicaSetup.execute("CREATE TABLE IF NOT EXISTS notification_unread_counters " +
+                "(user_id BIGINT PRIMARY KEY, unread_count BIGINT NOT NULL, updated_at TIMESTAMP NOT NULL)");
+        replicaSetup.update("DELETE FROM notification_unread_counters");
+        replicaSetup.update(
+                "INSERT INTO notification_unread_counters (user_id, unread_count, updated_at) VALUES (1, 5, CURRENT_TIMESTAMP)");
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // when
+        Long count = readOnly.execute(status -> unreadCounterService.getUnreadCount(1L));
+
+        // then
+        assertThat(count).isEqualTo(3L);
+    }
+
+    private String readMarker(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status ->
+                (String) entityManager.createNativeQuery(MARKER_QUERY).getSingleResult());
+    }
+}
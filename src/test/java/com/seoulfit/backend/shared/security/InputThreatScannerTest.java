@@ -0,0 +1,138 @@
+package com.seoulfit.backend.shared.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InputThreatScanner 단위 테스트
+ *
+ * 기존 InputSanitizer의 정규식과 판정 결과가 같은지 검증합니다.
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+class InputThreatScannerTest {
+
+    // 단일 패스 스캐너 도입 이전 InputSanitizer의 정규식
+    private static final Pattern LEGACY_SQL_PATTERN = Pattern.compile(
+        "('.+--)|(--)|(\\|\\|)|(;)|(\\*)|(<>)|(!=)|" +
+        "(\\b(OR|AND)\\b\\s+['\"]?[^\\s=]+['\"]?\\s*=\\s*['\"]?[^\\s]+)|" +
+        "(\\b(ALTER|CREATE|DELETE|DROP|EXEC(UTE)?|INSERT( +INTO)?|MERGE|SELECT|UPDATE|UNION( +ALL)?)\\b)",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    private static final Pattern LEGACY_XSS_PATTERN = Pattern.compile(
+        "(<script[^>]*>.*?</script>)|" +
+        "(<iframe[^>]*>.*?</iframe>)|" +
+        "(javascript:)|" +
+        "(on\\w+\\s*=)|" +
+        "(<[^>]+style\\s*=\\s*['\"].*?expression\\s*\\([^>]*>)|" +
+        "(<[^>]+style\\s*=\\s*['\"].*?javascript\\s*:[^>]*>)",
+        Pattern.CASE_INSENSITIVE | Pattern.DOTALL
+    );
+
+    private static final Pattern LEGACY_PATH_TRAVERSAL_PATTERN = Pattern.compile(
+        "(\\.\\./)|(\\.\\\\)|(%2e%2e)|(%252e%252e)"
+    );
+
+    private static final List<String> SAMPLES = List.of(
+        "강남역 맛집", "서울특별시 중구 세종대로 110", "마포구 망원동 423-1", "한강공원 자전거",
+        "1' OR '1'='1", "admin' --", "x' or 1 = 1", "a AND b=c", "or =1", "OR  '' = ''", "and x =",
+        "SELECT * FROM users", "drop table users", "DROPS", "execute", "EXECUTED", "insert  into t",
+        "union all select", "a;b", "a<>b", "a!=b", "a||b", "a-b--c",
+        "<script>alert(1)</script>", "<SCRIPT src=x>1</ScRiPt>", "<script</script>", "<script>no close",
+        "<iframe src='evil.com'></iframe>", "javascript:alert(1)", "JavaScript :x",
+        "<img onerror=alert(1)>", "onload =x", "location=seoul", "on=1", "button =", "oN_x\t=1",
+        "<div style=\"width:expression(alert(1))\">", "<p style = 'x' >expression ( >",
+        "<a style='color' href=javascript :x>", "<style='expression(>", "< style='javascript:x'>",
+        "<a>style='expression(x)'>", "<a style=expression(x)>",
+        "../../etc/passwd", "..\\..\\windows\\system32", "%2e%2e/config", "%2E%2E/config",
+        "%252e%252e/x", "file.\\name", "./current", "a..b"
+    );
+
+    @Test
+    @DisplayName("대표 입력값에 대해 기존 정규식과 같은 판정")
+    void scan_MatchesLegacyPatterns_OnSamples() {
+        for (String sample : SAMPLES) {
+            assertParity(sample);
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 입력값에 대해 기존 정규식과 같은 판정")
+    void scan_MatchesLegacyPatterns_OnRandomInput() {
+        // 판정에 영향을 주는 문자와 토큰 위주로 조합
+        String[] tokens = {
+            " ", "\t", "\n", "'", "\"", "=", "<", ">", "/", "\\", ".", "-", "|", "!", ";", "*", "(", ":",
+            "%2e", "%25", "2e", "a", "Z", "_", "1", "on", "On", "x", "or", "AND", "select", "Exec", "ute",
+            "script", "iframe", "style", "expression", "javascript"
+        };
+        Random random = new Random(20241019L);
+
+        List<String> inputs = new ArrayList<>();
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder input = new StringBuilder();
+            int parts = 1 + random.nextInt(12);
+            for (int p = 0; p < parts; p++) {
+                input.append(tokens[random.nextInt(tokens.length)]);
+            }
+            inputs.add(input.toString());
+        }
+
+        for (String input : inputs) {
+            assertParity(input);
+        }
+    }
+
+    @Test
+    @DisplayName("요청한 위협 유형만 결과에 포함")
+    void scan_OnlyRequestedCategories() {
+        String input = "<script>x</script> ../ DROP TABLE";
+
+        assertThat(InputThreatScanner.scan(input, InputThreatScanner.ALL)).isEqualTo(InputThreatScanner.ALL);
+        assertThat(InputThreatScanner.scan(input, InputThreatScanner.XSS)).isEqualTo(InputThreatScanner.XSS);
+        assertThat(InputThreatScanner.scan(null, InputThreatScanner.ALL)).isZero();
+        assertThat(InputThreatScanner.scan("", InputThreatScanner.ALL)).isZero();
+    }
+
+    @Test
+    @DisplayName("HTML 태그 제거와 파일명 살균 결과 유지")
+    void sanitizers_KeepLegacyResults() {
+        InputSanitizer sanitizer = new InputSanitizer();
+        String[] htmlInputs = {"<b>굵게</b> 텍스트", "a < b", "<a href='x'>링크", "태그 없음", "<<x>>"};
+        for (String html : htmlInputs) {
+            assertThat(sanitizer.stripHtmlTags(html)).isEqualTo(html.replaceAll("<[^>]*>", ""));
+        }
+
+        String[] fileNames = {"../../secret.txt", "보고서 2024.pdf", "emoji\uD83D\uDE00.png", "safe-name_1.txt",
+                "a".repeat(300), "한".repeat(300)};
+        for (String fileName : fileNames) {
+            String expected = fileName.replaceAll("[^a-zA-Z0-9._-]", "_").replace("/", "_").replace("\\", "_");
+            if (expected.length() > 255) {
+                expected = expected.substring(0, 255);
+            }
+            assertThat(sanitizer.sanitizeFileName(fileName)).isEqualTo(expected);
+        }
+    }
+
+    private void assertParity(String input) {
+        int threats = InputThreatScanner.scan(input, InputThreatScanner.ALL);
+
+        assertThat((threats & InputThreatScanner.SQL_INJECTION) != 0)
+                .as("SQL: %s", input)
+                .isEqualTo(LEGACY_SQL_PATTERN.matcher(input).find());
+        assertThat((threats & InputThreatScanner.XSS) != 0)
+                .as("XSS: %s", input)
+                .isEqualTo(LEGACY_XSS_PATTERN.matcher(input).find());
+        assertThat((threats & InputThreatScanner.PATH_TRAVERSAL) != 0)
+                .as("Path traversal: %s", input)
+                .isEqualTo(LEGACY_PATH_TRAVERSAL_PATTERN.matcher(input).find());
+    }
+}
@@ -0,0 +1,160 @@
+package com.seoulfit.backend.shared.security.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * AuditLogWriter 단위 테스트
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+class AuditLogWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Integer> writtenBatchSizes;
+    private PreparedStatement preparedStatement;
+    private AuditLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        writtenBatchSizes = new CopyOnWriteArrayList<>();
+        preparedStatement = mock(PreparedStatement.class);
+        // 실제 JdbcTemplate처럼 행마다 바인딩을 실행해 바인딩 오류가 batch 전체를 실패시키는지 드러나게 함
+        doAnswer(invocation -> {
+            Collection<Object> batch = invocation.getArgument(1);
+            ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+            for (Object row : batch) {
+                setter.setValues(preparedStatement, row);
+            }
+            writtenBatchSizes.add(batch.size());
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+
+        writer = new AuditLogWriter(jdbcTemplate, new ObjectMapper(), meterRegistry, 100, 10, 50);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 이벤트를 버리고 집계")
+    void enqueue_Overflow_CountsDropped() {
+        // writer 스레드를 시작하지 않은 상태에서 용량 초과
+        for (int i = 0; i < 130; i++) {
+            writer.enqueue(loginEvent(i));
+        }
+
+        assertThat(writer.getQueueDepth()).isEqualTo(100);
+        assertThat(writer.getDroppedCount()).isEqualTo(30);
+        assertThat(meterRegistry.get("seoulfit.audit.events").tag("outcome", "dropped")
+                .counter().count()).isEqualTo(30.0);
+        assertThat(meterRegistry.get("seoulfit.audit.queue.depth").gauge().value()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("배치 크기 단위로 나눠서 저장")
+    void drain_WritesInBatches() {
+        for (int i = 0; i < 35; i++) {
+            writer.enqueue(loginEvent(i));
+        }
+
+        writer.start();
+
+        verify(jdbcTemplate, timeout(2000).times(4))
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        assertThat(writtenBatchSizes).containsExactly(10, 10, 10, 5);
+        assertThat(writer.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("seoulfit.audit.events").tag("outcome", "written")
+                .counter().count()).isEqualTo(35.0);
+        assertThat(meterRegistry.get("seoulfit.audit.write.latency").timer().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("배치가 차지 않아도 flush 주기마다 저장")
+    void drain_FlushesPartialBatchOnInterval() {
+        writer.start();
+
+        writer.enqueue(loginEvent(1));
+        writer.enqueue(loginEvent(2));
+
+        verify(jdbcTemplate, timeout(2000).times(1))
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        assertThat(writtenBatchSizes).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("결과가 없는 이벤트가 섞여도 batch 전체를 저장하고 결과는 ERROR로 기록")
+    void drain_NullResultInBatch_WritesAllRows() {
+        writer.enqueue(loginEvent(1));
+        writer.enqueue(AuditEvent.builder()
+                .type(AuditEventType.DATA_UPDATE)
+                .username("user2")
+                .action("UPDATE")
+                .build());
+        writer.enqueue(loginEvent(3));
+
+        writer.start();
+
+        verify(jdbcTemplate, timeout(2000).times(1))
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        assertThat(writtenBatchSizes).containsExactly(3);
+        assertThat(meterRegistry.get("seoulfit.audit.events").tag("outcome", "written")
+                .counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("seoulfit.audit.events").tag("outcome", "failed")
+                .counter().count()).isZero();
+        verify(preparedStatement, times(2)).setString(eq(8), eq("SUCCESS"));
+        verify(preparedStatement).setString(eq(8), eq("ERROR"));
+    }
+
+    @Test
+    @DisplayName("이벤트 유형이 없는 이벤트는 버퍼에 넣지 않음")
+    void enqueue_NullType_Rejected() {
+        boolean accepted = writer.enqueue(AuditEvent.builder().result(AuditResult.SUCCESS).build());
+
+        assertThat(accepted).isFalse();
+        assertThat(writer.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("seoulfit.audit.events").tag("outcome", "failed")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    private AuditEvent loginEvent(int i) {
+        return AuditEvent.builder()
+                .type(AuditEventType.LOGIN_SUCCESS)
+                .username("user" + i)
+                .ipAddress("127.0.0.1")
+                .action("LOGIN")
+                .result(AuditResult.SUCCESS)
+                .metadata(Map.of("seq", i))
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.seoulfit.backend.shared.security.encryption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DataEncryptionService 단위 테스트
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+class DataEncryptionServiceTest {
+
+    private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private DataEncryptionService encryptionService;
+
+    @BeforeEach
+    void setUp() {
+        encryptionService = new DataEncryptionService(KEY);
+    }
+
+    @Test
+    @DisplayName("일괄 암호화/복호화 - 순서와 null 유지")
+    void encryptAll_DecryptAll_RoundTrip() {
+        // given
+        List<String> plaintexts = Arrays.asList("010-1234-5678", null, "서울특별시 중구 세종대로 110", "");
+
+        // when
+        List<String> encrypted = encryptionService.encryptAll(plaintexts);
+        List<String> decrypted = encryptionService.decryptAll(encrypted);
+
+        // then
+        assertThat(encrypted).hasSize(4);
+        assertThat(encrypted.get(1)).isNull();
+        assertThat(decrypted).containsExactlyElementsOf(plaintexts);
+    }
+
+    @Test
+    @DisplayName("단건 API와 일괄 API는 서로 호환")
+    void singleAndBulk_AreCompatible() {
+        String encrypted = encryptionService.encrypt("user@seoulfit.com");
+
+        assertThat(encryptionService.decryptAll(List.of(encrypted))).containsExactly("user@seoulfit.com");
+        assertThat(encryptionService.decrypt(encryptionService.encryptAll(List.of("abc")).get(0))).isEqualTo("abc");
+    }
+
+    @Test
+    @DisplayName("같은 키로 생성한 인스턴스끼리 복호화 가능")
+    void sameKey_DifferentInstances() {
+        String encrypted = encryptionService.encrypt("민감정보");
+
+        assertThat(new DataEncryptionService(KEY).decrypt(encrypted)).isEqualTo("민감정보");
+    }
+
+    @Test
+    @DisplayName("변조된 암호문은 복호화 실패")
+    void decrypt_Tampered_Fails() {
+        byte[] message = Base64.getDecoder().decode(encryptionService.encrypt("민감정보"));
+        message[message.length - 1] ^= 0x01;
+        String tampered = Base64.getEncoder().encodeToString(message);
+
+        assertThatThrownBy(() -> encryptionService.decrypt(tampered))
+                .isInstanceOf(DataEncryptionService.EncryptionException.class);
+        // 실패 이후에도 스레드 로컬 Cipher가 정상 동작
+        assertThat(encryptionService.decrypt(encryptionService.encrypt("ok"))).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 사용")
+    void concurrentUse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                tasks.add(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        String plaintext = "value-" + seed + "-" + i;
+                        if (!plaintext.equals(encryptionService.decrypt(encryptionService.encrypt(plaintext)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
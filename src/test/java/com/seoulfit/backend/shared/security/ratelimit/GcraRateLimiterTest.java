@@ -0,0 +1,134 @@
+package com.seoulfit.backend.shared.security.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GcraRateLimiter 단위 테스트
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+class GcraRateLimiterTest {
+
+    private static final RateLimitPolicy AUTH = new RateLimitPolicy("auth", 10, 10);
+
+    private AtomicLong now;
+    private SimpleMeterRegistry meterRegistry;
+    private GcraRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_700_000_000_000L);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new GcraRateLimiter(
+                new LocalRateLimitStateStore(1000, Duration.ofMinutes(10)), meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용 후 거부")
+    void tryAcquire_BurstUpToCapacity() {
+        for (int i = 0; i < 10; i++) {
+            RateLimitDecision decision = rateLimiter.tryAcquire("k", AUTH);
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(9 - i);
+        }
+
+        RateLimitDecision rejected = rateLimiter.tryAcquire("k", AUTH);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMillis()).isEqualTo(6_000L);
+    }
+
+    @Test
+    @DisplayName("시간 경과에 비례해 토큰 충전")
+    void tryAcquire_RefillsContinuously() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("k", AUTH);
+        }
+        assertThat(rateLimiter.tryAcquire("k", AUTH).allowed()).isFalse();
+
+        // 6초 후 토큰 1개 충전
+        now.addAndGet(6_000L);
+        assertThat(rateLimiter.tryAcquire("k", AUTH).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("k", AUTH).allowed()).isFalse();
+
+        // 1분 후 버킷이 다시 가득 참
+        now.addAndGet(60_000L);
+        assertThat(rateLimiter.tryAcquire("k", AUTH).remaining()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("버킷은 키별로 독립")
+    void tryAcquire_KeysAreIndependent() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("a", AUTH);
+        }
+
+        assertThat(rateLimiter.tryAcquire("a", AUTH).allowed()).isFalse();
+        assertThat(rateLimiter.tryAcquire("b", AUTH).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 버킷 크기를 넘지 않음")
+    void tryAcquire_Concurrent_NeverExceedsCapacity() throws InterruptedException {
+        RateLimitPolicy policy = new RateLimitPolicy("standard", 100, 1);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 50; i++) {
+                    if (rateLimiter.tryAcquire("shared", policy).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("정책별 허용/거부 카운터 기록")
+    void tryAcquire_RecordsMetrics() {
+        for (int i = 0; i < 12; i++) {
+            rateLimiter.tryAcquire("k", AUTH);
+        }
+
+        assertThat(meterRegistry.get("seoulfit.ratelimit.requests")
+                .tags("policy", "auth", "result", "allowed").counter().count()).isEqualTo(10.0);
+        assertThat(meterRegistry.get("seoulfit.ratelimit.requests")
+                .tags("policy", "auth", "result", "rejected").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("seoulfit.ratelimit.buckets").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("식별자 세그먼트는 라우트 템플릿으로 정규화")
+    void routeNormalizer_CollapsesIdentifiers() {
+        assertThat(RouteNormalizer.normalize("/api/users/123")).isEqualTo("/api/users/{id}");
+        assertThat(RouteNormalizer.normalize("/api/users/123/interests")).isEqualTo("/api/users/{id}/interests");
+        assertThat(RouteNormalizer.normalize("/api/events/3f2b8c1e-9a4d-4e6f-8b1a-2c3d4e5f6a7b"))
+                .isEqualTo("/api/events/{id}");
+        assertThat(RouteNormalizer.normalize("/api/parks/all")).isEqualTo("/api/parks/all");
+        assertThat(RouteNormalizer.normalize("/api/v1/cafe")).isEqualTo("/api/v1/cafe");
+    }
+}
@@ -0,0 +1,206 @@
+package com.seoulfit.backend.shared.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JsonArrayStreamWriter 테스트
+ *
+ * 출력 결과가 올바른 JSON 배열인지, 그리고 힙을 제한한 별도 JVM에서 힙보다 큰 20만 행을 내보낼 수 있는지 검증합니다.
+ */
+@DisplayName("JsonArrayStreamWriter 테스트")
+class JsonArrayStreamWriterTest {
+
+    private static final int ROW_COUNT = 200_000;
+    private static final String MAX_HEAP = "-Xmx32m";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("행을 순서대로 JSON 배열로 출력")
+    void write_ProducesJsonArray() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (JsonArrayStreamWriter writer = JsonArrayStreamWriter.open(objectMapper, output)) {
+            for (int i = 0; i < 3; i++) {
+                writer.write(Row.of(i));
+            }
+            assertThat(writer.count()).isEqualTo(3);
+            writer.finish();
+        }
+
+        JsonNode array = objectMapper.readTree(output.toByteArray());
+        assertThat(array.isArray()).isTrue();
+        assertThat(array).hasSize(3);
+        assertThat(array.get(2).get("id").asLong()).isEqualTo(2);
+        assertThat(array.get(2).get("name").asText()).isEqualTo("시설 2");
+    }
+
+    @Test
+    @DisplayName("행이 없으면 빈 배열 출력")
+    void write_Empty() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (JsonArrayStreamWriter writer = JsonArrayStreamWriter.open(objectMapper, output)) {
+            writer.finish();
+        }
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("모든 행을 받기 전에 출력 스트림으로 내보냄")
+    void write_FlushesProgressively() throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+        long writtenBeforeClose;
+
+        try (JsonArrayStreamWriter writer = JsonArrayStreamWriter.open(objectMapper, output)) {
+            for (int i = 0; i < 10_000; i++) {
+                writer.write(Row.of(i));
+            }
+            writtenBeforeClose = output.count;
+            writer.finish();
+        }
+
+        // 닫기 전에 이미 거의 모든 바이트가 출력 스트림에 전달되어 있어야 함
+        assertThat(output.count - writtenBeforeClose).isLessThan(output.count / 20);
+    }
+
+    @Test
+    @DisplayName("행 공급 중 실패하면 배열을 닫지 않아 잘린 응답이 완전한 배열로 파싱되지 않음")
+    void write_SupplierFailure_LeavesArrayOpen() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> {
+            try (JsonArrayStreamWriter writer = JsonArrayStreamWriter.open(objectMapper, output)) {
+                for (int i = 0; i < 1_000; i++) {
+                    if (i == 700) {
+                        throw new IllegalStateException("DB 스트림 실패");
+                    }
+                    writer.write(Row.of(i));
+                }
+                writer.finish();
+            }
+        }).isInstanceOf(IllegalStateException.class).hasMessage("DB 스트림 실패");
+
+        String body = output.toString(StandardCharsets.UTF_8);
+        assertThat(body).startsWith("[").doesNotEndWith("]");
+        assertThatThrownBy(() -> objectMapper.readTree(body)).isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    @DisplayName("행 직렬화 중 실패하면 원래 예외를 그대로 전달하고 배열을 닫지 않음")
+    void write_SerializationFailure_KeepsOriginalException() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> {
+            try (JsonArrayStreamWriter writer = JsonArrayStreamWriter.open(objectMapper, output)) {
+                writer.write(Row.of(0));
+                writer.write(new FailingRow(1));
+                writer.finish();
+            }
+        }).isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("직렬화 실패");
+
+        assertThatThrownBy(() -> objectMapper.readTree(output.toString(StandardCharsets.UTF_8)))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    @DisplayName("힙 32MB JVM에서 출력 크기가 힙보다 큰 20만 행 스트리밍")
+    void write_ConstantMemoryUnderCappedHeap() throws Exception {
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(
+                java.toString(), MAX_HEAP,
+                "-cp", System.getProperty("java.class.path"),
+                StreamingMain.class.getName(), String.valueOf(ROW_COUNT))
+                .redirectErrorStream(true)
+                .start();
+
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        assertThat(process.waitFor(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(process.exitValue()).as(output).isZero();
+        String[] result = output.split(" ");
+        assertThat(Long.parseLong(result[0])).isEqualTo(ROW_COUNT);
+        assertThat(Long.parseLong(result[1])).isGreaterThan(32L * 1024 * 1024);
+    }
+
+    /**
+     * 힙을 제한한 JVM에서 실행하는 스트리밍 작업 (출력: 행 수, 바이트 수)
+     */
+    public static class StreamingMain {
+
+        public static void main(String[] args) throws IOException {
+            int rows = Integer.parseInt(args[0]);
+            CountingOutputStream output = new CountingOutputStream();
+            long count;
+            try (JsonArrayStreamWriter writer = JsonArrayStreamWriter.open(new ObjectMapper(), output)) {
+                for (int i = 0; i < rows; i++) {
+                    writer.write(Row.of(i));
+                }
+                count = writer.count();
+                writer.finish();
+            }
+            System.out.println(count + " " + output.count);
+        }
+    }
+
+    record Row(long id, String name, String address, String operatingHours, String homepage,
+               double latitude, double longitude) {
+
+        static Row of(int i) {
+            return new Row(i, "시설 " + i, "서울특별시 중구 세종대로 " + i + "길 " + (i % 100) + " 시민편의시설동 1층",
+                    "평일 09:00~18:00, 토요일 09:00~13:00, 일요일 및 공휴일 휴관",
+                    "https://www.seoul.go.kr/facilities/" + i,
+                    37.4 + (i % 3000) * 0.0001, 126.8 + (i % 4000) * 0.0001);
+        }
+    }
+
+    static final class FailingRow {
+
+        private final long id;
+
+        FailingRow(long id) {
+            this.id = id;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            throw new IllegalStateException("직렬화 실패");
+        }
+    }
+
+    static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
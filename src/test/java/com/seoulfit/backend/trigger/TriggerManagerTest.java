@@ -8,6 +8,7 @@ import com.seoulfit.backend.trigger.strategy.TriggerStrategy;
 import com.seoulfit.backend.user.domain.AuthProvider;
 import com.seoulfit.backend.user.domain.InterestCategory;
 import com.seoulfit.backend.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,7 @@ class TriggerManagerTest {
     @Mock
     private TriggerStrategy mockStrategy;
 
+    private SimpleMeterRegistry meterRegistry;
     private TriggerManager triggerManager;
     private User testUser;
     private TriggerContext testContext;
@@ -42,7 +44,8 @@ class TriggerManagerTest {
     @BeforeEach
     void setUp() {
         List<TriggerStrategy> strategies = List.of(mockStrategy);
-        triggerManager = new TriggerManager(strategies);
+        meterRegistry = new SimpleMeterRegistry();
+        triggerManager = new TriggerManager(strategies, meterRegistry);
         
         // 테스트용 사용자 생성
         testUser = User.createOAuthUser(
@@ -162,4 +165,31 @@ class TriggerManagerTest {
         // then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("전략별 평가 결과와 소요 시간을 메트릭으로 기록")
+    void evaluateAll_RecordsStrategyMetrics() {
+        // given
+        when(mockStrategy.getSupportedTriggerType()).thenReturn("TEMPERATURE");
+        when(mockStrategy.isEnabled()).thenReturn(true);
+        when(mockStrategy.evaluate(testContext))
+            .thenReturn(TriggerResult.notTriggered())
+            .thenReturn(TriggerResult.builder().triggered(true).build())
+            .thenThrow(new IllegalStateException("boom"));
+
+        // when
+        triggerManager.evaluateAll(testContext);
+        triggerManager.evaluateAll(testContext);
+        triggerManager.evaluateAll(testContext);
+
+        // then
+        assertThat(meterRegistry.get("seoulfit.trigger.strategy.evaluations")
+            .tags("strategy", "TEMPERATURE", "outcome", "triggered").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("seoulfit.trigger.strategy.evaluations")
+            .tags("strategy", "TEMPERATURE", "outcome", "not_triggered").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("seoulfit.trigger.strategy.evaluations")
+            .tags("strategy", "TEMPERATURE", "outcome", "error").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("seoulfit.trigger.strategy.latency")
+            .tag("strategy", "TEMPERATURE").timer().count()).isEqualTo(3);
+    }
 }
@@ -0,0 +1,218 @@
+package com.seoulfit.backend.trigger.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoulfit.backend.location.domain.CityHotspot;
+import com.seoulfit.backend.location.infrastructure.CityHotspotRegistry;
+import com.seoulfit.backend.publicdata.PublicDataApiClient;
+import com.seoulfit.backend.trigger.domain.AreaCongestion;
+import com.seoulfit.backend.trigger.infrastructure.CongestionIndex;
+import com.seoulfit.backend.trigger.utils.TriggerUtils;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CityDataFetcher 테스트
+ *
+ * 로컬 스텁 서버가 115개 장소의 실시간 도시데이터 응답을 내려주고,
+ * 수집기가 동시 요청 수 제한을 지키며 전체 장소를 모아 혼잡도 인덱스를 만드는지,
+ * 스텁이 응답을 멈추면 제한 시간 뒤 이전 인덱스를 유지하는지 검증합니다.
+ */
+@DisplayName("CityDataFetcher 테스트")
+class CityDataFetcherTest {
+
+    private static final int CONCURRENCY = 4;
+    private static final String FAILING_AREA = "서울숲공원";
+    private static final List<String> LEVELS = List.of("여유", "보통", "약간 붐빔", "붐빔");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicBoolean stalled = new AtomicBoolean();
+
+    private MockWebServer server;
+    private PublicDataApiClient client;
+    private CityHotspotRegistry registry;
+    private Map<String, String> payloads;
+    private Map<String, String> levels;
+    private CityDataFetcher fetcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = new CityHotspotRegistry(new DefaultResourceLoader(), "classpath:geo/seoul_citydata_hotspots.csv");
+        payloads = new HashMap<>();
+        levels = new HashMap<>();
+        List<CityHotspot> hotspots = registry.getHotspots();
+        for (int i = 0; i < hotspots.size(); i++) {
+            String areaName = hotspots.get(i).areaName();
+            levels.put(areaName, LEVELS.get(i % LEVELS.size()));
+            payloads.put(areaName, cityDataPayload(areaName, levels.get(areaName)));
+        }
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (stalled.get()) {
+                    // 클라이언트 타임아웃(5초)보다 짧고 수집 제한 시간보다 긴 지연
+                    return new MockResponse().setHeadersDelay(4, TimeUnit.SECONDS).setBody("{}");
+                }
+                requestCount.incrementAndGet();
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                    List<String> segments = request.getRequestUrl().pathSegments();
+                    String areaName = segments.get(segments.size() - 1);
+                    String payload = payloads.get(areaName);
+                    if (payload == null || FAILING_AREA.equals(areaName)) {
+                        return new MockResponse().setResponseCode(500);
+                    }
+                    return new MockResponse()
+                            .setHeader("Content-Type", "application/json")
+                            .setBody(payload);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        });
+        server.start();
+
+        client = new PublicDataApiClient(WebClient.create(), objectMapper);
+        String baseUrl = server.url("/").toString();
+        ReflectionTestUtils.setField(client, "baseUrl", baseUrl.substring(0, baseUrl.length() - 1));
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "timeoutSeconds", 5);
+        ReflectionTestUtils.setField(client, "retryAttempts", 0);
+
+        fetcher = new CityDataFetcher(client, registry, CONCURRENCY, 60);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("장소 목록은 115곳이며 이름이 겹치지 않음")
+    void registry_Has115UniqueHotspots() {
+        List<CityHotspot> hotspots = registry.getHotspots();
+
+        assertThat(hotspots).hasSize(115);
+        assertThat(hotspots.stream().map(CityHotspot::areaName).distinct()).hasSize(115);
+        assertThat(hotspots).allSatisfy(hotspot -> {
+            assertThat(hotspot.latitude()).isBetween(37.41, 37.72);
+            assertThat(hotspot.longitude()).isBetween(126.76, 127.19);
+        });
+    }
+
+    @Test
+    @DisplayName("전체 장소를 동시 요청 수 제한 안에서 수집하고 실패한 장소만 제외")
+    void refresh_FetchesAllHotspotsWithBoundedParallelism() {
+        CongestionIndex index = fetcher.refresh();
+
+        assertThat(requestCount.get()).isEqualTo(115);
+        assertThat(maxInFlight.get()).isBetween(2, CONCURRENCY);
+        assertThat(index.size()).isEqualTo(114);
+        assertThat(fetcher.getCongestionIndex()).isSameAs(index);
+        assertThat(index.getCongestions())
+                .extracting(congestion -> congestion.hotspot().areaName())
+                .doesNotContain(FAILING_AREA);
+        assertThat(index.getCongestions()).allSatisfy(congestion ->
+                assertThat(congestion.congestionLevel()).isEqualTo(levels.get(congestion.hotspot().areaName())));
+    }
+
+    @Test
+    @DisplayName("전체 조회가 제한 시간을 넘기면 예외 없이 이전 혼잡도 인덱스를 유지")
+    void refresh_Timeout_KeepsPreviousIndex() {
+        CityDataFetcher slowFetcher = new CityDataFetcher(client, registry, 32, 1);
+        CongestionIndex previous = slowFetcher.refresh();
+        assertThat(previous.size()).isEqualTo(114);
+
+        stalled.set(true);
+        long startedAt = System.nanoTime();
+        CongestionIndex index = slowFetcher.refresh();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(index).isSameAs(previous);
+        assertThat(slowFetcher.getCongestionIndex()).isSameAs(previous);
+        assertThat(elapsedMillis).isLessThan(3_000);
+    }
+
+    @Test
+    @DisplayName("반경 조회 결과가 전체 장소를 직접 거리 계산한 결과와 같음")
+    void findWithinRadius_MatchesBruteForce() {
+        CongestionIndex index = fetcher.refresh();
+        Random random = new Random(20250820L);
+
+        for (int i = 0; i < 200; i++) {
+            double latitude = 37.43 + random.nextDouble() * 0.26;
+            double longitude = 126.80 + random.nextDouble() * 0.37;
+            double radius = 500 + random.nextDouble() * 2500;
+
+            List<CongestionIndex.Nearby> nearby = index.findWithinRadius(latitude, longitude, radius);
+            Set<String> expected = registry.getHotspots().stream()
+                    .filter(hotspot -> !FAILING_AREA.equals(hotspot.areaName()))
+                    .filter(hotspot -> TriggerUtils.calculateDistance(latitude, longitude,
+                            hotspot.latitude(), hotspot.longitude()) <= radius)
+                    .map(CityHotspot::areaName)
+                    .collect(Collectors.toSet());
+
+            assertThat(nearby).extracting(match -> match.congestion().hotspot().areaName())
+                    .containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(nearby).isSortedAccordingTo((a, b) -> Double.compare(a.distanceMeters(), b.distanceMeters()));
+        }
+    }
+
+    @Test
+    @DisplayName("장소 좌표로 가장 가까운 장소를 조회하면 해당 장소와 응답 원본을 반환")
+    void findNearest_ReturnsHotspotAndCityData() {
+        CongestionIndex index = fetcher.refresh();
+
+        AreaCongestion nearest = index.findNearest(37.570142, 126.976353).orElseThrow();
+
+        assertThat(nearest.hotspot().areaName()).isEqualTo("광화문·덕수궁");
+        assertThat(nearest.cityData()).containsKey("CITYDATA");
+        assertThat(CongestionIndex.empty().findNearest(37.570142, 126.976353)).isEmpty();
+    }
+
+    private String cityDataPayload(String areaName, String level) throws IOException {
+        Map<String, Object> population = new LinkedHashMap<>();
+        population.put("AREA_NM", areaName);
+        population.put("AREA_CONGEST_LVL", level);
+        population.put("AREA_CONGEST_MSG", areaName + " " + level);
+        population.put("AREA_PPLTN_MIN", "10000");
+        population.put("AREA_PPLTN_MAX", "12000");
+
+        Map<String, Object> cityData = new LinkedHashMap<>();
+        cityData.put("AREA_NM", areaName);
+        cityData.put("LIVE_PPLTN_STTS", List.of(population));
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("list_total_count", 1);
+        payload.put("CITYDATA", cityData);
+        return objectMapper.writeValueAsString(payload);
+    }
+}
@@ -0,0 +1,202 @@
+package com.seoulfit.backend.trigger.application.service;
+
+import com.seoulfit.backend.location.domain.AdministrativeRegion;
+import com.seoulfit.backend.location.domain.CityHotspot;
+import com.seoulfit.backend.location.infrastructure.AdministrativeRegionIndex;
+import com.seoulfit.backend.location.infrastructure.CityHotspotRegistry;
+import com.seoulfit.backend.trigger.domain.AreaCongestion;
+import com.seoulfit.backend.trigger.domain.DistrictWeather;
+import com.seoulfit.backend.trigger.infrastructure.CongestionIndex;
+import com.seoulfit.backend.trigger.infrastructure.DistrictWeatherIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * DistrictWeatherAggregator 테스트
+ *
+ * 115개 장소의 날씨 응답을 구 단위로 모은 결과가 장소별로 직접 구를 찾아 묶은 결과와 같은지,
+ * 그리고 실시간 도시데이터의 강수량/예보 표기를 올바르게 읽는지 검증합니다.
+ */
+@DisplayName("DistrictWeatherAggregator 테스트")
+class DistrictWeatherAggregatorTest {
+
+    private AdministrativeRegionIndex regionIndex;
+    private List<CityHotspot> hotspots;
+    private DistrictWeatherAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        DefaultResourceLoader resourceLoader = new DefaultResourceLoader();
+        regionIndex = new AdministrativeRegionIndex(resourceLoader, "classpath:geo/seoul_comprehensive_regions.csv");
+        hotspots = new CityHotspotRegistry(resourceLoader, "classpath:geo/seoul_citydata_hotspots.csv").getHotspots();
+        aggregator = new DistrictWeatherAggregator(regionIndex);
+    }
+
+    @Test
+    @DisplayName("관측 구는 장소 평균 기온과 최대 강수량, 나머지 구는 가까운 구의 값으로 전체 구를 채움")
+    void aggregate_MatchesPerHotspotGrouping() {
+        // given
+        List<AreaCongestion> congestions = new ArrayList<>();
+        Map<String, List<Integer>> hotspotsByDistrict = new HashMap<>();
+        for (int i = 0; i < hotspots.size(); i++) {
+            CityHotspot hotspot = hotspots.get(i);
+            congestions.add(congestion(hotspot, weather(String.valueOf(20 + i % 7), String.valueOf(i % 11), 10 * (i % 9))));
+            int index = i;
+            regionIndex.resolveDistrictCode(hotspot.latitude(), hotspot.longitude())
+                    .ifPresent(code -> hotspotsByDistrict.computeIfAbsent(code, key -> new ArrayList<>()).add(index));
+        }
+
+        // when
+        DistrictWeatherIndex index = aggregator.aggregate(new CongestionIndex(congestions));
+
+        // then
+        Set<String> districtCodes = regionIndex.getRegions().stream()
+                .map(AdministrativeRegion::districtCode)
+                .collect(Collectors.toSet());
+        assertThat(index.size()).isEqualTo(districtCodes.size());
+
+        hotspotsByDistrict.forEach((code, members) -> {
+            DistrictWeather weather = index.find(code).orElseThrow();
+            assertThat(weather.districtCode()).isEqualTo(code);
+            assertThat(weather.sampleCount()).isEqualTo(members.size());
+            assertThat(weather.temperature())
+                    .isCloseTo(members.stream().mapToInt(i -> 20 + i % 7).average().orElseThrow(), within(1e-9));
+            assertThat(weather.hourlyRainfall())
+                    .isEqualTo(members.stream().mapToInt(i -> i % 11).max().orElseThrow());
+            assertThat(weather.rainChance())
+                    .isEqualTo(members.stream().mapToInt(i -> 10 * (i % 9)).max().orElseThrow());
+        });
+        districtCodes.stream()
+                .filter(code -> !hotspotsByDistrict.containsKey(code))
+                .forEach(code -> {
+                    DistrictWeather weather = index.find(code).orElseThrow();
+                    assertThat(weather.districtCode()).isEqualTo(code);
+                    assertThat(weather.sampleCount()).isZero();
+                    assertThat(weather.temperature()).isBetween(20.0, 26.0);
+                });
+
+        DistrictWeather citywide = index.getCitywide().orElseThrow();
+        assertThat(citywide.sampleCount()).isEqualTo(hotspots.size());
+        assertThat(index.find(null)).contains(citywide);
+        assertThat(index.find("99999")).contains(citywide);
+    }
+
+    @Test
+    @DisplayName("강수 없음(-)과 1mm미만은 0, 단위가 붙은 값은 숫자만 읽고 예보는 앞쪽 6시간의 최댓값")
+    void parseWeather_ReadsCityDataNotation() {
+        // given
+        Map<String, Object> weather = new HashMap<>();
+        weather.put("TEMP", "-3.5");
+        weather.put("SENSIBLE_TEMP", "-8.1");
+        weather.put("PRECIPITATION", "-");
+        weather.put("FCST24HOURS", List.of(
+                Map.of("RAIN_CHANCE", "10"), Map.of("RAIN_CHANCE", "30"), Map.of("RAIN_CHANCE", "20"),
+                Map.of("RAIN_CHANCE", "0"), Map.of("RAIN_CHANCE", "60"), Map.of("RAIN_CHANCE", "40"),
+                Map.of("RAIN_CHANCE", "90")));
+
+        // when
+        DistrictWeatherAggregator.WeatherReading dry = DistrictWeatherAggregator.parseWeather(
+                Map.of("CITYDATA", Map.of("WEATHER_STTS", List.of(weather))));
+        weather.put("PRECIPITATION", "1mm미만");
+        DistrictWeatherAggregator.WeatherReading drizzle = DistrictWeatherAggregator.parseWeather(
+                Map.of("WEATHER_STTS", List.of(weather)));
+        weather.put("PRECIPITATION", "12mm");
+        DistrictWeatherAggregator.WeatherReading rain = DistrictWeatherAggregator.parseWeather(
+                Map.of("WEATHER_STTS", List.of(weather)));
+
+        // then
+        assertThat(dry.temperature()).isEqualTo(-3.5);
+        assertThat(dry.sensibleTemperature()).isEqualTo(-8.1);
+        assertThat(dry.hourlyRainfall()).isZero();
+        assertThat(dry.rainChance()).isEqualTo(60);
+        assertThat(drizzle.hourlyRainfall()).isZero();
+        assertThat(rain.hourlyRainfall()).isEqualTo(12.0);
+        assertThat(DistrictWeatherAggregator.parseWeather(Map.of("CITYDATA", Map.of()))).isNull();
+    }
+
+    @Test
+    @DisplayName("WEATHER_STTS에 강수량이 없거나 rainInfo만 있으면 rainInfo의 강수량 사용")
+    void parseWeather_FallsBackToRainInfo() {
+        // given
+        List<Map<String, Object>> rainInfo = List.of(Map.of("RF1H", "25.0", "RF24H", 100.0));
+
+        // when
+        DistrictWeatherAggregator.WeatherReading rainOnly = DistrictWeatherAggregator.parseWeather(
+                Map.of("rainInfo", List.of(Map.of("RAINFALL1H", 31.5, "RAINFALL24H", 120.0))));
+        DistrictWeatherAggregator.WeatherReading noRainKeys = DistrictWeatherAggregator.parseWeather(
+                Map.of("CITYDATA", Map.of("WEATHER_STTS", List.of(Map.of("TEMP", "24.0"))), "rainInfo", rainInfo));
+        DistrictWeatherAggregator.WeatherReading statusFirst = DistrictWeatherAggregator.parseWeather(
+                Map.of("WEATHER_STTS", List.of(Map.of("RAIN_HOUR", "-", "RAIN_DAY", "2.0")), "rainInfo", rainInfo));
+
+        // then
+        assertThat(rainOnly.hourlyRainfall()).isEqualTo(31.5);
+        assertThat(rainOnly.dailyRainfall()).isEqualTo(120.0);
+        assertThat(rainOnly.temperature()).isNull();
+        assertThat(noRainKeys.temperature()).isEqualTo(24.0);
+        assertThat(noRainKeys.hourlyRainfall()).isEqualTo(25.0);
+        assertThat(noRainKeys.dailyRainfall()).isEqualTo(100.0);
+        assertThat(statusFirst.hourlyRainfall()).isZero();
+        assertThat(statusFirst.dailyRainfall()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("rainInfo만 있는 장소의 강수량도 구별 집계에 반영")
+    void aggregate_RainInfoOnly_ReportsRainfall() {
+        // given
+        CityHotspot hotspot = hotspots.get(0);
+        String districtCode = regionIndex.resolveDistrictCode(hotspot.latitude(), hotspot.longitude()).orElseThrow();
+        CongestionIndex congestionIndex = new CongestionIndex(List.of(congestion(hotspot, Map.of(
+                "CITYDATA", Map.of("AREA_NM", hotspot.areaName()),
+                "rainInfo", List.of(Map.of("RAINFALL1H", 35.0, "RAINFALL24H", 90.0))))));
+
+        // when
+        DistrictWeatherIndex index = aggregator.aggregate(congestionIndex);
+
+        // then
+        assertThat(index.find(districtCode)).hasValueSatisfying(weather -> {
+            assertThat(weather.hourlyRainfall()).isEqualTo(35.0);
+            assertThat(weather.dailyRainfall()).isEqualTo(90.0);
+        });
+    }
+
+    @Test
+    @DisplayName("날씨 데이터가 있는 장소가 없으면 빈 인덱스")
+    void aggregate_NoWeather_ReturnsEmpty() {
+        // given
+        CongestionIndex congestionIndex = new CongestionIndex(List.of(
+                congestion(hotspots.get(0), Map.of("CITYDATA", Map.of("AREA_NM", hotspots.get(0).areaName())))));
+
+        // when
+        DistrictWeatherIndex index = aggregator.aggregate(congestionIndex);
+
+        // then
+        assertThat(index.isEmpty()).isTrue();
+        assertThat(index.find("11010")).isEmpty();
+    }
+
+    private Map<String, Object> weather(String temperature, String hourlyRainfall, int rainChance) {
+        Map<String, Object> weather = new HashMap<>();
+        weather.put("TEMP", temperature);
+        weather.put("SENSIBLE_TEMP", temperature);
+        weather.put("RAIN_HOUR", hourlyRainfall);
+        weather.put("RAIN_DAY", "0.0");
+        weather.put("FCST24HOURS", List.of(Map.of("RAIN_CHANCE", String.valueOf(rainChance))));
+        return Map.of("CITYDATA", Map.of("WEATHER_STTS", List.of(weather)));
+    }
+
+    private AreaCongestion congestion(CityHotspot hotspot, Map<String, Object> cityData) {
+        return new AreaCongestion(hotspot, "보통", null, null, null, cityData);
+    }
+}
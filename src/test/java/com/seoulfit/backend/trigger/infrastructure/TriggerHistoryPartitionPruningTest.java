@@ -0,0 +1,226 @@
+package com.seoulfit.backend.trigger.infrastructure;
+
+import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.trigger.domain.TriggerCondition;
+import com.seoulfit.backend.trigger.domain.TriggerHistory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.seoulfit.backend.trigger.infrastructure.TriggerHistoryPartitionMaintenance.HISTORY_TABLE;
+import static com.seoulfit.backend.trigger.infrastructure.TriggerHistoryPartitionMaintenance.METADATA_TABLE;
+import static com.seoulfit.backend.trigger.infrastructure.TriggerHistoryPartitionMaintenance.partitionName;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트리거 히스토리 파티션 프루닝 테스트 (PostgreSQL 16, Testcontainers)
+ *
+ * Flyway 마이그레이션(V4)으로 만든 일 단위 파티션 테이블에 6일치 이력을 넣고,
+ * Hibernate가 실제로 생성한 중복 확인 쿼리를 같은 파라미터로 EXPLAIN 하여
+ * 조회 시작일 이전 파티션이 실행 계획에서 제외되는지 확인합니다.
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.defer-datasource-initialization=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.seoulfit.backend.trigger.infrastructure.TriggerHistoryPartitionPruningTest$RecordingStatementInspector"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TriggerHistoryPartitionMaintenance.class)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("트리거 히스토리 파티션 프루닝 테스트")
+class TriggerHistoryPartitionPruningTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Long USER_ID = 1L;
+    private static final String EVENT_KEY = "cultural_event_id";
+
+    @Autowired
+    private TriggerHistoryRepository triggerHistoryRepository;
+
+    @Autowired
+    private TriggerHistoryPartitionMaintenance partitionMaintenance;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        partitionMaintenance.maintain(today);
+        for (int day = 1; day <= 6; day++) {
+            triggerHistoryRepository.save(history(today.plusDays(day).atTime(12, 0), "E-" + day));
+        }
+        triggerHistoryRepository.flush();
+    }
+
+    @Test
+    @DisplayName("메타데이터 조인 중복 확인은 히스토리와 메타데이터 모두 조회 기간 파티션만 읽음")
+    void existsByUserIdAndUniqueIdentifierSince_PrunesPartitions() {
+        // given
+        LocalDateTime since = today.plusDays(4).atStartOfDay();
+        RecordingStatementInspector.clear();
+
+        // when
+        boolean exists = triggerHistoryRepository.existsByUserIdAndUniqueIdentifierSince(
+                USER_ID, TriggerCondition.CULTURAL_EVENT, EVENT_KEY, "E-5", since);
+        String plan = explain(RecordingStatementInspector.lastSelect(),
+                USER_ID, TriggerCondition.CULTURAL_EVENT.name(), EVENT_KEY, "E-5", since, since);
+
+        // then
+        assertThat(exists).isTrue();
+        assertPrunedBefore(plan, 4, true);
+    }
+
+    @Test
+    @DisplayName("문화행사 중복 확인은 조회 기간 파티션만 읽음")
+    void existsByUserIdAndCulturalEventIdSince_PrunesPartitions() {
+        // given
+        LocalDateTime since = today.plusDays(4).atStartOfDay();
+        RecordingStatementInspector.clear();
+
+        // when
+        boolean exists = triggerHistoryRepository.existsByUserIdAndCulturalEventIdSince(USER_ID, "E-2", since);
+        String plan = explain(RecordingStatementInspector.lastSelect(), USER_ID, "E-2", since, since);
+
+        // then
+        assertThat(exists).isFalse();
+        assertPrunedBefore(plan, 4, true);
+    }
+
+    @Test
+    @DisplayName("트리거 조건 중복 확인은 조회 기간 히스토리 파티션만 읽음")
+    void existsByUserIdAndTriggerConditionSince_PrunesPartitions() {
+        // given
+        LocalDateTime since = today.plusDays(4).atStartOfDay();
+        RecordingStatementInspector.clear();
+
+        // when
+        boolean exists = triggerHistoryRepository.existsByUserIdAndTriggerConditionSince(
+                USER_ID, TriggerCondition.CULTURAL_EVENT, since);
+        String plan = explain(RecordingStatementInspector.lastSelect(),
+                USER_ID, TriggerCondition.CULTURAL_EVENT.name(), since);
+
+        // then
+        assertThat(exists).isTrue();
+        assertPrunedBefore(plan, 4, false);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 날짜 파티션을 메타데이터와 함께 삭제")
+    void maintain_DropsExpiredPartitions() {
+        // when: 보존 기간 90일 기준 today+4 이전 파티션이 만료
+        TriggerHistoryPartitionMaintenance.MaintenanceResult result = partitionMaintenance.maintain(today.plusDays(94));
+
+        // then
+        assertThat(result.partitioned()).isTrue();
+        assertThat(result.retiredPartitions()).isGreaterThanOrEqualTo(2 * 4);
+        assertThat(partitions(HISTORY_TABLE))
+                .contains(partitionName(HISTORY_TABLE, today.plusDays(4)))
+                .doesNotContain(partitionName(HISTORY_TABLE, today.plusDays(3)))
+                .contains(partitionName(HISTORY_TABLE, today.plusDays(94 + 7)));
+        assertThat(partitions(METADATA_TABLE))
+                .doesNotContain(partitionName(METADATA_TABLE, today.plusDays(3)));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trigger_history", Long.class)).isEqualTo(3L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trigger_history_metadata", Long.class))
+                .isEqualTo(3L);
+    }
+
+    private void assertPrunedBefore(String plan, int firstDay, boolean withMetadata) {
+        assertThat(plan).contains(partitionName(HISTORY_TABLE, today.plusDays(firstDay)));
+        if (withMetadata) {
+            assertThat(plan).contains(partitionName(METADATA_TABLE, today.plusDays(firstDay)));
+        }
+        for (int day = 1; day < firstDay; day++) {
+            assertThat(plan)
+                    .doesNotContain(partitionName(HISTORY_TABLE, today.plusDays(day)))
+                    .doesNotContain(partitionName(METADATA_TABLE, today.plusDays(day)));
+        }
+    }
+
+    /**
+     * Hibernate가 생성한 SQL을 같은 바인딩 값으로 EXPLAIN
+     */
+    private String explain(String sql, Object... params) {
+        List<String> lines = jdbcTemplate.query("EXPLAIN " + sql, ps -> {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+        }, (rs, rowNum) -> rs.getString(1));
+        return String.join("\n", lines);
+    }
+
+    private List<String> partitions(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ?", String.class, table);
+    }
+
+    private TriggerHistory history(LocalDateTime triggeredAt, String culturalEventId) {
+        return TriggerHistory.builder()
+                .userId(USER_ID)
+                .triggerType("CULTURAL_EVENT")
+                .notificationType(NotificationType.CULTURE)
+                .triggerCondition(TriggerCondition.CULTURAL_EVENT)
+                .title("문화행사 알림")
+                .message("근처에서 문화행사가 열립니다")
+                .priority(1)
+                .triggeredAt(triggeredAt)
+                .evaluationSource("SCHEDULER")
+                .metadata(Map.of(EVENT_KEY, culturalEventId))
+                .build();
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL을 기록하는 StatementInspector
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static String lastSelect() {
+            for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+                if (STATEMENTS.get(i).trim().toLowerCase().startsWith("select")) {
+                    return STATEMENTS.get(i);
+                }
+            }
+            throw new IllegalStateException("실행된 SELECT 문이 없습니다");
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.seoulfit.backend.trigger.infrastructure;
+
+import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.trigger.domain.TriggerCondition;
+import com.seoulfit.backend.trigger.domain.TriggerHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TriggerHistoryRepository 테스트 (H2, 일반 테이블)
+ *
+ * 파티션 테이블 대응으로 바뀐 메타데이터 매핑과 중복 확인 쿼리,
+ * 파티션이 없는 환경의 보존 기간 정리를 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TriggerHistoryPartitionMaintenance.class)
+@DisplayName("TriggerHistoryRepository 테스트")
+class TriggerHistoryRepositoryTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private TriggerHistoryRepository triggerHistoryRepository;
+
+    @Autowired
+    private TriggerHistoryPartitionMaintenance partitionMaintenance;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("메타데이터 행에 부모 히스토리의 발동 시각을 함께 저장")
+    void save_CopiesTriggeredAtToMetadata() {
+        // given
+        LocalDateTime triggeredAt = LocalDateTime.of(2025, 1, 10, 9, 30);
+
+        // when
+        TriggerHistory saved = triggerHistoryRepository.saveAndFlush(
+                history(triggeredAt, Map.of("cultural_event_id", "E-1", "district", "중구")));
+
+        // then
+        assertThat(saved.getMetadata()).containsEntry("cultural_event_id", "E-1").containsEntry("district", "중구");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM trigger_history_metadata WHERE trigger_history_id = ? AND triggered_at = ?",
+                Long.class, saved.getId(), triggeredAt)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("기간 조건이 있는 중복 확인은 조회 시작 시각 이후 발동 이력만 확인")
+    void existsSince_RespectsTimeWindow() {
+        // given
+        LocalDateTime triggeredAt = LocalDateTime.of(2025, 1, 10, 9, 30);
+        triggerHistoryRepository.saveAndFlush(history(triggeredAt, Map.of("cultural_event_id", "E-1")));
+
+        // when & then
+        assertThat(triggerHistoryRepository.existsByUserIdAndCulturalEventIdSince(
+                USER_ID, "E-1", triggeredAt.minusHours(1))).isTrue();
+        assertThat(triggerHistoryRepository.existsByUserIdAndCulturalEventIdSince(
+                USER_ID, "E-1", triggeredAt.plusHours(1))).isFalse();
+        assertThat(triggerHistoryRepository.existsByUserIdAndUniqueIdentifierSince(
+                USER_ID, TriggerCondition.CULTURAL_EVENT, "cultural_event_id", "E-1",
+                triggeredAt.minusHours(1))).isTrue();
+        assertThat(triggerHistoryRepository.existsByUserIdAndUniqueIdentifier(
+                USER_ID, TriggerCondition.CULTURAL_EVENT, "cultural_event_id", "E-2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이 아니면 보존 기간이 지난 이력과 메타데이터를 DELETE로 정리")
+    void maintain_PlainTable_DeletesExpiredRows() {
+        // given
+        LocalDate today = LocalDate.of(2025, 6, 1);
+        triggerHistoryRepository.saveAndFlush(history(today.minusDays(120).atTime(8, 0), Map.of("k", "old")));
+        triggerHistoryRepository.saveAndFlush(history(today.minusDays(91).atTime(23, 59), Map.of("k", "old")));
+        triggerHistoryRepository.saveAndFlush(history(today.minusDays(90).atStartOfDay(), Map.of("k", "kept")));
+        triggerHistoryRepository.saveAndFlush(history(today.atTime(7, 0), Map.of("k", "kept")));
+
+        // when
+        TriggerHistoryPartitionMaintenance.MaintenanceResult result = partitionMaintenance.maintain(today);
+
+        // then
+        assertThat(result.partitioned()).isFalse();
+        assertThat(result.deletedRows()).isEqualTo(2);
+        assertThat(triggerHistoryRepository.count()).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT DISTINCT metadata_value FROM trigger_history_metadata", String.class))
+                .containsExactly("kept");
+    }
+
+    @Test
+    @DisplayName("키셋 조회는 같은 발동 시각의 이력도 누락/중복 없이 OFFSET 조회와 같은 순서로 반환")
+    void findPageByUserIdBefore_WalksAllRowsInOffsetOrder() {
+        // given: 두 건씩 같은 발동 시각
+        LocalDateTime base = LocalDateTime.of(2025, 2, 1, 12, 0);
+        for (int i = 0; i < 25; i++) {
+            triggerHistoryRepository.save(history(base.plusMinutes(i / 2), Map.of()));
+        }
+        triggerHistoryRepository.flush();
+        List<Long> expected = triggerHistoryRepository.findByUserIdOrderByTriggeredAtDesc(USER_ID, 0, 100).stream()
+                .sorted((a, b) -> {
+                    int compared = b.getTriggeredAt().compareTo(a.getTriggeredAt());
+                    return compared != 0 ? compared : b.getId().compareTo(a.getId());
+                })
+                .map(TriggerHistory::getId)
+                .toList();
+
+        // when
+        List<Long> actual = new ArrayList<>();
+        List<TriggerHistory> page = triggerHistoryRepository.findFirstPageByUserId(USER_ID, 7);
+        while (!page.isEmpty()) {
+            page.forEach(history -> actual.add(history.getId()));
+            TriggerHistory last = page.get(page.size() - 1);
+            page = triggerHistoryRepository.findPageByUserIdBefore(USER_ID, last.getTriggeredAt(), last.getId(), 7);
+        }
+
+        // then
+        assertThat(actual).hasSize(25).containsExactlyElementsOf(expected);
+    }
+
+    private TriggerHistory history(LocalDateTime triggeredAt, Map<String, String> metadata) {
+        return TriggerHistory.builder()
+                .userId(USER_ID)
+                .triggerType("CULTURAL_EVENT")
+                .notificationType(NotificationType.CULTURE)
+                .triggerCondition(TriggerCondition.CULTURAL_EVENT)
+                .title("문화행사 알림")
+                .message("근처에서 문화행사가 열립니다")
+                .priority(1)
+                .triggeredAt(triggeredAt)
+                .evaluationSource("SCHEDULER")
+                .metadata(metadata)
+                .build();
+    }
+}
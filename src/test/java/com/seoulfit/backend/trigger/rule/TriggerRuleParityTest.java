@@ -0,0 +1,313 @@
+package com.seoulfit.backend.trigger.rule;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoulfit.backend.location.domain.CityHotspot;
+import com.seoulfit.backend.trigger.domain.AreaCongestion;
+import com.seoulfit.backend.trigger.domain.TriggerCondition;
+import com.seoulfit.backend.trigger.dto.TriggerContext;
+import com.seoulfit.backend.trigger.dto.TriggerResult;
+import com.seoulfit.backend.trigger.infrastructure.CongestionIndex;
+import com.seoulfit.backend.trigger.strategy.TriggerStrategy;
+import com.seoulfit.backend.trigger.strategy.impl.AirQualityTriggerStrategy;
+import com.seoulfit.backend.trigger.strategy.impl.CongestionTriggerStrategy;
+import com.seoulfit.backend.trigger.strategy.impl.HeavyRainTriggerStrategy;
+import com.seoulfit.backend.trigger.strategy.impl.TemperatureTriggerStrategy;
+import com.seoulfit.backend.trigger.utils.TriggerUtils;
+import com.seoulfit.backend.user.domain.InterestCategory;
+import com.seoulfit.backend.user.domain.User;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 트리거 규칙 엔진 동등성 테스트
+ *
+ * 기본 규칙 파일(trigger/rules.yml)을 컴파일한 결과가 기존 하드코딩 전략(폭우, 온도, 대기질, 혼잡도)을
+ * 우선순위 순으로 평가한 결과와 같은지, 녹화한 실시간 도시데이터 샘플과 관심사/위치 조합마다 비교합니다.
+ */
+@DisplayName("트리거 규칙 엔진 동등성 테스트")
+class TriggerRuleParityTest {
+
+    private static final double USER_LATITUDE = 37.5714;
+    private static final double USER_LONGITUDE = 126.9768;
+
+    private static final List<Sample> samples = loadSamples();
+
+    private static List<TriggerStrategy> legacyStrategies;
+    private static CompiledRuleSet ruleSet;
+
+    @BeforeAll
+    static void setUp() {
+        HeavyRainTriggerStrategy heavyRain = new HeavyRainTriggerStrategy();
+        ReflectionTestUtils.setField(heavyRain, "heavyRainThreshold", 15.0);
+        ReflectionTestUtils.setField(heavyRain, "warningRainThreshold", 30.0);
+        TemperatureTriggerStrategy temperature = new TemperatureTriggerStrategy();
+        ReflectionTestUtils.setField(temperature, "highTemperatureThreshold", 35.0);
+        ReflectionTestUtils.setField(temperature, "lowTemperatureThreshold", 0.0);
+        CongestionTriggerStrategy congestion = new CongestionTriggerStrategy();
+        ReflectionTestUtils.setField(congestion, "locationRadius", 1000.0);
+        legacyStrategies = Stream.of(heavyRain, temperature, new AirQualityTriggerStrategy(), congestion)
+                .sorted(Comparator.comparingInt(TriggerStrategy::getPriority))
+                .toList();
+
+        ruleSet = TriggerRuleLoader.load(new ClassPathResource("trigger/rules.yml"), new StandardEnvironment());
+    }
+
+    static Stream<Arguments> cases() {
+        List<List<InterestCategory>> interestSets = List.of(
+                List.of(InterestCategory.WEATHER),
+                List.of(InterestCategory.CONGESTION),
+                List.of(InterestCategory.WEATHER, InterestCategory.CONGESTION),
+                List.of(InterestCategory.CULTURE));
+
+        List<Arguments> cases = new ArrayList<>();
+        for (Sample sample : samples) {
+            for (List<InterestCategory> interests : interestSets) {
+                for (boolean located : new boolean[]{true, false}) {
+                    for (boolean indexed : new boolean[]{true, false}) {
+                        cases.add(Arguments.of(sample.name(), sample, interests, located, indexed));
+                    }
+                }
+            }
+        }
+        return cases.stream();
+    }
+
+    @ParameterizedTest(name = "{0} / {2} / 위치={3} / 인덱스={4}")
+    @MethodSource("cases")
+    @DisplayName("녹화 샘플에서 규칙 엔진과 기존 전략의 첫 발동 결과가 같음")
+    void evaluate_MatchesLegacyStrategies(String name, Sample sample, List<InterestCategory> interests,
+                                          boolean located, boolean indexed) {
+        TriggerContext context = context(sample, interests, located, indexed);
+
+        TriggerResult expected = legacyStrategies.stream()
+                .map(strategy -> strategy.evaluate(context))
+                .filter(TriggerResult::isTriggered)
+                .findFirst()
+                .orElse(TriggerResult.notTriggered());
+        TriggerResult actual = ruleSet.evaluate(context)
+                .map(CompiledRuleSet.RuleMatch::result)
+                .orElse(TriggerResult.notTriggered());
+
+        assertThat(actual.isTriggered()).isEqualTo(expected.isTriggered());
+        assertThat(actual.getNotificationType()).isEqualTo(expected.getNotificationType());
+        assertThat(actual.getTriggerCondition()).isEqualTo(expected.getTriggerCondition());
+        assertThat(actual.getTitle()).isEqualTo(expected.getTitle());
+        assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+        assertThat(actual.getLocationInfo()).isEqualTo(expected.getLocationInfo());
+        assertThat(actual.getPriority()).isEqualTo(expected.getPriority());
+    }
+
+    @Test
+    @DisplayName("녹화 샘플에서 모든 규칙이 한 번 이상 발동함")
+    void samples_CoverEveryRule() {
+        List<String> firedRules = new ArrayList<>();
+        for (Sample sample : samples) {
+            ruleSet.evaluate(context(sample, List.of(InterestCategory.WEATHER, InterestCategory.CONGESTION), true, false))
+                    .ifPresent(match -> firedRules.add(match.rule().id()));
+            ruleSet.evaluate(context(sample, List.of(InterestCategory.CONGESTION), true, false))
+                    .ifPresent(match -> firedRules.add(match.rule().id()));
+        }
+
+        assertThat(firedRules).containsAll(ruleSet.rules().stream().map(CompiledRuleSet.CompiledRule::id).toList());
+    }
+
+    @Test
+    @DisplayName("입력 값이 바뀌지 않으면 조건을 다시 평가하지 않음")
+    void evaluate_SkipsConditionsWhenInputsUnchanged() {
+        CompiledRuleSet rules = TriggerRuleLoader.load(new ClassPathResource("trigger/rules.yml"), new StandardEnvironment());
+        Sample sample = sample("날씨 정상 + 반경 안 혼잡 여러 곳");
+        List<InterestCategory> interests = List.of(InterestCategory.WEATHER, InterestCategory.CONGESTION);
+
+        rules.evaluate(context(sample, interests, true, false));
+        long afterFirst = rules.conditionEvaluations();
+        for (int i = 0; i < 100; i++) {
+            rules.evaluate(context(sample, interests, true, false));
+            rules.evaluate(context(sample, interests, false, false));
+        }
+
+        assertThat(afterFirst).isPositive();
+        assertThat(rules.conditionEvaluations()).isEqualTo(afterFirst);
+
+        // 강수량이 바뀐 날씨 레코드만 다시 평가
+        Map<String, Object> data = new HashMap<>(sample.data());
+        data.put("WEATHER_STTS", List.of(Map.of("TEMP", "19.5", "RAIN_HOUR", "16.0",
+                "PM10_INDEX", "좋음", "PM25_INDEX", "좋음", "AIR_IDX", "좋음")));
+        Optional<CompiledRuleSet.RuleMatch> match = rules.evaluate(
+                context(new Sample("강수량 변경", data), interests, true, false));
+
+        assertThat(match).map(found -> found.rule().id()).contains("heavy-rain-advisory");
+        assertThat(rules.conditionEvaluations()).isGreaterThan(afterFirst);
+    }
+
+    @Test
+    @DisplayName("평가 대상에서 제외한 규칙은 건너뛰고 다음 규칙을 평가")
+    void evaluate_SkipsIneligibleRules() {
+        TriggerContext context = context(sample("호우 경보 + 혼잡"),
+                List.of(InterestCategory.WEATHER, InterestCategory.CONGESTION), true, false);
+
+        Optional<CompiledRuleSet.RuleMatch> match = ruleSet.evaluate(context,
+                rule -> !rule.interest().equals(InterestCategory.WEATHER));
+
+        assertThat(match).isPresent();
+        assertThat(match.get().rule().id()).isEqualTo("congestion-crowded");
+        assertThat(match.get().result().getTriggerCondition()).isEqualTo(TriggerCondition.CONGESTION);
+        assertThat(match.get().result().getAdditionalData()).containsEntry("ruleId", "congestion-crowded");
+    }
+
+    @Test
+    @DisplayName("설정으로 임계값을 바꾸면 컴파일된 규칙에 반영")
+    void load_ResolvesThresholdPlaceholders() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getSystemProperties().put("seoulfit.trigger.temperature.high-threshold", "30.0");
+        CompiledRuleSet rules = TriggerRuleLoader.load(new ClassPathResource("trigger/rules.yml"), environment);
+
+        Map<String, Object> data = Map.of("WEATHER_STTS", List.of(Map.of("TEMP", "31.0")));
+        Optional<CompiledRuleSet.RuleMatch> match = rules.evaluate(
+                context(new Sample("기온 31도", data), List.of(InterestCategory.WEATHER), false, false));
+
+        assertThat(match).map(found -> found.result().getMessage())
+                .contains("현재 기온이 31.0°C입니다. 외출 시 충분한 수분 섭취와 그늘에서 휴식을 취하세요.");
+    }
+
+    @Test
+    @DisplayName("잘못된 규칙은 규칙 id와 함께 로딩 실패")
+    void load_RejectsInvalidRules() {
+        String invalidThreshold = """
+                rules:
+                  - id: broken-rain
+                    order: 1
+                    interest: WEATHER
+                    source: WEATHER_STTS
+                    when:
+                      - field: RAIN_HOUR
+                        operator: GTE
+                        threshold: 많음
+                    notification-type: WEATHER
+                    condition: HEAVY_RAIN
+                    title: 호우
+                    message: 비
+                """;
+        String missingCoordinates = """
+                rules:
+                  - id: far-crowd
+                    order: 1
+                    interest: CONGESTION
+                    source: LIVE_PPLTN_STTS
+                    radius: 500
+                    when:
+                      - field: AREA_CONGEST_LVL
+                        operator: EQ
+                        threshold: 붐빔
+                    notification-type: CONGESTION
+                    condition: CONGESTION
+                    title: 혼잡
+                    message: 혼잡
+                """;
+
+        assertThatThrownBy(() -> load(invalidThreshold))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("id=broken-rain")
+                .hasMessageContaining("많음");
+        assertThatThrownBy(() -> load(missingCoordinates))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("id=far-crowd")
+                .hasMessageContaining("radius");
+    }
+
+    private static List<Sample> loadSamples() {
+        try (InputStream fixture = TriggerRuleParityTest.class.getResourceAsStream(
+                "/fixtures/seoul/citydata-trigger-samples.json")) {
+            return new ObjectMapper().readValue(fixture, new TypeReference<List<Sample>>() {});
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static CompiledRuleSet load(String yaml) {
+        return TriggerRuleLoader.load(new ByteArrayResource(yaml.getBytes(StandardCharsets.UTF_8)),
+                new StandardEnvironment());
+    }
+
+    private static Sample sample(String name) {
+        return samples.stream()
+                .filter(sample -> sample.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static TriggerContext context(Sample sample, List<InterestCategory> interests,
+                                          boolean located, boolean indexed) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1L);
+
+        Map<String, Object> metadata = new HashMap<>();
+        if (indexed) {
+            metadata.put(CongestionIndex.CONTEXT_KEY, congestionIndex(sample));
+        }
+
+        return TriggerContext.builder()
+                .user(user)
+                .userInterests(interests)
+                .userLatitude(located ? USER_LATITUDE : null)
+                .userLongitude(located ? USER_LONGITUDE : null)
+                .publicApiData(sample.data())
+                .metadata(metadata)
+                .build();
+    }
+
+    /**
+     * 샘플의 LIVE_PPLTN_STTS 행으로 스케줄러가 만드는 것과 같은 혼잡도 인덱스 구성
+     */
+    @SuppressWarnings("unchecked")
+    private static CongestionIndex congestionIndex(Sample sample) {
+        if (!(sample.data().get("LIVE_PPLTN_STTS") instanceof List<?> rows)) {
+            return CongestionIndex.empty();
+        }
+        List<AreaCongestion> congestions = rows.stream()
+                .map(row -> (Map<String, Object>) row)
+                .map(row -> new AreaCongestion(
+                        new CityHotspot(TriggerUtils.getStringValue(row, "AREA_NM"), "관광특구",
+                                TriggerUtils.getDoubleValue(row, "AREA_Y"), TriggerUtils.getDoubleValue(row, "AREA_X")),
+                        TriggerUtils.getStringValue(row, "AREA_CONGEST_LVL"),
+                        TriggerUtils.getStringValue(row, "AREA_CONGEST_MSG"),
+                        TriggerUtils.getStringValue(row, "AREA_PPLTN_MIN"),
+                        TriggerUtils.getStringValue(row, "AREA_PPLTN_MAX"),
+                        Map.of("CITYDATA", row)))
+                .toList();
+        return new CongestionIndex(congestions);
+    }
+
+    record Sample(String name, Map<String, Object> data) {
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
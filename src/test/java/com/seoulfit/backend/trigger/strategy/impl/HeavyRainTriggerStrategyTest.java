@@ -1,9 +1,11 @@
 package com.seoulfit.backend.trigger.strategy.impl;
 
 import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.trigger.domain.DistrictWeather;
 import com.seoulfit.backend.trigger.domain.TriggerCondition;
 import com.seoulfit.backend.trigger.dto.TriggerContext;
 import com.seoulfit.backend.trigger.dto.TriggerResult;
+import com.seoulfit.backend.trigger.infrastructure.DistrictWeatherIndex;
 import com.seoulfit.backend.user.domain.InterestCategory;
 import com.seoulfit.backend.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
@@ -315,6 +317,84 @@ class HeavyRainTriggerStrategyTest {
         }
     }
     
+    @Nested
+    @DisplayName("구별 날씨 집계 테스트")
+    class DistrictWeatherTest {
+        
+        @Test
+        @DisplayName("집계가 있으면 원본 데이터 대신 사용자 구의 강수량 사용")
+        void evaluate_UsesUserDistrictRainfall() {
+            // given
+            userInterests.add(InterestCategory.WEATHER);
+            publicApiData.put("WEATHER_STTS", List.of(createWeatherData(0.0, 0.0)));
+            DistrictWeatherIndex weatherIndex = new DistrictWeatherIndex(
+                    Map.of("11020", districtWeather("11020", "중구", 32.0),
+                            "11230", districtWeather("11230", "강남구", 3.0)),
+                    districtWeather(null, "서울특별시", 32.0));
+            TriggerContext districtContext = TriggerContext.builder()
+                    .user(mockUser)
+                    .publicApiData(publicApiData)
+                    .userInterests(userInterests)
+                    .metadata(Map.of(DistrictWeatherIndex.CONTEXT_KEY, weatherIndex,
+                            DistrictWeatherIndex.DISTRICT_CODE_KEY, "11230"))
+                    .build();
+            
+            // when
+            TriggerResult result = heavyRainTriggerStrategy.evaluate(districtContext);
+            
+            // then
+            assertThat(result.isTriggered()).isFalse();
+        }
+        
+        @Test
+        @DisplayName("구 코드가 없으면 서울 전체 집계로 평가")
+        void evaluate_FallsBackToCitywide() {
+            // given
+            userInterests.add(InterestCategory.WEATHER);
+            DistrictWeatherIndex weatherIndex = new DistrictWeatherIndex(
+                    Map.of("11230", districtWeather("11230", "강남구", 3.0)),
+                    districtWeather(null, "서울특별시", 32.0));
+            TriggerContext districtContext = TriggerContext.builder()
+                    .user(mockUser)
+                    .publicApiData(publicApiData)
+                    .userInterests(userInterests)
+                    .metadata(Map.of(DistrictWeatherIndex.CONTEXT_KEY, weatherIndex))
+                    .build();
+            
+            // when
+            TriggerResult result = heavyRainTriggerStrategy.evaluate(districtContext);
+            
+            // then
+            assertThat(result.isTriggered()).isTrue();
+            assertThat(result.getTitle()).isEqualTo("호우 경보");
+            assertThat(result.getMessage()).contains("32.0mm");
+        }
+        
+        @Test
+        @DisplayName("집계가 있으면 사용자 구가 건조해도 원본 rainInfo로 다시 평가하지 않음")
+        void evaluate_DryDistrict_IgnoresRawRainInfo() {
+            // given
+            userInterests.add(InterestCategory.WEATHER);
+            publicApiData.put("rainInfo", List.of(Map.of("RF1H", 25.0, "RF24H", 100.0)));
+            DistrictWeatherIndex weatherIndex = new DistrictWeatherIndex(
+                    Map.of("11230", districtWeather("11230", "강남구", 0.0)),
+                    districtWeather(null, "서울특별시", 0.0));
+            TriggerContext districtContext = TriggerContext.builder()
+                    .user(mockUser)
+                    .publicApiData(publicApiData)
+                    .userInterests(userInterests)
+                    .metadata(Map.of(DistrictWeatherIndex.CONTEXT_KEY, weatherIndex,
+                            DistrictWeatherIndex.DISTRICT_CODE_KEY, "11230"))
+                    .build();
+            
+            // when
+            TriggerResult result = heavyRainTriggerStrategy.evaluate(districtContext);
+            
+            // then
+            assertThat(result.isTriggered()).isFalse();
+        }
+    }
+    
     @Nested
     @DisplayName("트리거 메타데이터 테스트")
     class MetadataTest {
@@ -360,6 +440,10 @@ class HeavyRainTriggerStrategyTest {
         return weatherData;
     }
     
+    private DistrictWeather districtWeather(String districtCode, String districtName, double hourlyRain) {
+        return new DistrictWeather(districtCode, districtName, 25.0, 26.0, hourlyRain, hourlyRain * 3, 80, 1);
+    }
+    
     private Map<String, Object> createWeatherDataWithAlternativeKeys(double hourlyRain, double dailyRain) {
         Map<String, Object> weatherData = new HashMap<>();
         weatherData.put("RAINFALL_1H", hourlyRain);
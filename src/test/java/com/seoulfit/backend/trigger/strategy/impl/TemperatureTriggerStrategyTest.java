@@ -1,9 +1,11 @@
 package com.seoulfit.backend.trigger.strategy.impl;
 
 import com.seoulfit.backend.notification.domain.NotificationType;
+import com.seoulfit.backend.trigger.domain.DistrictWeather;
 import com.seoulfit.backend.trigger.domain.TriggerCondition;
 import com.seoulfit.backend.trigger.dto.TriggerContext;
 import com.seoulfit.backend.trigger.dto.TriggerResult;
+import com.seoulfit.backend.trigger.infrastructure.DistrictWeatherIndex;
 import com.seoulfit.backend.user.domain.InterestCategory;
 import com.seoulfit.backend.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
@@ -370,6 +372,60 @@ class TemperatureTriggerStrategyTest {
         }
     }
 
+    @Nested
+    @DisplayName("구별 날씨 집계 테스트")
+    class DistrictWeatherTest {
+
+        @Test
+        @DisplayName("집계가 있으면 원본 데이터 대신 사용자 구의 기온 사용")
+        void evaluate_UsesUserDistrictTemperature() {
+            // given
+            DistrictWeatherIndex weatherIndex = new DistrictWeatherIndex(
+                    Map.of("11020", districtWeather("11020", "중구", 36.2),
+                            "11230", districtWeather("11230", "강남구", 30.0)),
+                    districtWeather(null, "서울특별시", 33.1));
+
+            TriggerContext context = TriggerContext.builder()
+                    .user(testUser)
+                    .userInterests(List.of(InterestCategory.WEATHER))
+                    .publicApiData(Map.of("WEATHER_STTS", List.of(Map.of("TEMP", "20.0"))))
+                    .metadata(Map.of(DistrictWeatherIndex.CONTEXT_KEY, weatherIndex,
+                            DistrictWeatherIndex.DISTRICT_CODE_KEY, "11020"))
+                    .build();
+
+            // when
+            TriggerResult result = strategy.evaluate(context);
+
+            // then
+            assertThat(result.isTriggered()).isTrue();
+            assertThat(result.getTriggerCondition()).isEqualTo(TriggerCondition.TEMPERATURE_HIGH);
+            assertThat(result.getMessage()).contains("36.2°C");
+        }
+
+        @Test
+        @DisplayName("집계가 비어 있으면 원본 데이터에서 기온 파싱")
+        void evaluate_EmptyIndex_FallsBackToRawData() {
+            // given
+            TriggerContext context = TriggerContext.builder()
+                    .user(testUser)
+                    .userInterests(List.of(InterestCategory.WEATHER))
+                    .publicApiData(Map.of("WEATHER_STTS", List.of(Map.of("TEMP", "-5.0"))))
+                    .metadata(Map.of(DistrictWeatherIndex.CONTEXT_KEY, DistrictWeatherIndex.empty()))
+                    .build();
+
+            // when
+            TriggerResult result = strategy.evaluate(context);
+
+            // then
+            assertThat(result.isTriggered()).isTrue();
+            assertThat(result.getTriggerCondition()).isEqualTo(TriggerCondition.TEMPERATURE_LOW);
+        }
+
+        private DistrictWeather districtWeather(String districtCode, String districtName, double temperature) {
+            return new DistrictWeather(districtCode, districtName, temperature, temperature + 1.5, 0.0, 0.0, 20, 1);
+        }
+    }
+
     @Nested
     @DisplayName("전략 메타데이터 테스트")
     class StrategyMetadataTest {
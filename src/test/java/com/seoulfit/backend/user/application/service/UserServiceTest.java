@@ -6,6 +6,7 @@ import com.seoulfit.backend.user.application.port.out.UserPort;
 import com.seoulfit.backend.user.domain.AuthProvider;
 import com.seoulfit.backend.user.domain.InterestCategory;
 import com.seoulfit.backend.user.domain.User;
+import com.seoulfit.backend.user.domain.UserAccountChangedEvent;
 import com.seoulfit.backend.user.domain.UserStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 import java.util.List;
@@ -43,6 +45,9 @@ class UserServiceTest {
     @Mock
     private UserPort userPort;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -155,6 +160,7 @@ class UserServiceTest {
             assertThat(result).isNotNull();
             then(userPort).should().findById(TEST_USER_ID);
             then(userPort).should().save(any(User.class));
+            then(eventPublisher).should().publishEvent(new UserAccountChangedEvent(TEST_USER_ID));
         }
 
         @Test
@@ -264,6 +270,7 @@ class UserServiceTest {
             // then
             then(userPort).should().findById(TEST_USER_ID);
             then(userPort).should().deleteById(TEST_USER_ID);
+            then(eventPublisher).should().publishEvent(new UserAccountChangedEvent(TEST_USER_ID));
         }
 
         @Test
@@ -310,4 +317,4 @@ class UserServiceTest {
         
         return user;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
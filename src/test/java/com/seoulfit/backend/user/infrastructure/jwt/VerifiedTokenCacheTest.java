@@ -0,0 +1,117 @@
+package com.seoulfit.backend.user.infrastructure.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * VerifiedTokenCache 단위 테스트
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-minimum-256-bits-for-hmac-sha256";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = spy(new JwtTokenProvider(SECRET, 1800, 1209600));
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, 1000);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 서명 검증")
+    void verify_SameToken_ParsesOnce() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken("42");
+
+        // when
+        Optional<VerifiedToken> first = verifiedTokenCache.verify(token);
+        Optional<VerifiedToken> second = verifiedTokenCache.verify(token);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).contains(first.get());
+        assertThat(first.get().userId()).isEqualTo(42L);
+        assertThat(first.get().isAccessToken()).isTrue();
+        verify(jwtTokenProvider, times(1)).parseClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 액세스 토큰으로 취급되지 않음")
+    void verify_RefreshToken_NotAccess() {
+        // given
+        String token = jwtTokenProvider.generateRefreshToken("7");
+
+        // when
+        Optional<VerifiedToken> verified = verifiedTokenCache.verify(token);
+
+        // then
+        assertThat(verified).isPresent();
+        assertThat(verified.get().isAccessToken()).isFalse();
+        assertThat(verified.get().isRefreshToken()).isTrue();
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 캐시하지 않음")
+    void verify_InvalidToken_NotCached() {
+        // when
+        Optional<VerifiedToken> first = verifiedTokenCache.verify("invalid.jwt.token");
+        Optional<VerifiedToken> second = verifiedTokenCache.verify("invalid.jwt.token");
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(verifiedTokenCache.estimatedSize()).isZero();
+        verify(jwtTokenProvider, times(2)).parseClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거부")
+    void verify_ForeignSignature_Rejected() {
+        // given
+        JwtTokenProvider otherProvider = new JwtTokenProvider(
+                "another-secret-key-minimum-256-bits-for-hmac-sha256", 1800, 1209600);
+        String foreignToken = otherProvider.generateAccessToken("42");
+
+        // when & then
+        assertThat(verifiedTokenCache.verify(foreignToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 subject는 거부")
+    void verify_NonNumericSubject_Rejected() {
+        // given
+        String token = jwtTokenProvider.generateToken("user@example.com", "USER");
+
+        // when & then
+        assertThat(verifiedTokenCache.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 검증")
+    void invalidate_ForcesReparse() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken("42");
+        verifiedTokenCache.verify(token);
+
+        // when
+        verifiedTokenCache.invalidate(token);
+        verifiedTokenCache.verify(token);
+
+        // then
+        verify(jwtTokenProvider, times(2)).parseClaims(anyString());
+    }
+}
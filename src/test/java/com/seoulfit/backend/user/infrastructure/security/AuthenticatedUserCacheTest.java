@@ -0,0 +1,94 @@
+package com.seoulfit.backend.user.infrastructure.security;
+
+import com.seoulfit.backend.user.adapter.out.persistence.UserRepository;
+import com.seoulfit.backend.user.domain.User;
+import com.seoulfit.backend.user.domain.UserAccountChangedEvent;
+import com.seoulfit.backend.user.domain.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * AuthenticatedUserCache 단위 테스트
+ *
+ * @author Seoul Fit
+ * @since 1.0.0
+ */
+class AuthenticatedUserCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private UserRepository userRepository;
+    private AuthenticatedUserCache authenticatedUserCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        authenticatedUserCache = new AuthenticatedUserCache(userRepository, mock(PlatformTransactionManager.class), 100, 60);
+    }
+
+    @Test
+    @DisplayName("활성 사용자는 엔티티가 아닌 불변 스냅샷으로 한 번만 조회")
+    void findActiveUser_CachesSnapshot() {
+        // given
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user(UserStatus.ACTIVE)));
+
+        // when
+        Optional<AuthenticatedUser> first = authenticatedUserCache.findActiveUser(USER_ID);
+        Optional<AuthenticatedUser> second = authenticatedUserCache.findActiveUser(USER_ID);
+
+        // then
+        assertThat(first).contains(new AuthenticatedUser(USER_ID, "test@example.com", UserStatus.ACTIVE));
+        assertThat(second).isEqualTo(first);
+        assertThat(first.get().getUsername()).isEqualTo("test@example.com");
+        assertThat(first.get().isEnabled()).isTrue();
+        verify(userRepository, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("사용자 변경 이벤트를 받으면 다음 요청에서 다시 조회")
+    void onUserAccountChanged_Evicts() {
+        // given
+        given(userRepository.findById(USER_ID))
+                .willReturn(Optional.of(user(UserStatus.ACTIVE)))
+                .willReturn(Optional.empty());
+        assertThat(authenticatedUserCache.findActiveUser(USER_ID)).isPresent();
+
+        // when
+        authenticatedUserCache.onUserAccountChanged(new UserAccountChangedEvent(USER_ID));
+
+        // then
+        assertThat(authenticatedUserCache.findActiveUser(USER_ID)).isEmpty();
+        verify(userRepository, times(2)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("비활성 사용자는 인증되지 않음")
+    void findActiveUser_Inactive_Empty() {
+        // given
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user(UserStatus.DELETED)));
+
+        // when & then
+        assertThat(authenticatedUserCache.findActiveUser(USER_ID)).isEmpty();
+    }
+
+    private User user(UserStatus status) {
+        User user = User.builder()
+                .email("test@example.com")
+                .nickname("테스트유저")
+                .status(status)
+                .build();
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        return user;
+    }
+}